@@ -73,11 +73,91 @@ typedef struct KaratsubaArgs {
   jint *x, xoff, *y, yoff, *z, zoff, zlen, zlength, off, len, parallelThreshold, parallelThresholdZ;
 } KaratsubaArgs;
 
-void* karatsubaThread(void *args) {
-  KaratsubaArgs *ka = (KaratsubaArgs*)args;
-  jint *x = ka->x, xoff = ka->xoff, *y = ka->y, yoff = ka->yoff, *z = ka->z, zoff = ka->zoff, zlen = ka->zlen, zlength = ka->zlength, off = ka->off, len = ka->len, parallelThreshold = ka->parallelThreshold, parallelThresholdZ = ka->parallelThresholdZ;
-  free(args);
-  karatsuba(x, xoff, y, yoff, z, zoff, zlen, zlength, off, len, parallelThreshold, parallelThresholdZ);
+typedef struct KaratsubaTask {
+  KaratsubaArgs args;
+  jint *pending; // count of the tasks of the submitting call that have not yet completed
+  struct KaratsubaTask *next;
+} KaratsubaTask;
+
+/**
+ * Persistent pool of worker threads that execute the subproblems of parallel Karatsuba. The pool is created once by
+ * nativeInitPool(), and the tasks are queued in FIFO order. A thread waiting for its subproblems to complete executes queued tasks
+ * while it waits, so nested parallel recursion cannot deadlock a bounded pool.
+ */
+static struct {
+  pthread_mutex_t lock;
+  pthread_cond_t work; // signalled when a task is queued
+  pthread_cond_t done; // signalled when a task completes
+  KaratsubaTask *head, *tail;
+  jint size;
+} pool = { PTHREAD_MUTEX_INITIALIZER, PTHREAD_COND_INITIALIZER, PTHREAD_COND_INITIALIZER, NULL, NULL, 0 };
+
+// Must be called with pool.lock held
+static KaratsubaTask* poolPoll() {
+  KaratsubaTask *task = pool.head;
+  if (task && !(pool.head = task->next))
+    pool.tail = NULL;
+
+  return task;
+}
+
+// Must be called without pool.lock held
+static void poolRun(KaratsubaTask *task) {
+  KaratsubaArgs *ka = &task->args;
+  karatsuba(ka->x, ka->xoff, ka->y, ka->yoff, ka->z, ka->zoff, ka->zlen, ka->zlength, ka->off, ka->len, ka->parallelThreshold, ka->parallelThresholdZ);
+
+  pthread_mutex_lock(&pool.lock);
+  --*task->pending;
+  pthread_cond_broadcast(&pool.done);
+  pthread_mutex_unlock(&pool.lock);
+  free(task);
+}
+
+static void poolSubmit(KaratsubaArgs args, jint *pending) {
+  KaratsubaTask *task = (KaratsubaTask*)malloc(sizeof(KaratsubaTask));
+  task->args = args;
+  task->pending = pending;
+  task->next = NULL;
+
+  pthread_mutex_lock(&pool.lock);
+  if (pool.tail)
+    pool.tail->next = task;
+  else
+    pool.head = task;
+
+  pool.tail = task;
+  pthread_cond_signal(&pool.work);
+  pthread_mutex_unlock(&pool.lock);
+}
+
+static void poolAwait(jint *pending) {
+  KaratsubaTask *task;
+  pthread_mutex_lock(&pool.lock);
+  while (*pending > 0) {
+    if ((task = poolPoll())) {
+      pthread_mutex_unlock(&pool.lock);
+      poolRun(task);
+      pthread_mutex_lock(&pool.lock);
+    }
+    else {
+      pthread_cond_wait(&pool.done, &pool.lock);
+    }
+  }
+
+  pthread_mutex_unlock(&pool.lock);
+}
+
+static void* poolWorker(void *arg) {
+  KaratsubaTask *task;
+  while (true) {
+    pthread_mutex_lock(&pool.lock);
+    while (!(task = poolPoll()))
+      pthread_cond_wait(&pool.work, &pool.lock);
+
+    pthread_mutex_unlock(&pool.lock);
+    poolRun(task);
+  }
+
   return NULL;
 }
 
@@ -110,7 +190,7 @@ void karatsuba(jint *x, jint xoff, jint *y, jint yoff, jint *z, jint zoff, jint
     }
   }
   else {
-    const bool parallel = len > parallelThreshold && zlen > parallelThresholdZ;
+    const bool parallel = pool.size > 0 && len > parallelThreshold && zlen > parallelThresholdZ;
     const jint b = len >> 1, b2 = b * 2, ll = len * 2, l_b = len - b, l_b2 = l_b * 2;
     jint tmpoff, x2offl_b2, y2offl_b2;
     jint *tmp;
@@ -174,27 +254,11 @@ void karatsuba(jint *x, jint xoff, jint *y, jint yoff, jint *z, jint zoff, jint
       karatsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, zlength, off + b, l_b, BIG_INT_MAX_VALUE, BIG_INT_MAX_VALUE);
     }
     else {
-      KaratsubaArgs *args1 = (KaratsubaArgs*)malloc(sizeof(KaratsubaArgs));
-      *args1 = (KaratsubaArgs){ tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, zlength, 0, r, parallelThreshold * 2, parallelThresholdZ * 2 };
-
-      KaratsubaArgs *args2 = (KaratsubaArgs*)malloc(sizeof(KaratsubaArgs));
-      *args2 = (KaratsubaArgs){ x, xoff, y, yoff, tmp, tmpoffrr, tmplen, zlength, off, b, parallelThreshold * 2, parallelThresholdZ * 2 };
-
-      KaratsubaArgs *args3 = (KaratsubaArgs*)malloc(sizeof(KaratsubaArgs));
-      *args3 = (KaratsubaArgs){ x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, zlength, off + b, l_b, parallelThreshold * 2, parallelThresholdZ * 2 };
-
-      pthread_t t1;
-      int s1 = pthread_create(&t1, NULL, karatsubaThread, args1);
-
-      pthread_t t2;
-      int s2 = pthread_create(&t2, NULL, karatsubaThread, args2);
-
-      pthread_t t3;
-      int s3 = pthread_create(&t3, NULL, karatsubaThread, args3);
-
-      pthread_join(t1, NULL);
-      pthread_join(t2, NULL);
-      pthread_join(t3, NULL);
+      jint pending = 2;
+      poolSubmit((KaratsubaArgs){ x, xoff, y, yoff, tmp, tmpoffrr, tmplen, zlength, off, b, parallelThreshold * 2, parallelThresholdZ * 2 }, &pending);
+      poolSubmit((KaratsubaArgs){ x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, zlength, off + b, l_b, parallelThreshold * 2, parallelThresholdZ * 2 }, &pending);
+      karatsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, zlength, 0, r, parallelThreshold * 2, parallelThresholdZ * 2);
+      poolAwait(&pending);
     }
 
     memcpy(z + zoff, tmp + tmpoffrr, ll * sizeof(jint));
@@ -327,6 +391,19 @@ JNIEXPORT void JNICALL JavaCritical_org_libj_math_BigIntMultiplication_nativeSqu
   z[zoff] |= x[xoff] & 1;
 }
 
+JNIEXPORT void JNICALL Java_org_libj_math_NativeMath_nativeInitPool(JNIEnv *env, jclass clazz, jint size) {
+  pthread_t thread;
+  pthread_mutex_lock(&pool.lock);
+  for (; pool.size < size; ++pool.size) { // [N]
+    if (pthread_create(&thread, NULL, poolWorker, NULL) != 0)
+      break;
+
+    pthread_detach(thread);
+  }
+
+  pthread_mutex_unlock(&pool.lock);
+}
+
 #ifndef CRITICAL_NATIVE
 
 JNIEXPORT void JNICALL Java_org_libj_math_BigIntMultiplication_nativeMulQuad(JNIEnv *env, jclass clazz, jintArray xarr, jint xlen, jintArray yarr, jint ylen, jintArray zarr) {
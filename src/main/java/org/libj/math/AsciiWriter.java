@@ -0,0 +1,191 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writer of ASCII text into a {@code byte[]}, {@code char[]}, {@link ByteBuffer}, {@link StringBuilder} or {@link Appendable}
+ * target, without allocating intermediate objects.
+ * <p>
+ * Array and {@link ByteBuffer} targets are written at absolute indexes, and appendable targets are appended to, in which case the
+ * index only counts the written chars.
+ */
+final class AsciiWriter {
+  /**
+   * Returns the count of decimal digits in the magnitude of the provided <i>non-positive</i> value.
+   *
+   * @param neg The negated magnitude.
+   * @return The count of decimal digits in the magnitude of the provided <i>non-positive</i> value.
+   * @complexity O(1)
+   */
+  static int digits(final long neg) {
+    int d = 1;
+    for (final long[] e10 = FastMath.longE10; d < e10.length && neg <= -e10[d]; ++d); // [A]
+    return d;
+  }
+
+  /**
+   * Returns the count of decimal digits in the provided <i>non-negative</i> value.
+   *
+   * @param val The value.
+   * @return The count of decimal digits in the provided <i>non-negative</i> value.
+   * @complexity O(1)
+   */
+  static int digits(final int val) {
+    int d = 1;
+    for (final int[] e10 = FastMath.intE10; d < e10.length && val >= e10[d]; ++d); // [A]
+    return d;
+  }
+
+  /**
+   * Checks that {@code len} chars can be written to the provided target at {@code index}, and ensures the capacity of a
+   * {@link StringBuilder} target.
+   *
+   * @param dst The target.
+   * @param index The index at which the text is to be written.
+   * @param len The length of the text.
+   * @throws ArrayIndexOutOfBoundsException If the text does not fit in the {@code byte[]} or {@code char[]} target.
+   * @throws BufferOverflowException If the text does not fit in the {@link ByteBuffer} target.
+   */
+  static void checkCapacity(final Object dst, final int index, final int len) {
+    if (dst instanceof byte[]) {
+      if (index < 0 || index + len > ((byte[])dst).length)
+        throw new ArrayIndexOutOfBoundsException("Range [" + index + ", " + (index + len) + ") out of bounds for length " + ((byte[])dst).length);
+    }
+    else if (dst instanceof char[]) {
+      if (index < 0 || index + len > ((char[])dst).length)
+        throw new ArrayIndexOutOfBoundsException("Range [" + index + ", " + (index + len) + ") out of bounds for length " + ((char[])dst).length);
+    }
+    else if (dst instanceof ByteBuffer) {
+      if (index + len > ((ByteBuffer)dst).limit())
+        throw new BufferOverflowException();
+    }
+    else if (dst instanceof StringBuilder) {
+      final StringBuilder builder = (StringBuilder)dst;
+      builder.ensureCapacity(builder.length() + len);
+    }
+  }
+
+  /**
+   * Writes the provided char to the given target at {@code index}, and returns the index after it.
+   *
+   * @param dst The target.
+   * @param index The index at which the char is to be written.
+   * @param ch The char.
+   * @return The index after the written char.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   */
+  static int put(final Object dst, final int index, final char ch) throws IOException {
+    if (dst instanceof byte[])
+      ((byte[])dst)[index] = (byte)ch;
+    else if (dst instanceof char[])
+      ((char[])dst)[index] = ch;
+    else if (dst instanceof ByteBuffer)
+      ((ByteBuffer)dst).put(index, (byte)ch);
+    else if (dst instanceof StringBuilder)
+      ((StringBuilder)dst).append(ch);
+    else
+      ((Appendable)dst).append(ch);
+
+    return index + 1;
+  }
+
+  /**
+   * Writes the provided string of ASCII chars to the given target at {@code index}, and returns the index after it.
+   *
+   * @param dst The target.
+   * @param index The index at which the string is to be written.
+   * @param str The string.
+   * @return The index after the written string.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   */
+  static int put(final Object dst, int index, final String str) throws IOException {
+    final int len = str.length();
+    checkCapacity(dst, index, len);
+    if (dst instanceof StringBuilder) {
+      ((StringBuilder)dst).append(str);
+      return index + len;
+    }
+
+    if (dst instanceof char[]) {
+      str.getChars(0, len, (char[])dst, index);
+      return index + len;
+    }
+
+    for (int i = 0; i < len; ++i) // [A]
+      index = put(dst, index, str.charAt(i));
+
+    return index;
+  }
+
+  /**
+   * Writes exactly {@code digits} decimal digits of the provided <i>non-negative</i> value to the given target at {@code index},
+   * padded with leading zeros, and returns the index after the last digit.
+   *
+   * @param dst The target.
+   * @param index The index at which the digits are to be written.
+   * @param val The value, which must be less than <code>10<sup>digits</sup></code>.
+   * @param digits The count of digits to write.
+   * @return The index after the last digit.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   */
+  static int putDigits(final Object dst, int index, int val, int digits) throws IOException {
+    for (int d, e; digits > 0;) { // [N]
+      e = FastMath.intE10[--digits];
+      d = val / e;
+      val -= d * e;
+      index = put(dst, index, (char)(d + '0'));
+    }
+
+    return index;
+  }
+
+  /**
+   * Writes exactly {@code digits} decimal digits of the magnitude of the provided <i>non-positive</i> value to the given target at
+   * {@code index}, padded with leading zeros, and returns the index after the last digit. The magnitude is negated so as to support
+   * {@link Long#MIN_VALUE}.
+   *
+   * @param dst The target.
+   * @param index The index at which the digits are to be written.
+   * @param neg The negated magnitude, which must be greater than <code>-10<sup>digits</sup></code>.
+   * @param digits The count of digits to write.
+   * @return The index after the last digit.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   */
+  static int putDigits(final Object dst, int index, long neg, int digits) throws IOException {
+    if (digits > 18) {
+      index = putDigits(dst, index, (int)-(neg / FastMath.longE10[18]), digits - 18);
+      neg %= FastMath.longE10[18];
+      digits = 18;
+    }
+
+    if (digits > 9) {
+      final long q = neg / FastMath.longE10[9];
+      index = putDigits(dst, index, (int)-q, digits - 9);
+      neg -= q * FastMath.longE10[9];
+      digits = 9;
+    }
+
+    return putDigits(dst, index, (int)-neg, digits);
+  }
+
+  private AsciiWriter() {
+  }
+}
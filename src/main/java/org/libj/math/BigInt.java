@@ -29,9 +29,14 @@
 
 package org.libj.math;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
 
 /**
  * An arbitrary-precision integer replacement for {@link java.math.BigInteger}, with the following differences:
@@ -196,6 +201,43 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     val = assign(emptyVal, s);
   }
 
+  /**
+   * Creates a {@link BigInt} from the provided number as a {@link CharSequence}.
+   *
+   * @param s The number as a {@link CharSequence}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt(final CharSequence s) {
+    val = assign(emptyVal, s);
+  }
+
+  /**
+   * Creates a {@link BigInt} from the provided number as a {@link CharSequence} of digits in the given radix.
+   *
+   * @param s The number as a {@link CharSequence}.
+   * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+   * @throws NumberFormatException If {@code radix} is out of range, if {@code s} has no digits, or if a char is not a digit of the
+   *           radix.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public BigInt(final CharSequence s, final int radix) {
+    val = assign(emptyVal, s, radix);
+  }
+
+  /**
+   * Creates a {@link BigInt} from the number in the specified range of a {@code char[]}.
+   *
+   * @param s The {@code char[]} containing the number.
+   * @param off The index of the first char of the number.
+   * @param len The count of chars of the number.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt(final char[] s, final int off, final int len) {
+    val = assign(emptyVal, s, off, len);
+  }
+
   /**
    * Creates a {@link BigInt} from the provided {@link BigInt}.
    *
@@ -300,9 +342,9 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    * this = s
    * </pre>
    *
-   * @param s The number as a {@code char[]}.
+   * @param s The number as a string.
    * @return {@code this}
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
   public BigInt assign(final String s) {
     val = assign(val, s);
@@ -318,13 +360,88 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    *
    * @param s The number as a {@code char[]}.
    * @return {@code this}
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
   public BigInt assign(final char[] s) {
     val = assign(val, s);
     return this;
   }
 
+  /**
+   * Assigns the specified number as a {@link CharSequence} to this {@link BigInt}.
+   *
+   * <pre>
+   * this = s
+   * </pre>
+   *
+   * @param s The number as a {@link CharSequence}.
+   * @return {@code this}
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt assign(final CharSequence s) {
+    val = assign(val, s);
+    return this;
+  }
+
+  /**
+   * Assigns the specified number as a {@link CharSequence} of digits in the provided radix to this {@link BigInt}.
+   *
+   * <pre>
+   * this = s
+   * </pre>
+   *
+   * @param s The number as a {@link CharSequence}.
+   * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+   * @return {@code this}
+   * @throws NumberFormatException If {@code radix} is out of range, if {@code s} has no digits, or if a char is not a digit of the
+   *           radix, in which case this {@link BigInt} is not modified.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public BigInt assign(final CharSequence s, final int radix) {
+    val = assign(val, s, radix);
+    return this;
+  }
+
+  /**
+   * Assigns the number in the specified range of a {@code char[]} to this {@link BigInt}.
+   *
+   * <pre>
+   * this = s[off, off + len)
+   * </pre>
+   *
+   * @param s The {@code char[]} containing the number.
+   * @param off The index of the first char of the number.
+   * @param len The count of chars of the number.
+   * @return {@code this}
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt assign(final char[] s, final int off, final int len) {
+    val = assign(val, s, off, len);
+    return this;
+  }
+
+  /**
+   * Assigns the number as ASCII digits in the specified range of a {@code byte[]} to this {@link BigInt}, so that numbers can be
+   * parsed directly from I/O buffers.
+   *
+   * <pre>
+   * this = s[off, off + len)
+   * </pre>
+   *
+   * @param s The {@code byte[]} containing the number as ASCII digits.
+   * @param off The index of the first byte of the number.
+   * @param len The count of bytes of the number.
+   * @return {@code this}
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt assignAscii(final byte[] s, final int off, final int len) {
+    val = assignAscii(val, s, off, len);
+    return this;
+  }
+
   /**
    * Assigns an <i>unsigned</i> {@code int} magnitude to this {@link BigInt}.
    *
@@ -737,6 +854,130 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Sets this {@link BigInt} to its value raised to the power of the given exponent, modulo the given modulus. The computation reuses
+   * the magnitude array of this {@link BigInt}, if it is long enough for the modulus.
+   *
+   * <pre>
+   * <code>this = this<sup>exp</sup> mod m</code>
+   * </pre>
+   *
+   * @param exp The exponent, which, if negative, raises the {@linkplain #modInverse(BigInt) modular inverse} of this {@link BigInt}.
+   * @param m The <i>positive</i> modulus.
+   * @return <code>this<sup>exp</sup> mod m</code>, in the range {@code [0, m)}.
+   * @throws ArithmeticException If {@code m} is not positive, or if {@code exp} is negative and this {@link BigInt} is not relatively
+   *           prime to {@code m}.
+   * @complexity O(M(n) log(exp)), where M(n) is the complexity of multiplication.
+   */
+  public BigInt modPow(final BigInt exp, final BigInt m) {
+    val = modPow(val, exp.val, m.val);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to the greatest common divisor of its absolute value and the absolute value of the provided
+   * {@link BigInt}, or {@code 0} if both are {@code 0}.
+   *
+   * <pre>
+   * this = gcd(|this|, |b|)
+   * </pre>
+   *
+   * @param b The {@link BigInt} with which the GCD is to be computed.
+   * @return {@code gcd(|this|, |b|)}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt gcd(final BigInt b) {
+    val = gcd(val, b.val);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to the greatest common divisor {@code g} of its absolute value and the absolute value of the provided
+   * {@link BigInt}, and sets the Bézout coefficients {@code x} and {@code y} in the provided {@link BigInt}s.
+   *
+   * <pre>
+   * g = gcd(|this|, |b|) = this * x + b * y
+   * </pre>
+   *
+   * The coefficient {@code x} is the one of least magnitude, with {@code |x| <= |b| / (2 g)}. If {@code b == 0}, then
+   * {@code x = signum(this)} and {@code y = 0}.
+   *
+   * @param b The {@link BigInt} with which the GCD is to be computed.
+   * @param x The {@link BigInt} in which the coefficient of {@code this} is to be set, or {@code null}.
+   * @param y The {@link BigInt} in which the coefficient of {@code b} is to be set, or {@code null}.
+   * @return {@code gcd(|this|, |b|)}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt gcdExt(final BigInt b, final BigInt x, final BigInt y) {
+    final int[][] xy = new int[2][];
+    val = gcdExt(val, b.val, xy);
+    if (x != null)
+      x.val = xy[0];
+
+    if (y != null)
+      y.val = xy[1];
+
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigInt} to its multiplicative inverse modulo the provided modulus.
+   *
+   * <pre>
+   * <code>this = this<sup>-1</sup> mod m</code>
+   * </pre>
+   *
+   * @param m The <i>positive</i> modulus.
+   * @return <code>this<sup>-1</sup> mod m</code>, in the range {@code [0, m)}.
+   * @throws ArithmeticException If {@code m} is not positive, or if this {@link BigInt} is not relatively prime to {@code m}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public BigInt modInverse(final BigInt m) {
+    val = modInverse(val, m.val);
+    return this;
+  }
+
+  /**
+   * Returns whether the absolute value of this {@link BigInt} is probably prime. If the call returns {@code true}, the probability
+   * that this {@link BigInt} is prime exceeds <code>(1 - 1/2<sup>certainty</sup>)</code>.
+   *
+   * @param certainty A measure of the uncertainty that the caller is willing to tolerate. If {@code certainty <= 0}, this method
+   *          returns {@code true}.
+   * @return Whether the absolute value of this {@link BigInt} is probably prime.
+   * @see BigIntMath#isProbablePrime(int[],int)
+   */
+  public boolean isProbablePrime(final int certainty) {
+    return isProbablePrime(val, certainty);
+  }
+
+  /**
+   * Returns whether the absolute value of this {@link BigInt} is probably prime, running the independent rounds of the test in
+   * parallel on the provided {@link Executor}. If the call returns {@code true}, the probability that this {@link BigInt} is prime
+   * exceeds <code>(1 - 1/2<sup>certainty</sup>)</code>.
+   *
+   * @param certainty A measure of the uncertainty that the caller is willing to tolerate. If {@code certainty <= 0}, this method
+   *          returns {@code true}.
+   * @param executor The {@link Executor} on which the rounds of the test are to be run, or {@code null} to run them in the calling
+   *          thread.
+   * @return Whether the absolute value of this {@link BigInt} is probably prime.
+   * @see BigIntMath#isProbablePrime(int[],int,Executor)
+   */
+  public boolean isProbablePrime(final int certainty, final Executor executor) {
+    return isProbablePrime(val, certainty, executor);
+  }
+
+  /**
+   * Sets this <i>non-negative</i> {@link BigInt} to the first integer greater than it that is probably prime. The probability that
+   * the result is composite does not exceed <code>2<sup>-100</sup></code>.
+   *
+   * @return The first integer greater than this {@link BigInt} that is probably prime.
+   * @throws ArithmeticException If this {@link BigInt} is negative.
+   */
+  public BigInt nextProbablePrime() {
+    val = nextProbablePrime(val);
+    return this;
+  }
+
   /**
    * Set this {@link BigInt} to the value of its square root, rounded as per the provided {@link RoundingMode}.
    *
@@ -968,6 +1209,28 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return this;
   }
 
+  /**
+   * Sets this {@link BigInt} to its reciprocal scaled by {@code 2^precisionBits}, which is truncated toward zero.
+   *
+   * <pre>
+   *  <code>this = 2<sup>precisionBits</sup> / this</code>
+   * </pre>
+   *
+   * The reciprocal can be computed once for a divisor, and be reused to divide many dividends with a multiplication and a shift: for
+   * {@code 0 <= a < 2^precisionBits} and {@code x = d.reciprocal(precisionBits)} with {@code d > 0}, the quotient {@code a / d} is
+   * equal to {@code (a * x) >> precisionBits}, or to that value plus 1.
+   *
+   * @param precisionBits The power of 2 by which the reciprocal is scaled.
+   * @return <code>2<sup>precisionBits</sup> / this</code>
+   * @throws ArithmeticException If this {@link BigInt} is zero.
+   * @throws IllegalArgumentException If {@code precisionBits} is negative.
+   * @complexity O(M(n)), where M(n) is the complexity of multiplication.
+   */
+  public BigInt reciprocal(final int precisionBits) {
+    val = reciprocal(val, precisionBits);
+    return this;
+  }
+
   /**
    * Divides this {@link BigInt} by the specified <i>unsigned</i> {@code int} divisor, and returns the <i>absolute unsigned int</i>
    * remainder.
@@ -1513,6 +1776,89 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
     return toByteArray(val, littleEndian);
   }
 
+  /**
+   * Returns the number of bytes of the compact binary representation of this {@link BigInt}, as written by
+   * {@link #writeTo(ByteBuffer)}.
+   *
+   * @return The number of bytes of the compact binary representation of this {@link BigInt}.
+   * @complexity O(1)
+   */
+  public int binaryLength() {
+    return binaryLength(val);
+  }
+
+  /**
+   * Writes the compact binary representation of this {@link BigInt} into the given {@link ByteBuffer} at its position, which is
+   * advanced by the number of bytes written. The compact binary representation is the signed length in limbs as a zig-zag encoded
+   * varint, followed by the little-endian limbs of the magnitude, least significant first.
+   *
+   * @param buf The {@link ByteBuffer} into which the compact binary representation is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the compact binary representation does not fit in the remaining bytes of
+   *           {@code buf}, in which case {@code buf} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code buf} is read-only.
+   * @throws NullPointerException If {@code buf} is null.
+   * @complexity O(n)
+   */
+  public int writeTo(final ByteBuffer buf) {
+    return writeTo(val, buf);
+  }
+
+  /**
+   * Writes the compact binary representation of this {@link BigInt}, as per {@link #writeTo(ByteBuffer)}, to the given
+   * {@link DataOutput}.
+   *
+   * @param out The {@link DataOutput} to which the compact binary representation is to be written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   * @complexity O(n)
+   */
+  public void writeTo(final DataOutput out) throws IOException {
+    writeTo(val, out);
+  }
+
+  /**
+   * Reads the compact binary representation of a number, as written by {@link #writeTo(ByteBuffer)}, from the given
+   * {@link ByteBuffer} at its position, which is advanced by the number of bytes read, and assigns it to this {@link BigInt}.
+   *
+   * <pre>
+   * this = buf
+   * </pre>
+   *
+   * @param buf The {@link ByteBuffer} from which the compact binary representation is to be read.
+   * @return {@code this}
+   * @throws java.nio.BufferUnderflowException If the remaining bytes of {@code buf} do not contain the whole compact binary
+   *           representation, in which case the position of {@code buf} is not changed.
+   * @throws IllegalArgumentException If the header is malformed, in which case the position of {@code buf} is not changed.
+   * @throws NullPointerException If {@code buf} is null.
+   * @complexity O(n)
+   */
+  public BigInt readFrom(final ByteBuffer buf) {
+    val = readFrom(val, buf);
+    return this;
+  }
+
+  /**
+   * Reads the compact binary representation of a number, as written by {@link #writeTo(DataOutput)}, from the given
+   * {@link DataInput}, and assigns it to this {@link BigInt}.
+   *
+   * <pre>
+   * this = in
+   * </pre>
+   *
+   * @param in The {@link DataInput} from which the compact binary representation is to be read.
+   * @return {@code this}
+   * @throws java.io.EOFException If the input ends before the whole compact binary representation is read, in which case this
+   *           {@link BigInt} is either unchanged or zero.
+   * @throws IOException If an I/O error has occurred, or if the header is malformed.
+   * @throws NullPointerException If {@code in} is null.
+   * @complexity O(n)
+   */
+  public BigInt readFrom(final DataInput in) throws IOException {
+    val = readFrom(val, in);
+    return this;
+  }
+
   /**
    * Returns a {@link BigInteger} representation of this {@link BigInt}.
    *
@@ -1597,13 +1943,87 @@ public class BigInt extends BigIntMath implements Comparable<BigInt>, Cloneable
    * Converts this {@link BigInt} into a string of radix 10.
    *
    * @return The string representation of this {@link BigInt} in radix 10.
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
   @Override
   public String toString() {
     return toString(val);
   }
 
+  /**
+   * Converts this {@link BigInt} into a string of the provided radix, with the digits {@code 0-9} and {@code a-z}, and a leading minus
+   * sign if negative. If the radix is outside the range from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}, radix 10 is
+   * used, as per {@link BigInteger#toString(int)}.
+   *
+   * @param radix The radix.
+   * @return The string representation of this {@link BigInt} in the provided radix.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public String toString(final int radix) {
+    return toString(val, radix);
+  }
+
+  /**
+   * Appends the string of radix 10 of this {@link BigInt} to the given {@link StringBuilder} without allocating intermediate
+   * objects, unless this {@link BigInt} has at least {@link BigIntValue#TO_STRING_THRESHOLD} ints.
+   *
+   * @param builder The {@link StringBuilder} to which the string is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public StringBuilder appendTo(final StringBuilder builder) {
+    return appendTo(val, builder);
+  }
+
+  /**
+   * Appends the string of radix 10 of this {@link BigInt} to the given {@link Appendable} char by char, without allocating
+   * intermediate objects, unless this {@link BigInt} has at least {@link BigIntValue#TO_STRING_THRESHOLD} ints.
+   *
+   * @param appendable The {@link Appendable} to which the string is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public Appendable appendTo(final Appendable appendable) throws IOException {
+    return appendTo(val, appendable);
+  }
+
+  /**
+   * Writes the string of radix 10 of this {@link BigInt} as ASCII bytes into the given {@code byte[]} starting at {@code off},
+   * without allocating intermediate objects, unless this {@link BigInt} has at least {@link BigIntValue#TO_STRING_THRESHOLD} ints.
+   *
+   * @param dst The {@code byte[]} into which the string is to be written.
+   * @param off The offset in {@code dst} at which the string is to be written.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string does not fit in {@code dst} at {@code off}, in which case {@code dst} is
+   *           not modified.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public int write(final byte[] dst, final int off) {
+    return write(val, dst, off);
+  }
+
+  /**
+   * Writes the string of radix 10 of this {@link BigInt} as ASCII bytes into the given {@link ByteBuffer} at its position, which
+   * is advanced by the number of bytes written, without allocating intermediate objects, unless this {@link BigInt} has at least
+   * {@link BigIntValue#TO_STRING_THRESHOLD} ints.
+   *
+   * @param dst The {@link ByteBuffer} into which the string is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string does not fit in the remaining bytes of {@code dst}, in which case
+   *           {@code dst} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public int write(final ByteBuffer dst) {
+    return write(val, dst);
+  }
+
   /**
    * Returns a copy of this {@link BigInt}.
    *
@@ -0,0 +1,280 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+
+/**
+ * Service provider of the {@code int[]} arrays that back {@linkplain BigInt#val() value-encoded numbers}.
+ * <p>
+ * The arrays for the results and the temporaries of the arithmetic operations are obtained with {@link #alloc(int)}, and the
+ * temporaries that are no longer needed are returned with {@link #free(int[])}. The allocator that is used is the {@link Arena} that
+ * is {@linkplain #openArena(Pool) open} in the current thread, or otherwise the {@linkplain BigInt#setAllocator(BigIntAllocator)
+ * global allocator}, which is {@link #HEAP} by default.
+ * <p>
+ * Arrays of exact lengths, such as those returned by {@link BigInt#toByteArray(int[],boolean)}, are always allocated on the heap.
+ */
+public abstract class BigIntAllocator {
+  /**
+   * The allocator that creates a new {@code int[]} for every allocation, and leaves freed arrays to the garbage collector.
+   */
+  public static final BigIntAllocator HEAP = new BigIntAllocator() {
+    @Override
+    public int[] alloc(final int len) {
+      return new int[len];
+    }
+
+    @Override
+    public void free(final int[] array) {
+    }
+  };
+
+  /**
+   * Returns a zero-filled {@code int[]} with a length that is at least {@code len}.
+   *
+   * @param len The minimal length of the returned {@code int[]}.
+   * @return A zero-filled {@code int[]} with a length that is at least {@code len}.
+   */
+  public abstract int[] alloc(int len);
+
+  /**
+   * Returns the provided {@code int[]}, which must no longer be referenced by the caller, to this allocator.
+   *
+   * @param array The {@code int[]} to free.
+   */
+  public abstract void free(int[] array);
+
+  /**
+   * Opens a new {@link Arena} in the current thread, which allocates from the provided {@link Pool}, and which remains the allocator
+   * of the current thread until it is {@linkplain Arena#close() closed}.
+   *
+   * @param pool The {@link Pool} from which the arena allocates.
+   * @return A new {@link Arena} that is open in the current thread.
+   * @throws NullPointerException If {@code pool} is null.
+   */
+  public static Arena openArena(final Pool pool) {
+    final Arena arena = new Arena(pool);
+    arena.previous = Arena.current.get();
+    Arena.current.set(arena);
+    Arena.opened = true;
+    return arena;
+  }
+
+  /**
+   * Allocator that retains freed arrays in size classes of powers of two, so that subsequent allocations of similar lengths reuse
+   * them instead of creating new arrays. Each size class retains at most a fixed number of arrays, and arrays that are longer than
+   * the largest size class are neither pooled nor retained.
+   * <p>
+   * As a global allocator, a pool reuses the temporaries that the multiplication, division and GCD algorithms free when they are no
+   * longer needed. A temporary that an operation outgrows, and replaces with a longer array, is left to the garbage collector, and
+   * only an {@link Arena} returns all of the arrays that it has allocated to its pool.
+   * <p>
+   * A {@link Pool} is thread-safe.
+   */
+  public static class Pool extends BigIntAllocator {
+    private static final int MIN_CLASS = 5;
+
+    private final int maxClass;
+    private final int maxRetained;
+    private final int[][][] arrays;
+    private final int[] sizes;
+
+    /**
+     * Creates a new {@link Pool} that retains at most {@code maxRetained} arrays per size class, for arrays of at most
+     * {@code maxLength} ints.
+     *
+     * @param maxRetained The maximum number of arrays retained per size class.
+     * @param maxLength The maximum length of the pooled arrays, which is rounded up to a power of two.
+     * @throws IllegalArgumentException If {@code maxRetained} or {@code maxLength} is not positive.
+     */
+    public Pool(final int maxRetained, final int maxLength) {
+      if (maxRetained <= 0)
+        throw new IllegalArgumentException("maxRetained (" + maxRetained + ") must be positive");
+
+      if (maxLength <= 0)
+        throw new IllegalArgumentException("maxLength (" + maxLength + ") must be positive");
+
+      this.maxRetained = maxRetained;
+      this.maxClass = Math.min(30, Math.max(MIN_CLASS, sizeClass(maxLength)));
+      this.arrays = new int[maxClass + 1][][];
+      this.sizes = new int[maxClass + 1];
+      for (int i = MIN_CLASS; i <= maxClass; ++i) // [A]
+        arrays[i] = new int[maxRetained][];
+    }
+
+    private static int sizeClass(final int len) {
+      return len <= 1 << MIN_CLASS ? MIN_CLASS : 32 - Integer.numberOfLeadingZeros(len - 1);
+    }
+
+    @Override
+    public int[] alloc(final int len) {
+      final int sizeClass = sizeClass(len);
+      if (sizeClass > maxClass)
+        return new int[len];
+
+      final int[][] stack = arrays[sizeClass];
+      synchronized (stack) {
+        final int size = sizes[sizeClass];
+        if (size > 0) {
+          final int[] array = stack[size - 1];
+          stack[size - 1] = null;
+          sizes[sizeClass] = size - 1;
+          return array;
+        }
+      }
+
+      return new int[1 << sizeClass];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The array is zero-filled and retained if its length is a size class of this pool that is not full, and is otherwise left to
+     * the garbage collector.
+     */
+    @Override
+    public void free(final int[] array) {
+      final int len = array.length;
+      if (len < 1 << MIN_CLASS || (len & len - 1) != 0)
+        return;
+
+      final int sizeClass = Integer.numberOfTrailingZeros(len);
+      if (sizeClass > maxClass || sizes[sizeClass] == maxRetained)
+        return;
+
+      Arrays.fill(array, 0);
+      final int[][] stack = arrays[sizeClass];
+      synchronized (stack) {
+        final int size = sizes[sizeClass];
+        if (size < maxRetained) {
+          stack[size] = array;
+          sizes[sizeClass] = size + 1;
+        }
+      }
+    }
+
+    /**
+     * Returns the number of arrays that are retained by this pool.
+     *
+     * @return The number of arrays that are retained by this pool.
+     */
+    public int retained() {
+      int retained = 0;
+      for (int i = MIN_CLASS; i <= maxClass; ++i) // [A]
+        synchronized (arrays[i]) {
+          retained += sizes[i];
+        }
+
+      return retained;
+    }
+  }
+
+  /**
+   * Scoped allocator that allocates from a {@link Pool}, and returns every array it has allocated to the pool when it is
+   * {@linkplain #close() closed}. An arena is {@linkplain BigIntAllocator#openArena(Pool) opened} in a thread, in which it is the
+   * allocator of all operations until it is closed. Operations that run in other threads, such as the parallel steps of the
+   * multiplication of very large numbers, allocate from the global allocator instead.
+   * <p>
+   * <b>Note:</b> The numbers that are computed in an arena must not be used after the arena is closed, and the results that are to
+   * outlive the arena must be copied, for instance with {@link BigInt#toByteArray(boolean)}, before it is closed. An arena is not
+   * thread-safe.
+   */
+  public static final class Arena extends BigIntAllocator implements AutoCloseable {
+    static final ThreadLocal<Arena> current = new ThreadLocal<>();
+
+    /**
+     * Whether an arena has ever been opened. This field is deliberately not {@code volatile}, and is never reset, so that the
+     * allocations of programs that do not use arenas skip the {@link ThreadLocal} lookup with a plain read. A thread that opens an
+     * arena is guaranteed to observe its own write, and other threads at worst perform a lookup that finds no arena.
+     */
+    static boolean opened;
+
+    private final Pool pool;
+    private final Thread thread = Thread.currentThread();
+    private Arena previous;
+    private int[][] arrays = new int[16][];
+    private int size;
+    private boolean closed;
+
+    private Arena(final Pool pool) {
+      if (pool == null)
+        throw new NullPointerException("pool is null");
+
+      this.pool = pool;
+    }
+
+    @Override
+    public int[] alloc(final int len) {
+      if (closed)
+        throw new IllegalStateException("Arena is closed");
+
+      final int[] array = pool.alloc(len);
+      if (size == arrays.length)
+        arrays = Arrays.copyOf(arrays, size * 2);
+
+      arrays[size++] = array;
+      return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The arrays allocated by an arena are returned to its pool when it is closed, so this method does nothing.
+     */
+    @Override
+    public void free(final int[] array) {
+    }
+
+    /**
+     * Returns the number of arrays that have been allocated by this arena.
+     *
+     * @return The number of arrays that have been allocated by this arena.
+     */
+    public int allocated() {
+      return size;
+    }
+
+    /**
+     * Closes this arena, which makes the arena that was open when this arena was opened the allocator of the current thread again,
+     * and returns every array that was allocated by this arena to its pool.
+     *
+     * @throws IllegalStateException If this arena is closed in a thread other than the one in which it was opened, or if it is not
+     *           the innermost open arena of the thread.
+     */
+    @Override
+    public void close() {
+      if (closed)
+        return;
+
+      if (Thread.currentThread() != thread || current.get() != this)
+        throw new IllegalStateException("Arena must be closed by the thread that opened it, in reverse order of opening");
+
+      closed = true;
+      if (previous != null)
+        current.set(previous);
+      else
+        current.remove();
+
+      for (int i = 0; i < size; ++i) { // [A]
+        pool.free(arrays[i]);
+        arrays[i] = null;
+      }
+
+      size = 0;
+    }
+  }
+}
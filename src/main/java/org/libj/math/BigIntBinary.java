@@ -29,8 +29,15 @@
 
 package org.libj.math;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 abstract class BigIntBinary extends BigIntMagnitude {
   /**
@@ -1366,6 +1373,253 @@ abstract class BigIntBinary extends BigIntMagnitude {
     return bytes;
   }
 
+  /**
+   * The minimum number of limbs for which {@link #writeTo(int[],ByteBuffer)} and {@link #readFrom(int[],ByteBuffer)} transfer the
+   * limbs with a bulk {@link java.nio.IntBuffer} view, rather than one {@code int} at a time.
+   * <p>
+   * This value is found experimentally to work well.
+   */
+  static final int BULK_TRANSFER_THRESHOLD = BigIntProfile.get("BULK_TRANSFER_THRESHOLD", 8);
+
+  /**
+   * Returns the zig-zag encoding of the signed length of the provided {@linkplain BigInt#val() value-encoded number}, which is the
+   * header of its compact binary representation.
+   */
+  private static int header(final int len) {
+    return len << 1 ^ len >> 31;
+  }
+
+  /**
+   * Returns the number of bytes of the unsigned LEB128 varint encoding of the provided header.
+   */
+  private static int headerLength(final int header) {
+    return header >>> 7 == 0 ? 1 : header >>> 14 == 0 ? 2 : header >>> 21 == 0 ? 3 : header >>> 28 == 0 ? 4 : 5;
+  }
+
+  /**
+   * Returns the signed length decoded from the provided zig-zag encoded header, or {@link Integer#MIN_VALUE} if its magnitude is
+   * greater than {@link #MAX_VAL_LENGTH}.
+   */
+  private static int decodeHeader(final int header) {
+    final int len = header >>> 1 ^ -(header & 1);
+    return len > MAX_VAL_LENGTH || len < -MAX_VAL_LENGTH ? Integer.MIN_VALUE : len;
+  }
+
+  /**
+   * Returns the number of bytes of the compact binary representation of the provided {@linkplain BigInt#val() value-encoded number},
+   * as written by {@link #writeTo(int[],ByteBuffer)}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The number of bytes of the compact binary representation of the provided {@linkplain BigInt#val() value-encoded
+   *         number}.
+   * @complexity O(1)
+   */
+  public static int binaryLength(final int[] val) {
+    final int len = val[0];
+    return headerLength(header(len)) + ((len < 0 ? -len : len) << 2);
+  }
+
+  /**
+   * Writes the compact binary representation of the provided {@linkplain BigInt#val() value-encoded number} into the given
+   * {@link ByteBuffer} at its position, which is advanced by the number of bytes written.
+   * <p>
+   * The compact binary representation is the signed length of the number in limbs as a zig-zag encoded unsigned LEB128 varint,
+   * followed by the limbs of the magnitude in the same order as they are in the {@linkplain BigInt#val() value-encoded number}, with
+   * the least significant limb first, each as a little-endian {@code int}. Numbers of at least {@link #BULK_TRANSFER_THRESHOLD}
+   * limbs are transferred with a bulk {@link java.nio.IntBuffer} view of the buffer, which works with heap, direct and
+   * memory-mapped buffers alike.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param buf The {@link ByteBuffer} into which the compact binary representation is to be written.
+   * @return The number of bytes written.
+   * @throws BufferOverflowException If the compact binary representation does not fit in the remaining bytes of {@code buf}, in
+   *           which case {@code buf} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code buf} is read-only.
+   * @throws NullPointerException If {@code val} or {@code buf} is null.
+   * @complexity O(n)
+   */
+  public static int writeTo(final int[] val, final ByteBuffer buf) {
+    int len = val[0];
+    int header = header(len);
+    if (len < 0)
+      len = -len;
+
+    final int size = headerLength(header) + (len << 2);
+    if (buf.remaining() < size)
+      throw new BufferOverflowException();
+
+    for (; header >>> 7 != 0; header >>>= 7) // [A]
+      buf.put((byte)(header | 0x80));
+
+    buf.put((byte)header);
+    if (len == 0)
+      return size;
+
+    final ByteOrder order = buf.order();
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    if (len < BULK_TRANSFER_THRESHOLD) {
+      for (int i = 1; i <= len; ++i) // [A]
+        buf.putInt(val[i]);
+    }
+    else {
+      buf.asIntBuffer().put(val, 1, len);
+      buf.position(buf.position() + (len << 2));
+    }
+
+    buf.order(order);
+    return size;
+  }
+
+  /**
+   * Reads the compact binary representation of a number, as written by {@link #writeTo(int[],ByteBuffer)}, from the given
+   * {@link ByteBuffer} at its position, which is advanced by the number of bytes read, into the provided {@linkplain BigInt#val()
+   * value-encoded number}.
+   *
+   * <pre>
+   * val = buf
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param buf The {@link ByteBuffer} from which the compact binary representation is to be read.
+   * @return The result of assigning the number read from the provided {@link ByteBuffer} into the given {@linkplain BigInt#val()
+   *         value-encoded number}.
+   * @throws BufferUnderflowException If the remaining bytes of {@code buf} do not contain the whole compact binary representation,
+   *           in which case the position of {@code buf} is not changed.
+   * @throws IllegalArgumentException If the header is malformed, in which case the position of {@code buf} is not changed.
+   * @throws NullPointerException If {@code val} or {@code buf} is null.
+   * @complexity O(n)
+   */
+  public static int[] readFrom(int[] val, final ByteBuffer buf) {
+    final int position = buf.position();
+    int header = 0;
+    for (int shift = 0, b;; shift += 7) { // [N]
+      if (!buf.hasRemaining()) {
+        buf.position(position);
+        throw new BufferUnderflowException();
+      }
+
+      b = buf.get();
+      header |= (b & 0x7F) << shift;
+      if (shift < 28 ? b >= 0 : 0 <= b && b < 0x10)
+        break;
+
+      if (shift == 28) {
+        buf.position(position);
+        throw new IllegalArgumentException("Malformed length header");
+      }
+    }
+
+    final int sig = decodeHeader(header);
+    if (sig == Integer.MIN_VALUE) {
+      buf.position(position);
+      throw new IllegalArgumentException("Length out of range: " + (header >>> 1));
+    }
+
+    int len = sig < 0 ? -sig : sig;
+    if (buf.remaining() < len << 2) {
+      buf.position(position);
+      throw new BufferUnderflowException();
+    }
+
+    if (val.length <= len)
+      val = alloc(len);
+
+    if (len > 0) {
+      final ByteOrder order = buf.order();
+      buf.order(ByteOrder.LITTLE_ENDIAN);
+      if (len < BULK_TRANSFER_THRESHOLD) {
+        for (int i = 1; i <= len; ++i) // [A]
+          val[i] = buf.getInt();
+      }
+      else {
+        buf.asIntBuffer().get(val, 1, len);
+        buf.position(buf.position() + (len << 2));
+      }
+
+      buf.order(order);
+      for (; len > 0 && val[len] == 0; --len); // [A]
+    }
+
+    val[0] = sig < 0 ? -len : len;
+    // _debugLenSig(val);
+    return val;
+  }
+
+  /**
+   * Writes the compact binary representation of the provided {@linkplain BigInt#val() value-encoded number}, as per
+   * {@link #writeTo(int[],ByteBuffer)}, to the given {@link DataOutput}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param out The {@link DataOutput} to which the compact binary representation is to be written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code val} or {@code out} is null.
+   * @complexity O(n)
+   */
+  public static void writeTo(final int[] val, final DataOutput out) throws IOException {
+    int len = val[0];
+    int header = header(len);
+    if (len < 0)
+      len = -len;
+
+    for (; header >>> 7 != 0; header >>>= 7) // [A]
+      out.writeByte(header | 0x80);
+
+    out.writeByte(header);
+    for (int i = 1; i <= len; ++i) // [A]
+      out.writeInt(Integer.reverseBytes(val[i]));
+  }
+
+  /**
+   * Reads the compact binary representation of a number, as written by {@link #writeTo(int[],DataOutput)}, from the given
+   * {@link DataInput} into the provided {@linkplain BigInt#val() value-encoded number}.
+   *
+   * <pre>
+   * val = in
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param in The {@link DataInput} from which the compact binary representation is to be read.
+   * @return The result of assigning the number read from the provided {@link DataInput} into the given {@linkplain BigInt#val()
+   *         value-encoded number}.
+   * @throws java.io.EOFException If the input ends before the whole compact binary representation is read, in which case
+   *           {@code val} is either unchanged or zero.
+   * @throws IOException If an I/O error has occurred, or if the header is malformed.
+   * @throws NullPointerException If {@code val} or {@code in} is null.
+   * @complexity O(n)
+   */
+  public static int[] readFrom(int[] val, final DataInput in) throws IOException {
+    int header = 0;
+    for (int shift = 0, b;; shift += 7) { // [N]
+      b = in.readUnsignedByte();
+      header |= (b & 0x7F) << shift;
+      if (b < (shift < 28 ? 0x80 : 0x10))
+        break;
+
+      if (shift == 28)
+        throw new IOException("Malformed length header");
+    }
+
+    final int sig = decodeHeader(header);
+    if (sig == Integer.MIN_VALUE)
+      throw new IOException("Length out of range: " + (header >>> 1));
+
+    int len = sig < 0 ? -sig : sig;
+    if (val.length <= len)
+      val = alloc(len);
+
+    // The number is zero until all limbs are read, in case the input ends prematurely.
+    val[0] = 0;
+    for (int i = 1; i <= len; ++i) // [A]
+      val[i] = Integer.reverseBytes(in.readInt());
+
+    for (; len > 0 && val[len] == 0; --len); // [A]
+    val[0] = sig < 0 ? -len : len;
+    // _debugLenSig(val);
+    return val;
+  }
+
   /**
    * Returns a {@link BigInteger} representation of the provided {@linkplain BigInt#val() value-encoded number}.
    *
@@ -29,7 +29,49 @@
 
 package org.libj.math;
 
+import java.util.Arrays;
+
 abstract class BigIntDivision extends BigIntMultiplication {
+  /**
+   * The threshold value for using Burnikel-Ziegler division. If the number of ints in the divisor is greater than or equal to this
+   * value, and the number of ints in the dividend exceeds the number of ints in the divisor by at least
+   * {@link #BURNIKEL_ZIEGLER_OFFSET}, then Burnikel-Ziegler division will be used instead of Knuth's Algorithm D. This value is found
+   * experimentally to work well.
+   */
+  static final int BURNIKEL_ZIEGLER_THRESHOLD = BigIntProfile.get("BURNIKEL_ZIEGLER_THRESHOLD", 80, 4);
+
+  /**
+   * The minimum difference between the number of ints in the dividend and the number of ints in the divisor for using
+   * Burnikel-Ziegler division. This value is found experimentally to work well.
+   *
+   * @see #BURNIKEL_ZIEGLER_THRESHOLD
+   */
+  static final int BURNIKEL_ZIEGLER_OFFSET = BigIntProfile.get("BURNIKEL_ZIEGLER_OFFSET", 40);
+
+  /**
+   * The threshold value for using Newton division. If the number of ints in the divisor is greater than or equal to this value, and
+   * the number of ints in the dividend exceeds the number of ints in the divisor by at least {@link #NEWTON_OFFSET}, then the quotient
+   * will be computed from a Newton approximation of the reciprocal of the divisor instead of with Burnikel-Ziegler division. This
+   * value is found experimentally to work well.
+   */
+  static final int NEWTON_THRESHOLD = BigIntProfile.get("NEWTON_THRESHOLD", 60000, 8);
+
+  /**
+   * The minimum difference between the number of ints in the dividend and the number of ints in the divisor for using Newton
+   * division. This value is found experimentally to work well.
+   *
+   * @see #NEWTON_THRESHOLD
+   */
+  static final int NEWTON_OFFSET = BigIntProfile.get("NEWTON_OFFSET", 60000);
+
+  /**
+   * The precision (in ints) of a reciprocal below which it is computed by division instead of with Newton iteration. This value is
+   * found experimentally to work well.
+   *
+   * @see #reciprocal(int[],int)
+   */
+  static final int NEWTON_RECIPROCAL_THRESHOLD = BigIntProfile.get("NEWTON_RECIPROCAL_THRESHOLD", 2000, 8);
+
   /**
    * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by the specified <i>unsigned</i> {@code int} divisor.
    *
@@ -337,12 +379,14 @@ abstract class BigIntDivision extends BigIntMultiplication {
    * Divides the first {@linkplain BigInt#val() value-encoded dividend} by the second {@linkplain BigInt#val() value-encoded divisor},
    * and stored the quotient in {@code q}. The remainder will be stored in array of the dividend ({@code val}).
    * <p>
-   * <i>Hacker's Delight's implementation of Knuth's Algorithm D.</i>
+   * <i>Hacker's Delight's implementation of Knuth's Algorithm D</i> is used for divisors shorter than
+   * {@link #BURNIKEL_ZIEGLER_THRESHOLD}, and <i>Burnikel-Ziegler recursive division</i> is used otherwise.
    *
    * @param val The {@linkplain BigInt#val() value-encoded dividend}.
    * @param div The {@linkplain BigInt#val() value-encoded divisor}.
    * @param q An array to store the quotient, which must be at least of length {@code Math.abs(val[0]) - Math.abs(div[0]) + 1}.
-   * @complexity O(|val[0]|*|div[0]|)
+   * @complexity O(|val[0]|*|div[0]|) for Knuth's Algorithm D, and O(M(n) log(n)) for Burnikel-Ziegler division, where M(n) is the
+   *             complexity of multiplication.
    */
   public static void div(final int[] val, final int[] div, final int[] q) {
     int sig1 = 1, len1 = val[0];
@@ -352,7 +396,16 @@ abstract class BigIntDivision extends BigIntMultiplication {
     div0(val, len1, sig1, div, len2, sig2, q);
   }
 
-  private static void div0(final int[] val, int len1, final int sig1, final int[] div, int len2, final int sig2, final int[] q) {
+  private static void div0(final int[] val, final int len1, final int sig1, final int[] div, final int len2, final int sig2, final int[] q) {
+    if (len2 >= NEWTON_THRESHOLD && len1 - len2 >= NEWTON_OFFSET)
+      newton(val, len1, sig1, div, len2, sig2, q);
+    else if (len2 >= BURNIKEL_ZIEGLER_THRESHOLD && len1 - len2 >= BURNIKEL_ZIEGLER_OFFSET)
+      burnikelZiegler(val, len1, sig1, div, len2, sig2, q);
+    else
+      knuth(val, len1, sig1, div, len2, sig2, q);
+  }
+
+  private static void knuth(final int[] val, int len1, final int sig1, final int[] div, int len2, final int sig2, final int[] q) {
     ++len1;
     ++len2;
 
@@ -385,6 +438,10 @@ abstract class BigIntDivision extends BigIntMultiplication {
 
       val[fromIndex] = val[fromIndex] << s;
     }
+    else {
+      // The appended high-order digit may hold a stale limb of a value that has shrunk in place
+      val[len1] = 0;
+    }
 
     final long dh = div[len2 - 1] & LONG_MASK;
     final long dl = div[len2 - 2] & LONG_MASK;
@@ -462,6 +519,429 @@ abstract class BigIntDivision extends BigIntMultiplication {
     // _debugLenSig(val);
   }
 
+  /**
+   * Divides the first {@linkplain BigInt#val() value-encoded dividend} by the second {@linkplain BigInt#val() value-encoded divisor}
+   * with {@link #burnikelZiegler(BigIntLimbs,Object,Object)}, and stores the quotient in {@code q} and the remainder in {@code val},
+   * with the same contract as {@link #knuth(int[],int,int,int[],int,int,int[])}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}, in which the remainder is stored.
+   * @param len1 The number of limbs in the dividend.
+   * @param sig1 The sign of the dividend.
+   * @param div The {@linkplain BigInt#val() value-encoded divisor}.
+   * @param len2 The number of limbs in the divisor.
+   * @param sig2 The sign of the divisor.
+   * @param q An array to store the quotient, which must be at least of length {@code len1 - len2 + 2}.
+   */
+  private static void burnikelZiegler(final int[] val, final int len1, final int sig1, final int[] div, final int len2, final int sig2, final int[] q) {
+    final int[][] qr = burnikelZiegler(BigIntLimbs.HEAP, val, div);
+    setQuotientRemainder(val, len1, sig1, len2, sig2, q, qr[0], qr[1]);
+    free(qr[0], qr[1]);
+  }
+
+  /**
+   * Divides the magnitude of the provided dividend by the magnitude of the provided divisor with the recursive division algorithm of
+   * Burnikel and Ziegler, and returns an array of the <i>non-negative</i> quotient and remainder as new numbers. The numbers are
+   * stored in the limbs of the provided {@link BigIntLimbs}, and are not modified.
+   * <p>
+   * The divisor is normalized to {@code n = j * m} limbs, where {@code m} is a power of two, so that it can be halved recursively
+   * down to {@link BigIntLimbs#threshold()}. The dividend is then divided in blocks of {@code n} limbs, each step dividing a
+   * {@code 2n}-limb number by the {@code n}-limb divisor with two {@code 3n/2}-by-{@code n} divisions, which reduce to a half-size
+   * division and a multiplication. The cost is therefore dominated by the Karatsuba, Toom-Cook and NTT multiplications.
+   *
+   * @param <V> The type of the store of the limbs of the numbers.
+   * @param limbs The {@link BigIntLimbs} of the numbers.
+   * @param val The dividend.
+   * @param div The divisor, which must not be zero.
+   * @return An array of the quotient and the remainder.
+   * @see <a href="https://pure.mpg.de/rest/items/item_1819444_4/component/file_2599480/content">Burnikel, Ziegler: Fast Recursive
+   *      Division</a>
+   */
+  static <V> V[] burnikelZiegler(final BigIntLimbs<V> limbs, final V val, final V div) {
+    final int len2 = limbs.length(div);
+    V a = limbs.slice(val, 0, limbs.length(val));
+    V b = limbs.slice(div, 0, len2);
+
+    final int m = 1 << (32 - Integer.numberOfLeadingZeros(len2 / BURNIKEL_ZIEGLER_THRESHOLD));
+    final int n = (len2 + m - 1) / m * m;
+    final long n32 = 32L * n;
+
+    // Normalize the divisor to n limbs with its highest bit set, and shift the dividend by the same amount
+    final int sigma = (int)Math.max(0, n32 - limbs.bitLength(b));
+    b = limbs.shiftLeft(b, sigma);
+    a = limbs.shiftLeft(a, sigma);
+
+    // The number of n-limb blocks in the dividend, such that the highest block has room for the highest bit of the divisor
+    final int t = (int)Math.max(2, (limbs.bitLength(a) + n32) / n32);
+
+    final int qlen = (t - 1) * n;
+    final V quotient = limbs.alloc(qlen);
+    V z = limbs.slice(a, (t - 2) * n, t * n);
+    V[] qr;
+    for (int i = t - 2;; --i) { // [N]
+      qr = bzDivide2n1n(limbs, z, b, n);
+      // Each partial quotient is less than 2^(32 * n), so the partial quotients do not overlap
+      limbs.addShifted(quotient, qlen, qr[0], i * n);
+      if (i == 0)
+        break;
+
+      final V lo = limbs.slice(a, (i - 1) * n, i * n);
+      final V next = limbs.join(qr[1], lo, n);
+      // The remainder of the division of z is z itself if z < b
+      limbs.free(z, qr[0], qr[1], lo);
+      z = next;
+    }
+
+    final V remainder = limbs.shiftRight(qr[1], sigma);
+    limbs.free(a, b, z == remainder ? null : z, qr[0], qr[1] == remainder ? null : qr[1]);
+    return limbs.pair(limbs.setLength(quotient, qlen, true), remainder);
+  }
+
+  /**
+   * Sets the <i>non-negative</i> {@code quotient} in {@code q} and the <i>non-negative</i> {@code remainder} in {@code val}, with the
+   * signs and zero-filled lengths of the contract of {@link #knuth(int[],int,int,int[],int,int,int[])}.
+   */
+  private static void setQuotientRemainder(final int[] val, final int len1, final int sig1, final int len2, final int sig2, final int[] q, final int[] quotient, final int[] remainder) {
+    final int qlen = quotient[0];
+    System.arraycopy(quotient, OFF, q, OFF, qlen);
+    Arrays.fill(q, qlen + OFF, len1 - len2 + 2, 0);
+    q[0] = sig1 != sig2 ? -qlen : qlen;
+
+    final int rlen = remainder[0];
+    System.arraycopy(remainder, OFF, val, OFF, rlen);
+    Arrays.fill(val, rlen + OFF, len1 + 2, 0);
+    // Sign of remainder does not depend on the sign of the operand
+    val[0] = sig1 < 0 ? -rlen : rlen;
+
+    // _debugLenSig(q);
+    // _debugLenSig(val);
+  }
+
+  /**
+   * Divides the <i>non-negative</i> {@code a} of at most {@code 2n} limbs by the normalized {@code b} of {@code n} limbs, where
+   * {@code a < b * 2^(32 * n)}.
+   *
+   * @return An array of the quotient and the remainder.
+   */
+  private static <V> V[] bzDivide2n1n(final BigIntLimbs<V> limbs, final V a, final V b, final int n) {
+    if ((n & 1) != 0 || n < limbs.threshold())
+      return limbs.divRem(a, b);
+
+    final int h = n / 2;
+    final V a123 = limbs.slice(a, h, 4 * h);
+    final V[] qr1 = bzDivide3n2n(limbs, a123, b, h);
+    final V a4 = limbs.slice(a, 0, h);
+    final V r1a4 = limbs.join(qr1[1], a4, h);
+    final V[] qr2 = bzDivide3n2n(limbs, r1a4, b, h);
+    final V q2 = qr2[0];
+    qr2[0] = limbs.join(qr1[0], q2, h);
+    limbs.free(a123, qr1[0], qr1[1], a4, r1a4, q2);
+    return qr2;
+  }
+
+  /**
+   * Divides the <i>non-negative</i> {@code a} of at most {@code 3h} limbs by the normalized {@code b} of {@code 2h} limbs, where
+   * {@code a < b * 2^(32 * h)}.
+   *
+   * @return An array of the quotient and the remainder.
+   */
+  private static <V> V[] bzDivide3n2n(final BigIntLimbs<V> limbs, final V a, final V b, final int h) {
+    final V b1 = limbs.slice(b, h, 2 * h);
+    final V b2 = limbs.slice(b, 0, h);
+    final V a1 = limbs.slice(a, 2 * h, 3 * h);
+    final V a12 = limbs.slice(a, h, 3 * h);
+    V q, r;
+    if (limbs.compareToAbs(a1, b1) < 0) {
+      final V[] qr = bzDivide2n1n(limbs, a12, b1, h);
+      q = qr[0];
+      r = qr[1];
+    }
+    else {
+      // q = 2^(32 * h) - 1, r = a12 - q * b1
+      q = limbs.sub(limbs.pow2(32 * h), 1);
+      final V b10 = limbs.shiftLeft(limbs.copy(b1), 32 * h);
+      r = limbs.add(limbs.sub(a12, b10), b1);
+      limbs.free(b10);
+    }
+
+    // r = r * 2^(32 * h) + a3 - q * b2, which is corrected by at most 2 additions of b if negative
+    final V a3 = limbs.slice(a, 0, h);
+    final V ra3 = limbs.join(r, a3, h);
+    final V qb2 = limbs.mul(limbs.copy(q), b2);
+    limbs.free(b1, b2, a1, a12, a3, r);
+    r = limbs.sub(ra3, qb2);
+    limbs.free(qb2);
+    while (limbs.signum(r) < 0) {
+      r = limbs.add(r, b);
+      q = limbs.sub(q, 1);
+    }
+
+    return limbs.pair(q, r);
+  }
+
+  /**
+   * Divides the <i>non-negative</i> {@code a} by the <i>positive</i> {@code b} with Knuth's Algorithm D, where {@code b} has at
+   * least 2 limbs.
+   *
+   * @return An array of the quotient and the remainder.
+   */
+  static int[][] bzDivRem(final int[] a, final int[] b) {
+    final int c = compareToAbs(a, b);
+    if (c < 0)
+      return new int[][] {alloc(OFF), a};
+
+    if (c == 0)
+      return new int[][] {assign(alloc(2), 1), alloc(OFF)};
+
+    final int len1 = a[0], len2 = b[0];
+    final int[] r = copyInPlace(a, len1 + OFF, alloc(len1 + 2));
+    final int[] q = alloc(len1 - len2 + 2);
+    knuth(r, len1, 1, b, len2, 1, q);
+    return new int[][] {q, r};
+  }
+
+  /**
+   * Returns a new <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} with the limbs {@code [from, to)} of the
+   * magnitude of the provided {@linkplain BigInt#val() value-encoded number}.
+   */
+  static int[] bzSlice(final int[] val, final int from, int to) {
+    final int len = Math.abs(val[0]);
+    if (to > len)
+      to = len;
+
+    for (; to > from && val[to] == 0; --to);
+    if (to <= from)
+      return alloc(OFF);
+
+    final int slen = to - from;
+    final int[] slice = alloc(slen + OFF);
+    System.arraycopy(val, from + OFF, slice, OFF, slen);
+    slice[0] = slen;
+    return slice;
+  }
+
+  /**
+   * Returns a new <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} with the value
+   * {@code hi * 2^(32 * n) + lo}, where {@code lo < 2^(32 * n)}.
+   */
+  static int[] bzJoin(final int[] hi, final int[] lo, final int n) {
+    final int hlen = hi[0], llen = lo[0];
+    if (hlen == 0)
+      return bzSlice(lo, 0, llen);
+
+    final int len = n + hlen;
+    final int[] val = alloc(len + OFF);
+    System.arraycopy(lo, OFF, val, OFF, llen);
+    System.arraycopy(hi, OFF, val, OFF + n, hlen);
+    val[0] = len;
+    return val;
+  }
+
+  /**
+   * Divides the first {@linkplain BigInt#val() value-encoded dividend} by the second {@linkplain BigInt#val() value-encoded divisor}
+   * with {@link #newton(BigIntLimbs,Object,Object)}, and stores the quotient in {@code q} and the remainder in {@code val}, with the
+   * same contract as {@link #knuth(int[],int,int,int[],int,int,int[])}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded dividend}, in which the remainder is stored.
+   * @param len1 The number of limbs in the dividend.
+   * @param sig1 The sign of the dividend.
+   * @param div The {@linkplain BigInt#val() value-encoded divisor}.
+   * @param len2 The number of limbs in the divisor.
+   * @param sig2 The sign of the divisor.
+   * @param q An array to store the quotient, which must be at least of length {@code len1 - len2 + 2}.
+   */
+  private static void newton(final int[] val, final int len1, final int sig1, final int[] div, final int len2, final int sig2, final int[] q) {
+    final int[][] qr = newton(BigIntLimbs.HEAP, val, div);
+    setQuotientRemainder(val, len1, sig1, len2, sig2, q, qr[0], qr[1]);
+    free(qr[0], qr[1]);
+  }
+
+  /**
+   * Divides the magnitude of the provided dividend by the magnitude of the provided divisor with the reciprocal of the divisor, and
+   * returns an array of the <i>non-negative</i> quotient and remainder as new numbers. The numbers are stored in the limbs of the
+   * provided {@link BigIntLimbs}, and are not modified.
+   * <p>
+   * For a dividend {@code a < 2^k}, the reciprocal {@code x ~ 2^k / b} of the divisor {@code b} is approximated with
+   * {@link #newtonApprox(BigIntLimbs,Object,int,int)}, and the quotient is estimated as {@code (a * x) >> k} from the high limbs of
+   * the dividend, which differs from the exact quotient by a few units. The estimate is then corrected with the remainder
+   * {@code a - q * b}. The cost is therefore that of a few multiplications of the length of the quotient.
+   *
+   * @param <V> The type of the store of the limbs of the numbers.
+   * @param limbs The {@link BigIntLimbs} of the numbers.
+   * @param val The dividend.
+   * @param div The divisor, which must not be zero.
+   * @return An array of the quotient and the remainder.
+   */
+  static <V> V[] newton(final BigIntLimbs<V> limbs, final V val, final V div) {
+    final int len1 = limbs.length(val);
+    final V a = limbs.slice(val, 0, len1);
+    final V b = limbs.slice(div, 0, limbs.length(div));
+    final int k = (int)limbs.bitLength(a);
+    final int n = (int)limbs.bitLength(b);
+
+    // The approximation of the reciprocal differs from floor(2^k / b) by a few units, which adds a few units of error to the estimate
+    // of the quotient, which are corrected with the remainder
+    final V x = k - n < 32 * NEWTON_RECIPROCAL_THRESHOLD ? reciprocal0(limbs, b, k) : newtonApprox(limbs, b, n, k - n);
+
+    // Only the high bits of the dividend contribute to the quotient: truncating it to 32 bits below the bits of the quotient adds an
+    // error of less than 1
+    final int s = Math.max(0, n - 32);
+    final V ah = limbs.shiftRight(limbs.slice(a, 0, len1), s);
+    final V ax = limbs.mul(ah, x);
+    final V[] qr = newtonCorrect(limbs, a, b, limbs.shiftRight(ax, k - s));
+    // The remainder is computed in the space of a, and the quotient in the space of the product
+    limbs.freeExcept(qr, a, b, x, ah, ax);
+    return qr;
+  }
+
+  /**
+   * Returns the quotient and remainder of the <i>non-negative</i> {@code a} divided by the <i>positive</i> {@code b}, given an
+   * estimate {@code q} of the quotient that differs from the exact quotient by a small number. The remainder is computed in the
+   * space of {@code a}.
+   *
+   * @return An array of the quotient and the remainder.
+   */
+  static <V> V[] newtonCorrect(final BigIntLimbs<V> limbs, final V a, final V b, V q) {
+    final V qb = limbs.mul(limbs.copy(q), b);
+    V r = limbs.sub(a, qb);
+    limbs.free(qb);
+    for (; limbs.signum(r) < 0; q = limbs.sub(q, 1)) // [N]
+      r = limbs.add(r, b);
+
+    for (; limbs.compareToAbs(r, b) >= 0; q = limbs.add(q, 1)) // [N]
+      r = limbs.sub(r, b);
+
+    return limbs.pair(q, r);
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the value {@code 2^k}.
+   */
+  static int[] pow2(final int k) {
+    return setBit(alloc((k >>> 5) + 2), k);
+  }
+
+  /**
+   * Returns a new <i>non-negative</i> number with the value {@code floor(2^k / d)}, where {@code d} is <i>positive</i>. The provided
+   * {@code d} is not modified.
+   * <p>
+   * The reciprocal is approximated with {@link #newtonApprox(BigIntLimbs,Object,int,int)}, and is then corrected to the exact value
+   * with one multiplication by {@code d}.
+   */
+  private static <V> V reciprocal0(final BigIntLimbs<V> limbs, final V d, final int k) {
+    final int n = (int)limbs.bitLength(d);
+    final int p = k - n;
+    final V pk = limbs.pow2(k);
+    final V[] qr = p < 32 * NEWTON_RECIPROCAL_THRESHOLD ? divRem(limbs, pk, d) : newtonCorrect(limbs, pk, d, newtonApprox(limbs, d, n, p));
+    limbs.free(pk, qr[1]);
+    return qr[0];
+  }
+
+  /**
+   * Returns a new number that approximates {@code 2^(p + n) / d} to within a few units, where {@code d} is <i>positive</i> with a
+   * bit length of {@code n}. Since the value is in the range {@code (2^p, 2^(p + 1)]}, {@code p} is its precision in bits.
+   * <p>
+   * The approximation is computed with the Newton iteration {@code y' = y + y * (1 - d * y)}, which doubles the precision of
+   * {@code y} in each step. Each step therefore reads only the {@code p + 64} high bits of {@code d}, and computes its correction
+   * from an approximation of half of the precision (with 32 guard bits), which is computed recursively. The recursion stops when the
+   * precision drops below {@link #NEWTON_RECIPROCAL_THRESHOLD} ints, at which point the approximation is computed by division.
+   */
+  private static <V> V newtonApprox(final BigIntLimbs<V> limbs, final V d, final int n, final int p) {
+    // The high t bits of d, which define the divisor to a relative precision of 2^-(p + 63)
+    final int t = Math.min(n, p + 64);
+    final V dt = limbs.shiftRight(limbs.slice(d, 0, limbs.length(d)), n - t);
+    if (p < 32 * NEWTON_RECIPROCAL_THRESHOLD) {
+      final V pk = limbs.pow2(p + t);
+      final V[] qr = divRem(limbs, pk, dt);
+      limbs.free(pk, dt, qr[1]);
+      return qr[0];
+    }
+
+    final int h = p / 2 + 32;
+    final V yh = newtonApprox(limbs, d, n, h);
+
+    // e = 2^(t + h) - dt * yh is the scaled error of yh, of which only the high p - h + 64 bits contribute to the correction
+    final V dyh = limbs.mul(dt, yh);
+    final V e0 = limbs.sub(limbs.pow2(t + h), dyh);
+    final int s = (int)Math.max(0, limbs.bitLength(e0) - (p - h + 64));
+    final V es = limbs.shiftRight(e0, s);
+    final V eyh = limbs.mul(es, yh);
+    final V e = limbs.shiftRight(eyh, 2 * h + t - p - s);
+
+    // y = yh * 2^(p - h) + yh * e / 2^(2h + t - p)
+    final V y = limbs.add(limbs.shiftLeft(limbs.copy(yh), p - h), e);
+    limbs.free(dt, dyh, e0, es, eyh, e, yh);
+    return y;
+  }
+
+  /**
+   * Divides the magnitude of the provided dividend by the magnitude of the provided divisor with the algorithm that is selected by
+   * the lengths of the operands, like {@link #div(int[],int[],int[])}, and returns an array of the <i>non-negative</i> quotient and
+   * remainder. The numbers are stored in the limbs of the provided {@link BigIntLimbs}, and are not modified, except that the
+   * remainder may be computed in the space of the dividend.
+   *
+   * @param <V> The type of the store of the limbs of the numbers.
+   * @param limbs The {@link BigIntLimbs} of the numbers.
+   * @param val The <i>non-negative</i> dividend.
+   * @param div The divisor, which must not be zero.
+   * @return An array of the quotient and the remainder.
+   */
+  static <V> V[] divRem(final BigIntLimbs<V> limbs, final V val, final V div) {
+    final int len1 = limbs.length(val), len2 = limbs.length(div);
+    if (len2 >= NEWTON_THRESHOLD && len1 - len2 >= NEWTON_OFFSET)
+      return newton(limbs, val, div);
+
+    if (len2 >= Math.max(BURNIKEL_ZIEGLER_THRESHOLD, limbs.threshold()) && len1 - len2 >= BURNIKEL_ZIEGLER_OFFSET)
+      return burnikelZiegler(limbs, val, div);
+
+    return limbs.divRem(val, div);
+  }
+
+  /**
+   * Sets the provided {@linkplain BigInt#val() value-encoded number} to its reciprocal scaled by {@code 2^precisionBits}, which is
+   * truncated toward zero.
+   *
+   * <pre>
+   *  <code>val = 2<sup>precisionBits</sup> / val</code>
+   * </pre>
+   *
+   * The reciprocal can be computed once for a divisor, and be reused to divide many dividends with a multiplication and a shift: for
+   * {@code 0 <= a < 2^precisionBits} and {@code x = reciprocal(d, precisionBits)} with {@code d > 0}, the quotient {@code a / d} is
+   * equal to {@code (a * x) >> precisionBits}, or to that value plus 1.
+   * <p>
+   * For large precisions the reciprocal is computed with Newton iteration, at the cost of a few multiplications.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param precisionBits The power of 2 by which the reciprocal is scaled.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} replaced with its reciprocal scaled by
+   *         {@code 2^precisionBits}.
+   * @throws ArithmeticException If {@code val} is zero.
+   * @throws IllegalArgumentException If {@code precisionBits} is negative.
+   * @complexity O(M(n)), where M(n) is the complexity of multiplication.
+   */
+  public static int[] reciprocal(final int[] val, final int precisionBits) {
+    if (precisionBits < 0)
+      throw new IllegalArgumentException("precisionBits (" + precisionBits + ") must be non-negative");
+
+    int len = val[0];
+    if (len == 0)
+      throw new ArithmeticException("/ by zero");
+
+    final boolean sig = len > 0;
+    if (!sig)
+      len = -len;
+
+    final int[] d = bzSlice(val, 0, len);
+    final int[] x = reciprocal0(BigIntLimbs.HEAP, d, precisionBits);
+    final int xlen = x[0];
+    final int[] result = xlen + OFF <= val.length ? val : alloc(xlen + OFF);
+    System.arraycopy(x, OFF, result, OFF, xlen);
+    result[0] = sig ? xlen : -xlen;
+    free(d, x);
+    // _debugLenSig(result);
+    return result;
+  }
+
   /**
    * Divides the provided {@linkplain BigInt#val() value-encoded dividend} by the specified {@linkplain BigInt#val() value-encoded
    * divisor}.
@@ -805,8 +1285,9 @@ abstract class BigIntDivision extends BigIntMultiplication {
         if (len1 + 1 == val.length)
           val = realloc(val, len1 + 1, len1 + 2); // We need an extra slot // FIXME: Can this extra slot be avoided?
 
-        final int[] q = threadLocal.get(len1 - len2 + 2);
+        final int[] q = ScratchBuffers.ints.acquire(len1 - len2 + 2);
         div0(val, len1, sig1, div, len2, sig2, q);
+        ScratchBuffers.ints.release(q);
       }
       else if (c == 0) {
         setToZeroInPlace(val);
@@ -0,0 +1,623 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.libj.math.BigIntValue.*;
+
+/**
+ * Greatest common divisor algorithms on {@linkplain BigInt#val() value-encoded numbers}.
+ * <p>
+ * The remainder sequence is advanced with the cheapest step that applies to the current sizes:
+ * <ul>
+ * <li>A division step, if the operands differ by 2 or more limbs.</li>
+ * <li>Binary GCD on unsigned {@code long} words, if the operands fit in 64 bits (only when no cofactor is requested).</li>
+ * <li>Lehmer's algorithm, which derives a matrix of up to 31-bit cofactors from the leading 62 bits of the operands, and applies it
+ * to the full operands in a single pass.</li>
+ * <li>A subquadratic half-GCD, if the operands are at least {@link #HALF_GCD_THRESHOLD} limbs long. The half-GCD computes the
+ * matrix that reduces the operands to half their size recursively from their leading halves, and applies it with the subquadratic
+ * multiplication algorithms.</li>
+ * </ul>
+ * Every step is a unimodular transformation of the pair of operands, which preserves their GCD. The half-GCD only takes steps that
+ * keep both remainders above {@code 2^h}, where {@code h} is a little more than half the size of the operands, which guarantees that
+ * a matrix computed from the leading halves reduces the full operands to <i>positive</i> remainders.
+ *
+ * @see <a href="https://doi.org/10.1090/S0025-5718-07-02017-0">Möller: On Schönhage's algorithm and subquadratic integer GCD
+ *      computation</a>
+ */
+final class BigIntGcd {
+  /**
+   * The threshold value for using the subquadratic half-GCD. If the number of ints in the operands is greater than or equal to this
+   * value, the remainder sequence is advanced with the half-GCD, otherwise with Lehmer's algorithm. This value is found
+   * experimentally to work well.
+   */
+  static final int HALF_GCD_THRESHOLD = BigIntProfile.get("HALF_GCD_THRESHOLD", 3000);
+
+  /** The largest magnitude of a cofactor of a Lehmer step, for which the products with a limb fit in a signed {@code long}. */
+  private static final long LEHMER_MAX = Integer.MAX_VALUE;
+
+  /**
+   * A 2x2 matrix with <i>non-negative</i> {@linkplain BigInt#val() value-encoded} entries and determinant {@link #det}
+   * ({@code 1} or {@code -1}), for which {@code (a, b) = M (α, β)}, where {@code (a, b)} is the pair of operands before, and
+   * {@code (α, β)} the pair after a number of steps.
+   */
+  private static final class Matrix {
+    int[] m00 = {1, 1};
+    int[] m01 = {0};
+    int[] m10 = {0};
+    int[] m11 = {1, 1};
+    int det = 1;
+
+    /** {@code M = M * [[0, 1], [1, 0]]}, for the swap of the operands. */
+    void swap() {
+      int[] t = m00; m00 = m01; m01 = t;
+      t = m10; m10 = m11; m11 = t;
+      det = -det;
+    }
+
+    /** {@code M = M * [[q, 1], [1, 0]]}, for a division step with quotient {@code q}. */
+    void step(final int[] q) {
+      final int[] m00 = this.m00, m01 = this.m01;
+      final int[] m10 = this.m10, m11 = this.m11;
+      this.m00 = BigInt.add(BigInt.mul(copy(m00), q), m01);
+      this.m10 = BigInt.add(BigInt.mul(copy(m10), q), m11);
+      this.m01 = m00;
+      this.m11 = m10;
+      det = -det;
+      free(m01, m11);
+    }
+
+    /** Scratch buffers for the entries of the next Lehmer step. */
+    private int[] s0, s1;
+
+    /**
+     * {@code M = M * [[p00, p01], [p10, p11]]}, for a Lehmer step of {@code j} quotients with cofactors of at most
+     * {@link #LEHMER_MAX}.
+     */
+    void step(final long p00, final long p01, final long p10, final long p11, final int j) {
+      if (s0 == null) {
+        final int len = Math.max(Math.max(m00[0], m01[0]), Math.max(m10[0], m11[0])) + OFF + 1;
+        s0 = BigIntValue.alloc(len);
+        s1 = BigIntValue.alloc(len);
+      }
+
+      int[] t = m00;
+      m00 = linAdd(m00, p00, m01, p10, s0);
+      s0 = linAdd(t, p01, m01, p11, m01);
+      m01 = s0;
+      s0 = t;
+
+      t = m10;
+      m10 = linAdd(m10, p00, m11, p10, s1);
+      s1 = linAdd(t, p01, m11, p11, m11);
+      m11 = s1;
+      s1 = t;
+      if ((j & 1) != 0)
+        det = -det;
+    }
+
+    /** {@code M = M * N}. */
+    void mul(final Matrix n) {
+      final int[] m00 = this.m00, m01 = this.m01;
+      final int[] m10 = this.m10, m11 = this.m11;
+      final int[] p01 = BigInt.mul(copy(m01), n.m10);
+      final int[] p11 = BigInt.mul(copy(m11), n.m10);
+      final int[] q01 = BigInt.mul(m01, n.m11);
+      final int[] q11 = BigInt.mul(m11, n.m11);
+      this.m00 = BigInt.add(BigInt.mul(copy(m00), n.m00), p01);
+      this.m10 = BigInt.add(BigInt.mul(copy(m10), n.m00), p11);
+      // The previous m00 and m10 are no longer needed, so the products are computed in their space
+      this.m01 = BigInt.add(BigInt.mul(m00, n.m01), q01);
+      this.m11 = BigInt.add(BigInt.mul(m10, n.m01), q11);
+      det *= n.det;
+      free(p01, p11, q01, q11);
+    }
+
+    /** {@code (x, y) = M^-1 (x, y)}, for which {@code M^-1 = det * [[m11, -m01], [-m10, m00]]}. */
+    void applyInverse(final int[][] xy) {
+      final int[] x = xy[0];
+      final int[] y = xy[1];
+      final int[] ym01 = BigInt.mul(copy(y), m01);
+      final int[] xm10 = BigInt.mul(copy(x), m10);
+      xy[0] = BigInt.sub(BigInt.mul(copy(x), m11), ym01);
+      xy[1] = BigInt.sub(BigInt.mul(copy(y), m00), xm10);
+      free(ym01, xm10);
+      if (det < 0) {
+        BigInt.neg(xy[0]);
+        BigInt.neg(xy[1]);
+      }
+    }
+
+    /** Frees the entries and the scratch buffers of this matrix, which must no longer be used. */
+    void release() {
+      free(m00, m01, m10, m11, s0, s1);
+    }
+  }
+
+  private static int[] copy(final int[] val) {
+    final int len = Math.abs(val[0]) + OFF;
+    return BigIntValue.copyInPlace(val, len, BigIntValue.alloc(len));
+  }
+
+  /**
+   * Returns the provided <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} shifted right by {@code sh} bits, and
+   * truncated to 64 bits.
+   */
+  private static long bits(final int[] val, final long sh) {
+    final int len = val[0];
+    final int i = (int)(sh >>> 5) + OFF;
+    final int s = (int)sh & 31;
+    final long lo = i <= len ? val[i] & LONG_MASK : 0;
+    final long mid = i + 1 <= len ? val[i + 1] & LONG_MASK : 0;
+    if (s == 0)
+      return lo | mid << 32;
+
+    final long hi = i + 2 <= len ? val[i + 2] & LONG_MASK : 0;
+    return lo >>> s | mid << 32 - s | hi << 64 - s;
+  }
+
+  /**
+   * Sets {@code z = x * u + y * v} for the <i>non-negative</i> {@linkplain BigInt#val() value-encoded numbers} {@code u} and
+   * {@code v}, and the cofactors {@code x} and {@code y} of opposite signs (or zero) with magnitudes of at most
+   * {@link #LEHMER_MAX}, of which the result is known to be <i>non-negative</i>.
+   */
+  private static int[] lin(final int[] u, final long x, final int[] v, final long y, int[] z) {
+    final int lu = u[0];
+    final int lv = v[0];
+    final int len = Math.max(lu, lv);
+    if (z.length <= len)
+      z = BigIntValue.alloc(len + OFF);
+
+    long c = 0;
+    for (int i = OFF; i <= len; ++i) { // [A]
+      c += x * (i <= lu ? u[i] & LONG_MASK : 0) + y * (i <= lv ? v[i] & LONG_MASK : 0);
+      z[i] = (int)c;
+      c >>= 32;
+    }
+
+    int i = len;
+    for (; i > 0 && z[i] == 0; --i);
+    z[0] = i;
+    return z;
+  }
+
+  /**
+   * Returns {@code x * u + y * v} for the <i>non-negative</i> {@linkplain BigInt#val() value-encoded numbers} {@code u} and
+   * {@code v}, and the <i>non-negative</i> cofactors {@code x} and {@code y} of at most {@link #LEHMER_MAX}, in {@code z}, which may
+   * be {@code v}.
+   */
+  private static int[] linAdd(final int[] u, final long x, final int[] v, final long y, int[] z) {
+    final int lu = u[0];
+    final int lv = v[0];
+    final int len = Math.max(lu, lv);
+    if (z.length <= len + 1)
+      z = v == z ? BigIntValue.copyInPlace(v, lv + OFF, BigIntValue.alloc(len + 2)) : BigIntValue.alloc(len + 2);
+
+    long c = 0, p, q;
+    int i = OFF;
+    for (; i <= len; ++i) { // [A]
+      // Each partial sum fits in 63 bits, and the carry in 32
+      p = x * (i <= lu ? u[i] & LONG_MASK : 0) + c;
+      q = y * (i <= lv ? v[i] & LONG_MASK : 0) + (p & LONG_MASK);
+      z[i] = (int)q;
+      c = (p >>> 32) + (q >>> 32);
+    }
+
+    if (c != 0)
+      z[i] = (int)c;
+    else
+      for (--i; i > 0 && z[i] == 0; --i);
+
+    z[0] = i;
+    return z;
+  }
+
+  /**
+   * Computes the cofactors of as many steps of the remainder sequence of the <i>non-negative</i> {@linkplain BigInt#val()
+   * value-encoded numbers} {@code a >= b} as can be determined from their leading 62 bits, with Knuth's Algorithm L (The Art of
+   * Computer Programming, Vol. 2, 4.5.2).
+   * <p>
+   * The cofactors {@code {A, B, C, D}} are set in {@code p}, for which {@code (A a + B b, C a + D b)} are the remainders after the
+   * steps. Steps are only taken while the remainders are guaranteed to be at least {@code 2^h}, if {@code h >= 0}.
+   *
+   * @return The number of steps, or {@code 0} if the first quotient cannot be determined.
+   */
+  private static int lehmer(final int[] a, final int[] b, final long h, final long[] p) {
+    final long sh = Math.max(0, BigIntValue.bitLength(a) - 62);
+    long x = bits(a, sh);
+    long y = bits(b, sh);
+
+    // The low bits of the operands shift the remainders by less than LEHMER_MAX * 2^sh
+    final long min = h < 0 ? 0 : h - sh >= 61 ? Long.MAX_VALUE : LEHMER_MAX + 1 + (h > sh ? 1L << h - sh : 1);
+
+    long A = 1, B = 0, C = 0, D = 1, q, t, c, d;
+    int j = 0;
+    while (y + C > 0 && y + D > 0) {
+      q = (x + A) / (y + C);
+      if (q > LEHMER_MAX || q != (x + B) / (y + D))
+        break;
+
+      c = A - q * C;
+      d = B - q * D;
+      t = x - q * y;
+      if (Math.abs(c) > LEHMER_MAX || Math.abs(d) > LEHMER_MAX || t < min)
+        break;
+
+      A = C;
+      B = D;
+      C = c;
+      D = d;
+      x = y;
+      y = t;
+      ++j;
+    }
+
+    p[0] = A;
+    p[1] = B;
+    p[2] = C;
+    p[3] = D;
+    return j;
+  }
+
+  /**
+   * Reduces the <i>non-negative</i> {@linkplain BigInt#val() value-encoded} pair {@code ab}, of which both are at least {@code 2^h},
+   * with Lehmer and division steps for as long as both remainders remain at least {@code 2^h}.
+   *
+   * @return The matrix of the steps, or {@code null} if no step could be taken.
+   */
+  private static Matrix hgcdBase(final int[][] ab, final long h) {
+    final long[] p = new long[4];
+    int[] s0 = BigIntValue.alloc(ab[0][0] + OFF);
+    int[] s1 = BigIntValue.alloc(ab[0][0] + OFF);
+    Matrix m = null;
+    while (true) {
+      int[] a = ab[0], b = ab[1];
+      if (BigIntValue.compareToAbs(a, b) < 0) {
+        ab[0] = b;
+        ab[1] = a;
+        a = b;
+        b = ab[1];
+        if (m == null)
+          m = new Matrix();
+
+        m.swap();
+      }
+
+      final int j = lehmer(a, b, h, p);
+      if (j > 0) {
+        s0 = lin(a, p[0], b, p[1], s0);
+        s1 = lin(a, p[2], b, p[3], s1);
+        ab[0] = s0;
+        ab[1] = s1;
+        s0 = a;
+        s1 = b;
+        if (m == null)
+          m = new Matrix();
+
+        m.step(Math.abs(p[3]), Math.abs(p[1]), Math.abs(p[2]), Math.abs(p[0]), j);
+      }
+      else {
+        final int[] q = copy(a);
+        final int[] r = BigInt.divRem(q, b);
+        if (BigIntValue.bitLength(r) <= h) {
+          free(q, r);
+          return m;
+        }
+
+        ab[0] = b;
+        ab[1] = r;
+        if (m == null)
+          m = new Matrix();
+
+        m.step(q);
+        free(q);
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the low {@code k} bits of the provided <i>non-negative</i>
+   * {@linkplain BigInt#val() value-encoded number}.
+   */
+  private static int[] lowBits(final int[] val, final long k) {
+    int len = (int)Math.min(val[0], (k + 31) >>> 5);
+    final int[] low = BigIntValue.alloc(len + OFF);
+    System.arraycopy(val, OFF, low, OFF, len);
+    final int s = (int)k & 31;
+    if (s != 0 && len == (k + 31) >>> 5)
+      low[len] &= (1 << s) - 1;
+
+    for (; len > 0 && low[len] == 0; --len);
+    low[0] = len;
+    return low;
+  }
+
+  /**
+   * Reduces the <i>non-negative</i> {@linkplain BigInt#val() value-encoded} pair {@code ab} with the matrix that reduces the pair of
+   * their leading bits above bit {@code k} to half its size.
+   * <p>
+   * For {@code (a, b) = (a1 2^k + a0, b1 2^k + b0)}, the recursion reduces {@code (a1, b1)} to {@code (α1, β1) = M^-1 (a1, b1)} in
+   * place, so that only the low parts need to be multiplied: {@code M^-1 (a, b) = (α1, β1) 2^k + M^-1 (a0, b0)}.
+   *
+   * @return The matrix of the steps, or {@code null} if no step could be taken.
+   */
+  private static Matrix hgcdHigh(final int[][] ab, final long k) {
+    final int[][] hi = {BigInt.shiftRight(copy(ab[0]), (int)k), BigInt.shiftRight(copy(ab[1]), (int)k)};
+    final long n = Math.max(BigIntValue.bitLength(hi[0]), BigIntValue.bitLength(hi[1]));
+    final Matrix m = hgcd(hi, (n + 3) / 2);
+    if (m != null) {
+      final int[] lo0 = lowBits(ab[0], k);
+      final int[] lo1 = lowBits(ab[1], k);
+      final int[][] lo = {lo0, lo1};
+      m.applyInverse(lo);
+      ab[0] = BigInt.add(BigInt.shiftLeft(hi[0], (int)k), lo[0]);
+      ab[1] = BigInt.add(BigInt.shiftLeft(hi[1], (int)k), lo[1]);
+      free(lo0, lo1, lo[0], lo[1]);
+    }
+    else {
+      free(hi[0], hi[1]);
+    }
+
+    return m;
+  }
+
+  /**
+   * Reduces the <i>non-negative</i> {@linkplain BigInt#val() value-encoded} pair {@code ab} of at most {@code n} bits, with
+   * {@code h >= n / 2 + 1}, with steps that keep both remainders at least {@code 2^h}, until the larger remainder is close to
+   * {@code 2^h}.
+   *
+   * @return The matrix of the steps, or {@code null} if no step could be taken.
+   */
+  private static Matrix hgcd(final int[][] ab, final long h) {
+    final long n = Math.max(BigIntValue.bitLength(ab[0]), BigIntValue.bitLength(ab[1]));
+    if (BigIntValue.bitLength(ab[0]) <= h || BigIntValue.bitLength(ab[1]) <= h)
+      return null;
+
+    if (n < 32L * HALF_GCD_THRESHOLD)
+      return hgcdBase(ab, h);
+
+    // Reduce to about (n + h) / 2 bits from the leading n - h - 2 bits
+    Matrix m = hgcdHigh(ab, h + 2);
+    if (m == null) {
+      // The smaller operand is too short for its leading bits to contribute, so a single division step reduces by a lot
+      final int c = BigIntValue.compareToAbs(ab[0], ab[1]);
+      final int[] q = copy(ab[c < 0 ? 1 : 0]);
+      final int[] r = BigInt.divRem(q, ab[c < 0 ? 0 : 1]);
+      if (BigIntValue.bitLength(r) <= h) {
+        free(q, r);
+        return null;
+      }
+
+      m = new Matrix();
+      if (c < 0)
+        m.swap();
+
+      ab[0] = ab[c < 0 ? 0 : 1];
+      ab[1] = r;
+      m.step(q);
+      free(q);
+    }
+
+    // Reduce to about h bits from the leading 2 * (n2 - h) - 1 bits
+    final long n2 = Math.max(BigIntValue.bitLength(ab[0]), BigIntValue.bitLength(ab[1]));
+    if (n2 > h + 64) {
+      final Matrix m2 = hgcdHigh(ab, 2 * h - n2 + 1);
+      if (m2 != null) {
+        m.mul(m2);
+        m2.release();
+      }
+    }
+
+    final Matrix m3 = hgcdBase(ab, h);
+    if (m3 != null) {
+      m.mul(m3);
+      m3.release();
+    }
+
+    return m;
+  }
+
+  /**
+   * Returns the GCD of the provided {@linkplain BigInt#val() value-encoded numbers} in {@code a}, and, if {@code u != null}, sets the
+   * cofactor {@code x} for which {@code gcd = x * |a| (mod |b|)} in {@code u[0]}. The number {@code b} is not modified.
+   */
+  private static int[] gcd0(int[] a, int[] b, final int[][] u) {
+    BigIntValue.abs(a);
+    b = BigIntValue.abs(copy(b));
+    int[] u0 = null, u1 = null, t;
+    if (u != null) {
+      u0 = new int[] {1, 1};
+      u1 = new int[] {0};
+    }
+
+    final long[] p = new long[4];
+    final int[][] ab = new int[2][];
+    int[] s0 = null, s1 = null, v0 = null, v1 = null;
+    while (true) {
+      if (BigIntValue.compareToAbs(a, b) < 0) {
+        t = a; a = b; b = t;
+        t = u0; u0 = u1; u1 = t;
+      }
+
+      if (b[0] == 0)
+        break;
+
+      final int lenA = a[0], lenB = b[0];
+      if (u == null && lenA <= 2) {
+        a = BigInt.assign(a, 1, binaryGcd(BigIntValue.longValue(a, OFF, lenA), BigIntValue.longValue(b, OFF, lenB)));
+        break;
+      }
+
+      if (lenA - lenB < 2) {
+        if (lenA >= HALF_GCD_THRESHOLD) {
+          ab[0] = a;
+          ab[1] = b;
+          final Matrix m = hgcd(ab, (BigIntValue.bitLength(a) + 3) / 2);
+          if (m != null) {
+            a = ab[0];
+            b = ab[1];
+            if (u != null) {
+              ab[0] = u0;
+              ab[1] = u1;
+              m.applyInverse(ab);
+              free(u0, u1);
+              u0 = ab[0];
+              u1 = ab[1];
+            }
+
+            m.release();
+            continue;
+          }
+        }
+        else if (lehmer(a, b, -1, p) > 0) {
+          if (s0 == null) {
+            s0 = BigIntValue.alloc(lenA + OFF);
+            s1 = BigIntValue.alloc(lenA + OFF);
+          }
+
+          s0 = lin(a, p[0], b, p[1], s0);
+          s1 = lin(a, p[2], b, p[3], s1);
+          t = a; a = s0; s0 = t;
+          t = b; b = s1; s1 = t;
+          if (u != null) {
+            // The cofactors alternate in sign, as do A and B, and C and D, so the magnitudes add up
+            final boolean neg0 = u0[0] != 0 && p[0] != 0 ? u0[0] < 0 != p[0] < 0 : u1[0] < 0 != p[1] < 0;
+            final boolean neg1 = u0[0] != 0 && p[2] != 0 ? u0[0] < 0 != p[2] < 0 : u1[0] < 0 != p[3] < 0;
+            if (v0 == null) {
+              v0 = BigIntValue.alloc(lenA + 2);
+              v1 = BigIntValue.alloc(lenA + 2);
+            }
+
+            BigIntValue.abs(u0);
+            BigIntValue.abs(u1);
+            v0 = linAdd(u0, Math.abs(p[0]), u1, Math.abs(p[1]), v0);
+            v1 = linAdd(u0, Math.abs(p[2]), u1, Math.abs(p[3]), v1);
+            t = u0; u0 = v0; v0 = t;
+            t = u1; u1 = v1; v1 = t;
+            if (neg0)
+              u0[0] = -u0[0];
+
+            if (neg1)
+              u1[0] = -u1[0];
+          }
+
+          continue;
+        }
+      }
+
+      // Division step: (a, b) = (b, a mod b)
+      if (u == null) {
+        t = BigInt.rem(a, b);
+        a = b;
+        b = t;
+      }
+      else {
+        final int[] r = BigInt.divRem(a, b);
+        u0 = BigInt.sub(u0, BigInt.mul(a, u1));
+        a = b;
+        b = r;
+        t = u0; u0 = u1; u1 = t;
+      }
+    }
+
+    if (u != null) {
+      u[0] = u0;
+      free(v0, v1);
+    }
+
+    return a;
+  }
+
+  /**
+   * Returns the GCD of the <i>positive unsigned</i> {@code long} values {@code a} and {@code b} with binary GCD.
+   */
+  private static long binaryGcd(long a, long b) {
+    final int z = Long.numberOfTrailingZeros(a | b);
+    a >>>= Long.numberOfTrailingZeros(a);
+    for (long t; b != 0;) { // [N]
+      b >>>= Long.numberOfTrailingZeros(b);
+      if (Long.compareUnsigned(a, b) > 0) {
+        t = a; a = b; b = t;
+      }
+
+      b -= a;
+    }
+
+    return a << z;
+  }
+
+  /**
+   * Returns the greatest common divisor of the provided {@linkplain BigInt#val() value-encoded numbers} in {@code val}.
+   */
+  static int[] gcd(final int[] val, final int[] b) {
+    return gcd0(val, b, null);
+  }
+
+  /**
+   * Returns the greatest common divisor of the provided {@linkplain BigInt#val() value-encoded numbers} in {@code val}, and sets the
+   * coefficients {@code x} and {@code y} of {@code val * x + b * y = gcd} in {@code xy}, with {@code |x| <= |b| / (2 gcd)}.
+   */
+  static int[] gcdExt(final int[] val, final int[] b, final int[][] xy) {
+    final int sig = val[0] < 0 ? -1 : 1;
+    final int[] a = copy(val);
+    final int[][] u = new int[1][];
+    final int[] g = gcd0(val, b, u);
+    int[] x = u[0];
+    if (b[0] == 0) {
+      x = BigInt.assign(x, a[0] == 0 ? 0 : sig);
+      xy[0] = x;
+      xy[1] = new int[] {0};
+      return g;
+    }
+
+    // Normalize x to (-|b| / 2g, |b| / 2g]
+    final int[] bg = BigInt.div(BigIntValue.abs(copy(b)), g);
+    x = BigInt.mod(x, bg);
+    if (BigIntValue.compareToAbs(BigInt.shiftLeft(copy(x), 1), bg) > 0)
+      x = BigInt.sub(x, bg);
+
+    if (sig < 0)
+      BigInt.neg(x);
+
+    // y = (g - a * x) / b
+    xy[0] = x;
+    xy[1] = BigInt.div(BigInt.sub(copy(g), BigInt.mul(a, x)), b);
+    return g;
+  }
+
+  /**
+   * Returns the inverse of the provided {@linkplain BigInt#val() value-encoded number} modulo the <i>positive</i>
+   * {@linkplain BigInt#val() value-encoded modulus} {@code m}, in {@code [0, m)}.
+   */
+  static int[] modInverse(int[] val, final int[] m) {
+    if (m[0] <= 0)
+      throw new ArithmeticException("Modulus not positive");
+
+    if (m[0] == 1 && m[1] == 1)
+      return BigIntValue.setToZero(val);
+
+    val = BigInt.mod(val, m);
+    final int[][] u = new int[1][];
+    final int[] g = gcd0(val, m, u);
+    if (g[0] != 1 || g[1] != 1)
+      throw new ArithmeticException("Not invertible");
+
+    return BigInt.mod(u[0], m);
+  }
+
+  private BigIntGcd() {
+  }
+}
@@ -0,0 +1,303 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+/**
+ * Adapter of the storage of the limbs of arbitrary precision integers, with which the recursive algorithms that are built on
+ * arithmetic of whole numbers are shared between the {@linkplain BigInt#val() value-encoded numbers} on the heap and other stores of
+ * limbs. These are the Toom-Cook multiplication of {@link BigIntMultiplication}, and the Burnikel-Ziegler and Newton division of
+ * {@link BigIntDivision}. Every operation of the adapter is at least linear in the length of its operands, so the cost of its
+ * dispatch is negligible.
+ * <p>
+ * The operations that return a value of type {@code <V>} may compute it in the space of their first operand, which must then no
+ * longer be used. The values that are created by the adapter are returned with {@link #free(Object)} when they are no longer needed.
+ *
+ * @param <V> The type of the store of the limbs of a number.
+ */
+abstract class BigIntLimbs<V> {
+  /**
+   * The adapter of {@linkplain BigInt#val() value-encoded numbers} on the heap, of which the temporaries are obtained from and
+   * returned to the {@link BigIntAllocator} of the current thread.
+   */
+  static final BigIntLimbs<int[]> HEAP = new BigIntLimbs<int[]>() {
+    @Override
+    int threshold() {
+      return BigIntDivision.BURNIKEL_ZIEGLER_THRESHOLD;
+    }
+
+    @Override
+    int signum(final int[] val) {
+      return Integer.signum(val[0]);
+    }
+
+    @Override
+    int length(final int[] val) {
+      return Math.abs(val[0]);
+    }
+
+    @Override
+    long bitLength(final int[] val) {
+      return BigIntValue.bitLength(val);
+    }
+
+    @Override
+    int compareToAbs(final int[] val1, final int[] val2) {
+      return BigIntValue.compareToAbs(val1, val2);
+    }
+
+    @Override
+    int[][] array(final int len) {
+      return new int[len][];
+    }
+
+    @Override
+    int[] alloc(final int len) {
+      return BigIntValue.alloc(len + BigIntValue.OFF);
+    }
+
+    @Override
+    int[] slice(final int[] val, final int from, final int to) {
+      return BigIntDivision.bzSlice(val, from, to);
+    }
+
+    @Override
+    int[] copy(final int[] val) {
+      final int len = Math.abs(val[0]) + BigIntValue.OFF;
+      return BigIntValue.copyInPlace(val, len, BigIntValue.alloc(len));
+    }
+
+    @Override
+    int[] join(final int[] hi, final int[] lo, final int n) {
+      return BigIntDivision.bzJoin(hi, lo, n);
+    }
+
+    @Override
+    int[] pow2(final int k) {
+      return BigIntDivision.pow2(k);
+    }
+
+    @Override
+    int[] add(final int[] val, final int[] add) {
+      return BigIntAddition.add(val, add);
+    }
+
+    @Override
+    int[] sub(final int[] val, final int[] sub) {
+      return BigIntAddition.sub(val, sub);
+    }
+
+    @Override
+    int[] add(final int[] val, final int add) {
+      return BigIntAddition.add(val, add);
+    }
+
+    @Override
+    int[] sub(final int[] val, final int sub) {
+      return BigIntAddition.sub(val, sub);
+    }
+
+    @Override
+    int[] shiftLeft(final int[] val, final int num) {
+      return BigIntBinary.shiftLeft(val, num);
+    }
+
+    @Override
+    int[] shiftRight(final int[] val, final int num) {
+      return BigIntBinary.shiftRight(val, num);
+    }
+
+    @Override
+    int[] exactDivideBy3(final int[] val) {
+      return BigIntMultiplication.exactDivideBy3(val);
+    }
+
+    @Override
+    int[] mul(final int[] val, final int[] mul) {
+      return BigIntMultiplication.mul(val, mul);
+    }
+
+    @Override
+    int[] mul(final int[] val, final int[] mul, final int parallelThreshold, final int parallelThresholdZ) {
+      return BigIntMultiplication.toomProduct(val, mul, parallelThreshold, parallelThresholdZ);
+    }
+
+    @Override
+    int[][] divRem(final int[] val, final int[] div) {
+      if (Math.abs(div[0]) > 1)
+        return BigIntDivision.bzDivRem(val, div);
+
+      if (val[0] == 0)
+        return pair(alloc(0), val);
+
+      final int[] q = slice(val, 0, Math.abs(val[0]));
+      return pair(q, BigIntDivision.divRem(q, div));
+    }
+
+    @Override
+    void addShifted(final int[] z, final int zlen, final int[] val, final int off) {
+      BigIntMultiplication.toomAddShifted(z, zlen, val, off);
+    }
+
+    @Override
+    int[] setLength(final int[] z, int len, final boolean sig) {
+      for (; len > 0 && z[len] == 0; --len);
+      z[0] = sig ? len : -len;
+      // _debugLenSig(z);
+      return z;
+    }
+
+    @Override
+    void free(final int[] val) {
+      BigIntValue.free(val);
+    }
+  };
+
+  /**
+   * Returns the number of limbs of the divisor below which the recursive division algorithms divide with
+   * {@link #divRem(Object,Object)}.
+   *
+   * @return The number of limbs of the divisor below which the recursive division algorithms divide with
+   *         {@link #divRem(Object,Object)}.
+   */
+  abstract int threshold();
+
+  abstract int signum(V val);
+
+  /**
+   * Returns the number of limbs of the magnitude of the provided value.
+   */
+  abstract int length(V val);
+
+  /**
+   * Returns the number of bits of the magnitude of the provided value.
+   */
+  abstract long bitLength(V val);
+
+  abstract int compareToAbs(V val1, V val2);
+
+  abstract V[] array(int len);
+
+  /**
+   * Returns a new value of zero with room for {@code len} limbs, which are zero.
+   */
+  abstract V alloc(int len);
+
+  /**
+   * Returns a new <i>non-negative</i> value with the limbs {@code [from, to)} of the magnitude of the provided value.
+   */
+  abstract V slice(V val, int from, int to);
+
+  abstract V copy(V val);
+
+  /**
+   * Returns a new <i>non-negative</i> value of {@code hi * 2^(32 * n) + lo}, where {@code lo < 2^(32 * n)}.
+   */
+  abstract V join(V hi, V lo, int n);
+
+  /**
+   * Returns a new value of {@code 2^k}.
+   */
+  abstract V pow2(int k);
+
+  abstract V add(V val, V add);
+
+  abstract V sub(V val, V sub);
+
+  abstract V add(V val, int add);
+
+  abstract V sub(V val, int sub);
+
+  abstract V shiftLeft(V val, int num);
+
+  /**
+   * Returns the provided value shifted right by {@code num} bits, which rounds toward negative infinity.
+   */
+  abstract V shiftRight(V val, int num);
+
+  /**
+   * Returns the provided value, which must be divisible by {@code 3}, divided by {@code 3}.
+   */
+  abstract V exactDivideBy3(V val);
+
+  abstract V mul(V val, V mul);
+
+  /**
+   * Returns the product of the provided values with the parallel thresholds of the recursion of Toom-Cook multiplication. If
+   * {@code val == mul}, the product is computed as a square.
+   */
+  abstract V mul(V val, V mul, int parallelThreshold, int parallelThresholdZ);
+
+  /**
+   * Divides the <i>non-negative</i> {@code val} by the <i>positive</i> {@code div}, without modifying either, and returns an array of
+   * the quotient, which is a new value, and the remainder, which may be {@code val}.
+   */
+  abstract V[] divRem(V val, V div);
+
+  /**
+   * Adds the provided <i>non-negative</i> value, shifted by {@code off} limbs, to the {@code zlen} limbs of {@code z}.
+   */
+  abstract void addShifted(V z, int zlen, V val, int off);
+
+  /**
+   * Sets the signed length of {@code z} to {@code len} limbs with the provided sign, after removing the leading zero limbs.
+   */
+  abstract V setLength(V z, int len, boolean sig);
+
+  abstract void free(V val);
+
+  final V[] pair(final V q, final V r) {
+    final V[] qr = array(2);
+    qr[0] = q;
+    qr[1] = r;
+    return qr;
+  }
+
+  /**
+   * Frees the provided values, of which any may be {@code null}. A value that is provided more than once, as happens when an
+   * operation computes its result in the space of its operand, is freed only once.
+   *
+   * @param vals The values to free.
+   */
+  @SafeVarargs
+  final void free(final V... vals) {
+    for (int i = 0; i < vals.length; ++i) { // [A]
+      final V val = vals[i];
+      if (val == null)
+        continue;
+
+      int j = 0;
+      for (; j < i && vals[j] != val; ++j);
+      if (j == i)
+        free(val);
+    }
+  }
+
+  /**
+   * Frees the provided values, except those of the provided array of a quotient and a remainder, which are returned by the caller.
+   *
+   * @param qr The array of a quotient and a remainder, which are not freed.
+   * @param vals The values to free.
+   */
+  @SafeVarargs
+  final void freeExcept(final V[] qr, final V... vals) {
+    for (int i = 0; i < vals.length; ++i) // [A]
+      if (vals[i] == qr[0] || vals[i] == qr[1])
+        vals[i] = null;
+
+    free(vals);
+  }
+}
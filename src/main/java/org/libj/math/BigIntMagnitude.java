@@ -260,8 +260,7 @@ abstract class BigIntMagnitude extends BigIntValue {
       for (; val[i] == 0; ++i)
         --val[i];
 
-      if (--val[i] == 0 && i + 1 == len)
-        len = slen;
+      --val[i];
     }
 
     while (val[len] == 0 && --len > 0);
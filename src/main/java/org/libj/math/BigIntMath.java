@@ -30,6 +30,7 @@
 package org.libj.math;
 
 import java.math.RoundingMode;
+import java.util.concurrent.Executor;
 
 import org.libj.lang.Constants;
 
@@ -456,4 +457,265 @@ abstract class BigIntMath extends BigIntDivision {
     final double res = Math.log(doubleValue(val, OFF, len, 1));
     return blex > 0 ? res + blex * Constants.LOG_2 : res;
   }
-}
\ No newline at end of file
+
+  /**
+   * The threshold value for using Montgomery multiplication in {@link #modPow(int[],int[],int[])}. If the number of ints in an odd
+   * modulus is less than this value, the powers are reduced with Montgomery multiplication, otherwise with Barrett reduction in a
+   * {@link BigIntModulus}, which benefits from the subquadratic multiplication algorithms. This value is found experimentally to work
+   * well.
+   */
+  static final int MONTGOMERY_THRESHOLD = BigIntProfile.get("MONTGOMERY_THRESHOLD", 256);
+
+  /**
+   * The exponent bit lengths above which the window size of {@link #modPow(int[],int[],int[])} is increased by 1, starting with a
+   * window size of 1.
+   */
+  private static final int[] MOD_POW_WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793, Integer.MAX_VALUE};
+
+  /**
+   * Sets the provided {@linkplain BigInt#val() value-encoded number} to its value raised to the power of the given
+   * {@linkplain BigInt#val() value-encoded exponent}, modulo the given {@linkplain BigInt#val() value-encoded modulus}.
+   *
+   * <pre>
+   * <code>val = val<sup>exp</sup> mod m</code>
+   * </pre>
+   *
+   * The computation reuses the array of {@code val}, if it is long enough for the modulus. The exponent is scanned with a sliding
+   * window of up to 7 bits, with a precomputed table of the odd powers of {@code val}. For an odd modulus shorter than
+   * {@link #MONTGOMERY_THRESHOLD}, the products are computed in Montgomery form, otherwise they are reduced with Barrett reduction. A
+   * negative exponent raises the {@linkplain #modInverse(int[],int[]) modular inverse} of {@code val} to the power of {@code -exp}.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The {@linkplain BigInt#val() value-encoded base}.
+   * @param exp The {@linkplain BigInt#val() value-encoded exponent}.
+   * @param m The <i>positive</i> {@linkplain BigInt#val() value-encoded modulus}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by <code>val<sup>exp</sup> mod
+   *         m</code>, in the range {@code [0, m)}.
+   * @throws ArithmeticException If {@code m} is not positive, or if {@code exp} is negative and {@code val} is not relatively prime
+   *           to {@code m}.
+   * @complexity O(M(n) log(exp)), where M(n) is the complexity of multiplication.
+   */
+  public static int[] modPow(int[] val, int[] exp, final int[] m) {
+    final int n = m[0];
+    if (n <= 0)
+      throw new ArithmeticException("Modulus not positive");
+
+    if (n == 1 && m[1] == 1)
+      return setToZero(val);
+
+    if (exp[0] == 0)
+      return assign(val, 1, 1);
+
+    if (exp[0] < 0) {
+      val = modInverse(val, m);
+      exp = abs(exp.clone());
+    }
+    else {
+      val = mod(val, m);
+    }
+
+    if (val[0] == 0)
+      return val;
+
+    final long bits = bitLength(exp);
+    int k = 1;
+    for (; bits > MOD_POW_WINDOW_THRESHOLDS[k - 1]; ++k);
+
+    return (m[1] & 1) != 0 && n < MONTGOMERY_THRESHOLD ? modPowMontgomery(val, exp, (int)bits, k, m) : modPowBarrett(val, exp, (int)bits, k, m);
+  }
+
+  private static int[] modPowMontgomery(final int[] val, final int[] exp, final int bits, final int k, final int[] m) {
+    final BigIntMontgomery mont = new BigIntMontgomery(m);
+    final int n = mont.n;
+
+    // The odd powers val^1, val^3, ..., val^(2^k - 1) in Montgomery form
+    final int[][] table = new int[1 << (k - 1)][];
+    table[0] = mont.toMontgomery(val);
+    if (table.length > 1) {
+      final int[] sq = new int[n];
+      mont.sqr(table[0], sq);
+      for (int i = 1; i < table.length; ++i) // [A]
+        mont.mul(table[i - 1], sq, table[i] = new int[n]);
+    }
+
+    final int[] r = new int[n];
+    boolean started = false;
+    for (int i = bits - 1, l, w; i >= 0;) { // [N]
+      if (!testBit(exp, i)) {
+        mont.sqr(r, r);
+        --i;
+        continue;
+      }
+
+      // The window [l, i] with the lowest bit set, so that its value is odd
+      for (l = Math.max(i - k + 1, 0); !testBit(exp, l); ++l);
+      for (w = 0; i >= l; --i) { // [A]
+        w = (w << 1) | (testBit(exp, i) ? 1 : 0);
+        if (started)
+          mont.sqr(r, r);
+      }
+
+      if (started) {
+        mont.mul(r, table[w >>> 1], r);
+      }
+      else {
+        System.arraycopy(table[w >>> 1], 0, r, 0, n);
+        started = true;
+      }
+    }
+
+    return mont.fromMontgomery(r, val);
+  }
+
+  private static int[] modPowBarrett(final int[] val, final int[] exp, final int bits, final int k, final int[] m) {
+    final BigIntModulus modulus = new BigIntModulus(m);
+    final int n = m[0];
+
+    // The odd powers val^1, val^3, ..., val^(2^k - 1)
+    final int[][] table = new int[1 << (k - 1)][];
+    table[0] = copyInPlace(val, val[0] + OFF, alloc(n + OFF));
+    if (table.length > 1) {
+      final int[] sq = modulus.sqrMod(copyInPlace(val, val[0] + OFF, alloc(n + OFF)));
+      for (int i = 1; i < table.length; ++i) // [A]
+        table[i] = modulus.mulMod(copyInPlace(table[i - 1], table[i - 1][0] + OFF, alloc(n + OFF)), sq);
+    }
+
+    int[] r = null;
+    for (int i = bits - 1, l, w; i >= 0;) { // [N]
+      if (!testBit(exp, i)) {
+        r = modulus.sqrMod(r);
+        --i;
+        continue;
+      }
+
+      // The window [l, i] with the lowest bit set, so that its value is odd
+      for (l = Math.max(i - k + 1, 0); !testBit(exp, l); ++l);
+      for (w = 0; i >= l; --i) { // [A]
+        w = (w << 1) | (testBit(exp, i) ? 1 : 0);
+        if (r != null)
+          r = modulus.sqrMod(r);
+      }
+
+      r = r != null ? modulus.mulMod(r, table[w >>> 1]) : copyInPlace(table[w >>> 1], table[w >>> 1][0] + OFF, alloc(n + OFF));
+    }
+
+    return copy(r, r[0] + OFF, val, n + OFF);
+  }
+
+  /**
+   * Sets the provided {@linkplain BigInt#val() value-encoded number} to the greatest common divisor of its absolute value and the
+   * absolute value of the given {@linkplain BigInt#val() value-encoded number}, or {@code 0} if both are {@code 0}.
+   *
+   * <pre>
+   * val = gcd(|val|, |b|)
+   * </pre>
+   *
+   * The remainder sequence is advanced with binary GCD for operands of up to 64 bits, with Lehmer's algorithm for longer operands,
+   * and with a subquadratic half-GCD for operands of at least {@link BigIntGcd#HALF_GCD_THRESHOLD} ints.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param b The {@linkplain BigInt#val() value-encoded number} with which the GCD is to be computed, which is not modified.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by {@code gcd(|val|, |b|)}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] gcd(final int[] val, final int[] b) {
+    return BigIntGcd.gcd(val, b);
+  }
+
+  /**
+   * Sets the provided {@linkplain BigInt#val() value-encoded number} to the greatest common divisor {@code g} of its absolute value
+   * and the absolute value of the given {@linkplain BigInt#val() value-encoded number}, and sets the Bézout coefficients {@code x}
+   * and {@code y} in {@code xy[0]} and {@code xy[1]}.
+   *
+   * <pre>
+   * g = gcd(|val|, |b|) = val * x + b * y
+   * </pre>
+   *
+   * The coefficient {@code x} is the one of least magnitude, with {@code |x| <= |b| / (2 g)}. If {@code b == 0}, then
+   * {@code x = signum(val)} and {@code y = 0}.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param b The {@linkplain BigInt#val() value-encoded number} with which the GCD is to be computed, which is not modified.
+   * @param xy The array of length 2 in which the new {@linkplain BigInt#val() value-encoded} coefficients {@code x} and {@code y}
+   *          are to be set.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by {@code gcd(|val|, |b|)}.
+   * @throws NullPointerException If {@code xy} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] gcdExt(final int[] val, final int[] b, final int[][] xy) {
+    return BigIntGcd.gcdExt(val, b, xy);
+  }
+
+  /**
+   * Sets the provided {@linkplain BigInt#val() value-encoded number} to its multiplicative inverse modulo the given
+   * {@linkplain BigInt#val() value-encoded modulus}.
+   *
+   * <pre>
+   * <code>val = val<sup>-1</sup> mod m</code>
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param m The <i>positive</i> {@linkplain BigInt#val() value-encoded modulus}, which is not modified.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by <code>val<sup>-1</sup> mod
+   *         m</code>, in the range {@code [0, m)}.
+   * @throws ArithmeticException If {@code m} is not positive, or if {@code val} is not relatively prime to {@code m}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] modInverse(final int[] val, final int[] m) {
+    return BigIntGcd.modInverse(val, m);
+  }
+
+  /**
+   * Returns whether the absolute value of the provided {@linkplain BigInt#val() value-encoded number} is probably prime. If the
+   * call returns {@code true}, the probability that the number is prime exceeds <code>(1 - 1/2<sup>certainty</sup>)</code>.
+   * <p>
+   * The number is trial divided by the small primes, and then tested with Baillie–PSW, for which no counterexample is known, and
+   * which is deterministic for numbers below {@code 2^64}. Longer numbers are additionally tested with Miller–Rabin rounds with
+   * random bases as per the provided certainty.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}, which is not modified.
+   * @param certainty A measure of the uncertainty that the caller is willing to tolerate. If {@code certainty <= 0}, this method
+   *          returns {@code true}.
+   * @return Whether the absolute value of the provided {@linkplain BigInt#val() value-encoded number} is probably prime.
+   * @complexity O(M(n) n) per round, where M(n) is the complexity of multiplication.
+   */
+  public static boolean isProbablePrime(final int[] val, final int certainty) {
+    return BigIntPrime.isProbablePrime(val, certainty, null);
+  }
+
+  /**
+   * Returns whether the absolute value of the provided {@linkplain BigInt#val() value-encoded number} is probably prime, running the
+   * independent rounds of the test in parallel on the provided {@link Executor}. If the call returns {@code true}, the probability
+   * that the number is prime exceeds <code>(1 - 1/2<sup>certainty</sup>)</code>.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}, which is not modified.
+   * @param certainty A measure of the uncertainty that the caller is willing to tolerate. If {@code certainty <= 0}, this method
+   *          returns {@code true}.
+   * @param executor The {@link Executor} on which the rounds of the test are to be run, or {@code null} to run them in the calling
+   *          thread.
+   * @return Whether the absolute value of the provided {@linkplain BigInt#val() value-encoded number} is probably prime.
+   * @complexity O(M(n) n) per round, where M(n) is the complexity of multiplication.
+   */
+  public static boolean isProbablePrime(final int[] val, final int certainty, final Executor executor) {
+    return BigIntPrime.isProbablePrime(val, certainty, executor);
+  }
+
+  /**
+   * Sets the provided <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} to the first integer greater than it that
+   * is probably prime. The probability that the number returned by this method is composite does not exceed <code>2<sup>-100</sup></code>.
+   * <p>
+   * The candidates are sieved in windows by the small primes, and the survivors are tested with {@link #isProbablePrime(int[],int)}.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the operation requires a larger array for the computation.
+   * @param val The <i>non-negative</i> {@linkplain BigInt#val() value-encoded number}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by the first integer greater than
+   *         it that is probably prime.
+   * @throws ArithmeticException If {@code val} is negative.
+   */
+  public static int[] nextProbablePrime(final int[] val) {
+    return BigIntPrime.nextProbablePrime(val);
+  }
+}
@@ -0,0 +1,323 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.libj.math.BigIntValue.*;
+
+/**
+ * A context for repeated modular reduction by the same <i>positive</i> modulus with <i>Barrett reduction</i>.
+ * <p>
+ * The constructor copies the modulus and precomputes the Barrett constant {@code mu = floor(2^(64 * n) / m)}, where {@code n}
+ * is the number of limbs of the modulus {@code m}. Each reduction of a number of at most {@code 2n} limbs then costs two
+ * multiplications and at most two subtractions, instead of a division. Longer numbers are reduced {@code n} limbs at a time, from
+ * their most significant limbs.
+ * <p>
+ * The operations act on {@linkplain BigInt#val() value-encoded numbers}, and return the <i>non-negative</i> result in
+ * {@code [0, m)}. The intermediate products are computed in scratch buffers that are kept inside the context, which are sized for
+ * the in-place paths of {@link BigInt#mul(int[],int[])}. Once the buffers are sized, the reductions do not allocate, apart from the
+ * temporaries of the Toom-Cook and NTT multiplication algorithms for very large moduli.
+ * <p>
+ * <b>Note:</b> Because of the scratch buffers, a {@link BigIntModulus} is not thread-safe, and an instance must not be shared
+ * between threads without external synchronization.
+ */
+public final class BigIntModulus {
+  /** The number of limbs of the modulus. */
+  private final int n;
+  /** The {@linkplain BigInt#val() value-encoded} modulus. */
+  private final int[] mod;
+  /** The Barrett constant: {@code floor(2^(64 * n) / mod)}. */
+  private final int[] mu;
+
+  /** Scratch buffer for the products. */
+  private int[] prod;
+  /** Scratch buffer for the multiplier. */
+  private int[] multiplier;
+  /** Scratch buffer for the quotient estimate. */
+  private int[] quot;
+  /** Scratch buffer for the remainder. */
+  private final int[] rem;
+
+  /**
+   * Creates a new {@link BigIntModulus} for the provided <i>positive</i> modulus.
+   *
+   * @param modulus The <i>positive</i> modulus.
+   * @throws ArithmeticException If {@code modulus} is not positive.
+   * @throws NullPointerException If {@code modulus} is null.
+   */
+  public BigIntModulus(final BigInt modulus) {
+    this(modulus.val());
+  }
+
+  /**
+   * Creates a new {@link BigIntModulus} for the provided <i>positive</i> {@linkplain BigInt#val() value-encoded} modulus. The
+   * provided array is not retained.
+   *
+   * @param modulus The <i>positive</i> {@linkplain BigInt#val() value-encoded} modulus.
+   * @throws ArithmeticException If {@code modulus} is not positive.
+   * @throws NullPointerException If {@code modulus} is null.
+   */
+  public BigIntModulus(final int[] modulus) {
+    final int n = modulus[0];
+    if (n <= 0)
+      throw new ArithmeticException("Modulus not positive");
+
+    this.n = n;
+    // Leave room for the zero padding that Karatsuba writes into its second operand
+    this.mod = new int[2 * n + 2 * OFF + 4];
+    System.arraycopy(modulus, 0, mod, 0, n + OFF);
+
+    final int[] mu = BigIntDivision.reciprocal(copy(mod, n, 2 * n + 4), 64 * n);
+    this.mu = copy(mu, mu[0], 2 * n + 4);
+
+    this.prod = new int[scratchLength(n)];
+    multiplier = new int[2 * n + 2 * OFF + 4];
+    this.quot = new int[scratchLength(n + 1)];
+    this.rem = new int[n + 2 * OFF];
+  }
+
+  /**
+   * Returns the length of a scratch buffer into which the product of two numbers of {@code len} limbs can be computed in place.
+   */
+  private static int scratchLength(final int len) {
+    return 2 * (2 * len + 2) + 2 * OFF;
+  }
+
+  private static int[] copy(final int[] val, final int len, final int capacity) {
+    final int[] copy = new int[Math.max(len + OFF, capacity)];
+    System.arraycopy(val, 0, copy, 0, len + OFF);
+    return copy;
+  }
+
+  /**
+   * Returns a copy of the {@linkplain BigInt#val() value-encoded} modulus of this context.
+   *
+   * @return A copy of the {@linkplain BigInt#val() value-encoded} modulus of this context.
+   */
+  public int[] modulus() {
+    return copy(mod, n, 0);
+  }
+
+  /**
+   * Reduces the provided {@linkplain BigInt#val() value-encoded number} by the modulus of this context.
+   *
+   * <pre>
+   * val = val mod m
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if {@code val} is negative and its array is shorter than the
+   *           modulus.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by {@code val mod m}, in the range
+   *         {@code [0, m)}.
+   * @complexity O(M(n)) per {@code n} limbs of {@code val}, where M(n) is the complexity of multiplication.
+   */
+  public int[] reduce(final int[] val) {
+    int len = val[0];
+    if (len == 0)
+      return val;
+
+    final boolean sig = len > 0;
+    if (!sig)
+      len = -len;
+
+    return assign(val, val, reduce(val, len), sig);
+  }
+
+  /**
+   * Multiplies the provided {@linkplain BigInt#val() value-encoded numbers}, and reduces the product by the modulus of this context.
+   *
+   * <pre>
+   * val = (val * mul) mod m
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the array of {@code val} is shorter than the modulus.
+   * @param val The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param mul The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @return The provided {@linkplain BigInt#val() value-encoded multiplicand} with its value replaced by {@code (val * mul) mod m},
+   *         in the range {@code [0, m)}.
+   * @complexity O(M(n)), where M(n) is the complexity of multiplication.
+   */
+  public int[] mulMod(final int[] val, final int[] mul) {
+    if (val == mul)
+      return sqrMod(val);
+
+    int len1 = val[0];
+    int len2 = mul[0];
+    if (len1 == 0 || len2 == 0) {
+      val[0] = 0;
+      return val;
+    }
+
+    final boolean sig = len1 > 0 == len2 > 0;
+    if (len1 < 0)
+      len1 = -len1;
+
+    if (len2 < 0)
+      len2 = -len2;
+
+    final int len = Math.max(len1, len2);
+    if (prod.length < scratchLength(len))
+      prod = new int[scratchLength(len)];
+
+    if (multiplier.length < len + 2 * OFF)
+      multiplier = new int[len + 2 * OFF + 4];
+
+    System.arraycopy(val, OFF, prod, OFF, len1);
+    prod[0] = len1;
+    System.arraycopy(mul, OFF, multiplier, OFF, len2);
+    multiplier[0] = len2;
+    final int[] z = prod = BigIntMultiplication.mul(prod, multiplier);
+    return assign(val, z, reduce(z, z[0]), sig);
+  }
+
+  /**
+   * Squares the provided {@linkplain BigInt#val() value-encoded number}, and reduces the square by the modulus of this context.
+   *
+   * <pre>
+   * val = (val * val) mod m
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the array of {@code val} is shorter than the modulus.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} with its value replaced by {@code (val * val) mod m}, in
+   *         the range {@code [0, m)}.
+   * @complexity O(M(n)), where M(n) is the complexity of multiplication.
+   */
+  public int[] sqrMod(final int[] val) {
+    int len = val[0];
+    if (len == 0)
+      return val;
+
+    if (len < 0)
+      len = -len;
+
+    if (prod.length < scratchLength(len))
+      prod = new int[scratchLength(len)];
+
+    System.arraycopy(val, OFF, prod, OFF, len);
+    prod[0] = len;
+    final int[] z = prod = BigIntMultiplication.mul(prod, prod);
+    return assign(val, z, reduce(z, z[0]), true);
+  }
+
+  /**
+   * Sets the reduced magnitude of {@code len} limbs in {@code x} into {@code val} with the provided sign, as a value in
+   * {@code [0, m)}.
+   */
+  private int[] assign(int[] val, final int[] x, int len, final boolean sig) {
+    if (!sig && len > 0) {
+      // val = m - x
+      if (val.length < n + OFF)
+        val = new int[n + OFF];
+
+      long borrow = 0;
+      for (int i = OFF; i <= n; ++i) { // [A]
+        borrow = (mod[i] & LONG_MASK) - (i <= len ? x[i] & LONG_MASK : 0) + (borrow >> 32);
+        val[i] = (int)borrow;
+      }
+
+      for (len = n; len > 0 && val[len] == 0; --len);
+    }
+    else if (val != x) {
+      if (val.length < len + OFF)
+        val = new int[len + OFF];
+
+      System.arraycopy(x, OFF, val, OFF, len);
+    }
+
+    val[0] = len;
+    // _debugLenSig(val);
+    return val;
+  }
+
+  /**
+   * Reduces the <i>non-negative</i> magnitude of {@code len} limbs in {@code x} in place, and returns its new length.
+   */
+  private int reduce(final int[] x, int len) {
+    // Reduce the 2n most significant limbs, which replaces them with n limbs, until at most 2n limbs remain
+    for (; len > 2 * n; len -= n) // [N]
+      barrett(x, OFF + len - 2 * n, 2 * n);
+
+    barrett(x, OFF, len);
+    for (len = Math.min(len, n); len > 0 && x[len] == 0; --len);
+    return len;
+  }
+
+  /**
+   * Reduces the {@code len <= 2n} limbs of {@code x} starting at {@code off} in place with Barrett reduction. The remainder is set
+   * in the {@code n} limbs at {@code off}, and the limbs above it are cleared.
+   */
+  private void barrett(final int[] x, final int off, final int len) {
+    // Numbers shorter than n limbs are less than the modulus
+    if (len < n)
+      return;
+
+    final int n1 = n + 1;
+
+    // q = floor(floor(x / 2^(32 * (n - 1))) * mu / 2^(32 * (n + 1))), which is at most 2 less than floor(x / m)
+    int qlen = len - n + 1;
+    for (; qlen > 0 && x[off + n - 1 + qlen - 1] == 0; --qlen);
+    int[] q = quot;
+    if (qlen > 0) {
+      System.arraycopy(x, off + n - 1, q, OFF, qlen);
+      q[0] = qlen;
+      q = quot = BigIntMultiplication.mul(q, mu);
+      qlen = q[0] - n1;
+      if (qlen > 0) {
+        System.arraycopy(q, OFF + n1, q, OFF, qlen);
+        q[0] = qlen;
+        q = quot = BigIntMultiplication.mul(q, mod);
+        qlen = q[0];
+      }
+    }
+
+    // r = (x - q * m) mod 2^(32 * (n + 1)), which is less than 3m
+    final int[] r = rem;
+    long borrow = 0;
+    for (int i = 0; i < n1; ++i) { // [A]
+      borrow = (i < len ? x[off + i] & LONG_MASK : 0) - (i < qlen ? q[OFF + i] & LONG_MASK : 0) + (borrow >> 32);
+      r[OFF + i] = (int)borrow;
+    }
+
+    while (compareToMod(r) >= 0) { // [N]
+      borrow = 0;
+      for (int i = OFF; i <= n1; ++i) { // [A]
+        borrow = (r[i] & LONG_MASK) - (i <= n ? mod[i] & LONG_MASK : 0) + (borrow >> 32);
+        r[i] = (int)borrow;
+      }
+    }
+
+    System.arraycopy(r, OFF, x, off, Math.min(n, len));
+    for (int i = off + n, to = off + len; i < to; ++i) // [A]
+      x[i] = 0;
+  }
+
+  /**
+   * Compares the {@code n + 1} limbs of the provided remainder with the modulus.
+   */
+  private int compareToMod(final int[] r) {
+    if (r[n + OFF] != 0)
+      return 1;
+
+    for (int i = n; i >= OFF; --i) { // [A]
+      if (r[i] != mod[i])
+        return (r[i] & LONG_MASK) < (mod[i] & LONG_MASK) ? -1 : 1;
+    }
+
+    return 0;
+  }
+}
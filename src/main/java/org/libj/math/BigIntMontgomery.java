@@ -0,0 +1,249 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.libj.math.BigIntValue.*;
+
+/**
+ * Montgomery multiplication by a fixed <i>odd</i> modulus of {@code n} limbs, with {@code R = 2^(32 * n)}.
+ * <p>
+ * Numbers in Montgomery form ({@code aR mod m}) are represented as bare magnitude arrays of exactly {@code n} little-endian limbs,
+ * without the {@linkplain BigInt#val() value-encoded} length header, so that the products can be computed in place with the
+ * <i>Coarsely Integrated Operand Scanning</i> (CIOS) method, which interleaves the multiplication with the reduction, and never
+ * produces an intermediate number longer than {@code n + 2} limbs. Squares are computed with the off-diagonal products counted once,
+ * and are then reduced separately (<i>Separated Operand Scanning</i>).
+ * <p>
+ * <b>Note:</b> Because of its scratch buffer, a {@link BigIntMontgomery} is not thread-safe.
+ *
+ * @see <a href="https://www.microsoft.com/en-us/research/wp-content/uploads/1996/01/j37acmon.pdf">Koç, Acar, Kaliski: Analyzing and
+ *      Comparing Montgomery Multiplication Algorithms</a>
+ */
+final class BigIntMontgomery {
+  /**
+   * Returns {@code -x^-1 mod 2^32} for an <i>odd</i> {@code x}, with Newton iteration.
+   */
+  private static int negInverse(final int x) {
+    // x * x == 1 mod 8, so x is its own inverse to 3 bits, and each step doubles the number of correct bits
+    int inv = x;
+    for (int i = 0; i < 4; ++i) // [N]
+      inv *= 2 - x * inv;
+
+    return -inv;
+  }
+
+  /** The number of limbs of the modulus. */
+  final int n;
+  /** The magnitude of the modulus. */
+  private final int[] mod;
+  /** The {@linkplain BigInt#val() value-encoded} modulus. */
+  private final int[] modVal;
+  /** {@code -mod^-1 mod 2^32}. */
+  private final int inv;
+  /** Scratch buffer of {@code 2n + 1} limbs for the products. */
+  private final int[] t;
+
+  /**
+   * Creates a new {@link BigIntMontgomery} for the provided <i>odd</i> and <i>positive</i> {@linkplain BigInt#val() value-encoded}
+   * modulus, which is not retained.
+   *
+   * @param modulus The <i>odd</i> and <i>positive</i> {@linkplain BigInt#val() value-encoded} modulus.
+   */
+  BigIntMontgomery(final int[] modulus) {
+    this.n = modulus[0];
+    this.mod = new int[n];
+    System.arraycopy(modulus, OFF, mod, 0, n);
+    this.modVal = new int[n + OFF];
+    System.arraycopy(modulus, 0, modVal, 0, n + OFF);
+    this.inv = negInverse(mod[0]);
+    this.t = new int[2 * n + 2];
+  }
+
+  /**
+   * Returns a new array with the Montgomery form {@code aR mod m} of the provided <i>non-negative</i> {@linkplain BigInt#val()
+   * value-encoded number}.
+   */
+  int[] toMontgomery(final int[] val) {
+    final int len = val[0];
+    int[] a = BigIntValue.alloc(len + n + OFF);
+    System.arraycopy(val, 0, a, 0, len + OFF);
+    a = BigIntDivision.mod(BigIntBinary.shiftLeft(a, 32 * n), modVal);
+    final int[] z = new int[n];
+    System.arraycopy(a, OFF, z, 0, a[0]);
+    return z;
+  }
+
+  /**
+   * Sets the value {@code a * R^-1 mod m} of the Montgomery form {@code a} in the provided {@linkplain BigInt#val() value-encoded
+   * number}, and returns it.
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the array of {@code val} is shorter than the modulus.
+   */
+  int[] fromMontgomery(final int[] a, int[] val) {
+    final int[] t = this.t;
+    System.arraycopy(a, 0, t, 0, n);
+    t[n] = t[n + 1] = 0;
+    for (int i = 0; i < n; ++i) // [A]
+      reduceStep(t);
+
+    if (val.length < n + OFF)
+      val = new int[n + OFF];
+
+    int len = subtractIfGreater(t, 0, val, OFF);
+    for (; len > 0 && val[len] == 0; --len);
+    val[0] = len;
+    return val;
+  }
+
+  /**
+   * Sets {@code a * b * R^-1 mod m} in {@code z}, which may be {@code a} or {@code b}.
+   */
+  void mul(final int[] a, final int[] b, final int[] z) {
+    final int n = this.n;
+    final int[] t = this.t;
+    for (int i = 0; i < n + 2; ++i) // [A]
+      t[i] = 0;
+
+    long c, bi;
+    for (int i = 0, j; i < n; ++i) { // [A]
+      // t += a * b[i]
+      bi = b[i] & LONG_MASK;
+      c = 0;
+      for (j = 0; j < n; ++j) { // [A]
+        c += (t[j] & LONG_MASK) + (a[j] & LONG_MASK) * bi;
+        t[j] = (int)c;
+        c >>>= 32;
+      }
+
+      c += t[n] & LONG_MASK;
+      t[n] = (int)c;
+      t[n + 1] = (int)(c >>> 32);
+      reduceStep(t);
+    }
+
+    subtractIfGreater(t, 0, z, 0);
+  }
+
+  /**
+   * Sets {@code a * a * R^-1 mod m} in {@code z}, which may be {@code a}.
+   */
+  void sqr(final int[] a, final int[] z) {
+    final int n = this.n;
+    final int n2 = n * 2;
+    final int[] t = this.t;
+    for (int i = 0; i <= n2; ++i) // [A]
+      t[i] = 0;
+
+    // The off-diagonal products a[i] * a[j] for i < j, which are computed once and doubled
+    long c, ai;
+    int i, j;
+    for (i = 0; i < n - 1; ++i) { // [A]
+      ai = a[i] & LONG_MASK;
+      c = 0;
+      for (j = i + 1; j < n; ++j) { // [A]
+        c += (t[i + j] & LONG_MASK) + ai * (a[j] & LONG_MASK);
+        t[i + j] = (int)c;
+        c >>>= 32;
+      }
+
+      t[i + n] = (int)c;
+    }
+
+    for (i = n2 - 1; i > 0; --i) // [A]
+      t[i] = t[i] << 1 | t[i - 1] >>> 31;
+
+    t[0] <<= 1;
+
+    // The diagonal products a[i] * a[i]
+    for (i = 0, c = 0; i < n; ++i) { // [A]
+      ai = a[i] & LONG_MASK;
+      ai *= ai;
+      c += (t[2 * i] & LONG_MASK) + (ai & LONG_MASK);
+      t[2 * i] = (int)c;
+      c = (c >>> 32) + (t[2 * i + 1] & LONG_MASK) + (ai >>> 32);
+      t[2 * i + 1] = (int)c;
+      c >>>= 32;
+    }
+
+    // Montgomery reduction of the 2n limbs: add the multiple q * m of the modulus that clears limb i
+    final int[] mod = this.mod;
+    for (i = 0; i < n; ++i) { // [A]
+      final long q = (t[i] * inv) & LONG_MASK;
+      c = 0;
+      for (j = 0; j < n; ++j) { // [A]
+        c += (t[i + j] & LONG_MASK) + q * (mod[j] & LONG_MASK);
+        t[i + j] = (int)c;
+        c >>>= 32;
+      }
+
+      for (j = i + n; c != 0; ++j) { // [A]
+        c += t[j] & LONG_MASK;
+        t[j] = (int)c;
+        c >>>= 32;
+      }
+    }
+
+    subtractIfGreater(t, n, z, 0);
+  }
+
+  /**
+   * Adds the multiple {@code q * m} of the modulus to {@code t} that clears its lowest limb, and shifts {@code t} right by 1 limb.
+   */
+  private void reduceStep(final int[] t) {
+    final int n = this.n;
+    final int[] mod = this.mod;
+    final long q = (t[0] * inv) & LONG_MASK;
+    long c = ((t[0] & LONG_MASK) + q * (mod[0] & LONG_MASK)) >>> 32;
+    for (int j = 1; j < n; ++j) { // [A]
+      c += (t[j] & LONG_MASK) + q * (mod[j] & LONG_MASK);
+      t[j - 1] = (int)c;
+      c >>>= 32;
+    }
+
+    c += t[n] & LONG_MASK;
+    t[n - 1] = (int)c;
+    t[n] = t[n + 1] + (int)(c >>> 32);
+    t[n + 1] = 0;
+  }
+
+  /**
+   * Sets the {@code n + 1} limbs of {@code t} starting at {@code toff}, which are less than {@code 2m}, reduced to {@code [0, m)} in the {@code n} limbs of
+   * {@code z} starting at {@code zoff}, and returns {@code n}.
+   */
+  private int subtractIfGreater(final int[] t, final int toff, final int[] z, final int zoff) {
+    final int n = this.n;
+    final int[] mod = this.mod;
+    boolean subtract = t[toff + n] != 0;
+    if (!subtract) {
+      int i = n - 1;
+      for (; i >= 0 && t[toff + i] == mod[i]; --i);
+      subtract = i < 0 || (t[toff + i] & LONG_MASK) > (mod[i] & LONG_MASK);
+    }
+
+    if (subtract) {
+      long borrow = 0;
+      for (int i = 0; i < n; ++i) { // [A]
+        borrow = (t[toff + i] & LONG_MASK) - (mod[i] & LONG_MASK) + (borrow >> 32);
+        z[zoff + i] = (int)borrow;
+      }
+    }
+    else {
+      System.arraycopy(t, toff, z, zoff, n);
+    }
+
+    return n;
+  }
+}
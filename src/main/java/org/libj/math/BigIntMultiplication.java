@@ -30,6 +30,9 @@
 package org.libj.math;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 abstract class BigIntMultiplication extends BigIntAddition {
   // For debugging
@@ -46,9 +49,50 @@ abstract class BigIntMultiplication extends BigIntAddition {
   /**
    * Factor to be applied Karatsuba thresholds. This factor was determined experimentally to produce better results in general
    * applications than the exact factors that were determined in isolated tests.
+   * <p>
+   * The thresholds below can be overridden with values calibrated for the current machine in a {@link BigIntProfile}.
    */
   private static final double THRESHOLD_FACTOR = 1.2;
 
+  /**
+   * The threshold value for using the {@linkplain BigIntVector SIMD kernel} for schoolbook multiplication in Java. If the number of
+   * ints in both input arrays is greater than or equal to this value, then the SIMD kernel will be used instead of the scalar loop.
+   * This value is {@link Integer#MAX_VALUE} if the SIMD kernels are not {@linkplain BigIntVector#ENABLED enabled}.
+   */
+  static final int VECTOR_THRESHOLD = BigIntVector.ENABLED ? BigIntProfile.get("VECTOR_THRESHOLD", 16) : Integer.MAX_VALUE;
+
+  /**
+   * The threshold value for using the {@linkplain BigIntVector SIMD kernel} for schoolbook squaring in Java. If the number of ints in
+   * the magnitude array is greater than or equal to this value, then the SIMD kernel will be used instead of the scalar loop. This
+   * value is {@link Integer#MAX_VALUE} if the SIMD kernels are not {@linkplain BigIntVector#ENABLED enabled}.
+   */
+  static final int VECTOR_SQUARE_THRESHOLD = BigIntVector.ENABLED ? BigIntProfile.get("VECTOR_SQUARE_THRESHOLD", 12) : Integer.MAX_VALUE;
+
+  /**
+   * The maximum number of ints in the input arrays at which the recursion of Karatsuba multiplication in Java is terminated with the
+   * {@linkplain BigIntVector SIMD kernel}. Without the SIMD kernel, the recursion is terminated at 32 ints.
+   */
+  private static final int VECTOR_KARATSUBA_BASE = 64;
+
+  /**
+   * The minimum number of ints in the input arrays for Karatsuba multiplication and squaring, which are incorrect for 32 ints or
+   * fewer.
+   */
+  private static final int KARATSUBA_MIN = 33;
+
+  /**
+   * The minimum number of ints in the input arrays for NTT multiplication and squaring.
+   */
+  private static final int NTT_MIN = 2;
+
+  /**
+   * Returns the minimum of a threshold that is above the provided threshold of the preceding tier, so that a {@link BigIntProfile}
+   * cannot reorder the tiers.
+   */
+  private static int above(final int threshold) {
+    return threshold == Integer.MAX_VALUE ? threshold : threshold + 1;
+  }
+
   /**
    * The "z" threshold value for using Karatsuba multiplication. If the number of ints in the output array is greater than this
    * number, and both input arrays are greater than {@link #KARATSUBA_THRESHOLD_X}, then Karatsuba multiplication will be used.
@@ -62,22 +106,59 @@ abstract class BigIntMultiplication extends BigIntAddition {
    *
    * @see #KARATSUBA_THRESHOLD_X
    */
-  static final int KARATSUBA_THRESHOLD_Z = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 135 : 80) * THRESHOLD_FACTOR); // 135 : 80
+  static final int KARATSUBA_THRESHOLD_Z = BigIntProfile.get("KARATSUBA_THRESHOLD_Z", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_THRESHOLD == Integer.MAX_VALUE ? 135 : 400 : 80) * THRESHOLD_FACTOR)); // 135 : 400 : 80
 
   /**
    * The "x" threshold value for using Karatsuba multiplication. If the number of ints in both input arrays is greater than this
    * number, then {@link #KARATSUBA_THRESHOLD_Z} will be evaluated to determine if Karatsuba multiplication is to be used. This value
    * is found experimentally to work well.
    */
-  static final int KARATSUBA_THRESHOLD_X = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 70 : 50) * THRESHOLD_FACTOR); // 70 : 50
+  static final int KARATSUBA_THRESHOLD_X = BigIntProfile.get("KARATSUBA_THRESHOLD_X", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_THRESHOLD == Integer.MAX_VALUE ? 70 : 200 : 50) * THRESHOLD_FACTOR), KARATSUBA_MIN); // 70 : 200 : 50
 
   /**
    * The threshold value for using Karatsuba squaring. If the number of ints in the magnitude array is greater than this value,
    * Karatsuba squaring will be used. This value is found experimentally to work well.
    * <p>
-   * Note: Values lower than {@code 30} for this threshold will result in errors for in-place execution of the Karatsuba algorithm.
+   * Note: Values lower than {@link #KARATSUBA_MIN} for this threshold result in errors of the Karatsuba algorithm, so a profile
+   * cannot lower it further.
    */
-  static final int KARATSUBA_SQUARE_THRESHOLD = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 640 : 400) * THRESHOLD_FACTOR); // 640 : 400
+  static final int KARATSUBA_SQUARE_THRESHOLD = BigIntProfile.get("KARATSUBA_SQUARE_THRESHOLD", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_SQUARE_THRESHOLD == Integer.MAX_VALUE ? 640 : 1600 : 400) * THRESHOLD_FACTOR), KARATSUBA_MIN); // 640 : 1600 : 400
+
+  /**
+   * The threshold value for using Toom-Cook 3-way multiplication. If the number of ints in both input arrays is greater than this
+   * value, then Toom-Cook 3-way multiplication will be used instead of Karatsuba multiplication. This value is found experimentally to
+   * work well.
+   *
+   * @see #KARATSUBA_THRESHOLD_X
+   */
+  static final int TOOM_COOK_THRESHOLD = BigIntProfile.get("TOOM_COOK_THRESHOLD", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 300 : 1250) * THRESHOLD_FACTOR), above(KARATSUBA_THRESHOLD_X)); // 300 : 1250
+
+  /**
+   * The threshold value for using Toom-Cook 3-way squaring. If the number of ints in the magnitude array is greater than this value,
+   * Toom-Cook 3-way squaring will be used instead of Karatsuba squaring. This value is found experimentally to work well, and is
+   * greater than {@link #KARATSUBA_SQUARE_THRESHOLD} in each mode.
+   *
+   * @see #KARATSUBA_SQUARE_THRESHOLD
+   */
+  static final int TOOM_COOK_SQUARE_THRESHOLD = BigIntProfile.get("TOOM_COOK_SQUARE_THRESHOLD", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_SQUARE_THRESHOLD == Integer.MAX_VALUE ? 800 : 2000 : 2500) * THRESHOLD_FACTOR), above(KARATSUBA_SQUARE_THRESHOLD)); // 800 : 2000 : 2500
+
+  /**
+   * The threshold value for using number-theoretic transform (NTT) multiplication. If the number of ints in both input arrays is
+   * greater than this value, then NTT multiplication will be used instead of Toom-Cook 3-way multiplication. This value is found
+   * experimentally to work well, and is greater than {@link #TOOM_COOK_THRESHOLD} in each mode.
+   *
+   * @see #TOOM_COOK_THRESHOLD
+   */
+  static final int NTT_THRESHOLD = BigIntProfile.get("NTT_THRESHOLD", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_THRESHOLD == Integer.MAX_VALUE ? 5000 : 11000 : 7000) * THRESHOLD_FACTOR), Math.max(NTT_MIN, above(TOOM_COOK_THRESHOLD))); // 5000 : 11000 : 7000
+
+  /**
+   * The threshold value for using number-theoretic transform (NTT) squaring. If the number of ints in the magnitude array is greater
+   * than this value, then NTT squaring will be used instead of Toom-Cook 3-way squaring. This value is found experimentally to work
+   * well, and is greater than {@link #TOOM_COOK_SQUARE_THRESHOLD} in each mode.
+   *
+   * @see #TOOM_COOK_SQUARE_THRESHOLD
+   */
+  static final int NTT_SQUARE_THRESHOLD = BigIntProfile.get("NTT_SQUARE_THRESHOLD", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? VECTOR_SQUARE_THRESHOLD == Integer.MAX_VALUE ? 2500 : 8000 : 5000) * THRESHOLD_FACTOR), Math.max(NTT_MIN, above(TOOM_COOK_SQUARE_THRESHOLD))); // 2500 : 8000 : 5000
 
   /**
    * Factor to be applied Parallel Karatsuba thresholds. This factor was determined experimentally to produce better results in
@@ -99,14 +180,58 @@ abstract class BigIntMultiplication extends BigIntAddition {
    *
    * @see #PARALLEL_KARATSUBA_THRESHOLD_X
    */
-  static final int PARALLEL_KARATSUBA_THRESHOLD_Z = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 1500 : 850) * PARALLEL_THRESHOLD_FACTOR); // 1500 : 850
+  static final int PARALLEL_KARATSUBA_THRESHOLD_Z = BigIntProfile.get("PARALLEL_KARATSUBA_THRESHOLD_Z", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 1500 : 850) * PARALLEL_THRESHOLD_FACTOR)); // 1500 : 850
 
   /**
    * The "x" threshold value for using Parallel Karatsuba multiplication. If the number of ints in both input arrays is greater than
    * this number, then {@link #PARALLEL_KARATSUBA_THRESHOLD_Z} will be evaluated to determine if Parallel Karatsuba multiplication is
    * to be used. This value is found experimentally to work well.
    */
-  static final int PARALLEL_KARATSUBA_THRESHOLD_X = (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 120 : 100) * PARALLEL_THRESHOLD_FACTOR); // 120 : 100
+  static final int PARALLEL_KARATSUBA_THRESHOLD_X = BigIntProfile.get("PARALLEL_KARATSUBA_THRESHOLD_X", (int)((NATIVE_THRESHOLD == Integer.MAX_VALUE ? 120 : 100) * PARALLEL_THRESHOLD_FACTOR)); // 120 : 100
+
+  /**
+   * The {@link ForkJoinPool} on which the subproblems of parallel multiplication are executed. If the system property
+   * {@value NativeMath#PARALLELISM_PROPERTY} is set, a dedicated pool with the specified parallelism is used. Otherwise, the
+   * {@linkplain ForkJoinPool#commonPool() common pool} is used.
+   */
+  static final ForkJoinPool PARALLEL_POOL;
+
+  static {
+    final int parallelism = NativeMath.getParallelism();
+    PARALLEL_POOL = parallelism == -1 ? ForkJoinPool.commonPool() : new ForkJoinPool(Math.max(1, parallelism));
+  }
+
+  /**
+   * Executes the provided tasks in parallel on the {@link #PARALLEL_POOL}, and returns when all of them have completed. If the
+   * calling thread is a worker of the {@link #PARALLEL_POOL}, the tasks are forked into its work-stealing queue, so that nested
+   * parallel recursion does not block additional threads.
+   *
+   * @param tasks The tasks to execute.
+   */
+  static void invokeAll(final Runnable ... tasks) {
+    final RecursiveAction[] actions = new RecursiveAction[tasks.length];
+    for (int i = 0, i$ = tasks.length; i < i$; ++i) { // [A]
+      final Runnable task = tasks[i];
+      actions[i] = new RecursiveAction() {
+        @Override
+        protected void compute() {
+          task.run();
+        }
+      };
+    }
+
+    if (ForkJoinTask.getPool() == PARALLEL_POOL) {
+      ForkJoinTask.invokeAll(actions);
+    }
+    else {
+      PARALLEL_POOL.invoke(new RecursiveAction() {
+        @Override
+        protected void compute() {
+          ForkJoinTask.invokeAll(actions);
+        }
+      });
+    }
+  }
 
   static final int[] INT_5_POW = {
     1,
@@ -547,7 +672,11 @@ abstract class BigIntMultiplication extends BigIntAddition {
     return mul(val, mul, false);
   }
 
-  static int[] mul(int[] val, int[] mul, final boolean allocExact) {
+  static int[] mul(final int[] val, final int[] mul, final boolean allocExact) {
+    return mul(val, mul, allocExact, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  }
+
+  private static int[] mul(int[] val, int[] mul, final boolean allocExact, final int parallelThreshold, final int parallelThresholdZ) {
     int len = val[0];
     if (len == 0)
       return val;
@@ -560,7 +689,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
     if (len < 0) { len = -len; sig = false; }
 
     if (val == mul)
-      return square(val, len);
+      return square(val, len, parallelThreshold, parallelThresholdZ);
 
     if (mlen < 0) { mlen = -mlen; sig = !sig; }
 
@@ -597,10 +726,93 @@ abstract class BigIntMultiplication extends BigIntAddition {
     if (len < KARATSUBA_THRESHOLD_X || mlen < KARATSUBA_THRESHOLD_X || zlen < KARATSUBA_THRESHOLD_Z)
       return mulQuad(val, len, mul, mlen, zlen, sig, allocExact);
 
-    return karatsuba(val, len, mul, mlen, zlen, sig);
+    if (len < TOOM_COOK_THRESHOLD || mlen < TOOM_COOK_THRESHOLD)
+      return karatsuba(val, len, mul, mlen, zlen, sig, parallelThreshold, parallelThresholdZ);
+
+    if (len < NTT_THRESHOLD || mlen < NTT_THRESHOLD)
+      return toomCook3(BigIntLimbs.HEAP, val, len, mul, mlen, sig, parallelThreshold, parallelThresholdZ);
+
+    return ntt(val, len, mul, mlen, sig, parallelThreshold, parallelThresholdZ);
+  }
+
+  /**
+   * The multiplication algorithms that can be selected explicitly with {@link #mul(int[],int[],Algorithm)}.
+   */
+  enum Algorithm {
+    QUAD_SCALAR,
+    QUAD_VECTOR,
+    QUAD_JAVA,
+    QUAD_NATIVE,
+    QUAD,
+    KARATSUBA,
+    PARALLEL_KARATSUBA,
+    TOOM_COOK,
+    NTT
+  }
+
+  /**
+   * Multiplies the provided <i>positive</i> {@linkplain BigInt#val() value-encoded numbers} with the specified algorithm,
+   * regardless of the thresholds that would otherwise select the algorithm. If {@code x == y}, the product is computed as a square.
+   * Parallel Karatsuba is engaged only at the top level of recursion. This method is used by {@link BigIntProfile} to measure
+   * the crossover points of the algorithms.
+   *
+   * @param x The first <i>positive</i> {@linkplain BigInt#val() value-encoded number} with more than 2 limbs.
+   * @param y The second <i>positive</i> {@linkplain BigInt#val() value-encoded number} with more than 2 limbs.
+   * @param algorithm The {@link Algorithm} with which to multiply.
+   * @return The product of the provided {@linkplain BigInt#val() value-encoded numbers}, which may be {@code x}.
+   */
+  static int[] mul(final int[] x, final int[] y, final Algorithm algorithm) {
+    final int xlen = x[0], ylen = y[0], zlen = xlen + ylen + 1;
+    final boolean square = x == y;
+    switch (algorithm) {
+      case QUAD_SCALAR:
+      case QUAD_VECTOR:
+        final int[] s = alloc(zlen);
+        if (algorithm == Algorithm.QUAD_SCALAR) {
+          if (square)
+            scalarSquareQuad(x, OFF, xlen, s, OFF, xlen * 2);
+          else
+            scalarMulQuad(x, xlen, y, ylen, s);
+        }
+        else if (square) {
+          BigIntVector.square(x, OFF, xlen, s, OFF);
+        }
+        else {
+          BigIntVector.mul(x, OFF, xlen, y, OFF, ylen, s, OFF);
+        }
+
+        s[0] = s[zlen - 1] == 0 ? zlen - 2 : zlen - 1;
+        return s;
+      case QUAD_JAVA:
+      case QUAD_NATIVE:
+        final int[] z = alloc(zlen);
+        if (algorithm == Algorithm.QUAD_JAVA)
+          javaMulQuad(x, xlen, y, ylen, z);
+        else if (FOREIGN)
+          NativeForeign.mulQuad(x, xlen, y, ylen, z);
+        else
+          nativeMulQuad(x, xlen, y, ylen, z);
+
+        z[0] = z[zlen - 1] == 0 ? zlen - 2 : zlen - 1;
+        return z;
+      case QUAD:
+        return square ? squareQuad(x, xlen) : mulQuad(x, xlen, y, ylen, zlen, true, false);
+      case KARATSUBA:
+        return square ? squareKaratsuba(x, xlen, Integer.MAX_VALUE, Integer.MAX_VALUE) : karatsuba(x, xlen, y, ylen, zlen, true, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      case PARALLEL_KARATSUBA:
+        // The threshold is doubled with each level of recursion, so only the top level is executed in parallel
+        final int parallelThreshold = Math.max(xlen, ylen) / 2;
+        return square ? squareKaratsuba(x, xlen, parallelThreshold, 0) : karatsuba(x, xlen, y, ylen, zlen, true, parallelThreshold, 0);
+      case TOOM_COOK:
+        return toomCook3(BigIntLimbs.HEAP, x, xlen, y, ylen, true, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      case NTT:
+        return ntt(x, xlen, y, ylen, true, Integer.MAX_VALUE, Integer.MAX_VALUE);
+      default:
+        throw new UnsupportedOperationException("Unsupported algorithm: " + algorithm);
+    }
   }
 
-  private static int[] karatsuba(int[] x, int xlen, int[] y, int ylen, int zlen, final boolean sig) {
+  private static int[] karatsuba(int[] x, int xlen, int[] y, int ylen, int zlen, final boolean sig, final int parallelThreshold, final int parallelThresholdZ) {
     final int len = Math.max(xlen, ylen);
     ++xlen;
     ++ylen;
@@ -624,7 +836,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
       z = x;
       z[zlen] = 0;
-      karatsuba(x, y, z, inlineLen, len);
+      karatsuba(x, y, z, inlineLen, z.length, len, parallelThreshold, parallelThresholdZ);
     }
     else {
       // if (record) { final int X[] = PARALLEL ? X_KP : X_K; X[0] = Math.min(X[0], zlen); X[1] = Math.max(X[1], zlen); ++X[2]; }
@@ -632,10 +844,10 @@ abstract class BigIntMultiplication extends BigIntAddition {
       z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
       // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
       if (xlen < ylen) {
-        karatsuba(x, y, z, zlen, len);
+        karatsuba(x, y, z, zlen, OFF + zlen * 2, len, parallelThreshold, parallelThresholdZ);
       }
       else {
-        karatsuba(y, x, z, zlen, len);
+        karatsuba(y, x, z, zlen, OFF + zlen * 2, len, parallelThreshold, parallelThresholdZ);
       }
     }
 
@@ -654,6 +866,8 @@ abstract class BigIntMultiplication extends BigIntAddition {
       z = x;
       if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
         javaMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
+      else if (FOREIGN)
+        NativeForeign.mulQuadInPlace(y, ylen, z, xlen, zlen - 2);
       else
         nativeMulQuadInPlace(y, ylen, z, xlen, zlen - 2);
     }
@@ -665,12 +879,16 @@ abstract class BigIntMultiplication extends BigIntAddition {
       if (xlen < ylen) {
         if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
           javaMulQuad(x, xlen, y, ylen, z);
+        else if (FOREIGN)
+          NativeForeign.mulQuad(x, xlen, y, ylen, z);
         else
           nativeMulQuad(x, xlen, y, ylen, z);
       }
       else {
         if (xlen < NATIVE_THRESHOLD || ylen < NATIVE_THRESHOLD)
           javaMulQuad(y, ylen, x, xlen, z);
+        else if (FOREIGN)
+          NativeForeign.mulQuad(y, ylen, x, xlen, z);
         else
           nativeMulQuad(y, ylen, x, xlen, z);
       }
@@ -687,6 +905,13 @@ abstract class BigIntMultiplication extends BigIntAddition {
   private static native void nativeMulQuad(int[] x, int xlen, int[] y, int ylen, int[] z);
 
   private static void javaMulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
+    if (xlen < VECTOR_THRESHOLD || ylen < VECTOR_THRESHOLD)
+      scalarMulQuad(x, xlen, y, ylen, z);
+    else
+      BigIntVector.mul(x, OFF, xlen, y, OFF, ylen, z, OFF);
+  }
+
+  private static void scalarMulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
     int i, j, k;
 
     long carry = 0, x0 = x[1] & LONG_MASK;
@@ -709,7 +934,14 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
   private static native void nativeMulQuadInPlace(int[] x, int xlen, int[] y, int ylen, int zlen);
 
-  private static void javaMulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, int zlen) {
+  private static void javaMulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen) {
+    if (xlen < VECTOR_THRESHOLD || ylen < VECTOR_THRESHOLD)
+      scalarMulQuadInPlace(x, xlen, y, ylen, zlen);
+    else
+      BigIntVector.mul(x, OFF, xlen, y, OFF, ylen, y, OFF);
+  }
+
+  private static void scalarMulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, int zlen) {
     int i, j, k, l;
 
     long carry = 0, x0 = x[1] & LONG_MASK;
@@ -732,11 +964,13 @@ abstract class BigIntMultiplication extends BigIntAddition {
     }
   }
 
-  private static void karatsuba(final int[] x, final int[] y, final int[] z, final int zlen, final int len) {
+  private static void karatsuba(final int[] x, final int[] y, final int[] z, final int zlen, final int zlength, final int len, final int parallelThreshold, final int parallelThresholdZ) {
     if (len < NATIVE_THRESHOLD)
-      javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+      javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, zlength, 0, len, parallelThreshold, parallelThresholdZ);
+    else if (FOREIGN)
+      NativeForeign.karatsuba(x, OFF, y, OFF, z, OFF, zlen, zlength, 0, len, parallelThreshold, parallelThresholdZ);
     else
-      nativeKaratsuba(x, OFF, y, OFF, z, OFF, zlen, z.length, 0, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+      nativeKaratsuba(x, OFF, y, OFF, z, OFF, zlen, zlength, 0, len, parallelThreshold, parallelThresholdZ);
   }
 
   private static native void nativeKaratsuba(int[] x, int xoff, int[] y, int yoff, int[] z, int zoff, int zlen, int zlength, int off, int len, int parallelThreshold, int parallelThresholdZ);
@@ -751,19 +985,31 @@ abstract class BigIntMultiplication extends BigIntAddition {
    * @param z The array into which the result is to be put.
    * @param zoff Offset for {@code z}.
    * @param zlen Length of {@code z}.
+   * @param zlength The length of {@code z} that can be used for temporary values, which is less than {@code z.length} if the rest of
+   *          {@code z} holds the operands of an outer recursion.
    * @param off Offset for {@code x}, {@code y} and {@code z}.
    * @param len The length of each of the two partial arrays.
    * @param parallelThreshold Threshold of {@code len} for parallel execution.
    * @param parallelThresholdZ Threshold of {@code zlen} for parallel execution.
    * @complexity O(n^1.585)
    */
-  private static void javaKaratsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+  private static void javaKaratsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int zlength, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
     int i, j, k, l, m;
 
     final int xoffoff = xoff + off, yoffoff = yoff + off;
+    final boolean square = x == y && xoffoff == yoffoff;
     long carry = 0;
 
-    if (len <= 32) {
+    if (square && len >= VECTOR_SQUARE_THRESHOLD && len <= VECTOR_KARATSUBA_BASE) {
+      BigIntVector.square(x, xoffoff, len, z, zoff);
+    }
+    else if (len >= VECTOR_THRESHOLD && len <= VECTOR_KARATSUBA_BASE) {
+      BigIntVector.mul(x, xoffoff, len, y, yoffoff, len, z, zoff);
+    }
+    else if (square && len <= 32) {
+      scalarSquareQuad(x, xoffoff, len, z, zoff, len * 2);
+    }
+    else if (len <= 32) {
       final int yoffoffl = yoffoff + len, zoffl = zoff + len, xoffoffl = xoffoff + len;
 
       long x0 = x[xoffoff] & LONG_MASK;
@@ -792,7 +1038,7 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
       j = ll + l_b2 + 2; // length needed for (x2) computation // [A]
       k = j + l_b2 + 1;  // length needed for (y2) computation // [A]
-      if (!parallel && z.length >= (i = zoff + zlen) + k + 1) {
+      if (!parallel && zlength >= (i = zoff + zlen) + k + 1) {
         tmpoff = i;
         x2offl_b2 = j + i;
         y2offl_b2 = k + i;
@@ -802,9 +1048,12 @@ abstract class BigIntMultiplication extends BigIntAddition {
         tmpoff = 0;
         x2offl_b2 = j;
         y2offl_b2 = k;
-        tmp = new int[y2offl_b2 + 1];
+        tmp = alloc(y2offl_b2 + 1);
       }
 
+      // The temporary values of the recursion must not overwrite the operands (x2) and (y2) at the end of `tmp` // [A]
+      final int tmplength = tmp == z ? zlength : y2offl_b2 + 1;
+
       final int x2offl_b2b = x2offl_b2 + b, y2offl_b = x2offl_b2 + l_b, y2offl_b1 = y2offl_b + 1, y2offl_b1b = y2offl_b1 + b;
       tmp[x2offl_b2b] = tmp[y2offl_b1b] = tmp[y2offl_b] = tmp[y2offl_b2] = 0;
 
@@ -821,18 +1070,26 @@ abstract class BigIntMultiplication extends BigIntAddition {
         ++tmp[x2offl_b2b + 1];
       }
 
-      carry = 0;
-      for (i = y2offl_b1, j = yoffoff, k = yoffoff + b; i < y2offl_b1b; ++i, ++j, ++k) { // [A]
-        tmp[i] = (int)(carry += (y[j] & LONG_MASK) + (y[k] & LONG_MASK));
-        carry >>>= 32;
+      // For a square, (y2) is (x2), so that the product of the sums is a square as well
+      final int y2off;
+      if (square) {
+        y2off = x2offl_b2;
       }
+      else {
+        y2off = y2offl_b1;
+        carry = 0;
+        for (i = y2offl_b1, j = yoffoff, k = yoffoff + b; i < y2offl_b1b; ++i, ++j, ++k) { // [A]
+          tmp[i] = (int)(carry += (y[j] & LONG_MASK) + (y[k] & LONG_MASK));
+          carry >>>= 32;
+        }
 
-      if ((len & 1) != 0) {
-        tmp[y2offl_b1b] = y[yoffoff + b2];
-      }
+        if ((len & 1) != 0) {
+          tmp[y2offl_b1b] = y[yoffoff + b2];
+        }
 
-      if (carry != 0 && ++tmp[y2offl_b1b] == 0) {
-        ++tmp[y2offl_b1b + 1];
+        if (carry != 0 && ++tmp[y2offl_b1b] == 0) {
+          ++tmp[y2offl_b1b + 1];
+        }
       }
 
       final int tmpoffl_b2 = tmpoff + l_b2;
@@ -841,49 +1098,16 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
       final int tmpoffrr = tmpoff + r * 2, tmpoffbb = tmpoff + b2, tmpoffrrbb = tmpoffrr + b2;
       if (!parallel) {
-        javaKaratsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, Integer.MAX_VALUE, Integer.MAX_VALUE);
-        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, Integer.MAX_VALUE, Integer.MAX_VALUE);
-        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(tmp, x2offl_b2, tmp, y2off, tmp, tmpoff, tmplen, tmplength, 0, r, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, tmplength, off, b, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, tmplength, off + b, l_b, Integer.MAX_VALUE, Integer.MAX_VALUE);
       }
       else {
-        final Thread t1 = new Thread() {
-          @Override
-          public void run() {
-            // System.err.print('.');
-            javaKaratsuba(tmp, x2offl_b2, tmp, y2offl_b1, tmp, tmpoff, tmplen, 0, r, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        final Thread t2 = new Thread() {
-          @Override
-          public void run() {
-            javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, off, b, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        final Thread t3 = new Thread() {
-          @Override
-          public void run() {
-            javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, off + b, l_b, parallelThreshold * 2, parallelThresholdZ * 2);
-          }
-        };
-
-        t1.setDaemon(true);
-        t2.setDaemon(true);
-        t3.setDaemon(true);
-
-        t1.start();
-        t2.start();
-        t3.start();
-
-        try {
-          t1.join();
-          t2.join();
-          t3.join();
-        }
-        catch (final InterruptedException e) {
-          throw new RuntimeException(e);
-        }
+        final int parallelThreshold2 = parallelThreshold * 2, parallelThresholdZ2 = parallelThresholdZ * 2;
+        invokeAll(
+          () -> javaKaratsuba(tmp, x2offl_b2, tmp, y2off, tmp, tmpoff, tmplen, tmplength, 0, r, parallelThreshold2, parallelThresholdZ2),
+          () -> javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrr, tmplen, tmplength, off, b, parallelThreshold2, parallelThresholdZ2),
+          () -> javaKaratsuba(x, xoff, y, yoff, tmp, tmpoffrrbb, tmplen, tmplength, off + b, l_b, parallelThreshold2, parallelThresholdZ2));
       }
 
       System.arraycopy(tmp, tmpoffrr, z, zoff, ll);
@@ -907,48 +1131,475 @@ abstract class BigIntMultiplication extends BigIntAddition {
       if (carry != 0) {
         while (++z[j++] == 0);
       }
+
+      if (tmp != z)
+        free(tmp);
     }
   }
 
-  static int[] square(final int[] x, final int len) {
-    final int[] z;
-    int zlen = len * 2;
-    if (len < KARATSUBA_SQUARE_THRESHOLD) {
-      final int xoff;
-      if (x.length >= len + zlen + OFF) {
-        xoff = zlen + OFF;
-        System.arraycopy(x, OFF, x, xoff, len);
-        z = x;
+  /**
+   * Multiplies the magnitudes of the provided numbers with the Toom-Cook 3-way algorithm, and returns the product as a new number. If
+   * {@code x == y}, the product is computed as a square. The numbers are stored in the limbs of the provided {@link BigIntLimbs},
+   * which for {@linkplain BigInt#val() value-encoded numbers} is {@link BigIntLimbs#HEAP}.
+   * <p>
+   * Each magnitude is split into 3 parts of {@code k} limbs, which are evaluated at the points {@code 0}, {@code 1}, {@code -1},
+   * {@code 2} and {@code inf}. The 5 pointwise products are computed recursively (via Toom-Cook, Karatsuba, or quadratic
+   * multiplication), and the result is interpolated with the sequence described by Marco Bodrato in "Towards Optimal Toom-Cook
+   * Multiplication for Univariate and Multivariate Polynomials in Characteristic 2 and 0".
+   *
+   * @param <V> The type of the store of the limbs of the numbers.
+   * @param limbs The {@link BigIntLimbs} of the numbers.
+   * @param x The first number.
+   * @param xlen The number of limbs in {@code x}.
+   * @param y The second number.
+   * @param ylen The number of limbs in {@code y}.
+   * @param sig The sign of the product.
+   * @param parallelThreshold Threshold of {@code len} for parallel execution.
+   * @param parallelThresholdZ Threshold of {@code zlen} for parallel execution.
+   * @return The product as a new number.
+   * @complexity O(n^1.465)
+   */
+  static <V> V toomCook3(final BigIntLimbs<V> limbs, final V x, final int xlen, final V y, final int ylen, final boolean sig, final int parallelThreshold, final int parallelThresholdZ) {
+    final boolean square = x == y;
+    final int k = (Math.max(xlen, ylen) + 2) / 3, k2 = k * 2;
+
+    // Split the operands into 3 parts of k limbs: x = a2*B^2k + a1*B^k + a0
+    final V a0 = limbs.slice(x, 0, Math.min(k, xlen)), a1 = limbs.slice(x, k, Math.min(k2, xlen)), a2 = limbs.slice(x, k2, xlen);
+
+    // Evaluate the polynomials at the points (0, -1, 2, 1, inf)
+    final V[] f = limbs.array(5);
+    V da1 = limbs.add(limbs.copy(a2), a0);
+    f[1] = limbs.sub(limbs.copy(da1), a1);
+    f[2] = limbs.sub(limbs.shiftLeft(limbs.add(limbs.add(limbs.copy(da1), a1), a2), 1), a0);
+    f[3] = limbs.add(da1, a1);
+    f[4] = a2;
+    f[0] = a0;
+    limbs.free(a1);
+
+    final V[] g;
+    if (square) {
+      g = f;
+    }
+    else {
+      final V b0 = limbs.slice(y, 0, Math.min(k, ylen)), b1 = limbs.slice(y, k, Math.min(k2, ylen)), b2 = limbs.slice(y, k2, ylen);
+      g = limbs.array(5);
+      V db1 = limbs.add(limbs.copy(b2), b0);
+      g[1] = limbs.sub(limbs.copy(db1), b1);
+      g[2] = limbs.sub(limbs.shiftLeft(limbs.add(limbs.add(limbs.copy(db1), b1), b2), 1), b0);
+      g[3] = limbs.add(db1, b1);
+      g[4] = b2;
+      g[0] = b0;
+      limbs.free(b1);
+    }
+
+    // Compute the pointwise products: v[0] = v0, v[1] = vm1, v[2] = v2, v[3] = v1, v[4] = vinf
+    final V[] v = limbs.array(5);
+    final int zlen = xlen + ylen;
+    if (Math.min(xlen, ylen) > parallelThreshold && zlen > parallelThresholdZ) {
+      final int parallelThreshold2 = parallelThreshold * 2, parallelThresholdZ2 = parallelThresholdZ * 2;
+      final Runnable[] tasks = new Runnable[5];
+      for (int i = 0; i < 5; ++i) { // [A]
+        final int j = i;
+        tasks[i] = () -> v[j] = limbs.mul(f[j], g[j], parallelThreshold2, parallelThresholdZ2);
       }
-      else {
-        xoff = OFF;
-        z = new int[zlen + xoff];
+
+      invokeAll(tasks);
+    }
+    else {
+      for (int i = 0; i < 5; ++i) // [A]
+        v[i] = limbs.mul(f[i], g[i], Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    // Interpolate the coefficients of the product polynomial
+    final V v0 = v[0], vm1 = v[1], vinf = v[4];
+    V v1 = v[3];
+    V t2 = limbs.exactDivideBy3(limbs.sub(v[2], vm1));
+    V tm1 = limbs.shiftRight(limbs.sub(limbs.copy(v1), vm1), 1);
+    V t1 = limbs.sub(v1, v0);
+    t2 = limbs.shiftRight(limbs.sub(t2, t1), 1);
+    t1 = limbs.sub(limbs.sub(t1, tm1), vinf);
+    final V vinf2 = limbs.shiftLeft(limbs.copy(vinf), 1);
+    t2 = limbs.sub(t2, vinf2);
+    tm1 = limbs.sub(tm1, t2);
+
+    // Recompose: z = vinf*B^4k + t2*B^3k + t1*B^2k + tm1*B^k + v0
+    final V z = limbs.alloc(zlen);
+    limbs.addShifted(z, zlen, v0, 0);
+    limbs.addShifted(z, zlen, vinf, k * 4);
+    limbs.addShifted(z, zlen, tm1, k);
+    limbs.addShifted(z, zlen, t1, k2);
+    limbs.addShifted(z, zlen, t2, k * 3);
+
+    // The evaluations, the pointwise products and the coefficients are computed in place of one another where possible
+    limbs.free(f[0], f[1], f[2], f[3], f[4], g[0], g[1], g[2], g[3], g[4], v[0], v[1], v[2], v[3], v[4], t1, t2, tm1, vinf2);
+    return limbs.setLength(z, zlen, sig);
+  }
+
+  /**
+   * Returns the product of the provided {@linkplain BigInt#val() value-encoded numbers}, which may be computed in the space of
+   * {@code x}.
+   *
+   * @param x The {@linkplain BigInt#val() value-encoded multiplicand}.
+   * @param y The {@linkplain BigInt#val() value-encoded multiplier}.
+   * @param parallelThreshold Threshold of {@code len} for parallel execution.
+   * @param parallelThresholdZ Threshold of {@code zlen} for parallel execution.
+   * @return The product of the provided {@linkplain BigInt#val() value-encoded numbers}.
+   */
+  static int[] toomProduct(final int[] x, final int[] y, final int parallelThreshold, final int parallelThresholdZ) {
+    if (x != y)
+      return mul(x, y, false, parallelThreshold, parallelThresholdZ);
+
+    final int len = Math.abs(x[0]);
+    return len == 0 ? x : square(x, len, parallelThreshold, parallelThresholdZ);
+  }
+
+  /**
+   * Adds the magnitude of the provided <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} to the magnitude
+   * {@code z}, shifted by {@code off} limbs.
+   *
+   * <pre>
+   * z = z + val * 2^(32 * off)
+   * </pre>
+   *
+   * @param z The magnitude to which to add.
+   * @param zlen The number of limbs available in {@code z}.
+   * @param val The <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} to add.
+   * @param off The number of limbs by which {@code val} is shifted.
+   */
+  static void toomAddShifted(final int[] z, final int zlen, final int[] val, final int off) {
+    final int len = val[0];
+    long carry = 0;
+    int i = OFF, j = OFF + off;
+    for (; i <= len; ++i, ++j) { // [A]
+      z[j] = (int)(carry += (z[j] & LONG_MASK) + (val[i] & LONG_MASK));
+      carry >>>= 32;
+    }
+
+    for (; carry != 0 && j <= zlen; ++j) // [A]
+      carry = ++z[j] == 0 ? 1 : 0;
+  }
+
+  /**
+   * Divides the provided {@linkplain BigInt#val() value-encoded number} by {@code 3}, in place, assuming that the division is exact
+   * (i.e. the remainder is {@code 0}). The algorithm is described in Hacker's Delight, Chapter 10.
+   *
+   * <pre>
+   * val = val / 3
+   * </pre>
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number} divisible by {@code 3}.
+   * @return The provided {@linkplain BigInt#val() value-encoded number} divided by {@code 3}.
+   * @complexity O(n)
+   */
+  static int[] exactDivideBy3(final int[] val) {
+    int len = val[0];
+    if (len == 0)
+      return val;
+
+    boolean sig = true;
+    if (len < 0) { len = -len; sig = false; }
+
+    long borrow = 0, w, q;
+    for (int i = OFF; i <= len; ++i) { // [A]
+      w = (val[i] & LONG_MASK) - borrow;
+      borrow = w < 0 ? 1 : 0;
+
+      // 0xAAAAAAAB is the modular inverse of 3 (mod 2^32)
+      q = (w & LONG_MASK) * 0xAAAAAAABL & LONG_MASK;
+      val[i] = (int)q;
+
+      // Now check the borrow. The second check can of course be eliminated if the first fails.
+      if (q >= 0x55555556L) {
+        ++borrow;
+        if (q >= 0xAAAAAAABL)
+          ++borrow;
       }
+    }
 
-      if (len < NATIVE_THRESHOLD)
-        javaSquareQuad(x, xoff, len, z, OFF, zlen);
-      else
-        nativeSquareQuad(x, xoff, len, z, OFF, zlen);
+    for (; len > 0 && val[len] == 0; --len);
+    val[0] = sig ? len : -len;
+    // _debugLenSig(val);
+    return val;
+  }
+
+  /**
+   * The primes for the 3-prime number-theoretic transform. Each prime is of the form {@code c * 2^k + 1} with primitive root
+   * {@code 3}, and is less than {@code 2^30} so that Montgomery products of residues fit in a {@code long}.
+   */
+  private static final int[] NTT_PRIMES = {998244353, 167772161, 469762049}; // 119 * 2^23 + 1, 5 * 2^25 + 1, 7 * 2^26 + 1
+
+  /**
+   * The maximum transform length supported by {@link #NTT_PRIMES}. At this length, the largest coefficient of the convolution of
+   * 32-bit limbs, {@code 2^22 * (2^32 - 1)^2}, is still less than the product of the primes (~{@code 2^86}).
+   */
+  private static final int NTT_MAX_LEN = 1 << 23;
+
+  /** {@code -p^-1 mod 2^32} for each of {@link #NTT_PRIMES}. */
+  private static final int[] NTT_PINV = new int[3];
+
+  /** {@code 2^32 mod p} for each of {@link #NTT_PRIMES}. */
+  private static final long[] NTT_R = new long[3];
+
+  private static final long NTT_M01 = (long)NTT_PRIMES[0] * NTT_PRIMES[1];
+  private static final long NTT_M01_LO = NTT_M01 & LONG_MASK;
+  private static final long NTT_M01_HI = NTT_M01 >>> 32;
+  private static final long NTT_INV01 = powMod(NTT_PRIMES[0], NTT_PRIMES[1] - 2, NTT_PRIMES[1]);
+  private static final long NTT_INV012 = powMod(NTT_M01 % NTT_PRIMES[2], NTT_PRIMES[2] - 2, NTT_PRIMES[2]);
+
+  static {
+    for (int i = 0; i < 3; ++i) { // [A]
+      final int p = NTT_PRIMES[i];
+      int inv = p;
+      for (int j = 0; j < 4; ++j) // [N]
+        inv *= 2 - p * inv;
+
+      NTT_PINV[i] = -inv;
+      NTT_R[i] = (1L << 32) % p;
+    }
+  }
+
+  private static long powMod(long b, int e, final long m) {
+    long r = 1;
+    for (b %= m; e > 0; e >>= 1, b = b * b % m) // [N]
+      if ((e & 1) != 0)
+        r = r * b % m;
+
+    return r;
+  }
+
+  /**
+   * Multiplies the magnitudes of the provided {@linkplain BigInt#val() value-encoded numbers} with a 3-prime number-theoretic
+   * transform, and returns the product as a new {@linkplain BigInt#val() value-encoded number}. If {@code x == y}, the product is
+   * computed as a square, requiring only one forward transform per prime.
+   * <p>
+   * The limbs of each magnitude are taken as the coefficients of a polynomial, which are convolved modulo each of the
+   * {@link #NTT_PRIMES} with Montgomery arithmetic. The exact coefficients are then recovered with Garner's CRT recombination, and
+   * carried into the limbs of the product. The convolutions for the 3 primes are independent, and are computed in parallel if the
+   * operands exceed the parallel thresholds. If the product is too large for {@link #NTT_MAX_LEN}, the operands are first split with
+   * {@link #toomCook3(BigIntLimbs,Object,int,Object,int,boolean,int,int)}.
+   *
+   * @param x The first {@linkplain BigInt#val() value-encoded number}.
+   * @param xlen The number of limbs in {@code x}.
+   * @param y The second {@linkplain BigInt#val() value-encoded number}.
+   * @param ylen The number of limbs in {@code y}.
+   * @param sig The sign of the product.
+   * @param parallelThreshold Threshold of {@code len} for parallel execution.
+   * @param parallelThresholdZ Threshold of {@code zlen} for parallel execution.
+   * @return The product as a new {@linkplain BigInt#val() value-encoded number}.
+   * @complexity O(n log n)
+   */
+  private static int[] ntt(final int[] x, final int xlen, final int[] y, final int ylen, final boolean sig, final int parallelThreshold, final int parallelThresholdZ) {
+    final int zlen = xlen + ylen;
+    final int clen = zlen - 1;
+    final int n = Integer.highestOneBit(clen - 1) << 1;
+    if (n > NTT_MAX_LEN)
+      return toomCook3(BigIntLimbs.HEAP, x, xlen, y, ylen, sig, parallelThreshold, parallelThresholdZ);
+
+    final int[][] r = new int[3][];
+    if (Math.min(xlen, ylen) > parallelThreshold && zlen > parallelThresholdZ) {
+      invokeAll(
+        () -> r[0] = nttConvolve(x, xlen, y, ylen, n, 0),
+        () -> r[1] = nttConvolve(x, xlen, y, ylen, n, 1),
+        () -> r[2] = nttConvolve(x, xlen, y, ylen, n, 2));
     }
     else {
-      final int fullLen = zlen * 2;
-      if (x.length > fullLen) {
-        z = x;
+      for (int i = 0; i < 3; ++i) // [A]
+        r[i] = nttConvolve(x, xlen, y, ylen, n, i);
+    }
 
-        if (len < NATIVE_THRESHOLD)
-          javaSquareKaratsuba(x, len, x, fullLen, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-        else
-          nativeSquareKaratsuba(x, len, x, fullLen, x.length, true, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+    // Garner's CRT recombination: c = a0 + m0 * a1 + m0 * m1 * a2
+    final long m0 = NTT_PRIMES[0], m1 = NTT_PRIMES[1], m2 = NTT_PRIMES[2];
+    final int[] r0 = r[0], r1 = r[1], r2 = r[2];
+    final int[] z = alloc(zlen + OFF);
+    long carry = 0, a0, a1, a2, c01, lo, s;
+    for (int i = 0; i < clen; ++i) { // [A]
+      a0 = r0[i];
+      a1 = (r1[i] - a0 % m1 + m1) * NTT_INV01 % m1;
+      c01 = a0 + m0 * a1;
+      a2 = (r2[i] - c01 % m2 + m2) % m2 * NTT_INV012 % m2;
+
+      lo = NTT_M01_LO * a2;
+      s = (c01 & LONG_MASK) + (lo & LONG_MASK) + (carry & LONG_MASK);
+      z[i + OFF] = (int)s;
+      carry = (s >>> 32) + (c01 >>> 32) + (lo >>> 32) + NTT_M01_HI * a2 + (carry >>> 32);
+    }
+
+    z[zlen] = (int)carry;
+    free(r0, r1, r2);
+
+    int len = zlen;
+    for (; z[len] == 0 && len > 0; --len);
+    z[0] = sig ? len : -len;
+    // _debugLenSig(z);
+    return z;
+  }
+
+  /**
+   * Returns the cyclic convolution of length {@code n} of the magnitudes of the provided {@linkplain BigInt#val() value-encoded
+   * numbers} modulo the prime at index {@code i} in {@link #NTT_PRIMES}.
+   *
+   * @param x The first {@linkplain BigInt#val() value-encoded number}.
+   * @param xlen The number of limbs in {@code x}.
+   * @param y The second {@linkplain BigInt#val() value-encoded number}.
+   * @param ylen The number of limbs in {@code y}.
+   * @param n The length of the transform (a power of 2).
+   * @param i The index of the prime in {@link #NTT_PRIMES}.
+   * @return The cyclic convolution of length {@code n} of the magnitudes modulo the prime at index {@code i}.
+   */
+  private static int[] nttConvolve(final int[] x, final int xlen, final int[] y, final int ylen, final int n, final int i) {
+    final int p = NTT_PRIMES[i], pinv = NTT_PINV[i];
+    final long r = NTT_R[i];
+
+    // Twiddle factors in Montgomery form: w[k] = root^k, iw[k] = root^-k
+    final int h = n >> 1;
+    final int[] w = alloc(h), iw = alloc(h);
+    final long root = powMod(3, (p - 1) / n, p);
+    final int wm = (int)(root * r % p), iwm = (int)(powMod(root, p - 2, p) * r % p);
+    w[0] = iw[0] = (int)r;
+    for (int k = 1; k < h; ++k) { // [A]
+      w[k] = montMul(w[k - 1], wm, p, pinv);
+      iw[k] = montMul(iw[k - 1], iwm, p, pinv);
+    }
+
+    final int[] a = nttResidues(x, xlen, n, p);
+    nttForward(a, n, w, p, pinv);
+    final int[] b;
+    if (x == y) {
+      b = a;
+    }
+    else {
+      b = nttResidues(y, ylen, n, p);
+      nttForward(b, n, w, p, pinv);
+    }
+
+    // Scale by n^-1 * R^2, to undo the transform length and the R^-1 of the pointwise Montgomery product
+    final int scale = (int)(powMod(n, p - 2, p) * r % p * r % p);
+    for (int k = 0; k < n; ++k) // [A]
+      a[k] = montMul(montMul(a[k], b[k], p, pinv), scale, p, pinv);
+
+    nttInverse(a, n, iw, p, pinv);
+    free(w, iw, b == a ? null : b);
+    return a;
+  }
+
+  private static int[] nttResidues(final int[] val, final int len, final int n, final int p) {
+    final int[] a = alloc(n);
+    for (int i = 0; i < len; ++i) // [A]
+      a[i] = (int)((val[i + OFF] & LONG_MASK) % p);
+
+    return a;
+  }
+
+  /**
+   * Decimation-in-frequency forward transform (Gentleman-Sande), producing the output in bit-reversed order.
+   */
+  private static void nttForward(final int[] a, final int n, final int[] w, final int p, final int pinv) {
+    for (int len = n >> 1, s = 1; len > 0; len >>= 1, s <<= 1) { // [N]
+      for (int i = 0; i < n; i += len << 1) { // [N]
+        for (int j = i, j$ = i + len, k = 0; j < j$; ++j, k += s) { // [A]
+          final int u = a[j], v = a[j + len];
+          final int t = u + v - p;
+          a[j] = t < 0 ? t + p : t;
+          final int d = u - v;
+          a[j + len] = montMul(d < 0 ? d + p : d, w[k], p, pinv);
+        }
       }
-      else {
-        z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
-        // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
-        if (len < NATIVE_THRESHOLD)
-          javaSquareKaratsuba(x, len, z, zlen, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
-        else
-          nativeSquareKaratsuba(x, len, z, zlen, z.length, false, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+    }
+  }
+
+  /**
+   * Decimation-in-time inverse transform (Cooley-Tukey), consuming the input in bit-reversed order, without the scaling by
+   * {@code n^-1}.
+   */
+  private static void nttInverse(final int[] a, final int n, final int[] iw, final int p, final int pinv) {
+    for (int len = 1, s = n >> 1; len < n; len <<= 1, s >>= 1) { // [N]
+      for (int i = 0; i < n; i += len << 1) { // [N]
+        for (int j = i, j$ = i + len, k = 0; j < j$; ++j, k += s) { // [A]
+          final int u = a[j], v = montMul(a[j + len], iw[k], p, pinv);
+          final int t = u + v - p;
+          a[j] = t < 0 ? t + p : t;
+          final int d = u - v;
+          a[j + len] = d < 0 ? d + p : d;
+        }
       }
     }
+  }
+
+  /**
+   * Returns the Montgomery product {@code a * b * 2^-32 mod p}, for {@code 0 <= a, b < p < 2^30}.
+   */
+  private static int montMul(final int a, final int b, final int p, final int pinv) {
+    final long t = (long)a * b;
+    final long u = (t + ((int)t * pinv & LONG_MASK) * p) >>> 32;
+    return (int)(u >= p ? u - p : u);
+  }
+
+  static int[] square(final int[] x, final int len) {
+    return square(x, len, PARALLEL_KARATSUBA_THRESHOLD_X, PARALLEL_KARATSUBA_THRESHOLD_Z);
+  }
+
+  private static int[] square(final int[] x, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    if (len >= NTT_SQUARE_THRESHOLD)
+      return ntt(x, len, x, len, true, parallelThreshold, parallelThresholdZ);
+
+    if (len >= TOOM_COOK_SQUARE_THRESHOLD)
+      return toomCook3(BigIntLimbs.HEAP, x, len, x, len, true, parallelThreshold, parallelThresholdZ);
+
+    return len < KARATSUBA_SQUARE_THRESHOLD ? squareQuad(x, len) : squareKaratsuba(x, len, parallelThreshold, parallelThresholdZ);
+  }
+
+  private static int[] squareQuad(final int[] x, final int len) {
+    final int[] z;
+    int zlen = len * 2;
+    final int xoff;
+    if (x.length >= len + zlen + OFF) {
+      xoff = zlen + OFF;
+      System.arraycopy(x, OFF, x, xoff, len);
+      z = x;
+    }
+    else {
+      xoff = OFF;
+      z = alloc(zlen + xoff);
+    }
+
+    if (len < NATIVE_THRESHOLD)
+      javaSquareQuad(x, xoff, len, z, OFF, zlen);
+    else if (FOREIGN)
+      NativeForeign.squareQuad(x, xoff, len, z, OFF, zlen);
+    else
+      nativeSquareQuad(x, xoff, len, z, OFF, zlen);
+
+    for (; z[zlen] == 0 && zlen > 0; --zlen);
+    z[0] = zlen;
+
+    // _debugLenSig(z);
+    return z;
+  }
+
+  private static int[] squareKaratsuba(final int[] x, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    final int[] z;
+    int zlen = len * 2;
+    final int fullLen = zlen * 2;
+    if (x.length > fullLen) {
+      z = x;
+
+      if (len < NATIVE_THRESHOLD)
+        javaSquareKaratsuba(x, len, x, fullLen, x.length, true, parallelThreshold, parallelThresholdZ);
+      else if (FOREIGN)
+        NativeForeign.squareKaratsuba(x, len, x, fullLen, x.length, true, parallelThreshold, parallelThresholdZ);
+      else
+        nativeSquareKaratsuba(x, len, x, fullLen, x.length, true, parallelThreshold, parallelThresholdZ);
+    }
+    else {
+      z = alloc(OFF + zlen * 2); // (OFF + zlen) is all that's needed, but increase to potentially reuse the original array
+      // z = alloc((OFF + zlen) * ((int)(1 + 10 * Math.random()))); // FIXME: Remove this!
+      if (len < NATIVE_THRESHOLD)
+        javaSquareKaratsuba(x, len, z, zlen, OFF + zlen * 2, false, parallelThreshold, parallelThresholdZ);
+      else if (FOREIGN)
+        NativeForeign.squareKaratsuba(x, len, z, zlen, OFF + zlen * 2, false, parallelThreshold, parallelThresholdZ);
+      else
+        nativeSquareKaratsuba(x, len, z, zlen, OFF + zlen * 2, false, parallelThreshold, parallelThresholdZ);
+    }
 
     for (; z[zlen] == 0 && zlen > 0; --zlen);
     z[0] = zlen;
@@ -959,19 +1610,22 @@ abstract class BigIntMultiplication extends BigIntAddition {
 
   private static native void nativeSquareKaratsuba(int[] x, int len, int[] z, int zlen, int zlength, boolean yCopy, int parallelThreshold, int parallelThresholdZ);
 
-  private static void javaSquareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
+  private static void javaSquareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final int zlength, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
     final int[] y;
     if (yCopy) {
       // "In place" computation for (mag) requires a copy for `y`, otherwise // [A]
       // we're reading and writing from the same array for `x` `y` and `z` // [A]
-      y = new int[len + OFF];
+      y = alloc(len + OFF);
       System.arraycopy(x, 0, y, 0, len + OFF);
     }
     else {
       y = x;
     }
 
-    javaKaratsuba(x, OFF, y, OFF, z, OFF, zlen, 0, len, parallelThreshold, parallelThresholdZ);
+    // Both operands are read from `y`, so that the recursion recognizes the square // [A]
+    javaKaratsuba(y, OFF, y, OFF, z, OFF, zlen, zlength, 0, len, parallelThreshold, parallelThresholdZ);
+    if (yCopy)
+      free(y);
   }
 
   private static native void nativeSquareQuad(int[] x, int xoff, int xlen, int[] z, int zoff, int zlen);
@@ -979,7 +1633,14 @@ abstract class BigIntMultiplication extends BigIntAddition {
   /**
    * The algorithm used here is adapted from Colin Plumb's C library.
    */
-  private static void javaSquareQuad(final int[] x, final int xoff, int xlen, final int[] z, final int zoff, int zlen) {
+  private static void javaSquareQuad(final int[] x, final int xoff, final int xlen, final int[] z, final int zoff, final int zlen) {
+    if (xlen < VECTOR_SQUARE_THRESHOLD)
+      scalarSquareQuad(x, xoff, xlen, z, zoff, zlen);
+    else
+      BigIntVector.square(x, xoff, xlen, z, zoff);
+  }
+
+  private static void scalarSquareQuad(final int[] x, final int xoff, int xlen, final int[] z, final int zoff, int zlen) {
     int i, j, k, off;
     long x0 = 0;
 
@@ -0,0 +1,418 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.libj.math.BigIntValue.*;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Probabilistic primality testing on {@linkplain BigInt#val() value-encoded numbers}.
+ * <p>
+ * A candidate is first trial divided by the odd primes below {@link #TRIAL_DIVISION_LIMIT}, which are grouped into products that
+ * fit in an {@code int}, so that a single pass of {@link BigIntDivision#rem(int[],int,int,int)} over the magnitude serves several
+ * primes. The survivors are tested with Baillie–PSW: a strong probable prime test to base 2, and a strong Lucas probable prime test
+ * with the parameters of Selfridge's method A. No composite is known to pass Baillie–PSW, and there is none below {@code 2^64}. For
+ * longer numbers, additional Miller–Rabin rounds with random bases are run as per the requested certainty.
+ * <p>
+ * The Miller–Rabin rounds and the Lucas test are independent, and can be run in parallel on a supplied {@link Executor}.
+ *
+ * @see <a href="https://doi.org/10.1090/S0025-5718-1980-0583518-6">Baillie, Wagstaff: Lucas Pseudoprimes</a>
+ */
+final class BigIntPrime {
+  /** The certainty with which {@link #nextProbablePrime(int[])} tests the candidates. */
+  static final int DEFAULT_PRIME_CERTAINTY = 100;
+
+  /** The exclusive upper bound of the primes for trial division. */
+  static final int TRIAL_DIVISION_LIMIT = 1024;
+
+  /** The exclusive upper bound of the primes with which {@link #nextProbablePrime(int[])} sieves the candidates. */
+  static final int SIEVE_LIMIT = 1 << 16;
+
+  /** The odd primes below {@link #SIEVE_LIMIT}. */
+  private static final int[] SMALL_PRIMES;
+
+  /** The products of consecutive runs of {@link #SMALL_PRIMES} that fit in an {@code int}. */
+  private static final int[] SMALL_PRIME_PRODUCTS;
+
+  /** The index in {@link #SMALL_PRIMES} of the first prime of each product in {@link #SMALL_PRIME_PRODUCTS}. */
+  private static final int[] SMALL_PRIME_PRODUCT_INDEX;
+
+  /** The number of products in {@link #SMALL_PRIME_PRODUCTS} that cover the primes below {@link #TRIAL_DIVISION_LIMIT}. */
+  private static final int TRIAL_DIVISION_PRODUCTS;
+
+  static {
+    final boolean[] composite = new boolean[SIEVE_LIMIT];
+    int count = 0;
+    for (int i = 3; i < SIEVE_LIMIT; i += 2) { // [N]
+      if (!composite[i]) {
+        ++count;
+        for (int j = i <= SIEVE_LIMIT / i ? i * i : SIEVE_LIMIT; j < SIEVE_LIMIT; j += 2 * i) // [N]
+          composite[j] = true;
+      }
+    }
+
+    SMALL_PRIMES = new int[count];
+    for (int i = 3, j = 0; i < SIEVE_LIMIT; i += 2) // [N]
+      if (!composite[i])
+        SMALL_PRIMES[j++] = i;
+
+    final int[] products = new int[count];
+    final int[] index = new int[count + 1];
+    int n = 0, trial = 0;
+    for (int i = 0; i < count; ++n) { // [N]
+      index[n] = i;
+      if (SMALL_PRIMES[i] < TRIAL_DIVISION_LIMIT)
+        trial = n + 1;
+
+      long product = SMALL_PRIMES[i++];
+      for (; i < count && product * SMALL_PRIMES[i] <= Integer.MAX_VALUE; product *= SMALL_PRIMES[i++]); // [N]
+      products[n] = (int)product;
+    }
+
+    index[n] = count;
+    SMALL_PRIME_PRODUCTS = new int[n];
+    System.arraycopy(products, 0, SMALL_PRIME_PRODUCTS, 0, n);
+    SMALL_PRIME_PRODUCT_INDEX = new int[n + 1];
+    System.arraycopy(index, 0, SMALL_PRIME_PRODUCT_INDEX, 0, n + 1);
+    TRIAL_DIVISION_PRODUCTS = trial;
+  }
+
+  private static int[] copy(final int[] val) {
+    final int len = Math.abs(val[0]) + OFF;
+    return BigIntValue.copyInPlace(val, len, BigIntValue.alloc(len));
+  }
+
+  /**
+   * Returns the number of Miller–Rabin rounds with random bases for the requested certainty, which are run in addition to
+   * Baillie–PSW, as per the error bounds of Damgård, Landrock and Pomerance for numbers of {@code bits} bits.
+   */
+  private static int rounds(final long bits, final int certainty) {
+    final int rounds = bits <= 64 ? 0 : bits < 100 ? 50 : bits < 256 ? 27 : bits < 512 ? 15 : bits < 768 ? 8 : bits < 1024 ? 4 : 2;
+    return Math.min(rounds, (int)Math.min(Integer.MAX_VALUE, (certainty + 1L) / 2));
+  }
+
+  /**
+   * Returns {@code 0} if the provided <i>odd</i> magnitude of {@code len} limbs is divisible by a small prime other than itself,
+   * {@code 1} if it is itself a small prime, or is less than the square of {@link #TRIAL_DIVISION_LIMIT} and has no small prime
+   * factor, and {@code -1} otherwise.
+   */
+  private static int trialDivision(final int[] val, final int len) {
+    if (len == 1 && val[1] > 0 && val[1] < TRIAL_DIVISION_LIMIT) {
+      final int v = val[1];
+      for (final int p : SMALL_PRIMES) // [A]
+        if (p == v)
+          return 1;
+        else if (v % p == 0)
+          return 0;
+
+      return 1;
+    }
+
+    for (int i = 0; i < TRIAL_DIVISION_PRODUCTS; ++i) { // [A]
+      final int r = BigIntDivision.rem(val, OFF, len, SMALL_PRIME_PRODUCTS[i]);
+      for (int j = SMALL_PRIME_PRODUCT_INDEX[i], j$ = SMALL_PRIME_PRODUCT_INDEX[i + 1]; j < j$; ++j) // [A]
+        if (r % SMALL_PRIMES[j] == 0)
+          return len == 1 && val[1] == SMALL_PRIMES[j] ? 1 : 0;
+    }
+
+    return len == 1 && val[1] > 0 && val[1] < TRIAL_DIVISION_LIMIT * TRIAL_DIVISION_LIMIT ? 1 : -1;
+  }
+
+  /**
+   * Returns whether the <i>odd</i> {@linkplain BigInt#val() value-encoded number} {@code n > 3} is a strong probable prime to the
+   * provided base in {@code [2, n - 2]}.
+   */
+  static boolean millerRabin(final int[] n, final int[] base) {
+    final int[] n1 = BigInt.sub(copy(n), 1);
+    final int s = BigIntValue.getLowestSetBit(n1);
+    final int[] d = BigInt.shiftRight(copy(n1), s);
+    int[] x = BigIntMath.modPow(copy(base), d, n);
+    if (x[0] == 1 && x[1] == 1 || BigIntValue.compareTo(x, n1) == 0)
+      return true;
+
+    for (int r = 1; r < s; ++r) { // [N]
+      x = BigInt.mod(BigInt.mul(x, x), n);
+      if (BigIntValue.compareTo(x, n1) == 0)
+        return true;
+
+      if (x[0] == 1 && x[1] == 1)
+        return false;
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the Jacobi symbol {@code (a / b)} for an <i>odd positive</i> {@code b}.
+   */
+  private static int jacobi(int a, int b) {
+    int j = 1;
+    a %= b;
+    if (a < 0)
+      a += b;
+
+    for (int t; a != 0;) { // [N]
+      for (; (a & 1) == 0; a >>= 1) // [N]
+        if ((b & 7) == 3 || (b & 7) == 5)
+          j = -j;
+
+      t = a; a = b; b = t;
+      if ((a & 3) == 3 && (b & 3) == 3)
+        j = -j;
+
+      a %= b;
+    }
+
+    return b == 1 ? j : 0;
+  }
+
+  /**
+   * Returns the Jacobi symbol {@code (d / n)} for an <i>odd positive</i> {@linkplain BigInt#val() value-encoded number} {@code n}.
+   */
+  private static int jacobi(int d, final int[] n) {
+    final int low = n[1];
+    int j = 1;
+    if (d < 0) {
+      d = -d;
+      if ((low & 3) == 3)
+        j = -j;
+    }
+
+    for (; (d & 1) == 0; d >>= 1) // [N]
+      if ((low & 7) == 3 || (low & 7) == 5)
+        j = -j;
+
+    if (d == 1)
+      return j;
+
+    // Quadratic reciprocity: (d / n) = (n / d), unless both are 3 mod 4
+    if ((d & 3) == 3 && (low & 3) == 3)
+      j = -j;
+
+    return j * jacobi(BigIntDivision.rem(n, OFF, n[0], d), d);
+  }
+
+  /** Returns whether the <i>positive</i> {@linkplain BigInt#val() value-encoded number} {@code n} is a perfect square. */
+  private static boolean isSquare(final int[] n) {
+    final int[] r = BigIntMath.sqrt(copy(n), RoundingMode.FLOOR);
+    return BigIntValue.compareTo(BigInt.mul(r, r), n) == 0;
+  }
+
+  /** Sets {@code x = x / 2 mod n} for {@code x} in {@code [0, n)}. */
+  private static int[] half(int[] x, final int[] n) {
+    if (x[0] != 0 && (x[1] & 1) != 0)
+      x = BigInt.add(x, n);
+
+    return BigInt.shiftRight(x, 1);
+  }
+
+  /**
+   * Returns whether the <i>odd</i> {@linkplain BigInt#val() value-encoded number} {@code n}, which is not a small prime, is a strong
+   * Lucas probable prime with the parameters {@code P = 1} and {@code Q = (1 - D) / 4} of Selfridge's method A, where {@code D} is
+   * the first of {@code 5, -7, 9, -11, ...} with {@code (D / n) = -1}.
+   */
+  static boolean strongLucas(final int[] n) {
+    int d = 5;
+    for (int i = 0, j; (j = jacobi(d, n)) != -1; ++i, d = d < 0 ? 2 - d : -2 - d) { // [N]
+      if (j == 0)
+        return false;
+
+      // No such D exists for a perfect square
+      if (i == 8 && isSquare(n))
+        return false;
+    }
+
+    final int q = (1 - d) / 4;
+    final BigIntModulus m = new BigIntModulus(n);
+
+    // n + 1 = k * 2^s, with k odd
+    final int[] n1 = BigInt.add(copy(n), 1);
+    final int s = BigIntValue.getLowestSetBit(n1);
+    final int[] k = BigInt.shiftRight(n1, s);
+
+    int[] u = {1, 1};
+    int[] v = {1, 1};
+    int[] qk = m.reduce(BigInt.assign(BigIntValue.alloc(2), q));
+    final int[] qn = copy(qk);
+    int[] t;
+    for (int i = (int)BigIntValue.bitLength(k) - 2; i >= 0; --i) { // [N]
+      // U_2k = U_k V_k, V_2k = V_k^2 - 2 Q^k
+      u = m.mulMod(u, v);
+      v = m.reduce(BigInt.sub(m.sqrMod(v), BigInt.shiftLeft(copy(qk), 1)));
+      qk = m.sqrMod(qk);
+      if (BigIntBinary.testBit(k, i)) {
+        // U_k+1 = (P U_k + V_k) / 2, V_k+1 = (D U_k + P V_k) / 2
+        t = half(m.reduce(BigInt.add(copy(u), v)), n);
+        v = half(m.reduce(BigInt.add(BigInt.mul(u, d), v)), n);
+        u = t;
+        qk = m.mulMod(qk, qn);
+      }
+    }
+
+    if (u[0] == 0 || v[0] == 0)
+      return true;
+
+    for (int r = 1; r < s; ++r) { // [N]
+      v = m.reduce(BigInt.sub(m.sqrMod(v), BigInt.shiftLeft(copy(qk), 1)));
+      if (v[0] == 0)
+        return true;
+
+      qk = m.sqrMod(qk);
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns a random base in {@code [2, n - 2]} for the <i>positive</i> {@linkplain BigInt#val() value-encoded number}
+   * {@code n > 4}.
+   */
+  private static int[] randomBase(final int[] n) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int len = n[0];
+    final int[] base = BigIntValue.alloc(len + OFF);
+    for (int i = 1; i <= len; ++i) // [A]
+      base[i] = random.nextInt();
+
+    int i = len;
+    for (; i > 0 && base[i] == 0; --i);
+    base[0] = i;
+    return BigInt.add(BigInt.mod(base, BigInt.sub(copy(n), 3)), 2);
+  }
+
+  /**
+   * Returns whether the <i>odd</i> {@linkplain BigInt#val() value-encoded number} {@code n}, which has no small prime factor, passes
+   * Baillie–PSW and the Miller–Rabin rounds with random bases for the provided certainty. If {@code executor} is not null, the tests
+   * are run in parallel on it.
+   */
+  private static boolean passes(final int[] n, final int certainty, final Executor executor) {
+    final int rounds = rounds(BigIntValue.bitLength(n), certainty);
+    final BooleanSupplier[] tests = new BooleanSupplier[2 + rounds];
+    tests[0] = () -> millerRabin(copy(n), new int[] {1, 2});
+    tests[1] = () -> strongLucas(copy(n));
+    for (int i = 0; i < rounds; ++i) // [N]
+      tests[2 + i] = () -> millerRabin(copy(n), randomBase(n));
+
+    if (executor == null) {
+      for (final BooleanSupplier test : tests) // [A]
+        if (!test.getAsBoolean())
+          return false;
+
+      return true;
+    }
+
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[tests.length];
+    final CompletableFuture<Boolean> composite = new CompletableFuture<>();
+    for (int i = 0; i < tests.length; ++i) { // [A]
+      final BooleanSupplier test = tests[i];
+      futures[i] = CompletableFuture.runAsync(() -> {
+        if (!composite.isDone() && !test.getAsBoolean())
+          composite.complete(Boolean.TRUE);
+      }, executor);
+    }
+
+    // Return as soon as one of the tests finds a witness, or when all of them have passed
+    CompletableFuture.anyOf(composite, CompletableFuture.allOf(futures)).join();
+    return !composite.isDone();
+  }
+
+  /**
+   * Returns whether the absolute value of the provided {@linkplain BigInt#val() value-encoded number} is probably prime.
+   */
+  static boolean isProbablePrime(final int[] val, final int certainty, final Executor executor) {
+    if (certainty <= 0)
+      return true;
+
+    final int len = Math.abs(val[0]);
+    if (len == 0)
+      return false;
+
+    if ((val[1] & 1) == 0)
+      return len == 1 && val[1] == 2;
+
+    if (len == 1 && val[1] == 1)
+      return false;
+
+    final int trial = trialDivision(val, len);
+    if (trial >= 0)
+      return trial == 1;
+
+    final int[] n = copy(val);
+    n[0] = len;
+    return passes(n, certainty, executor);
+  }
+
+  /**
+   * Returns the first probable prime greater than the provided <i>non-negative</i> {@linkplain BigInt#val() value-encoded number}.
+   * The returned number may be {@code val}, or a {@code new int[]} instance.
+   */
+  static int[] nextProbablePrime(int[] val) {
+    if (val[0] < 0)
+      throw new ArithmeticException("start < 0: " + BigInt.toString(val));
+
+    if (val[0] == 0 || val[0] == 1 && val[1] == 1)
+      return BigInt.assign(val, 2);
+
+    // The first odd number greater than val
+    val = BigInt.add(val, (val[1] & 1) == 0 ? 1 : 2);
+    if (val[0] == 1 && val[1] > 0 && val[1] < TRIAL_DIVISION_LIMIT * TRIAL_DIVISION_LIMIT) {
+      for (; trialDivision(val, 1) == 0; val = BigInt.add(val, 2)); // [N]
+      return val;
+    }
+
+    // Sieve a window of odd candidates val + 2i by the small primes, and test the survivors. The sieve is deepened with the length
+    // of the candidates, as the cost of a probable prime test grows faster than the cost of sieving.
+    final int bits = (int)BigIntValue.bitLength(val);
+    final int window = Math.max(64, bits);
+    final int limit = (int)Math.min(SIEVE_LIMIT, 64L * bits);
+    int products = TRIAL_DIVISION_PRODUCTS;
+    for (final int p$ = SMALL_PRIME_PRODUCTS.length; products < p$ && SMALL_PRIMES[SMALL_PRIME_PRODUCT_INDEX[products]] < limit; ++products); // [A]
+
+    final boolean[] composite = new boolean[window];
+    while (true) {
+      Arrays.fill(composite, false);
+      for (int i = 0; i < products; ++i) { // [A]
+        final int r = BigIntDivision.rem(val, OFF, val[0], SMALL_PRIME_PRODUCTS[i]);
+        for (int j = SMALL_PRIME_PRODUCT_INDEX[i], j$ = SMALL_PRIME_PRODUCT_INDEX[i + 1]; j < j$; ++j) { // [A]
+          // val + 2i == 0 (mod p) for i == -r / 2 == (p - r) * (p + 1) / 2 (mod p)
+          final int p = SMALL_PRIMES[j];
+          for (int k = (int)((long)((p - r % p) % p) * ((p + 1) / 2) % p); k < window; k += p) // [N]
+            composite[k] = true;
+        }
+      }
+
+      for (int i = 0; i < window; ++i) { // [N]
+        if (!composite[i]) {
+          final int[] candidate = BigInt.add(copy(val), 2 * i);
+          if (passes(candidate, DEFAULT_PRIME_CERTAINTY, null))
+            return candidate;
+        }
+      }
+
+      val = BigInt.add(val, 2 * window);
+    }
+  }
+
+  private BigIntPrime() {
+  }
+}
@@ -296,4 +296,60 @@ abstract class BigIntPrimitive extends BigIntBinary {
   public static int[] valueOf(final String s) {
     return assign(emptyVal, s);
   }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the provided magnitude as a {@link CharSequence}.
+   *
+   * @param s The magnitude.
+   * @return A new {@linkplain BigInt#val() value-encoded number} with the magnitude of the provided {@link CharSequence}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] valueOf(final CharSequence s) {
+    return assign(emptyVal, s);
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the provided magnitude as a {@link CharSequence} of digits in
+   * the given radix.
+   *
+   * @param s The magnitude.
+   * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+   * @return A new {@linkplain BigInt#val() value-encoded number} with the magnitude of the provided {@link CharSequence}.
+   * @throws NumberFormatException If {@code radix} is out of range, if {@code s} has no digits, or if a char is not a digit of the
+   *           radix.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public static int[] valueOf(final CharSequence s, final int radix) {
+    return assign(emptyVal, s, radix);
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the magnitude in the specified range of a {@code char[]}.
+   *
+   * @param s The {@code char[]} containing the magnitude.
+   * @param off The index of the first char of the magnitude.
+   * @param len The count of chars of the magnitude.
+   * @return A new {@linkplain BigInt#val() value-encoded number} with the magnitude in the specified range of a {@code char[]}.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] valueOf(final char[] s, final int off, final int len) {
+    return assign(emptyVal, s, off, len);
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} with the magnitude as ASCII digits in the specified range of a
+   * {@code byte[]}.
+   *
+   * @param s The {@code byte[]} containing the magnitude as ASCII digits.
+   * @param off The index of the first byte of the magnitude.
+   * @param len The count of bytes of the magnitude.
+   * @return A new {@linkplain BigInt#val() value-encoded number} with the magnitude in the specified range of a {@code byte[]}.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] valueOfAscii(final byte[] s, final int off, final int len) {
+    return assignAscii(emptyVal, s, off, len);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,298 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.Random;
+
+import org.libj.math.BigIntMultiplication.Algorithm;
+
+/**
+ * Tuning profile of the thresholds at which {@link BigInt} switches between its multiplication algorithms.
+ * <p>
+ * The default thresholds were determined experimentally on a particular machine. Since the crossover points between the algorithms
+ * depend on the CPU and the JIT, {@link #calibrate(File)} measures the crossover points on the current machine, and writes them to
+ * a profile file. If the system property {@value #PROFILE_PROPERTY} specifies the path of a profile file, the thresholds in that
+ * file are loaded when {@link BigInt} is initialized. A profile is specific to the {@linkplain NativeMath.Mode mode} in which it
+ * was calibrated, and is ignored in other modes. Thresholds that are absent from the profile retain their default values.
+ * <p>
+ * Calibration is opt-in, and can be run from the command line with:
+ *
+ * <pre>
+ * java -cp libj-math.jar org.libj.math.BigIntProfile &lt;file&gt;
+ * </pre>
+ */
+public final class BigIntProfile {
+  /**
+   * System property specifying the path of the profile file from which thresholds are loaded.
+   */
+  public static final String PROFILE_PROPERTY = "org.libj.math.profile";
+
+  private static final String MODE = "mode";
+  private static final Properties profile = load(System.getProperty(PROFILE_PROPERTY), NativeMath.loadNative());
+
+  /**
+   * Returns the thresholds in the profile file at the provided path, or {@code null} if the path is null, the file does not exist
+   * or cannot be read, or the profile was calibrated in a mode other than the provided mode.
+   *
+   * @param path The path of the profile file.
+   * @param mode The {@linkplain NativeMath.Mode mode} of the current JVM.
+   * @return The thresholds in the profile file at the provided path, or {@code null} if the profile is not applicable.
+   */
+  static Properties load(final String path, final NativeMath.Mode mode) {
+    if (path == null)
+      return null;
+
+    final File file = new File(path);
+    if (!file.exists())
+      return null;
+
+    final Properties properties = new Properties();
+    try (final InputStream in = new FileInputStream(file)) {
+      properties.load(in);
+    }
+    catch (final IOException e) {
+      System.err.println("Unable to load profile " + path + ": " + e.getMessage());
+      return null;
+    }
+
+    if (!mode.name().equals(properties.getProperty(MODE))) {
+      System.err.println("Ignoring profile " + path + " calibrated for mode " + properties.getProperty(MODE) + " in mode " + mode);
+      return null;
+    }
+
+    return properties;
+  }
+
+  /**
+   * Returns the value of the threshold with the provided name in the loaded profile, or {@code defaultValue} if there is no
+   * profile, or the profile does not specify a valid value for the threshold.
+   *
+   * @param name The name of the threshold.
+   * @param defaultValue The value to return if the profile does not specify the threshold.
+   * @return The value of the threshold with the provided name in the loaded profile, or {@code defaultValue} if there is no
+   *         profile, or the profile does not specify a valid value for the threshold.
+   */
+  static int get(final String name, final int defaultValue) {
+    return get(profile, name, defaultValue);
+  }
+
+  static int get(final Properties profile, final String name, final int defaultValue) {
+    final String value = profile == null ? null : profile.getProperty(name);
+    if (value == null)
+      return defaultValue;
+
+    try {
+      final int threshold = Integer.parseInt(value.trim());
+      if (threshold >= 0)
+        return threshold;
+    }
+    catch (final NumberFormatException e) {
+    }
+
+    System.err.println("Ignoring invalid value for " + name + " in profile: " + value);
+    return defaultValue;
+  }
+
+  /**
+   * Returns the value of the threshold with the provided name as per {@link #get(String,int)}, raised to {@code min} if it is less.
+   * The minimum is the smallest length at which the algorithm of the threshold is correct, or the threshold of the preceding tier,
+   * so that a profile cannot break the algorithm, or reorder the tiers.
+   *
+   * @param name The name of the threshold.
+   * @param defaultValue The value to return if the profile does not specify the threshold.
+   * @param min The minimum value of the threshold.
+   * @return The value of the threshold with the provided name as per {@link #get(String,int)}, raised to {@code min} if it is less.
+   */
+  static int get(final String name, final int defaultValue, final int min) {
+    return get(profile, name, defaultValue, min);
+  }
+
+  static int get(final Properties profile, final String name, final int defaultValue, final int min) {
+    final int threshold = get(profile, name, defaultValue);
+    if (threshold >= min)
+      return threshold;
+
+    if (threshold != defaultValue)
+      System.err.println("Raising " + name + " in profile from " + threshold + " to its minimum of " + min);
+
+    return min;
+  }
+
+  /**
+   * Measures the crossover points of the multiplication algorithms on the current machine, and writes the resulting thresholds to
+   * the provided file. The thresholds take effect in JVMs that are subsequently started with the system property
+   * {@value #PROFILE_PROPERTY} set to the path of the file.
+   * <p>
+   * The calibration runs in the current {@linkplain NativeMath.Mode mode}, and takes in the order of a few minutes.
+   *
+   * @param file The file to which to write the profile.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code file} is null.
+   */
+  public static void calibrate(final File file) throws IOException {
+    final NativeMath.Mode mode = NativeMath.loadNative();
+    final Properties properties = new Properties();
+    properties.setProperty(MODE, mode.name());
+
+    if (BigIntVector.ENABLED) {
+      put(properties, "VECTOR_THRESHOLD", crossover(3, 200, false, Algorithm.QUAD_SCALAR, Algorithm.QUAD_VECTOR));
+      put(properties, "VECTOR_SQUARE_THRESHOLD", crossover(3, 400, true, Algorithm.QUAD_SCALAR, Algorithm.QUAD_VECTOR));
+    }
+
+    if (mode == NativeMath.Mode.NATIVE || mode == NativeMath.Mode.FOREIGN)
+      put(properties, "NATIVE_THRESHOLD", crossover(3, 200, false, Algorithm.QUAD_JAVA, Algorithm.QUAD_NATIVE));
+
+    // Each search starts at the crossover of the preceding tier, where the preceding tier is the algorithm that would be engaged
+    final int karatsuba = crossover(33, 4000, false, Algorithm.QUAD, Algorithm.KARATSUBA);
+    put(properties, "KARATSUBA_THRESHOLD_X", karatsuba);
+    put(properties, "KARATSUBA_THRESHOLD_Z", karatsuba == Integer.MAX_VALUE ? karatsuba : karatsuba * 2);
+    final int toomCook = crossover(Math.max(100, Math.min(karatsuba, 8000)), 8000, false, Algorithm.KARATSUBA, Algorithm.TOOM_COOK);
+    put(properties, "TOOM_COOK_THRESHOLD", toomCook);
+    put(properties, "NTT_THRESHOLD", crossover(toomCook == Integer.MAX_VALUE ? 500 : Math.max(500, toomCook), 40000, false, toomCook == Integer.MAX_VALUE ? Algorithm.KARATSUBA : Algorithm.TOOM_COOK, Algorithm.NTT));
+
+    final int karatsubaSquare = crossover(33, 4000, true, Algorithm.QUAD, Algorithm.KARATSUBA);
+    put(properties, "KARATSUBA_SQUARE_THRESHOLD", karatsubaSquare);
+    final int toomCookSquare = crossover(Math.max(100, Math.min(karatsubaSquare, 40000)), 40000, true, Algorithm.KARATSUBA, Algorithm.TOOM_COOK);
+    put(properties, "TOOM_COOK_SQUARE_THRESHOLD", toomCookSquare);
+    put(properties, "NTT_SQUARE_THRESHOLD", crossover(toomCookSquare == Integer.MAX_VALUE ? 500 : Math.max(500, toomCookSquare), 40000, true, toomCookSquare == Integer.MAX_VALUE ? Algorithm.KARATSUBA : Algorithm.TOOM_COOK, Algorithm.NTT));
+
+    if (Runtime.getRuntime().availableProcessors() > 1) {
+      final int parallel = crossover(64, 20000, false, Algorithm.KARATSUBA, Algorithm.PARALLEL_KARATSUBA);
+      if (parallel != Integer.MAX_VALUE) {
+        // Retain the default ratio between the "x" and "z" thresholds
+        final int parallelZ = parallel * 2;
+        put(properties, "PARALLEL_KARATSUBA_THRESHOLD_Z", parallelZ);
+        put(properties, "PARALLEL_KARATSUBA_THRESHOLD_X", (int)((long)parallelZ * BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_X / BigIntMultiplication.PARALLEL_KARATSUBA_THRESHOLD_Z));
+      }
+    }
+
+    try (final OutputStream out = new FileOutputStream(file)) {
+      properties.store(out, "BigInt multiplication thresholds calibrated on " + System.getProperty("os.arch") + " with " + Runtime.getRuntime().availableProcessors() + " processors");
+    }
+  }
+
+  private static void put(final Properties properties, final String name, final int value) {
+    properties.setProperty(name, String.valueOf(value));
+  }
+
+  /**
+   * Returns the smallest length of the multiplicands in the range {@code [from, to]} at which {@code b} is faster than {@code a}
+   * for 2 consecutive measured lengths, or {@link Integer#MAX_VALUE} if {@code b} is not faster than {@code a} in the range. The
+   * lengths are stepped geometrically by a factor of {@code 1.1}.
+   *
+   * @param from The first length to measure.
+   * @param to The last length to measure.
+   * @param square Whether to measure squaring instead of multiplication.
+   * @param a The algorithm for lengths below the crossover.
+   * @param b The algorithm for lengths above the crossover.
+   * @return The smallest length of the multiplicands in the range {@code [from, to]} at which {@code b} is faster than {@code a}.
+   */
+  private static int crossover(final int from, final int to, final boolean square, final Algorithm a, final Algorithm b) {
+    final Random random = new Random(from);
+    warmUp(random, from, square, a);
+    warmUp(random, from, square, b);
+    int first = -1;
+    for (int len = from; len <= to; len = Math.max(len + 1, (int)(len * 1.1))) { // [N]
+      final int[] x = randomVal(random, len);
+      final int[] y = square ? x : randomVal(random, len);
+      if (time(x, y, b) < time(x, y, a)) {
+        if (first != -1)
+          return first;
+
+        first = len;
+      }
+      else {
+        first = -1;
+      }
+    }
+
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Executes the provided algorithm repeatedly for ~500ms, so that it is compiled by the JIT before it is measured.
+   */
+  private static void warmUp(final Random random, final int len, final boolean square, final Algorithm algorithm) {
+    final int[] x = randomVal(random, len);
+    final int[] y = square ? x : randomVal(random, len);
+    for (final long end = System.nanoTime() + 500000000; System.nanoTime() < end;) { // [N]
+      final int[] copy = x.clone();
+      BigIntMultiplication.mul(copy, square ? copy : y, algorithm);
+    }
+  }
+
+  private static int[] randomVal(final Random random, final int len) {
+    final int[] val = new int[len + 1];
+    val[0] = len;
+    for (int i = 1; i <= len; ++i) // [A]
+      val[i] = random.nextInt();
+
+    val[len] |= 1;
+    return val;
+  }
+
+  /**
+   * Returns the best time of 5 samples in nanoseconds per multiplication of {@code x} and {@code y} with the provided algorithm.
+   */
+  private static long time(final int[] x, final int[] y, final Algorithm algorithm) {
+    final boolean square = x == y;
+    int iterations = 1;
+    long best = Long.MAX_VALUE;
+    for (int sample = -2; sample < 5; ++sample) { // [N]
+      final long ts = System.nanoTime();
+      for (int i = 0; i < iterations; ++i) { // [N]
+        final int[] copy = x.clone();
+        BigIntMultiplication.mul(copy, square ? copy : y, algorithm);
+      }
+
+      final long time = System.nanoTime() - ts;
+      if (sample >= 0)
+        best = Math.min(best, time / iterations);
+
+      // Scale the number of iterations to ~2ms per sample
+      if (time < 2000000)
+        iterations = (int)Math.min(1 << 20, iterations * Math.max(2, 2000000 / Math.max(1, time)));
+    }
+
+    return best;
+  }
+
+  /**
+   * Calibrates the multiplication thresholds on the current machine, and writes them to the file specified in the first argument.
+   *
+   * @param args The arguments, of which the first specifies the path of the profile file to write.
+   * @throws IOException If an I/O error has occurred.
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: BigIntProfile <file>");
+      System.exit(1);
+    }
+
+    calibrate(new File(args[0]));
+  }
+
+  private BigIntProfile() {
+  }
+}
@@ -29,19 +29,24 @@
 
 package org.libj.math;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.libj.lang.Numbers;
 
 abstract class BigIntValue extends Number {
   static final int NATIVE_THRESHOLD;
+  static final boolean FOREIGN;
 
   static {
     final NativeMath.Mode mode = NativeMath.loadNative();
+    FOREIGN = mode == NativeMath.Mode.FOREIGN;
     if (mode == NativeMath.Mode.JAVA)
       NATIVE_THRESHOLD = Integer.MAX_VALUE;
-    else if (mode == NativeMath.Mode.NATIVE)
-      NATIVE_THRESHOLD = 15;
+    else if (mode == NativeMath.Mode.NATIVE || mode == NativeMath.Mode.FOREIGN)
+      NATIVE_THRESHOLD = BigIntProfile.get("NATIVE_THRESHOLD", 15); // FOREIGN retains the JNI threshold until it is measured
     else if (mode == NativeMath.Mode.CRITICAL)
       NATIVE_THRESHOLD = 0;
     else
@@ -58,25 +63,6 @@ abstract class BigIntValue extends Number {
   static final int[] emptyVal = {};
   static final int OFF = 1;
 
-  static final LocalArray threadLocal = new LocalArray();
-
-  static final class LocalArray extends ThreadLocal<int[]> {
-    private static final int INITIAL_SIZE = 17;
-
-    @Override
-    protected final int[] initialValue() {
-      return new int[INITIAL_SIZE];
-    }
-
-    int[] get(final int len) {
-      int[] array = super.get();
-      if (array.length < len)
-        set(array = new int[len]);
-
-      return array;
-    }
-  }
-
   /**
    * Creates a new {@code int[]} with length that is at least {@code len}.
    * <p>
@@ -88,7 +74,92 @@ abstract class BigIntValue extends Number {
    */
   static int[] alloc(final int len) {
     // System.err.println("alloc");
-    return new int[32 + len];
+    final BigIntAllocator allocator = allocator();
+    return allocator == null ? new int[32 + len] : allocator.alloc(32 + len);
+  }
+
+  /**
+   * Returns the provided {@code int[]}, which must no longer be referenced, to the allocator of the current thread.
+   *
+   * @param array The {@code int[]} to free.
+   */
+  static void free(final int[] array) {
+    final BigIntAllocator allocator = allocator();
+    if (allocator != null)
+      allocator.free(array);
+  }
+
+  /**
+   * Returns the provided {@code int[]}s, which must no longer be referenced, to the allocator of the current thread. An array that
+   * is provided more than once, as happens when an operation computes its result in the space of its operand, is freed only once.
+   *
+   * @param arrays The {@code int[]}s to free, of which any may be {@code null}.
+   */
+  static void free(final int[]... arrays) {
+    final BigIntAllocator allocator = allocator();
+    if (allocator == null)
+      return;
+
+    for (int i = 0; i < arrays.length; ++i) { // [A]
+      final int[] array = arrays[i];
+      if (array == null)
+        continue;
+
+      int j = 0;
+      for (; j < i && arrays[j] != array; ++j);
+      if (j == i)
+        allocator.free(array);
+    }
+  }
+
+  /**
+   * Returns a copy of the provided {@linkplain BigInt#val() value-encoded number} in a new {@code int[]} of exact length on the heap.
+   * Values that are retained in static caches must be copied with this method, because arrays from an allocator may be recycled.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return A copy of the provided {@linkplain BigInt#val() value-encoded number} on the heap.
+   * @complexity O(n)
+   */
+  static int[] heapCopy(final int[] val) {
+    return Arrays.copyOf(val, Math.abs(val[0]) + 1);
+  }
+
+  /**
+   * The global allocator, or {@code null} for {@link BigIntAllocator#HEAP}.
+   */
+  private static volatile BigIntAllocator allocator;
+
+  /**
+   * Returns the allocator of the current thread, which is its innermost open {@link BigIntAllocator.Arena}, or otherwise the global
+   * allocator, or {@code null} if the global allocator is {@link BigIntAllocator#HEAP}.
+   */
+  private static BigIntAllocator allocator() {
+    if (!BigIntAllocator.Arena.opened)
+      return allocator;
+
+    final BigIntAllocator.Arena arena = BigIntAllocator.Arena.current.get();
+    return arena != null ? arena : allocator;
+  }
+
+  /**
+   * Returns the global {@link BigIntAllocator}, which allocates the arrays of {@linkplain BigInt#val() value-encoded numbers} in
+   * threads in which no {@link BigIntAllocator.Arena} is open.
+   *
+   * @return The global {@link BigIntAllocator}.
+   */
+  public static BigIntAllocator getAllocator() {
+    final BigIntAllocator allocator = BigIntValue.allocator;
+    return allocator == null ? BigIntAllocator.HEAP : allocator;
+  }
+
+  /**
+   * Sets the global {@link BigIntAllocator}, which allocates the arrays of {@linkplain BigInt#val() value-encoded numbers} in threads
+   * in which no {@link BigIntAllocator.Arena} is open.
+   *
+   * @param allocator The {@link BigIntAllocator}, or {@code null} for {@link BigIntAllocator#HEAP}.
+   */
+  public static void setAllocator(final BigIntAllocator allocator) {
+    BigIntValue.allocator = allocator == BigIntAllocator.HEAP ? null : allocator;
   }
 
   /**
@@ -103,7 +174,7 @@ abstract class BigIntValue extends Number {
    * @complexity O(n)
    */
   static int[] realloc(final int[] array, final int len, final int newLen) {
-    final int[] v = new int[32 + newLen];
+    final int[] v = alloc(newLen);
     System.arraycopy(array, 0, v, 0, len);
     return v;
   }
@@ -568,6 +639,25 @@ abstract class BigIntValue extends Number {
     return val;
   }
 
+  /**
+   * The threshold value for using recursive decimal parsing. If the number of ints required for the magnitude of a parsed number is
+   * greater than or equal to this number, then its digits are split into a high and a low part, which are parsed recursively and
+   * combined as <code>high * 10<sup>2<sup>k</sup></sup> + low</code> with fast multiplication. This value is found experimentally to
+   * work well.
+   */
+  static final int PARSE_THRESHOLD = BigIntProfile.get("PARSE_THRESHOLD", 400, 3);
+
+  /**
+   * Returns the count of ints to be allocated for the magnitude of a number of the provided count of digits in the given radix, plus
+   * one for the length.
+   */
+  private static int allocDigits(final int digits, final int radix) {
+    if (radix == 10) // 3402 = bits per digit * 1024
+      return (digits < 10 ? 1 : (int)(digits * 3402L >>> 10) + 32 >>> 5) + 1;
+
+    return Math.max(1, (int)(digits * bitsPerDigit[radix]) + 32 >>> 5) + 1;
+  }
+
   /**
    * Assigns the specified number as a {@code char[]} to the provided {@linkplain BigInt#val() value-encoded <code>int[]</code>}.
    *
@@ -580,39 +670,60 @@ abstract class BigIntValue extends Number {
    * @param s The number as a {@code char[]}.
    * @return The result of assigning the specified number as a {@code char[]} to the provided {@linkplain BigInt#val() value-encoded
    *         <code>int[]</code>}.
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
-  public static int[] assign(int[] val, final char[] s) {
-    final int sig = s[0] == '-' ? -1 : 1;
-
-    final int length = s.length;
-    final int from = sig - 1 >> 1;
-    final int len = length + from;
-    // 3402 = bits per digit * 1024
-    final int alloc = (len < 10 ? 1 : (int)(len * 3402L >>> 10) + 32 >>> 5) + 1;
-    if (alloc > val.length)
-      val = alloc(alloc);
-
-    int j = len % 9;
-    if (j == 0)
-      j = 9;
+  public static int[] assign(final int[] val, final char[] s) {
+    return assign0(val, s, 0, s.length);
+  }
 
-    j -= from;
+  /**
+   * Assigns the number in the specified range of a {@code char[]} to the provided {@linkplain BigInt#val() value-encoded
+   * <code>int[]</code>}.
+   *
+   * <pre>
+   * val = s[off, off + len)
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param s The {@code char[]} containing the number.
+   * @param off The index of the first char of the number.
+   * @param len The count of chars of the number.
+   * @return The result of assigning the number in the specified range of a {@code char[]} to the provided {@linkplain BigInt#val()
+   *         value-encoded <code>int[]</code>}.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] assign(final int[] val, final char[] s, final int off, final int len) {
+    if (off < 0 || len < 0 || off + len > s.length)
+      throw new ArrayIndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + s.length);
 
-    if ((val[1] = parse(s, -from, j)) != 0) {
-      int toIndex = 2;
-      while (j < length)
-        toIndex = mulAdd(val, 1, toIndex, 1_000_000_000, parse(s, j, j += 9));
+    return assign0(val, s, off, len);
+  }
 
-      --toIndex;
-      val[0] = sig < 0 ? -toIndex : toIndex;
-    }
-    else {
-      val[0] = 0;
-    }
+  /**
+   * Assigns the number as ASCII digits in the specified range of a {@code byte[]} to the provided {@linkplain BigInt#val()
+   * value-encoded <code>int[]</code>}, so that numbers can be parsed directly from I/O buffers.
+   *
+   * <pre>
+   * val = s[off, off + len)
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param s The {@code byte[]} containing the number as ASCII digits.
+   * @param off The index of the first byte of the number.
+   * @param len The count of bytes of the number.
+   * @return The result of assigning the number in the specified range of a {@code byte[]} to the provided {@linkplain BigInt#val()
+   *         value-encoded <code>int[]</code>}.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is out of the bounds of {@code s}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] assignAscii(final int[] val, final byte[] s, final int off, final int len) {
+    if (off < 0 || len < 0 || off + len > s.length)
+      throw new ArrayIndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + s.length);
 
-    // _debugLenSig(val);
-    return val;
+    return assign0(val, s, off, len);
   }
 
   /**
@@ -627,41 +738,253 @@ abstract class BigIntValue extends Number {
    * @param s The number as a string.
    * @return The result of assigning the specified number as a string to the provided {@linkplain BigInt#val() value-encoded
    *         <code>int[]</code>}.
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int[] assign(final int[] val, final String s) {
+    return assign0(val, s, 0, s.length());
+  }
+
+  /**
+   * Assigns the specified number as a {@link CharSequence} to the provided {@linkplain BigInt#val() value-encoded
+   * <code>int[]</code>}.
+   *
+   * <pre>
+   * val = s
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param s The number as a {@link CharSequence}.
+   * @return The result of assigning the specified number as a {@link CharSequence} to the provided {@linkplain BigInt#val()
+   *         value-encoded <code>int[]</code>}.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
-  public static int[] assign(int[] val, final String s) {
-    final int sig = s.charAt(0) == '-' ? -1 : 1;
+  public static int[] assign(final int[] val, final CharSequence s) {
+    return assign0(val, s, 0, s.length());
+  }
+
+  /**
+   * Assigns the specified number as a {@link CharSequence} of digits in the provided radix, with an optional leading minus sign, to
+   * the provided {@linkplain BigInt#val() value-encoded <code>int[]</code>}. The digits of radixes above 10 are the letters
+   * {@code a-z} or {@code A-Z}.
+   * <p>
+   * Numbers in a power of two radix are parsed by packing their bits in linear time. Numbers in other radixes are parsed as per
+   * {@link #assign(int[],CharSequence)}, by recursive splitting for large numbers.
+   *
+   * <pre>
+   * val = s
+   * </pre>
+   *
+   * @implNote The returned number may be a {@code new int[]} instance if the assignment requires a larger array.
+   * @param val The target array of the assignment.
+   * @param s The number as a {@link CharSequence}.
+   * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+   * @return The result of assigning the specified number as a {@link CharSequence} to the provided {@linkplain BigInt#val()
+   *         value-encoded <code>int[]</code>}.
+   * @throws NumberFormatException If {@code radix} is out of range, if {@code s} has no digits, or if a char is not an ASCII digit
+   *           of the radix, in which case {@code val} is not modified.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public static int[] assign(int[] val, final CharSequence s, final int radix) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      throw new NumberFormatException("Radix out of range: " + radix);
 
     final int length = s.length();
-    final int from = sig - 1 >> 1;
-    final int len = length + from;
-    // 3402 = bits per digit * 1024
-    final int alloc = (len < 10 ? 1 : (int)(len * 3402L >>> 10) + 32 >>> 5) + 1;
-    if (alloc > val.length)
-      val = alloc(alloc);
-
-    int j = len % 9;
-    if (j == 0)
-      j = 9;
+    final boolean sig = length == 0 || s.charAt(0) != '-';
+    final int fromIndex = sig ? 0 : 1;
+    if (fromIndex >= length)
+      throw new NumberFormatException("Zero length number");
+
+    // Validate all digits before val is modified
+    for (int i = fromIndex; i < length; ++i) { // [N]
+      // Character.digit(char,int) also accepts non-ASCII digits, which the parsers below do not decode
+      final char ch = s.charAt(i);
+      if (ch > 'z' || Character.digit(ch, radix) < 0)
+        throw new NumberFormatException("Illegal digit: " + ch);
+    }
+
+    if (radix == 10)
+      return assign(val, s);
+
+    final int alloc = allocDigits(length - fromIndex, radix);
+    if ((radix & radix - 1) == 0) {
+      if (alloc + 1 > val.length)
+        val = alloc(alloc + 1);
+      else
+        Arrays.fill(val, 1, alloc + 1, 0);
+
+      parsePow2(val, s, fromIndex, length, Integer.numberOfTrailingZeros(radix));
+    }
+    else if (alloc >= PARSE_THRESHOLD) {
+      val = parseRecursive(s, fromIndex, length, radix);
+    }
+    else {
+      if (alloc > val.length)
+        val = alloc(alloc);
+
+      parse(val, s, fromIndex, length, radix);
+    }
 
-    j -= from;
+    if (!sig)
+      val[0] = -val[0];
 
-    if ((val[1] = parse(s, -from, j)) != 0) {
-      int toIndex = 2;
-      while (j < length)
-        toIndex = mulAdd(val, 1, toIndex, 1_000_000_000, parse(s, j, j += 9));
+    // _debugLenSig(val);
+    return val;
+  }
 
-      --toIndex;
-      val[0] = sig < 0 ? -toIndex : toIndex;
+  /**
+   * Assigns the number in the specified range of a {@code char[]}, {@code byte[]} or {@link CharSequence} to the provided
+   * {@linkplain BigInt#val() value-encoded <code>int[]</code>}.
+   */
+  private static int[] assign0(int[] val, final Object s, final int off, final int len) {
+    final boolean sig = len == 0 || charAt(s, off) != '-';
+    final int fromIndex = sig ? off : off + 1;
+    final int toIndex = off + len;
+    if (fromIndex >= toIndex)
+      throw new NumberFormatException("Zero length number");
+
+    final int alloc = allocDigits(toIndex - fromIndex, 10);
+    if (alloc >= PARSE_THRESHOLD) {
+      val = parseRecursive(s, fromIndex, toIndex, 10);
     }
     else {
-      val[0] = 0;
+      if (alloc > val.length)
+        val = alloc(alloc);
+
+      parse(val, s, fromIndex, toIndex);
     }
 
+    if (!sig)
+      val[0] = -val[0];
+
     // _debugLenSig(val);
     return val;
   }
 
+  /**
+   * Parses the digits in the specified range into the provided {@linkplain BigInt#val() value-encoded <code>int[]</code>} by
+   * repeated multiplication by <code>10<sup>9</sup></code>, which is required to fit the magnitude.
+   *
+   * @complexity O(n^2)
+   */
+  private static void parse(final int[] val, final Object s, final int fromIndex, final int toIndex) {
+    int j = (toIndex - fromIndex) % 9;
+    if (j == 0)
+      j = 9;
+
+    j += fromIndex;
+    val[1] = parse(s, fromIndex, j);
+    int len = 2;
+    while (j < toIndex)
+      len = mulAdd(val, 1, len, 1_000_000_000, parse(s, j, j += 9));
+
+    // Leading zero digits leave leading zero limbs
+    for (--len; len > 0 && val[len] == 0; --len);
+    val[0] = len;
+  }
+
+  /**
+   * Returns a new <i>non-negative</i> {@linkplain BigInt#val() value-encoded number} parsed from the digits in the specified range by
+   * recursively parsing the low <code>2<sup>k</sup></code> digits and the remaining high digits, and combining them as
+   * <code>high * 10<sup>2<sup>k</sup></sup> + low</code>.
+   *
+   * @complexity O(M(n) log(n)), where M(n) is the complexity of multiplication.
+   */
+  private static int[] parseRecursive(final Object s, final int fromIndex, final int toIndex, final int radix) {
+    final int digits = toIndex - fromIndex;
+    final int alloc = allocDigits(digits, radix);
+    if (alloc < PARSE_THRESHOLD) {
+      final int[] val = alloc(alloc);
+      if (radix == 10)
+        parse(val, s, fromIndex, toIndex);
+      else
+        parse(val, (CharSequence)s, fromIndex, toIndex, radix);
+
+      return val;
+    }
+
+    // 2^k < digits <= 2^(k+1), so the high part has no more digits than the low part
+    final int k = 31 - Integer.numberOfLeadingZeros(digits - 1);
+    final int mid = toIndex - (1 << k);
+    final int[] high = parseRecursive(s, fromIndex, mid, radix);
+    final int[] low = parseRecursive(s, mid, toIndex, radix);
+    return BigIntAddition.add(BigIntMultiplication.mul(high, radixPow2(radix, k)), low);
+  }
+
+  /**
+   * Parses the digits of the provided radix other than 10 in the specified range into the provided {@linkplain BigInt#val()
+   * value-encoded <code>int[]</code>} by repeated multiplication by the largest power of the radix that fits in an {@code int}. The
+   * array is required to fit the magnitude, and the chars are required to be digits of the radix.
+   *
+   * @complexity O(n^2)
+   */
+  private static void parse(final int[] val, final CharSequence s, final int fromIndex, final int toIndex, final int radix) {
+    final int n = digitsPerInt[radix];
+    int j = (toIndex - fromIndex) % n;
+    if (j == 0)
+      j = n;
+
+    j += fromIndex;
+    val[1] = parse(s, fromIndex, j, radix);
+    int len = 2;
+    while (j < toIndex)
+      len = mulAdd(val, 1, len, intRadix[radix], parse(s, j, j += n, radix));
+
+    for (--len; len > 0 && val[len] == 0; --len);
+    val[0] = len;
+  }
+
+  /**
+   * Parses the digits of the provided power of two radix of {@code shift} bits per digit in the specified range into the provided
+   * {@linkplain BigInt#val() value-encoded <code>int[]</code>} by packing their bits. The array is required to fit the magnitude and
+   * one more int, and to be zero in the range of the magnitude. The chars are required to be digits of the radix.
+   *
+   * @complexity O(n)
+   */
+  private static void parsePow2(final int[] val, final CharSequence s, final int fromIndex, int toIndex, final int shift) {
+    final int radix = 1 << shift;
+    long p = 0;
+    for (int d, i, sh; toIndex > fromIndex; p += shift) { // [N]
+      d = Character.digit(s.charAt(--toIndex), radix);
+      i = (int)(p >>> 5) + 1;
+      sh = (int)p & 31;
+      val[i] |= d << sh;
+      if (sh + shift > 32)
+        val[i + 1] |= d >>> 32 - sh;
+    }
+
+    int len = (int)((p + 31) >>> 5);
+    for (; len > 0 && val[len] == 0; --len);
+    val[0] = len;
+  }
+
+  /**
+   * Parses a part of a {@link CharSequence} as an unsigned number of the provided radix.
+   *
+   * @param s A {@link CharSequence} representing the number in the provided radix.
+   * @param fromIndex The index (inclusive) where we start parsing.
+   * @param toIndex The index (exclusive) where we stop parsing.
+   * @param radix The radix.
+   * @return The parsed {@code int}.
+   * @complexity O(n)
+   */
+  private static int parse(final CharSequence s, int fromIndex, final int toIndex, final int radix) {
+    int v = Character.digit(s.charAt(fromIndex), radix);
+    while (++fromIndex < toIndex)
+      v = v * radix + Character.digit(s.charAt(fromIndex), radix);
+
+    return v;
+  }
+
+  static char charAt(final Object s, final int index) {
+    return s instanceof char[] ? ((char[])s)[index] : s instanceof byte[] ? (char)((byte[])s)[index] : ((CharSequence)s).charAt(index);
+  }
+
+  private static int parse(final Object s, final int fromIndex, final int toIndex) {
+    return s instanceof char[] ? parse((char[])s, fromIndex, toIndex) : s instanceof byte[] ? parse((byte[])s, fromIndex, toIndex) : parse((CharSequence)s, fromIndex, toIndex);
+  }
+
   /**
    * Parses a part of a char array as an unsigned number radix 10.
    *
@@ -696,6 +1019,23 @@ abstract class BigIntValue extends Number {
     return v;
   }
 
+  /**
+   * Parses a part of a byte array of ASCII digits as an unsigned number radix 10.
+   *
+   * @param s A byte array representing the number in decimal.
+   * @param fromIndex The index (inclusive) where we start parsing.
+   * @param toIndex The index (exclusive) where we stop parsing.
+   * @return The parsed {@code int}.
+   * @complexity O(n)
+   */
+  private static int parse(final byte[] s, int fromIndex, final int toIndex) {
+    int v = s[fromIndex] - '0';
+    while (++fromIndex < toIndex)
+      v = v * 10 + s[fromIndex] - '0';
+
+    return v;
+  }
+
   /**
    * Multiplies the provided {@linkplain BigInt#val() value-encoded number} with {@code mul}, adds {@code add}, and returns the carry.
    *
@@ -1269,6 +1609,83 @@ abstract class BigIntValue extends Number {
     return sig ? hashCode : -hashCode;
   }
 
+  /**
+   * The threshold value for using recursive radix conversion in {@link #toString(int[])}. If the number of ints in the magnitude is
+   * greater than or equal to this number, then the number is recursively split into halves by division by cached powers
+   * <code>10<sup>2<sup>k</sup></sup></code>, which are converted independently. This value is found experimentally to work well.
+   */
+  static final int TO_STRING_THRESHOLD = BigIntProfile.get("TO_STRING_THRESHOLD", 1000, 2);
+
+  /**
+   * The threshold value for converting the halves of a recursive radix conversion in parallel. If the number of ints in the magnitude
+   * is greater than or equal to this number, then the halves are converted on the {@link BigIntMultiplication#PARALLEL_POOL}. This
+   * value is found experimentally to work well.
+   */
+  static final int PARALLEL_TO_STRING_THRESHOLD = BigIntProfile.get("PARALLEL_TO_STRING_THRESHOLD", 20000);
+
+  /** The digit chars of radixes up to {@link Character#MAX_RADIX}. */
+  private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+  /**
+   * <code>log<sub>2</sub>(radix)</code> for each radix, rounded up slightly, so that the counts of ints derived from it are upper
+   * bounds.
+   */
+  private static final double[] bitsPerDigit = new double[Character.MAX_RADIX + 1];
+
+  /**
+   * <code>log<sub>radix</sub>(2)</code> for each radix, rounded up slightly, so that the counts of digits derived from it are upper
+   * bounds.
+   */
+  private static final double[] digitsPerBit = new double[Character.MAX_RADIX + 1];
+
+  /** The largest count of digits of each radix that fits in a positive {@code int}. */
+  private static final int[] digitsPerInt = new int[Character.MAX_RADIX + 1];
+
+  /** <code>radix<sup>digitsPerInt[radix]</sup></code> for each radix. */
+  private static final int[] intRadix = new int[Character.MAX_RADIX + 1];
+
+  /** The cached powers <code>radix<sup>2<sup>k</sup></sup></code> for each radix other than 10. */
+  private static final int[][][] radixPow2 = new int[Character.MAX_RADIX + 1][][];
+
+  static {
+    for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; ++radix) { // [N]
+      bitsPerDigit[radix] = Math.log(radix) / Math.log(2) * (1 + 1E-14);
+      digitsPerBit[radix] = Math.log(2) / Math.log(radix) * (1 + 1E-14);
+      long pow = radix;
+      int n = 1;
+      for (; pow * radix <= Integer.MAX_VALUE; pow *= radix, ++n); // [N]
+      digitsPerInt[radix] = n;
+      intRadix[radix] = (int)pow;
+    }
+  }
+
+  /**
+   * Returns <code>radix<sup>2<sup>k</sup></sup></code>, as a {@linkplain BigInt#val() value-encoded number}, expanding the cache
+   * if necessary. The returned array is shared, and must not be modified.
+   */
+  private static int[] radixPow2(final int radix, final int k) {
+    if (radix == 10)
+      return FastMath.E10Pow2(k);
+
+    synchronized (radixPow2) {
+      int[][] pows = radixPow2[radix];
+      if (pows == null)
+        pows = new int[][] {new int[] {1, radix}};
+
+      int curLen = pows.length;
+      if (curLen <= k) {
+        pows = Arrays.copyOf(pows, k + 1);
+        for (int[] val; curLen <= k; ++curLen) { // [A]
+          val = pows[curLen - 1];
+          pows[curLen] = heapCopy(BigIntMultiplication.mul(val.clone(), val));
+        }
+      }
+
+      radixPow2[radix] = pows;
+      return pows[k];
+    }
+  }
+
   private static final int pow5 = 1_220_703_125;
   private static final int pow2 = 1 << 13;
 
@@ -1306,12 +1723,162 @@ abstract class BigIntValue extends Number {
     return r;
   }
 
+  /**
+   * Writes the decimal digits of the provided <i>unsigned</i> magnitude right-aligned into the given {@code char[]} ending at index
+   * {@code top}, leaving the chars below its leading digit untouched.
+   *
+   * @param mag The magnitude, with its least significant int at index {@code 0}, which is destroyed.
+   * @param len The count of limbs in the magnitude.
+   * @param chars The {@code char[]} prefilled with {@code '0'}.
+   * @param top The index after the last digit.
+   * @return The index of the leading digit, or of the first chunk of 13 digits if the magnitude is zero.
+   * @complexity O(n^2)
+   */
+  private static int toString(final int[] mag, int len, final char[] chars, int top) {
+    long tmp;
+    for (int j;;) { // [N]
+      j = top;
+      tmp = toStringDiv(mag, len - 1);
+      if (mag[len - 1] == 0 && len > 1 && mag[--len - 1] == 0 && len > 1)
+        --len;
+
+      for (; tmp > 0; tmp /= 10) // [A]
+        chars[--top] += tmp % 10; // TODO: Optimize
+
+      if (len == 1 && mag[0] == 0)
+        return top;
+
+      top = j - 13;
+    }
+  }
+
+  /**
+   * Writes the digits of the provided <i>unsigned</i> magnitude in the given radix other than 10 right-aligned into the given
+   * {@code char[]} ending at index {@code top}, by repeated division by the largest power of the radix that fits in an {@code int}.
+   *
+   * @param mag The magnitude, with its least significant int at index {@code 0}, which is destroyed.
+   * @param len The count of limbs in the magnitude.
+   * @param radix The radix.
+   * @param chars The {@code char[]} into which the digits are to be written.
+   * @param top The index after the last digit.
+   * @return The index of the leading digit.
+   * @complexity O(n^2)
+   */
+  private static int toString(final int[] mag, int len, final int radix, final char[] chars, int top) {
+    final int n = digitsPerInt[radix];
+    final long div = intRadix[radix];
+    for (long r;;) { // [N]
+      r = 0;
+      for (int i = len - 1; i >= 0; --i) { // [A]
+        r = (r << 32) + (mag[i] & LONG_MASK);
+        mag[i] = (int)(r / div);
+        r %= div;
+      }
+
+      for (; len > 0 && mag[len - 1] == 0; --len); // [A]
+      if (len == 0) {
+        for (; r > 0; r /= radix) // [A]
+          chars[--top] = DIGITS[(int)(r % radix)];
+
+        return top;
+      }
+
+      for (int j = 0; j < n; ++j, r /= radix) // [A]
+        chars[--top] = DIGITS[(int)(r % radix)];
+    }
+  }
+
+  /**
+   * Writes the digits of the provided <i>positive</i> magnitude in the power of two radix of {@code shift} bits per digit
+   * right-aligned into the given {@code char[]} ending at index {@code top}, by slicing its bits.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param len The count of limbs in the magnitude.
+   * @param shift The count of bits per digit.
+   * @param chars The {@code char[]} into which the digits are to be written.
+   * @param top The index after the last digit.
+   * @return The index of the leading digit.
+   * @complexity O(n)
+   */
+  private static int toStringPow2(final int[] val, final int len, final int shift, final char[] chars, int top) {
+    final long bits = bitLengthAbs(val, len);
+    final int mask = (1 << shift) - 1;
+    for (long p = 0; p < bits; p += shift) { // [N]
+      final int i = (int)(p >>> 5) + 1;
+      long w = val[i] & LONG_MASK;
+      if (i < len)
+        w |= (long)val[i + 1] << 32;
+
+      chars[--top] = DIGITS[(int)(w >>> (p & 31)) & mask];
+    }
+
+    return top;
+  }
+
+  /**
+   * Returns the number of bits in the magnitude of {@code len} limbs of the provided {@linkplain BigInt#val() value-encoded number}.
+   */
+  private static long bitLengthAbs(final int[] val, final int len) {
+    return len == 0 ? 0 : ((long)len << 5) - Integer.numberOfLeadingZeros(val[len]);
+  }
+
+  /**
+   * Returns an upper bound of the count of digits in the provided radix of a number of the provided bit length.
+   */
+  private static int digits(final long bitLength, final int radix) {
+    return (int)(bitLength * digitsPerBit[radix]) + 1;
+  }
+
+  /**
+   * Writes the digits in the provided radix of the given <i>non-negative</i> {@linkplain BigInt#val() value-encoded number}
+   * right-aligned into the given {@code char[]} ending at index {@code top}, by splitting it into the quotient and remainder of its
+   * division by the power <code>radix<sup>2<sup>k</sup></sup></code> of about half its digits, which are converted recursively.
+   *
+   * @param val The <i>non-negative</i> {@linkplain BigInt#val() value-encoded number}, which is destroyed.
+   * @param radix The radix.
+   * @param chars The {@code char[]} prefilled with {@code '0'}.
+   * @param top The index after the last digit.
+   * @complexity O(M(n) log(n)), where M(n) is the complexity of multiplication.
+   */
+  private static void toStringRecursive(final int[] val, final int radix, final char[] chars, final int top) {
+    final int len = val[0];
+    if (len < TO_STRING_THRESHOLD) {
+      if (len > 0) {
+        if (radix == 10)
+          toString(Arrays.copyOfRange(val, 1, len + 1), len, chars, top);
+        else
+          toString(Arrays.copyOfRange(val, 1, len + 1), len, radix, chars, top);
+      }
+
+      return;
+    }
+
+    // The number has at least digits - 1 digits, so 2^k < digits - 1 <= 2^(k+1) makes the power no greater than the number, and
+    // leaves the quotient with no more digits than the remainder
+    final int k = 31 - Integer.numberOfLeadingZeros(digits(bitLength(val), radix) - 2);
+    final int[] pow = radixPow2(radix, k);
+    // The divisor is cloned, because division normalizes it in place
+    final int[] rem = BigIntDivision.divRem(val, pow.clone());
+    final int mid = top - (1 << k);
+    if (len < PARALLEL_TO_STRING_THRESHOLD) {
+      toStringRecursive(val, radix, chars, mid);
+      toStringRecursive(rem, radix, chars, top);
+    }
+    else {
+      BigIntMultiplication.invokeAll(() -> toStringRecursive(val, radix, chars, mid), () -> toStringRecursive(rem, radix, chars, top));
+    }
+  }
+
   /**
    * Converts the provided {@linkplain BigInt#val() value-encoded number} into a string of radix 10.
+   * <p>
+   * Numbers of at least {@link #TO_STRING_THRESHOLD} ints are converted by recursive splitting at cached powers
+   * <code>10<sup>2<sup>k</sup></sup></code>, so that the conversion benefits from subquadratic division. The halves of numbers of at
+   * least {@link #PARALLEL_TO_STRING_THRESHOLD} ints are converted in parallel.
    *
    * @param val The {@linkplain BigInt#val() value-encoded number}.
    * @return The string representation of the provided {@linkplain BigInt#val() value-encoded number} in radix 10.
-   * @complexity O(n^2)
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
    */
   public static String toString(final int[] val) {
     if (val == null)
@@ -1323,25 +1890,84 @@ abstract class BigIntValue extends Number {
     int sig = 1, len = val[0];
     if (len < 0) { len = -len; sig = -1; }
 
-    int j, top = len * 10 + 3;
-    final char[] chars = new char[top];
+    int top;
+    final char[] chars;
+    if (len < TO_STRING_THRESHOLD) {
+      chars = new char[len * 10 + 3];
+      Arrays.fill(chars, '0');
+      final int[] mag = new int[len];
+      System.arraycopy(val, 1, mag, 0, len);
+      top = toString(mag, len, chars, chars.length);
+    }
+    else {
+      chars = new char[digits(bitLengthAbs(val, len), 10) + 1];
+      top = toStringRecursive(val, len, 10, chars);
+    }
+
+    if (sig < 0)
+      chars[--top] = '-';
+
+    return new String(chars, top, chars.length - top);
+  }
+
+  /**
+   * Writes the digits in the provided radix of the magnitude of {@code len} limbs of the given {@linkplain BigInt#val()
+   * value-encoded number} right-aligned into the given {@code char[]}, which has room for a sign before the upper bound of the count
+   * of digits, and returns the index of the leading digit.
+   */
+  private static int toStringRecursive(final int[] val, final int len, final int radix, final char[] chars) {
     Arrays.fill(chars, '0');
-    final int[] mag = new int[len];
-    System.arraycopy(val, 1, mag, 0, len);
-    long tmp;
-    while (true) {
-      j = top;
-      tmp = toStringDiv(mag, len - 1);
-      if (mag[len - 1] == 0 && len > 1 && mag[--len - 1] == 0 && len > 1)
-        --len;
+    final int[] mag = alloc(len + 1);
+    System.arraycopy(val, 1, mag, 1, len);
+    mag[0] = len;
+    toStringRecursive(mag, radix, chars, chars.length);
+    int top = 1;
+    for (; chars[top] == '0'; ++top); // [A]
+    return top;
+  }
 
-      for (; tmp > 0; tmp /= 10) // [A]
-        chars[--top] += tmp % 10; // TODO: Optimize
+  /**
+   * Converts the provided {@linkplain BigInt#val() value-encoded number} into a string of the provided radix, with the digits
+   * {@code 0-9} and {@code a-z}, and a leading minus sign if negative. If the radix is outside the range from
+   * {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}, radix 10 is used, as per {@link java.math.BigInteger#toString(int)}.
+   * <p>
+   * Numbers in a power of two radix are converted by slicing their bits in linear time. Numbers in other radixes are converted as
+   * per {@link #toString(int[])}, by recursive splitting at cached powers <code>radix<sup>2<sup>k</sup></sup></code> for large
+   * numbers.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param radix The radix.
+   * @return The string representation of the provided {@linkplain BigInt#val() value-encoded number} in the provided radix.
+   * @complexity O(n) for a power of two radix, otherwise O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity
+   *             of multiplication.
+   */
+  public static String toString(final int[] val, int radix) {
+    if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+      radix = 10;
 
-      if (len == 1 && mag[0] == 0)
-        break;
+    if (radix == 10 || val == null)
+      return toString(val);
 
-      top = j - 13;
+    if (isZero(val))
+      return "0";
+
+    int sig = 1, len = val[0];
+    if (len < 0) { len = -len; sig = -1; }
+
+    int top;
+    final char[] chars;
+    if ((radix & radix - 1) == 0) {
+      final int shift = Integer.numberOfTrailingZeros(radix);
+      chars = new char[(int)((bitLengthAbs(val, len) + shift - 1) / shift) + 1];
+      top = toStringPow2(val, len, shift, chars, chars.length);
+    }
+    else if (len < TO_STRING_THRESHOLD) {
+      chars = new char[digits(bitLengthAbs(val, len), radix) + 1];
+      top = toString(Arrays.copyOfRange(val, 1, len + 1), len, radix, chars, chars.length);
+    }
+    else {
+      chars = new char[digits(bitLengthAbs(val, len), radix) + 1];
+      top = toStringRecursive(val, len, radix, chars);
     }
 
     if (sig < 0)
@@ -1350,6 +1976,163 @@ abstract class BigIntValue extends Number {
     return new String(chars, top, chars.length - top);
   }
 
+  /**
+   * Writes the string of radix 10 of the provided {@linkplain BigInt#val() value-encoded number}, as per {@link #toString(int[])},
+   * to the given target at {@code index}, and returns the index after the last char.
+   * <p>
+   * Numbers that fit in a {@code long} are written directly. Numbers of less than {@link #TO_STRING_THRESHOLD} ints are divided
+   * into chunks of 9 digits in a scratch array, and numbers of at least {@link #TO_STRING_THRESHOLD} ints are
+   * written from their {@link #toString(int[])}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The {@code byte[]}, {@code char[]}, {@link ByteBuffer}, {@link StringBuilder} or {@link Appendable} target.
+   * @param index The index at which the string is to be written.
+   * @return The index after the last char.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  static int write(final int[] val, final Object dst, int index) throws IOException {
+    if (val == null)
+      return AsciiWriter.put(dst, index, "null");
+
+    int len = val[0];
+    final int sign;
+    if (len < 0) { len = -len; sign = 1; }
+    else sign = 0;
+
+    if (len == 0) {
+      AsciiWriter.checkCapacity(dst, index, 1);
+      return AsciiWriter.put(dst, index, '0');
+    }
+
+    if (len == 1 || len == 2 && val[2] >= 0) {
+      final long neg = len == 1 ? -(val[1] & LONG_MASK) : -((long)val[2] << 32 | val[1] & LONG_MASK);
+      final int digits = AsciiWriter.digits(neg);
+      AsciiWriter.checkCapacity(dst, index, sign + digits);
+      if (sign != 0)
+        index = AsciiWriter.put(dst, index, '-');
+
+      return AsciiWriter.putDigits(dst, index, neg, digits);
+    }
+
+    if (len >= TO_STRING_THRESHOLD)
+      return AsciiWriter.put(dst, index, toString(val));
+
+    // The magnitude is copied to the scratch array, and is divided by 10^9 in place, with the remainders stored after it.
+    final int[] scratch = ScratchBuffers.ints.acquire(len + len + len / 14 + 2);
+    try {
+      System.arraycopy(val, 1, scratch, 0, len);
+      int chunks = len;
+      for (int i, mlen = len; mlen > 0;) { // [N]
+        long r = 0;
+        for (i = mlen - 1; i >= 0; --i) { // [A]
+          r = r << 32 | scratch[i] & LONG_MASK;
+          scratch[i] = (int)(r / 1000000000);
+          r %= 1000000000;
+        }
+
+        scratch[chunks++] = (int)r;
+        while (mlen > 0 && scratch[mlen - 1] == 0) // [A]
+          --mlen;
+      }
+
+      final int digits = AsciiWriter.digits(scratch[--chunks]);
+      AsciiWriter.checkCapacity(dst, index, sign + digits + (chunks - len) * 9);
+      if (sign != 0)
+        index = AsciiWriter.put(dst, index, '-');
+
+      index = AsciiWriter.putDigits(dst, index, scratch[chunks], digits);
+      while (chunks > len) // [A]
+        index = AsciiWriter.putDigits(dst, index, scratch[--chunks], 9);
+
+      return index;
+    }
+    finally {
+      ScratchBuffers.ints.release(scratch);
+    }
+  }
+
+  private static int writeUnchecked(final int[] val, final Object dst, final int index) {
+    try {
+      return write(val, dst, index);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Appends the string of radix 10 of the provided {@linkplain BigInt#val() value-encoded number}, as per {@link #toString(int[])},
+   * to the given {@link StringBuilder} without allocating intermediate objects, unless the number has at least
+   * {@link #TO_STRING_THRESHOLD} ints.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param builder The {@link StringBuilder} to which the string is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static StringBuilder appendTo(final int[] val, final StringBuilder builder) {
+    writeUnchecked(val, builder, 0);
+    return builder;
+  }
+
+  /**
+   * Appends the string of radix 10 of the provided {@linkplain BigInt#val() value-encoded number}, as per {@link #toString(int[])},
+   * to the given {@link Appendable} char by char, without allocating intermediate objects, unless the number has at least
+   * {@link #TO_STRING_THRESHOLD} ints.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param appendable The {@link Appendable} to which the string is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static Appendable appendTo(final int[] val, final Appendable appendable) throws IOException {
+    write(val, appendable, 0);
+    return appendable;
+  }
+
+  /**
+   * Writes the string of radix 10 of the provided {@linkplain BigInt#val() value-encoded number}, as per {@link #toString(int[])},
+   * as ASCII bytes into the given {@code byte[]} starting at {@code off}, without allocating intermediate objects, unless the number
+   * has at least {@link #TO_STRING_THRESHOLD} ints.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The {@code byte[]} into which the string is to be written.
+   * @param off The offset in {@code dst} at which the string is to be written.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string does not fit in {@code dst} at {@code off}, in which case {@code dst} is
+   *           not modified.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int write(final int[] val, final byte[] dst, final int off) {
+    return writeUnchecked(val, dst, off) - off;
+  }
+
+  /**
+   * Writes the string of radix 10 of the provided {@linkplain BigInt#val() value-encoded number}, as per {@link #toString(int[])},
+   * as ASCII bytes into the given {@link ByteBuffer} at its position, which is advanced by the number of bytes written, without
+   * allocating intermediate objects, unless the number has at least {@link #TO_STRING_THRESHOLD} ints.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @param dst The {@link ByteBuffer} into which the string is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string does not fit in the remaining bytes of {@code dst}, in which case
+   *           {@code dst} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(n^2), or O(M(n) log(n)) for large numbers, where M(n) is the complexity of multiplication.
+   */
+  public static int write(final int[] val, final ByteBuffer dst) {
+    final int position = dst.position();
+    final int index = writeUnchecked(val, dst, position);
+    dst.position(index);
+    return index - position;
+  }
+
   /**
    * Returns the number of bits in the minimal two's-complement representation of the provided {@linkplain BigInt#val() value-encoded
    * number}, <em>excluding</em> a sign bit. For positive numbers, this is equivalent to the number of bits in the ordinary binary
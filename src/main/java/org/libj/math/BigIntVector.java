@@ -0,0 +1,123 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.libj.lang.Systems;
+
+/**
+ * Bindings of the SIMD multiplication kernels in {@code BigIntVectorKernels}, which are implemented with the
+ * {@code jdk.incubator.vector} API.
+ * <p>
+ * The kernels are compiled for JDK 17+ from {@code src/main/java17}, and are {@linkplain #ENABLED enabled} only if the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}, and the preferred vector species has at least 2 {@code long} lanes. The
+ * system property {@value #NO_VECTOR_PROPERTY} disables the kernels. Since this class must compile against Java 8, the kernels are
+ * bound as {@link MethodHandle}s, which are invoked with {@link MethodHandle#invokeExact(Object...)} and inlined by the JIT.
+ */
+final class BigIntVector {
+  /**
+   * System property that disables the SIMD kernels.
+   */
+  static final String NO_VECTOR_PROPERTY = "org.libj.math.noVector";
+
+  private static final MethodHandle MUL;
+  private static final MethodHandle SQUARE;
+
+  /**
+   * Whether the SIMD kernels are available.
+   */
+  static final boolean ENABLED;
+
+  static {
+    MethodHandle mul = null, square = null;
+    boolean enabled = false;
+    if (!Systems.hasProperty(NO_VECTOR_PROPERTY)) {
+      try {
+        // Throws ClassNotFoundException if the jdk.incubator.vector module is not resolved
+        Class.forName("jdk.incubator.vector.LongVector");
+        final Class<?> kernels = Class.forName("org.libj.math.BigIntVectorKernels");
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        mul = lookup.findStatic(kernels, "mul", MethodType.methodType(void.class, int[].class, int.class, int.class, int[].class, int.class, int.class, int[].class, int.class));
+        square = lookup.findStatic(kernels, "square", MethodType.methodType(void.class, int[].class, int.class, int.class, int[].class, int.class));
+        enabled = (int)lookup.findStatic(kernels, "lanes", MethodType.methodType(int.class)).invokeExact() >= 2;
+      }
+      catch (final ClassNotFoundException | UnsupportedClassVersionError e) {
+        // The runtime or the build does not include the kernels
+      }
+      catch (final Throwable t) {
+        System.err.println("Unable to link SIMD kernels: " + t);
+      }
+    }
+
+    ENABLED = enabled;
+    MUL = enabled ? mul : null;
+    SQUARE = enabled ? square : null;
+  }
+
+  /**
+   * Multiplies the {@code xlen} limbs of {@code x} starting at {@code xoff} by the {@code ylen} limbs of {@code y} starting at
+   * {@code yoff}, and sets the {@code xlen + ylen} limbs of the product in {@code z} starting at {@code zoff}.
+   *
+   * @param x The first multiplicand.
+   * @param xoff The offset of the first limb of {@code x}.
+   * @param xlen The number of limbs of {@code x}.
+   * @param y The second multiplicand.
+   * @param yoff The offset of the first limb of {@code y}.
+   * @param ylen The number of limbs of {@code y}.
+   * @param z The array to receive the product, which may be {@code x} or {@code y}.
+   * @param zoff The offset of the first limb of the product in {@code z}.
+   */
+  static void mul(final int[] x, final int xoff, final int xlen, final int[] y, final int yoff, final int ylen, final int[] z, final int zoff) {
+    try {
+      MUL.invokeExact(x, xoff, xlen, y, yoff, ylen, z, zoff);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Squares the {@code len} limbs of {@code x} starting at {@code xoff}, and sets the {@code len * 2} limbs of the square in
+   * {@code z} starting at {@code zoff}.
+   *
+   * @param x The number to square.
+   * @param xoff The offset of the first limb of {@code x}.
+   * @param len The number of limbs of {@code x}.
+   * @param z The array to receive the square, which may be {@code x}.
+   * @param zoff The offset of the first limb of the square in {@code z}.
+   */
+  static void square(final int[] x, final int xoff, final int len, final int[] z, final int zoff) {
+    try {
+      SQUARE.invokeExact(x, xoff, len, z, zoff);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  private BigIntVector() {
+  }
+}
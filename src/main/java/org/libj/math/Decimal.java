@@ -20,9 +20,12 @@ import static org.libj.math.DecimalAddition.*;
 import static org.libj.math.DecimalDivision.*;
 import static org.libj.math.DecimalMultiplication.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.libj.lang.Numbers;
 
@@ -48,8 +51,12 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @return The absolute value of the argument.
    */
   public static long abs(final long dec, final long defaultValue) {
-    final long significand = significand(dec);
-    return significand >= 0 ? dec : neg0(significand, scale(dec), defaultValue);
+    return abs(dec, SCALE_BITS, defaultValue);
+  }
+
+  static long abs(final long dec, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
+    return significand >= 0 ? dec : neg0(significand, scale(dec, Numbers.precision(significand), scaleBits), scaleBits, defaultValue);
   }
 
   public Decimal abs() {
@@ -78,22 +85,29 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static long neg(final long dec, final long defaultValue) {
-    return neg0(significand(dec), scale(dec), defaultValue);
+    return neg(dec, SCALE_BITS, defaultValue);
+  }
+
+  static long neg(final long dec, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
+    return neg0(significand, scale(dec, Numbers.precision(significand), scaleBits), scaleBits, defaultValue);
   }
 
-  private static long neg0(long significand, short scale, final long defaultValue) {
+  private static long neg0(long significand, short scale, final byte scaleBits, final long defaultValue) {
     if (significand == 0)
       return significand;
 
-    if (significand == Long.MIN_VALUE) {
-      significand /= -10;
+    if (significand == minSignificand(scaleBits)) {
+      // The magnitude of the minimum significand is 1 greater than the maximum significand, so its last digit is rounded off HALF_UP
+      final long rem = significand % 10;
+      significand = significand / -10 + (rem <= -5 ? 1 : 0);
       --scale;
     }
     else {
-      significand = Math.abs(significand);
+      significand = -significand;
     }
 
-    return valueOf(significand, scale, defaultValue);
+    return encode(significand, Numbers.precision(significand), scale, scaleBits, defaultValue);
   }
 
   public static long valueOf(BigDecimal bDec, final RoundingMode rm, final long defaultValue) {
@@ -193,21 +207,87 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   public static long valueOf(final String str, final RoundingMode rm, final long defaultValue) {
-    final Decimal result = threadLocal.get();
-    return assign(result, str, rm) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    final Decimal result = scratch.acquire();
+    final long value = assign(result, str, rm) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    scratch.release(result);
+    return value;
   }
 
   public static long valueOf(final String str, final long defaultValue) {
     return valueOf(str, RoundingMode.DOWN, defaultValue);
   }
 
+  /**
+   * Returns the {@linkplain FixedPoint#valueOf(long,int,long) encoded} decimal parsed from the ASCII bytes of length {@code len} at
+   * {@code off} in the provided {@code byte[]}, or {@code defaultValue} if the bytes do not represent a decimal, or represent a
+   * decimal that is out of range or cannot be rounded with the given {@link RoundingMode}.
+   * <p>
+   * The bytes are parsed as per {@link #valueOf(String,RoundingMode,long)}, without the allocation of intermediate objects.
+   *
+   * @param buf The {@code byte[]} with the ASCII bytes of the decimal.
+   * @param off The offset of the first byte of the decimal in {@code buf}.
+   * @param len The count of bytes of the decimal.
+   * @param rm The {@link RoundingMode} for significands that exceed the maximum precision.
+   * @param defaultValue The value to return if the bytes cannot be parsed.
+   * @return The {@linkplain FixedPoint#valueOf(long,int,long) encoded} decimal parsed from the provided bytes, or
+   *         {@code defaultValue} if the bytes cannot be parsed.
+   * @throws ArrayIndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len} is greater than
+   *           {@code buf.length}.
+   * @throws NullPointerException If {@code buf} is null.
+   * @complexity O(n)
+   */
+  public static long parse(final byte[] buf, final int off, final int len, final RoundingMode rm, final long defaultValue) {
+    if (off < 0 || len < 0 || off + len > buf.length)
+      throw new ArrayIndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + buf.length);
+
+    return parse((Object)buf, off, len, rm, defaultValue);
+  }
+
+  /**
+   * Returns the {@linkplain FixedPoint#valueOf(long,int,long) encoded} decimal parsed from the chars of length {@code len} at
+   * {@code off} in the provided {@link CharSequence}, or {@code defaultValue} if the chars do not represent a decimal, or represent
+   * a decimal that is out of range or cannot be rounded with the given {@link RoundingMode}.
+   * <p>
+   * The chars are parsed as per {@link #valueOf(String,RoundingMode,long)}, without the allocation of intermediate objects.
+   *
+   * @param str The {@link CharSequence} with the chars of the decimal.
+   * @param off The offset of the first char of the decimal in {@code str}.
+   * @param len The count of chars of the decimal.
+   * @param rm The {@link RoundingMode} for significands that exceed the maximum precision.
+   * @param defaultValue The value to return if the chars cannot be parsed.
+   * @return The {@linkplain FixedPoint#valueOf(long,int,long) encoded} decimal parsed from the provided chars, or
+   *         {@code defaultValue} if the chars cannot be parsed.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len} is greater than
+   *           {@code str.length()}.
+   * @throws NullPointerException If {@code str} is null.
+   * @complexity O(n)
+   */
+  public static long parse(final CharSequence str, final int off, final int len, final RoundingMode rm, final long defaultValue) {
+    if (off < 0 || len < 0 || off + len > str.length())
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + str.length());
+
+    return parse((Object)str, off, len, rm, defaultValue);
+  }
+
+  private static long parse(final Object str, final int off, final int len, final RoundingMode rm, final long defaultValue) {
+    if (len == 0)
+      return defaultValue;
+
+    final Decimal result = scratch.acquire();
+    final long value = parse(result, str, off, len, rm) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    scratch.release(result);
+    return value;
+  }
+
   public static Decimal valueOf(final float val) {
     return assign(new Decimal(), val);
   }
 
   public static long valueOf(final float val, final long defaultValue) {
-    final Decimal result = threadLocal.get();
-    return assign(result, val) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    final Decimal result = scratch.acquire();
+    final long value = assign(result, val) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    scratch.release(result);
+    return value;
   }
 
   public static Decimal valueOf(final double val) {
@@ -219,8 +299,10 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   public static long valueOf(final double val, final RoundingMode rm, final long defaultValue) {
-    final Decimal result = threadLocal.get();
-    return assign(result, val, rm) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    final Decimal result = scratch.acquire();
+    final long value = assign(result, val, rm) == null || result.isError() ? defaultValue : result.encode(defaultValue);
+    scratch.release(result);
+    return value;
   }
 
   public static long valueOf(final double val, final long defaultValue) {
@@ -244,19 +326,43 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   private static Decimal assign(final Decimal dec, final String str, final RoundingMode rm) {
+    return parse(dec, str, 0, str.length(), rm);
+  }
+
+  /**
+   * Parses the decimal of {@code len} chars at {@code off} in the provided {@code byte[]}, {@code char[]} or {@link CharSequence}
+   * into the given {@link Decimal}.
+   *
+   * @param dec The {@link Decimal} into which the parsed value is to be assigned.
+   * @param str The {@code byte[]}, {@code char[]} or {@link CharSequence} to parse.
+   * @param off The offset of the first char of the decimal.
+   * @param len The count of chars of the decimal.
+   * @param rm The {@link RoundingMode} for significands that exceed the maximum precision.
+   * @return The provided {@link Decimal}, which is {@linkplain #isError() in error} if the value is out of range, or {@code null}
+   *         if the chars do not represent a decimal.
+   * @complexity O(n)
+   */
+  private static Decimal parse(final Decimal dec, final Object str, final int off, final int len, final RoundingMode rm) {
     long significand = 0;
     short scale = 0;
-    byte i = 0, p = 0, dot = 0;
-    final int len = str.length();
+    byte p = 0;
+    int i = 0, dot = -1;
     int end = len;
     boolean isNeg = false;
     boolean isNegScale = false;
     boolean hasScale = false;
     boolean valLimit = false;
     boolean allZeroes = true;
+    boolean hasDot = false;
+    boolean hasDigit = false;
+    boolean hasScaleDigit = false;
     for (char ch0, ch1 = '\0'; i < len; ++i, ch1 = ch0) { // [N]
-      ch0 = str.charAt(i);
+      ch0 = BigIntValue.charAt(str, off + i);
       if (ch0 == '.') {
+        if (hasScale || hasDot)
+          return null;
+
+        hasDot = true;
         dot = i;
       }
       else if (ch0 == '-') {
@@ -288,6 +394,7 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
         return null;
       }
       else if (hasScale) {
+        hasScaleDigit = true;
         scale *= 10;
         scale += ch0 - '0';
         // Check for overflow or underflow
@@ -297,6 +404,7 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
         }
       }
       else if (!valLimit) {
+        hasDigit = true;
         // Don't increment precision if the number starts with a zero
         if (!allZeroes || !(allZeroes = ch0 == '0'))
           ++p;
@@ -317,13 +425,17 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
 
           valLimit = true;
           end = i;
-          if (dot == 0)
+          if (dot < 0)
             dot = i;
         }
       }
     }
 
-    final int ds = dot == 0 ? 0 : end - dot - 1;
+    // Reject a number without significand digits, or with a dangling exponent marker
+    if (!hasDigit || hasScale && !hasScaleDigit)
+      return null;
+
+    final int ds = dot < 0 ? 0 : end - dot - 1;
     if (!isNegScale) {
       scale *= -1;
     }
@@ -366,27 +478,13 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   private String string;
   private String scientificString;
 
-  static final ThreadLocal<Decimal> threadLocal = new ThreadLocal<Decimal>() {
+  static final ScratchBuffers.Pool<Decimal> scratch = new ScratchBuffers.Pool<Decimal>() {
     @Override
-    protected Decimal initialValue() {
+    protected Decimal create() {
       return new Decimal();
     }
   };
 
-  static final ThreadLocal<int[]> buf1 = new ThreadLocal<int[]>() {
-    @Override
-    protected int[] initialValue() {
-      return new int[8];
-    }
-  };
-
-  static final ThreadLocal<int[]> buf2 = new ThreadLocal<int[]>() {
-    @Override
-    protected int[] initialValue() {
-      return new int[8];
-    }
-  };
-
   /**
    * Creates a new {@link Decimal} with the specified unscaled {@code significand} and {@code scale}.
    *
@@ -439,7 +537,11 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   long encode(final long defaultValue) {
-    return valueOf(significand, scale, defaultValue);
+    return encode(SCALE_BITS, defaultValue);
+  }
+
+  long encode(final byte scaleBits, final long defaultValue) {
+    return encode(significand, Numbers.precision(significand), scale, scaleBits, defaultValue);
   }
 
   public Decimal assign(final Decimal copy) {
@@ -480,11 +582,10 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
 
   // FIXME: Is this needed?
   public static Decimal add(final long significand1, final short scale1, final long significand2, final short sign2) {
-    final Decimal result = threadLocal.get();
-    if (add0(significand1, scale1, significand2, sign2, false, result))
-      return new Decimal(result);
-
-    return null;
+    final Decimal result = scratch.acquire();
+    final Decimal value = add0(significand1, scale1, significand2, sign2, false, result) ? new Decimal(result) : null;
+    scratch.release(result);
+    return value;
   }
 
   /**
@@ -501,7 +602,11 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static long add(final long dec1, final long dec2, final long defaultValue) {
-    return dec1 == 0 ? dec2 : dec2 == 0 ? dec1 : add0(dec1, dec2, defaultValue);
+    return add(dec1, dec2, SCALE_BITS, defaultValue);
+  }
+
+  static long add(final long dec1, final long dec2, final byte scaleBits, final long defaultValue) {
+    return dec1 == 0 ? dec2 : dec2 == 0 ? dec1 : add0(dec1, dec2, scaleBits, defaultValue);
   }
 
   public static Decimal add(final Decimal dec, final Decimal add) {
@@ -513,16 +618,12 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   public static Decimal sub(final long significand1, final short scale1, final long significand2, final short scale2) {
-    final Decimal result = threadLocal.get();
-    if (significand2 == Long.MIN_VALUE) {
-      if (!add0(-significand1, scale1, significand2, scale2, true, result))
-        return null;
-    }
-    else if (!add0(significand1, scale1, -significand2, scale2, false, result)) {
-      return null;
-    }
-
-    return new Decimal(result);
+    final Decimal result = scratch.acquire();
+    final boolean success = significand2 == Long.MIN_VALUE ? add0(-significand1, scale1, significand2, scale2, true, result)
+      : add0(significand1, scale1, -significand2, scale2, false, result);
+    final Decimal value = success ? new Decimal(result) : null;
+    scratch.release(result);
+    return value;
   }
 
   /**
@@ -539,39 +640,39 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static long sub(final long dec1, final long dec2, final long defaultValue) {
+    return sub(dec1, dec2, SCALE_BITS, defaultValue);
+  }
+
+  static long sub(final long dec1, final long dec2, final byte scaleBits, final long defaultValue) {
     if (dec2 == 0)
       return dec1;
 
     if (dec1 == dec2)
       return 0;
 
-    final long significand2 = significand(dec2);
+    final long significand2 = significand(dec2, scaleBits);
     if (significand2 == 0)
       return dec1;
 
-    final short scale2 = scale(dec2);
-    final long significand1 = significand(dec1);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
+    final long significand1 = significand(dec1, scaleBits);
     if (significand1 == 0) {
       if (scale2 == 0 && significand2 == Long.MAX_VALUE)
         return defaultValue;
 
-      return valueOf(-significand2, scale2, defaultValue);
+      return encode(-significand2, Numbers.precision(significand2), scale2, scaleBits, defaultValue);
     }
 
-    final short scale1 = scale(dec1);
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
     if (significand1 == significand2 && scale1 == scale2)
       return 0;
 
-    final Decimal result = threadLocal.get();
-    if (significand2 == MIN_SIGNIFICAND) {
-      if (!add0(-significand1, scale1, significand2, scale2, true, result))
-        return defaultValue;
-    }
-    else if (!add0(significand1, scale1, -significand2, scale2, false, result)) {
-      return defaultValue;
-    }
-
-    return result.encode(defaultValue);
+    final Decimal result = scratch.acquire();
+    final boolean success = significand2 == minSignificand(scaleBits) ? add0(-significand1, scale1, significand2, scale2, true, scaleBits, result)
+      : add0(significand1, scale1, -significand2, scale2, false, scaleBits, result);
+    final long value = success ? result.encode(scaleBits, defaultValue) : defaultValue;
+    scratch.release(result);
+    return value;
   }
 
   public static Decimal sub(final Decimal dec, final Decimal sub) {
@@ -583,11 +684,10 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   public static Decimal mul(final long significand1, final short scale1, final long significand2, final short scale2) {
-    final Decimal result = threadLocal.get();
-    if (mul0(significand1, scale1, significand2, scale2, result))
-      return new Decimal(result);
-
-    return null;
+    final Decimal result = scratch.acquire();
+    final Decimal value = mul0(significand1, scale1, significand2, scale2, result) ? new Decimal(result) : null;
+    scratch.release(result);
+    return value;
   }
 
   /**
@@ -604,25 +704,28 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static long mul(final long dec1, final long dec2, final long defaultValue) {
+    return mul(dec1, dec2, SCALE_BITS, defaultValue);
+  }
+
+  static long mul(final long dec1, final long dec2, final byte scaleBits, final long defaultValue) {
     if (dec1 == 0 || dec2 == 0)
       return 0;
 
-    long significand1 = significand(dec1);
+    final long significand1 = significand(dec1, scaleBits);
     if (significand1 == 0)
       return 0;
 
-    long significand2 = significand(dec2);
+    final long significand2 = significand(dec2, scaleBits);
     if (significand2 == 0)
       return 0;
 
-    final short scale1 = scale(dec1);
-    final short scale2 = scale(dec2);
-
-    final Decimal result = threadLocal.get();
-    if (mul0(significand1, scale1, significand2, scale2, result))
-      return valueOf(result.significand, result.scale, defaultValue);
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
 
-    return defaultValue;
+    final Decimal result = scratch.acquire();
+    final long value = mul0(significand1, scale1, significand2, scale2, scaleBits, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
+    scratch.release(result);
+    return value;
   }
 
   public Decimal mul(final Decimal mul) {
@@ -654,24 +757,28 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static long div(final long dec1, final long dec2, final RoundingMode rm, final long defaultValue) {
-    long significand2 = significand(dec2);
+    return div(dec1, dec2, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long div(final long dec1, final long dec2, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand2 = significand(dec2, scaleBits);
     // Division by zero
     if (significand2 == 0)
       return defaultValue;
 
-    long significand1 = significand(dec1);
+    final long significand1 = significand(dec1, scaleBits);
     // Division of zero
     if (significand1 == 0)
       return 0;
 
-    final short scale1 = scale(dec1);
-    final short scale2 = scale(dec2);
-
-    final Decimal result = threadLocal.get();
-    if (div0(significand1, scale1, significand2, scale2, result, rm))
-      return encodeInPlace(result.significand, result.scale - Numbers.precision(result.significand));
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
 
-    return defaultValue;
+    final Decimal result = scratch.acquire();
+    final long value = div0(significand1, scale1, significand2, scale2, scaleBits, result, rm)
+      ? encodeInPlace(result.significand, result.scale - Numbers.precision(result.significand), scaleBits) : defaultValue;
+    scratch.release(result);
+    return value;
   }
 
   private static Decimal div(final Decimal dec, final Decimal div, final RoundingMode rm) {
@@ -694,24 +801,27 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
   }
 
   public static long rem(final long dec1, final long dec2, final long defaultValue) {
-    final long significand2 = significand(dec2);
+    return rem(dec1, dec2, SCALE_BITS, defaultValue);
+  }
+
+  static long rem(final long dec1, final long dec2, final byte scaleBits, final long defaultValue) {
+    final long significand2 = significand(dec2, scaleBits);
     // Division by zero
     if (significand2 == 0)
       return defaultValue;
 
-    final long significand1 = significand(dec1);
+    final long significand1 = significand(dec1, scaleBits);
     // Division of zero
     if (significand1 == 0)
       return 0;
 
-    final short scale1 = scale(dec1);
-    final short scale2 = scale(dec2);
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
 
-    final Decimal result = threadLocal.get();
-    if (rem0(significand1, scale1, significand2, scale2, result))
-      return valueOf(result.significand, result.scale, defaultValue);
-
-    return defaultValue;
+    final Decimal result = scratch.acquire();
+    final long value = rem0(significand1, scale1, significand2, scale2, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
+    scratch.release(result);
+    return value;
   }
 
   public static Decimal rem(final Decimal dec, final Decimal div) {
@@ -808,13 +918,17 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    * @see #scale(long)
    */
-  public static long setScale(final long dec, short newScale, final RoundingMode rm, final long defaultValue) {
-    long significand = significand(dec);
+  public static long setScale(final long dec, final short newScale, final RoundingMode rm, final long defaultValue) {
+    return setScale(dec, newScale, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long setScale(final long dec, short newScale, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    long significand = significand(dec, scaleBits);
     if (significand == 0)
       return dec;
 
-    byte precision = Numbers.precision(significand);
-    final short scale = scale(dec, precision);
+    final byte precision = Numbers.precision(significand);
+    final short scale = scale(dec, precision, scaleBits);
     if (scale == newScale)
       return dec;
 
@@ -828,20 +942,21 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
 
     newScale -= Numbers.precision(significand);
     if (newScale > 0)
-      return newScale <= MAX_PSCALE ? encodeInPlace(significand, newScale) : defaultValue;
+      return newScale <= maxPscale(scaleBits) ? encodeInPlace(significand, newScale, scaleBits) : defaultValue;
 
-    if (MIN_PSCALE <= newScale)
-      return encodeInPlace(significand, newScale);
+    final short minPscale = minPscale(scaleBits);
+    if (minPscale <= newScale)
+      return encodeInPlace(significand, newScale, scaleBits);
 
-    ds = MIN_PSCALE - newScale;
+    ds = minPscale - newScale;
     // How many multiples of 10 until overflow?
-    final int dp1 = Numbers.precision(MIN_SIGNIFICAND / significand) - 1; // FIXME: Remove -1 and ds >= dp1
+    final int dp1 = Numbers.precision(minSignificand(scaleBits) / significand) - 1; // FIXME: Remove -1 and ds >= dp1
     if (ds > dp1)
       return defaultValue;
 
     significand *= FastMath.longE10[ds];
     newScale += ds;
-    return encodeInPlace(significand, newScale);
+    return encodeInPlace(significand, newScale, scaleBits);
   }
 
   /**
@@ -901,16 +1016,20 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @see #valueOf(long,int,long)
    */
   public static int compare(final long dec1, final long dec2) {
-    long significand1 = significand(dec1);
-    long significand2 = significand(dec2);
+    return compare(dec1, dec2, SCALE_BITS);
+  }
+
+  static int compare(final long dec1, final long dec2, final byte scaleBits) {
+    final long significand1 = significand(dec1, scaleBits);
+    final long significand2 = significand(dec2, scaleBits);
     if (significand1 == 0)
       return significand2 > 0 ? -1 : significand2 == 0 ? 0 : 1;
 
     if (significand2 == 0)
       return significand1 < 0 ? -1 : significand1 == 0 ? 0 : 1;
 
-    final short scale1 = scale(dec1);
-    final short scale2 = scale(dec2);
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
 
     if (scale1 == scale2 || significand1 < 0 != significand2 < 0)
       return significand1 < significand2 ? -1 : significand1 == significand2 ? 0 : 1;
@@ -1136,15 +1255,22 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
       if (s < Numbers.precision(Long.MIN_VALUE / significand))
         return significand * FastMath.longE10[s];
 
-      final int[] val = BigInt.assignInPlace(buf1.get(), significand);
-      if (s < 19)
-        return BigInt.longValue(BigInt.mulInPlace(val, FastMath.longE10[s]));
+      final int[] buf = ScratchBuffers.ints.acquire(8);
+      final int[] val = BigInt.assignInPlace(buf, significand);
+      final long value;
+      if (s < 19) {
+        value = BigInt.longValue(BigInt.mulInPlace(val, FastMath.longE10[s]));
+      }
+      else {
+        final boolean sig = significand >= 0;
+        final int len = sig ? val[0] : -val[0];
+        final int[] mul = FastMath.E10(s);
+        final int mlen = mul[0];
+        value = BigInt.longValue(BigInt.mulQuad(val, len, mul, mlen, len + mlen + 1, sig, true));
+      }
 
-      final boolean sig = significand >= 0;
-      final int len = sig ? val[0] : -val[0];
-      final int[] mul = FastMath.E10(s);
-      final int mlen = mul[0];
-      return BigInt.longValue(BigInt.mulQuad(val, len, mul, mlen, len + mlen + 1, sig, true));
+      ScratchBuffers.ints.release(buf);
+      return value;
     }
     else if (scale > 0) {
       return scale > 18 ? 0 : significand / FastMath.longE10[scale];
@@ -1511,100 +1637,172 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
    * @return The string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale}.
    * @complexity O(n)
    */
-  public static String toString(long significand, final short scale) {
-    if (significand == 0)
-      return "0";
+  public static String toString(final long significand, final short scale) {
+    final char[] chars = new char[MAX_STRING_LENGTH];
+    return new String(chars, 0, writeUnchecked(significand, scale, null, chars, 0));
+  }
 
-    int s = scale;
-    if (s == 0)
-      return String.valueOf(significand);
+  /**
+   * The maximum length of the string representation of a fixed point decimal: the sign, 19 digits, the dot, and the exponent of
+   * up to 5 digits with its {@code 'E'} and sign.
+   */
+  private static final int MAX_STRING_LENGTH = 28;
 
-    final byte precision = Numbers.precision(significand);
-    int dot;
-    if (s > 0) {
-      if (s >= precision) {
-        dot = -1;
-      }
-      else {
-        dot = precision - s + 1;
-        s = 0;
-      }
-    }
-    else if (s < 0 && precision > 1) {
-      dot = 2;
-      s -= precision - 1;
-    }
-    else {
-      dot = -1;
+  /**
+   * Writes the string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale}, as
+   * per {@link #toString(long,short)}, to the given target at {@code index}, and returns the index after the last char.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param dst The {@code byte[]}, {@code char[]}, {@link ByteBuffer}, {@link StringBuilder} or {@link Appendable} target.
+   * @param index The index at which the string representation is to be written.
+   * @return The index after the last char.
+   * @throws IOException If an I/O error has occurred writing to an {@link Appendable} target.
+   * @complexity O(1)
+   */
+  static int write(final long significand, final short scale, final Object dst, int index) throws IOException {
+    if (significand == 0) {
+      AsciiWriter.checkCapacity(dst, index, 1);
+      return AsciiWriter.put(dst, index, '0');
     }
 
-    final int scaleLen;
-    final int scalePart;
-    final boolean scaleNeg;
-    if (s > 0) {
-      scaleLen = Numbers.precision(s);
-      scalePart = scaleLen + 2;
-      scaleNeg = true;
-    }
-    else if (s < 0) {
-      scaleLen = Numbers.precision(s);
-      scalePart = scaleLen + 1;
-      scaleNeg = false;
-      s = -s;
+    final long neg = significand < 0 ? significand : -significand;
+    final int sign = significand < 0 ? 1 : 0;
+    final int precision = AsciiWriter.digits(neg);
+    final int s = scale;
+    if (s == 0) {
+      AsciiWriter.checkCapacity(dst, index, sign + precision);
+      if (sign != 0)
+        index = AsciiWriter.put(dst, index, '-');
+
+      return AsciiWriter.putDigits(dst, index, neg, precision);
     }
-    else {
-      scaleLen = 0;
-      scalePart = 0;
-      scaleNeg = true;
+
+    final long e;
+    if (0 < s && s < precision) {
+      AsciiWriter.checkCapacity(dst, index, sign + precision + 1);
+      if (sign != 0)
+        index = AsciiWriter.put(dst, index, '-');
+
+      e = FastMath.longE10[s];
+      index = AsciiWriter.putDigits(dst, index, neg / e, precision - s);
+      index = AsciiWriter.put(dst, index, '.');
+      return AsciiWriter.putDigits(dst, index, neg % e, s);
     }
 
-    final boolean isNeg = significand < 0;
-    final char[] buf = new char[precision + (dot <= 0 ? 0 : 1) + (isNeg ? 1 : 0) + scalePart];
-    final int lim;
-    if (isNeg) {
-      lim = 1;
-      ++dot;
-      buf[0] = '-';
+    final int exp = s > 0 ? s : precision - 1 - s;
+    final int expLen = AsciiWriter.digits(exp);
+    final boolean dot = s < 0 && precision > 1;
+    AsciiWriter.checkCapacity(dst, index, sign + precision + (dot ? 1 : 0) + (s > 0 ? 2 : 1) + expLen);
+    if (sign != 0)
+      index = AsciiWriter.put(dst, index, '-');
+
+    if (dot) {
+      e = FastMath.longE10[precision - 1];
+      index = AsciiWriter.putDigits(dst, index, neg / e, 1);
+      index = AsciiWriter.put(dst, index, '.');
+      index = AsciiWriter.putDigits(dst, index, neg % e, precision - 1);
     }
     else {
-      lim = 0;
+      index = AsciiWriter.putDigits(dst, index, neg, precision);
     }
 
-    int i = buf.length;
-    if (s != 0) {
-      for (int j = 0; j < scaleLen; ++j, s /= 10) // [A]
-        buf[--i] = (char)(s % 10 + '0');
+    index = AsciiWriter.put(dst, index, 'E');
+    if (s > 0)
+      index = AsciiWriter.put(dst, index, '-');
 
-      if (scaleNeg)
-        buf[--i] = '-';
+    return AsciiWriter.putDigits(dst, index, exp, expLen);
+  }
 
-      buf[--i] = 'E';
+  /**
+   * Writes the provided {@code string}, or, if it is null, the string representation of the fixed point decimal specified by the
+   * provided {@code significand} and {@code scale}, to the given target that does not throw {@link IOException}, and returns the
+   * index after the last char.
+   */
+  private static int writeUnchecked(final long significand, final short scale, final String string, final Object dst, final int index) {
+    try {
+      return string != null ? AsciiWriter.put(dst, index, string) : write(significand, scale, dst, index);
     }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    if (isNeg) {
-      if (dot > 0) {
-        for (; i > dot; significand /= 10) // [A]
-          buf[--i] = (char)(-(significand % 10) + '0');
-
-        buf[--i] = '.';
-      }
+  private static int write(final long significand, final short scale, final String string, final ByteBuffer dst) {
+    final int position = dst.position();
+    final int index = writeUnchecked(significand, scale, string, dst, position);
+    dst.position(index);
+    return index - position;
+  }
 
-      for (; i > lim; significand /= 10) // [A]
-        buf[--i] = (char)(-(significand % 10) + '0');
-    }
-    else {
-      if (dot > 0) {
-        for (; i > dot; significand /= 10) // [A]
-          buf[--i] = (char)((significand % 10) + '0');
+  /**
+   * Appends the string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale},
+   * as per {@link #toString(long,short)}, to the given {@link StringBuilder} without allocating intermediate objects.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param builder The {@link StringBuilder} to which the string representation is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   * @complexity O(1)
+   */
+  public static StringBuilder appendTo(final long significand, final short scale, final StringBuilder builder) {
+    writeUnchecked(significand, scale, null, builder, 0);
+    return builder;
+  }
 
-        buf[--i] = '.';
-      }
+  /**
+   * Appends the string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale},
+   * as per {@link #toString(long,short)}, to the given {@link Appendable} char by char.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param appendable The {@link Appendable} to which the string representation is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null.
+   * @complexity O(1)
+   */
+  public static Appendable appendTo(final long significand, final short scale, final Appendable appendable) throws IOException {
+    write(significand, scale, appendable, 0);
+    return appendable;
+  }
 
-      for (; i > lim; significand /= 10) // [A]
-        buf[--i] = (char)((significand % 10) + '0');
-    }
+  /**
+   * Writes the string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale},
+   * as per {@link #toString(long,short)}, as ASCII bytes into the given {@code byte[]} starting at {@code off}.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param dst The {@code byte[]} into which the string representation is to be written.
+   * @param off The offset in {@code dst} at which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does not fit in {@code dst} at {@code off}, in which case
+   *           {@code dst} is not modified.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(1)
+   */
+  public static int write(final long significand, final short scale, final byte[] dst, final int off) {
+    return writeUnchecked(significand, scale, null, dst, off) - off;
+  }
 
-    return new String(buf);
+  /**
+   * Writes the string representation of the fixed point decimal specified by the provided {@code significand} and {@code scale},
+   * as per {@link #toString(long,short)}, as ASCII bytes into the given {@link ByteBuffer} at its position, which is advanced by
+   * the number of bytes written.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param dst The {@link ByteBuffer} into which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string representation does not fit in the remaining bytes of {@code dst}, in
+   *           which case {@code dst} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(1)
+   */
+  public static int write(final long significand, final short scale, final ByteBuffer dst) {
+    return write(significand, scale, null, dst);
   }
 
   /**
@@ -1617,6 +1815,65 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
     return toString(significand(dec), scale(dec));
   }
 
+  /**
+   * Appends the string representation of the provided {@link Decimal#valueOf(long,int,long) encoded} value to the given
+   * {@link StringBuilder} without allocating intermediate objects.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param builder The {@link StringBuilder} to which the string representation is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder appendTo(final long dec, final StringBuilder builder) {
+    return appendTo(significand(dec), scale(dec), builder);
+  }
+
+  /**
+   * Appends the string representation of the provided {@link Decimal#valueOf(long,int,long) encoded} value to the given
+   * {@link Appendable} char by char.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param appendable The {@link Appendable} to which the string representation is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null.
+   */
+  public static Appendable appendTo(final long dec, final Appendable appendable) throws IOException {
+    return appendTo(significand(dec), scale(dec), appendable);
+  }
+
+  /**
+   * Writes the string representation of the provided {@link Decimal#valueOf(long,int,long) encoded} value as ASCII bytes into the
+   * given {@code byte[]} starting at {@code off}.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The {@code byte[]} into which the string representation is to be written.
+   * @param off The offset in {@code dst} at which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does not fit in {@code dst} at {@code off}, in which case
+   *           {@code dst} is not modified.
+   * @throws NullPointerException If {@code dst} is null.
+   */
+  public static int write(final long dec, final byte[] dst, final int off) {
+    return write(significand(dec), scale(dec), dst, off);
+  }
+
+  /**
+   * Writes the string representation of the provided {@link Decimal#valueOf(long,int,long) encoded} value as ASCII bytes into the
+   * given {@link ByteBuffer} at its position, which is advanced by the number of bytes written.
+   *
+   * @param dec The {@link Decimal#valueOf(long,int,long) encoded} value.
+   * @param dst The {@link ByteBuffer} into which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string representation does not fit in the remaining bytes of {@code dst}, in
+   *           which case {@code dst} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws NullPointerException If {@code dst} is null.
+   */
+  public static int write(final long dec, final ByteBuffer dst) {
+    return write(significand(dec), scale(dec), dst);
+  }
+
   /**
    * Returns the string representation this {@link Decimal}.
    *
@@ -1629,6 +1886,70 @@ public class Decimal extends FixedPoint implements Comparable<Decimal>, Cloneabl
     return string == null ? string = toString(significand, scale) : string;
   }
 
+  /**
+   * Appends the string representation of this {@link Decimal} to the given {@link StringBuilder} without allocating intermediate
+   * objects.
+   *
+   * @param builder The {@link StringBuilder} to which the string representation is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   * @complexity O(1)
+   */
+  public StringBuilder appendTo(final StringBuilder builder) {
+    writeUnchecked(significand, scale, string, builder, 0);
+    return builder;
+  }
+
+  /**
+   * Appends the string representation of this {@link Decimal} to the given {@link Appendable} char by char.
+   *
+   * @param appendable The {@link Appendable} to which the string representation is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null.
+   * @complexity O(1)
+   */
+  public Appendable appendTo(final Appendable appendable) throws IOException {
+    if (string != null)
+      appendable.append(string);
+    else
+      write(significand, scale, appendable, 0);
+
+    return appendable;
+  }
+
+  /**
+   * Writes the string representation of this {@link Decimal} as ASCII bytes into the given {@code byte[]} starting at
+   * {@code off}.
+   *
+   * @param dst The {@code byte[]} into which the string representation is to be written.
+   * @param off The offset in {@code dst} at which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws ArrayIndexOutOfBoundsException If the string representation does not fit in {@code dst} at {@code off}, in which case
+   *           {@code dst} is not modified.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(1)
+   */
+  public int write(final byte[] dst, final int off) {
+    return writeUnchecked(significand, scale, string, dst, off) - off;
+  }
+
+  /**
+   * Writes the string representation of this {@link Decimal} as ASCII bytes into the given {@link ByteBuffer} at its position,
+   * which is advanced by the number of bytes written.
+   *
+   * @param dst The {@link ByteBuffer} into which the string representation is to be written.
+   * @return The number of bytes written.
+   * @throws java.nio.BufferOverflowException If the string representation does not fit in the remaining bytes of {@code dst}, in
+   *           which case {@code dst} is not modified.
+   * @throws java.nio.ReadOnlyBufferException If {@code dst} is read-only.
+   * @throws NullPointerException If {@code dst} is null.
+   * @complexity O(1)
+   */
+  public int write(final ByteBuffer dst) {
+    return write(significand, scale, string, dst);
+  }
+
   /**
    * Returns a copy of this {@link Decimal}.
    *
@@ -0,0 +1,1184 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * A fixed point decimal with a 112-bit significand, for computations that need more precision than the 54-bit significand of
+ * {@link Decimal}. A {@link Decimal128} has 2 components:
+ * <ul>
+ * <li>significand := The signed significand, whose magnitude is at most <code>2<sup>111</sup> - 1</code>, which is at least 33
+ * decimal digits.</li>
+ * <li>scale := The inverse scale by which {@code significand} is to be multiplied by a power of {@code 10} (i.e.
+ * <code>10<sup>-scale</sup></code>), in the range of a {@code short}.</li>
+ * </ul>
+ * The decimal is available as a mutable object, and as a static API that operates on decimals encoded into two {@code long}s
+ * {@code (hi, lo)}, where {@code lo} is the low 64 bits of the significand, and {@code hi} is the {@code short} scale in its top
+ * 16 bits followed by the high 48 bits of the significand. A zero significand retains its scale in {@code hi}, so {@code (0, 0)} is
+ * the encoding of zero with scale {@code 0}, and zeros with other scales have distinct encodings, as their {@link BigDecimal}
+ * counterparts are not {@linkplain BigDecimal#equals(Object) equal}. The static operations write the encoded result into a provided
+ * {@code long[]}, and return {@code false} if the result cannot be represented.
+ * <p>
+ * As with {@link Decimal}, the addition, subtraction and multiplication are exact if the result fits the significand, and are
+ * rounded {@link RoundingMode#HALF_UP} to the highest precision that fits the significand otherwise. Division is rounded with the
+ * provided {@link RoundingMode}. All operations are allocation-free: the intermediate results are held in {@code long}s, with at
+ * most 256 bits for the product of two significands.
+ */
+public final class Decimal128 extends Number implements Comparable<Decimal128>, Cloneable {
+  private static final int SCALE_SHIFT = 48;
+  private static final long SIGNIFICAND_HI_MASK = (1L << SCALE_SHIFT) - 1;
+  private static final int SIGNIFICAND_BITS = 111;
+  private static final long MAX_HI = (1L << SIGNIFICAND_BITS - 64) - 1;
+
+  /**
+   * The maximum number of decimal digits in the significand of a {@link Decimal128}.
+   */
+  public static final byte MAX_PRECISION = (byte)UInt128.precision(MAX_HI, -1);
+
+  static final ScratchBuffers.Pool<Decimal128> scratch = new ScratchBuffers.Pool<Decimal128>() {
+    @Override
+    protected Decimal128 create() {
+      return new Decimal128();
+    }
+  };
+
+  /**
+   * Returns the scale of the provided encoded {@link Decimal128}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @return The scale of the provided encoded {@link Decimal128}.
+   */
+  public static short scale(final long hi) {
+    return (short)(hi >> SCALE_SHIFT);
+  }
+
+  /**
+   * Returns the high 64 bits of the significand of the provided encoded {@link Decimal128}. The low 64 bits of the significand are
+   * the low 64 bits of the encoded {@link Decimal128}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @return The high 64 bits of the significand of the provided encoded {@link Decimal128}.
+   */
+  public static long significandHi(final long hi) {
+    return hi << Short.SIZE >> Short.SIZE;
+  }
+
+  /**
+   * Returns {@code true} if the provided 128-bit significand {@code (significandHi, significandLo)} can be represented as the
+   * significand of a {@link Decimal128}, otherwise {@code false}.
+   *
+   * @param significandHi The high 64 bits of the significand.
+   * @param significandLo The low 64 bits of the significand.
+   * @return {@code true} if the provided 128-bit significand can be represented as the significand of a {@link Decimal128},
+   *         otherwise {@code false}.
+   */
+  public static boolean isDecimal128(final long significandHi, final long significandLo) {
+    return significandHi >= 0 ? significandHi <= MAX_HI : significandHi > -MAX_HI - 1 || significandHi == -MAX_HI - 1 && significandLo != 0;
+  }
+
+  /**
+   * Encodes the provided 128-bit significand {@code (significandHi, significandLo)} and {@code scale} into {@code result[0]} (hi)
+   * and {@code result[1]} (lo).
+   *
+   * @param significandHi The high 64 bits of the significand.
+   * @param significandLo The low 64 bits of the significand.
+   * @param scale The scale.
+   * @param result The array into which the encoded {@link Decimal128} is to be written.
+   * @return {@code true} if the significand can be represented as the significand of a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean valueOf(final long significandHi, final long significandLo, final short scale, final long[] result) {
+    if (!isDecimal128(significandHi, significandLo))
+      return false;
+
+    result[0] = (long)scale << SCALE_SHIFT | significandHi & SIGNIFICAND_HI_MASK;
+    result[1] = significandLo;
+    return true;
+  }
+
+  /**
+   * Encodes the provided {@code significand} and {@code scale} into {@code result[0]} (hi) and {@code result[1]} (lo).
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param result The array into which the encoded {@link Decimal128} is to be written.
+   */
+  public static void valueOf(final long significand, final short scale, final long[] result) {
+    valueOf(significand >> 63, significand, scale, result);
+  }
+
+  /**
+   * Returns a new {@link Decimal128} with the value of the provided encoded {@link Decimal128}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @param lo The low 64 bits of the encoded {@link Decimal128}.
+   * @return A new {@link Decimal128} with the value of the provided encoded {@link Decimal128}.
+   */
+  public static Decimal128 valueOf(final long hi, final long lo) {
+    return new Decimal128(significandHi(hi), lo, scale(hi));
+  }
+
+  /**
+   * Writes the result of the addition of the provided encoded {@link Decimal128}s into {@code result}, i.e.:
+   *
+   * <pre>
+   * result = d1 + d2
+   * </pre>
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean add(final long hi1, final long lo1, final long hi2, final long lo2, final long[] result) {
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = add0(significandHi(hi1), lo1, scale(hi1), significandHi(hi2), lo2, scale(hi2), dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Writes the result of the subtraction of the second provided encoded {@link Decimal128} from the first into {@code result}, i.e.:
+   *
+   * <pre>
+   * result = d1 - d2
+   * </pre>
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean sub(final long hi1, final long lo1, final long hi2, final long lo2, final long[] result) {
+    final long h2 = significandHi(hi2);
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = add0(significandHi(hi1), lo1, scale(hi1), lo2 == 0 ? -h2 : ~h2, -lo2, scale(hi2), dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Writes the result of the multiplication of the provided encoded {@link Decimal128}s into {@code result}, i.e.:
+   *
+   * <pre>
+   * result = d1 * d2
+   * </pre>
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean mul(final long hi1, final long lo1, final long hi2, final long lo2, final long[] result) {
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = mul0(significandHi(hi1), lo1, scale(hi1), significandHi(hi2), lo2, scale(hi2), dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Writes the result of the division of the first provided encoded {@link Decimal128} by the second into {@code result}, i.e.:
+   *
+   * <pre>
+   * result = d1 / d2
+   * </pre>
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @param rm The {@link RoundingMode}.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean div(final long hi1, final long lo1, final long hi2, final long lo2, final RoundingMode rm, final long[] result) {
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = div0(significandHi(hi1), lo1, scale(hi1), significandHi(hi2), lo2, scale(hi2), rm, dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Writes the remainder of the division of the first provided encoded {@link Decimal128} by the second into {@code result}, i.e.:
+   *
+   * <pre>
+   * result = d1 % d2
+   * </pre>
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean rem(final long hi1, final long lo1, final long hi2, final long lo2, final long[] result) {
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = rem0(significandHi(hi1), lo1, scale(hi1), significandHi(hi2), lo2, scale(hi2), dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Writes the provided encoded {@link Decimal128} with its scale set to {@code newScale} into {@code result}. If the scale is
+   * reduced, the significand is divided by the appropriate power of ten and rounded with the provided {@link RoundingMode}; if the
+   * scale is increased, the significand is multiplied by the appropriate power of ten, which must not overflow the significand.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @param lo The low 64 bits of the encoded {@link Decimal128}.
+   * @param newScale The new scale.
+   * @param rm The {@link RoundingMode}.
+   * @param result The array into which the encoded result is to be written.
+   * @return {@code true} if the result can be represented as a {@link Decimal128}, otherwise {@code false}.
+   */
+  public static boolean setScale(final long hi, final long lo, final short newScale, final RoundingMode rm, final long[] result) {
+    final Decimal128 dec = scratch.acquire();
+    final boolean success = setScale0(significandHi(hi), lo, scale(hi), newScale, rm, dec) && dec.encode(result);
+    scratch.release(dec);
+    return success;
+  }
+
+  /**
+   * Compares the provided encoded {@link Decimal128}s numerically.
+   *
+   * @param hi1 The high 64 bits of the first argument.
+   * @param lo1 The low 64 bits of the first argument.
+   * @param hi2 The high 64 bits of the second argument.
+   * @param lo2 The low 64 bits of the second argument.
+   * @return The value {@code 0} if {@code d1 == d2}; a value less than {@code 0} if {@code d1 < d2}; and a value greater than
+   *         {@code 0} if {@code d1 > d2}
+   */
+  public static int compare(final long hi1, final long lo1, final long hi2, final long lo2) {
+    return compare0(significandHi(hi1), lo1, scale(hi1), significandHi(hi2), lo2, scale(hi2));
+  }
+
+  /**
+   * Returns the signum of the provided encoded {@link Decimal128}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @param lo The low 64 bits of the encoded {@link Decimal128}.
+   * @return The signum of the provided encoded {@link Decimal128}.
+   */
+  public static byte signum(final long hi, final long lo) {
+    return signum0(significandHi(hi), lo);
+  }
+
+  /**
+   * Returns the <i>precision</i> of the provided encoded {@link Decimal128}. (The precision is the number of digits in the
+   * significand.)
+   * <p>
+   * The precision of a zero value is {@code 1}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @param lo The low 64 bits of the encoded {@link Decimal128}.
+   * @return The precision of the provided encoded {@link Decimal128}.
+   */
+  public static byte precision(final long hi, final long lo) {
+    return precision0(significandHi(hi), lo);
+  }
+
+  /**
+   * Returns the string representation of the provided encoded {@link Decimal128}, as per {@link BigDecimal#toString()}.
+   *
+   * @param hi The high 64 bits of the encoded {@link Decimal128}.
+   * @param lo The low 64 bits of the encoded {@link Decimal128}.
+   * @return The string representation of the provided encoded {@link Decimal128}.
+   */
+  public static String toString(final long hi, final long lo) {
+    return toBigDecimal(significandHi(hi), lo, scale(hi)).toString();
+  }
+
+  private static byte signum0(final long hi, final long lo) {
+    return hi < 0 ? -1 : (hi | lo) == 0 ? 0 : (byte)1;
+  }
+
+  private static byte precision0(final long hi, final long lo) {
+    return (byte)(hi < 0 ? UInt128.precision(lo == 0 ? -hi : ~hi, -lo) : UInt128.precision(hi, lo));
+  }
+
+  private static BigDecimal toBigDecimal(final long hi, final long lo, final short scale) {
+    final BigInteger low = BigInteger.valueOf(lo & Long.MAX_VALUE);
+    return new BigDecimal(BigInteger.valueOf(hi).shiftLeft(64).or(lo < 0 ? low.setBit(63) : low), scale);
+  }
+
+  static boolean add0(long hi1, long lo1, int scale1, long hi2, long lo2, int scale2, final Decimal128 result) {
+    if ((hi1 | lo1) == 0)
+      return result.assign0(hi2, lo2, scale2);
+
+    if ((hi2 | lo2) == 0)
+      return result.assign0(hi1, lo1, scale1);
+
+    // Make the first argument the one with the smaller scale
+    if (scale1 > scale2) {
+      long t = hi1;
+      hi1 = hi2;
+      hi2 = t;
+      t = lo1;
+      lo1 = lo2;
+      lo2 = t;
+      final int s = scale1;
+      scale1 = scale2;
+      scale2 = s;
+    }
+
+    final boolean neg1 = hi1 < 0;
+    if (neg1) {
+      hi1 = lo1 == 0 ? -hi1 : ~hi1;
+      lo1 = -lo1;
+    }
+
+    final boolean neg2 = hi2 < 0;
+    if (neg2) {
+      hi2 = lo2 == 0 ? -hi2 : ~hi2;
+      lo2 = -lo2;
+    }
+
+    // Up-scale the first significand to the scale of the second. If that takes more than 38 digits, then the first significand is
+    // at least 10^38, and the second is less than 10^34, so the digits of the second beyond 10^38 only matter for the rounding.
+    int ds = scale2 - scale1;
+    boolean sticky = false;
+    if (ds > 38) {
+      ds -= 38;
+      scale2 -= ds;
+      if (ds > 38) {
+        hi2 = lo2 = 0;
+        sticky = true;
+      }
+      else {
+        do {
+          final int e = Math.min(ds, 18);
+          final long f = FastMath.longE10[e];
+          final long q = UInt128.divideE10(hi2 % f, lo2, e);
+          sticky |= lo2 - q * f != 0;
+          hi2 /= f;
+          lo2 = q;
+        }
+        while ((ds -= 18) > 0);
+      }
+
+      ds = 38;
+    }
+
+    return mulAdd(neg1, hi1, lo1, UInt128.E10_HI[ds], UInt128.E10_LO[ds], hi2, lo2, neg1 != neg2, sticky, scale2, 0, false, RoundingMode.HALF_UP, result);
+  }
+
+  static boolean mul0(long hi1, long lo1, final int scale1, long hi2, long lo2, final int scale2, final Decimal128 result) {
+    final boolean neg1 = hi1 < 0;
+    if (neg1) {
+      hi1 = lo1 == 0 ? -hi1 : ~hi1;
+      lo1 = -lo1;
+    }
+
+    final boolean neg2 = hi2 < 0;
+    if (neg2) {
+      hi2 = lo2 == 0 ? -hi2 : ~hi2;
+      lo2 = -lo2;
+    }
+
+    return mulAdd(neg1 != neg2, hi1, lo1, hi2, lo2, 0, 0, false, false, scale1 + scale2, 0, false, RoundingMode.HALF_UP, result);
+  }
+
+  static boolean div0(long hi1, long lo1, final int scale1, long hi2, long lo2, final int scale2, final RoundingMode rm, final Decimal128 result) {
+    if ((hi2 | lo2) == 0)
+      return false;
+
+    final boolean neg1 = hi1 < 0;
+    if (neg1) {
+      hi1 = lo1 == 0 ? -hi1 : ~hi1;
+      lo1 = -lo1;
+    }
+
+    final boolean neg2 = hi2 < 0;
+    if (neg2) {
+      hi2 = lo2 == 0 ? -hi2 : ~hi2;
+      lo2 = -lo2;
+    }
+
+    // The integer quotient (qh, ql) and remainder (rh, rl)
+    long qh, ql, rh, rl;
+    if (hi2 == 0) {
+      qh = UInt128.divideUnsigned(hi1, lo2);
+      ql = UInt128.divide(hi1, lo1, lo2);
+      rh = 0;
+      rl = lo1 - ql * lo2;
+    }
+    else {
+      qh = 0;
+      ql = UInt128.divide(hi1, lo1, hi2, lo2);
+      final long pl = ql * lo2;
+      rh = hi1 - (UInt128.multiplyHigh(ql, lo2) + ql * hi2) - (Long.compareUnsigned(lo1, pl) < 0 ? 1 : 0);
+      rl = lo1 - pl;
+    }
+
+    // Append the digits of the fraction, at most 5 at a time so that the remainder times 10^5 fits 128 bits, until the quotient has
+    // 1 digit more than fits the significand, or the division is exact
+    int scale = scale1 - scale2;
+    int ds = 0;
+    int p = (qh | ql) == 0 ? 0 : UInt128.precision(qh, ql);
+    while ((rh | rl) != 0 && p <= MAX_PRECISION) {
+      final int e = p == 0 ? 5 : Math.min(5, MAX_PRECISION + 1 - p);
+      final long f = FastMath.longE10[e];
+      rh = UInt128.multiplyHigh(rl, f) + rh * f;
+      rl *= f;
+
+      final long q;
+      if (hi2 == 0) {
+        q = UInt128.divide(rh, rl, lo2);
+        rh = 0;
+        rl -= q * lo2;
+      }
+      else {
+        q = UInt128.divide(rh, rl, hi2, lo2);
+        final long pl = q * lo2;
+        rh -= UInt128.multiplyHigh(q, lo2) + q * hi2 + (Long.compareUnsigned(rl, pl) < 0 ? 1 : 0);
+        rl -= pl;
+      }
+
+      qh = UInt128.multiplyHigh(ql, f) + qh * f;
+      ql = ql * f + q;
+      if (Long.compareUnsigned(ql, q) < 0)
+        ++qh;
+
+      scale += e;
+      ds += e;
+      p = (qh | ql) == 0 ? 0 : UInt128.precision(qh, ql);
+    }
+
+    final boolean sticky = (rh | rl) != 0;
+    if (!sticky) {
+      // The division is exact, so remove the trailing zeroes of the appended digits
+      for (; ds > 0; --ds, --scale) {
+        final long q = UInt128.divideE10(qh % 10, ql, 1);
+        if (ql - q * 10 != 0)
+          break;
+
+        qh /= 10;
+        ql = q;
+      }
+    }
+
+    return round(neg1 != neg2, 0, 0, qh, ql, sticky, scale, 0, false, rm, result);
+  }
+
+  static boolean rem0(long hi1, long lo1, final int scale1, long hi2, long lo2, final int scale2, final Decimal128 result) {
+    if ((hi2 | lo2) == 0)
+      return false;
+
+    if ((hi1 | lo1) == 0)
+      return result.assign0(hi1, lo1, scale1);
+
+    final long h1 = hi1;
+    final long l1 = lo1;
+    final boolean neg1 = hi1 < 0;
+    if (neg1) {
+      hi1 = lo1 == 0 ? -hi1 : ~hi1;
+      lo1 = -lo1;
+    }
+
+    if (hi2 < 0) {
+      hi2 = lo2 == 0 ? -hi2 : ~hi2;
+      lo2 = -lo2;
+    }
+
+    final int scale;
+    if (scale1 < scale2) {
+      // (significand1 * 10^ds) % significand2, up-scaling the remainder as many digits at a time as fit 128 bits
+      long rh = hi1;
+      long rl = lo1;
+      final int bits = hi2 != 0 ? 128 - Long.numberOfLeadingZeros(hi2) : 64 - Long.numberOfLeadingZeros(lo2);
+      final int max = Math.min(18, (127 - bits) * 1233 >>> 12);
+      int e = 0;
+      for (int ds = scale2 - scale1;; ds -= e) {
+        if (hi2 == 0) {
+          rl -= UInt128.divide(rh, rl, lo2) * lo2;
+          rh = 0;
+        }
+        else {
+          final long q = UInt128.divide(rh, rl, hi2, lo2);
+          final long pl = q * lo2;
+          rh -= UInt128.multiplyHigh(q, lo2) + q * hi2 + (Long.compareUnsigned(rl, pl) < 0 ? 1 : 0);
+          rl -= pl;
+        }
+
+        if (ds == 0 || (rh | rl) == 0)
+          break;
+
+        e = Math.min(ds, max);
+        final long f = FastMath.longE10[e];
+        rh = UInt128.multiplyHigh(rl, f) + rh * f;
+        rl *= f;
+      }
+
+      hi1 = rh;
+      lo1 = rl;
+      scale = scale2;
+    }
+    else {
+      // If the divisor up-scaled to the scale of the dividend has more than 38 digits, it is greater than the dividend
+      final int ds = scale1 - scale2;
+      if (precision0(hi2, lo2) + ds > 38)
+        return result.assign0(h1, l1, scale1);
+
+      final long eh = UInt128.E10_HI[ds];
+      final long el = UInt128.E10_LO[ds];
+      hi2 = UInt128.multiplyHigh(lo2, el) + hi2 * el + lo2 * eh;
+      lo2 *= el;
+      if (UInt128.compare(hi1, lo1, hi2, lo2) < 0)
+        return result.assign0(h1, l1, scale1);
+
+      if (hi2 == 0) {
+        lo1 -= UInt128.divide(hi1, lo1, lo2) * lo2;
+        hi1 = 0;
+      }
+      else {
+        final long q = UInt128.divide(hi1, lo1, hi2, lo2);
+        final long pl = q * lo2;
+        hi1 -= UInt128.multiplyHigh(q, lo2) + q * hi2 + (Long.compareUnsigned(lo1, pl) < 0 ? 1 : 0);
+        lo1 -= pl;
+      }
+
+      scale = scale1;
+    }
+
+    return result.assign0(neg1, hi1, lo1, scale);
+  }
+
+  static boolean setScale0(long hi, long lo, final int scale, final int newScale, final RoundingMode rm, final Decimal128 result) {
+    if (scale == newScale || (hi | lo) == 0)
+      return result.assign0(hi, lo, newScale);
+
+    final boolean neg = hi < 0;
+    if (neg) {
+      hi = lo == 0 ? -hi : ~hi;
+      lo = -lo;
+    }
+
+    if (scale > newScale)
+      return round(neg, 0, 0, hi, lo, false, scale, scale - newScale, true, rm, result);
+
+    final int ds = newScale - scale;
+    if (UInt128.precision(hi, lo) + ds > MAX_PRECISION)
+      return false;
+
+    final long eh = UInt128.E10_HI[ds];
+    final long el = UInt128.E10_LO[ds];
+    hi = UInt128.multiplyHigh(lo, el) + hi * el + lo * eh;
+    lo *= el;
+    return hi <= MAX_HI && result.assign0(neg, hi, lo, newScale);
+  }
+
+  static int compare0(long hi1, long lo1, final int scale1, long hi2, long lo2, final int scale2) {
+    final byte sig1 = signum0(hi1, lo1);
+    final byte sig2 = signum0(hi2, lo2);
+    if (sig1 != sig2)
+      return sig1 < sig2 ? -1 : 1;
+
+    if (sig1 == 0)
+      return 0;
+
+    if (scale1 == scale2)
+      return hi1 != hi2 ? Long.compare(hi1, hi2) : Long.compareUnsigned(lo1, lo2);
+
+    if (sig1 < 0) {
+      hi1 = lo1 == 0 ? -hi1 : ~hi1;
+      lo1 = -lo1;
+      hi2 = lo2 == 0 ? -hi2 : ~hi2;
+      lo2 = -lo2;
+    }
+
+    final int p1 = UInt128.precision(hi1, lo1);
+    final int p2 = UInt128.precision(hi2, lo2);
+    final int c;
+    if (p1 - scale1 != p2 - scale2) {
+      c = p1 - scale1 < p2 - scale2 ? -1 : 1;
+    }
+    else {
+      // The magnitudes have the same number of integer digits, so the up-scaled significand has at most MAX_PRECISION digits
+      if (scale1 < scale2) {
+        final int ds = scale2 - scale1;
+        final long eh = UInt128.E10_HI[ds];
+        final long el = UInt128.E10_LO[ds];
+        hi1 = UInt128.multiplyHigh(lo1, el) + hi1 * el + lo1 * eh;
+        lo1 *= el;
+      }
+      else {
+        final int ds = scale1 - scale2;
+        final long eh = UInt128.E10_HI[ds];
+        final long el = UInt128.E10_LO[ds];
+        hi2 = UInt128.multiplyHigh(lo2, el) + hi2 * el + lo2 * eh;
+        lo2 *= el;
+      }
+
+      c = UInt128.compare(hi1, lo1, hi2, lo2);
+    }
+
+    return sig1 < 0 ? -c : c;
+  }
+
+  /**
+   * Assigns to {@code result} the value of {@code (a * b) + c} (or {@code (a * b) - c} if {@code sub} is {@code true}), where
+   * {@code a}, {@code b} and {@code c} are unsigned 128-bit magnitudes, with the sign of the product given by {@code neg}, rounded as
+   * per {@link #round(boolean,long,long,long,long,boolean,int,int,boolean,RoundingMode,Decimal128)}. If {@code sticky} is
+   * {@code true}, {@code c} is understood to be followed by nonzero digits, which requires that {@code a * b} is much greater than
+   * {@code c}.
+   */
+  private static boolean mulAdd(boolean neg, final long ah, final long al, final long bh, final long bl, long ch, long cl, final boolean sub, final boolean sticky, final int scale, final int drop, final boolean fixed, final RoundingMode rm, final Decimal128 result) {
+    // (x3, x2, x1, x0) = (ah, al) * (bh, bl)
+    final long x0 = al * bl;
+    long x1 = UInt128.multiplyHigh(al, bl);
+    long t = al * bh;
+    x1 += t;
+    long x2 = UInt128.multiplyHigh(al, bh) + (Long.compareUnsigned(x1, t) < 0 ? 1 : 0);
+    t = ah * bl;
+    x1 += t;
+    t = UInt128.multiplyHigh(ah, bl) + (Long.compareUnsigned(x1, t) < 0 ? 1 : 0);
+    x2 += t;
+    long x3 = Long.compareUnsigned(x2, t) < 0 ? 1 : 0;
+    t = ah * bh;
+    x2 += t;
+    x3 += UInt128.multiplyHigh(ah, bh) + (Long.compareUnsigned(x2, t) < 0 ? 1 : 0);
+
+    long y0, y1;
+    if (sub) {
+      // Subtract the digits that follow c as 1 more, and keep them as sticky
+      if (sticky && ++cl == 0)
+        ++ch;
+
+      y0 = x0 - cl;
+      long borrow = Long.compareUnsigned(x0, cl) < 0 ? 1 : 0;
+      y1 = x1 - ch - borrow;
+      borrow = Long.compareUnsigned(x1, ch) < 0 || x1 == ch && borrow != 0 ? 1 : 0;
+      final long y2 = x2 - borrow;
+      x3 -= Long.compareUnsigned(x2, borrow) < 0 ? 1 : 0;
+      x2 = y2;
+      if (x3 < 0) {
+        // c > a * b, so negate the difference
+        neg = !neg;
+        x3 = ~x3;
+        x2 = ~x2;
+        y1 = ~y1;
+        y0 = -y0;
+        if (y0 == 0 && ++y1 == 0 && ++x2 == 0)
+          ++x3;
+      }
+    }
+    else {
+      y0 = x0 + cl;
+      long carry = Long.compareUnsigned(y0, cl) < 0 ? 1 : 0;
+      y1 = x1 + ch + carry;
+      carry = Long.compareUnsigned(y1, ch) < 0 || y1 == ch && carry != 0 ? 1 : 0;
+      x2 += carry;
+      if (x2 == 0 && carry != 0)
+        ++x3;
+    }
+
+    return round(neg, x3, x2, y1, y0, sticky, scale, drop, fixed, rm, result);
+  }
+
+  /**
+   * Assigns to {@code result} the unsigned 256-bit magnitude {@code (x3, x2, x1, x0)} with the sign given by {@code neg} and the
+   * provided {@code scale}, dropping at least {@code drop} digits, and as many more as are needed for the magnitude to fit the
+   * significand, rounded with the provided {@link RoundingMode}. If {@code sticky} is {@code true}, the magnitude is understood to be
+   * followed by nonzero digits. If {@code fixed} is {@code true}, exactly {@code drop} digits are dropped, and the assignment fails if
+   * the rounded magnitude does not fit the significand.
+   */
+  private static boolean round(final boolean neg, long x3, long x2, long x1, long x0, boolean sticky, int scale, int drop, final boolean fixed, final RoundingMode rm, final Decimal128 result) {
+    if (!fixed) {
+      final int bits = x3 != 0 ? 256 - Long.numberOfLeadingZeros(x3) : x2 != 0 ? 192 - Long.numberOfLeadingZeros(x2) : x1 != 0 ? 128 - Long.numberOfLeadingZeros(x1) : 64 - Long.numberOfLeadingZeros(x0);
+      // 1233 / 4096 approximates log10(2) from below, so that 10^k <= 2^(bits - SIGNIFICAND_BITS)
+      final int k = Math.max(0, bits - SIGNIFICAND_BITS) * 1233 >>> 12;
+      if (drop < k)
+        drop = k;
+    }
+
+    // The most significant of the dropped digits
+    long guard = 0;
+    if (drop > 78) {
+      sticky |= (x3 | x2 | x1 | x0) != 0;
+      x3 = x2 = x1 = x0 = 0;
+    }
+    else {
+      // Drop all but the last digit into sticky, then drop the last digit into guard
+      for (int n = drop; n > 0;) {
+        final int e = n == 1 ? 1 : Math.min(n - 1, 18);
+        final long f = FastMath.longE10[e];
+        long q = UInt128.divideE10(0, x3, e);
+        long r = x3 - q * f;
+        x3 = q;
+        q = UInt128.divideE10(r, x2, e);
+        r = x2 - q * f;
+        x2 = q;
+        q = UInt128.divideE10(r, x1, e);
+        r = x1 - q * f;
+        x1 = q;
+        q = UInt128.divideE10(r, x0, e);
+        r = x0 - q * f;
+        x0 = q;
+        if (n == 1)
+          guard = r;
+        else
+          sticky |= r != 0;
+
+        n -= e;
+      }
+    }
+
+    boolean more = x3 != 0 || x2 != 0 || x1 > MAX_HI;
+    while (true) {
+      if (more) {
+        if (fixed)
+          return false;
+
+        sticky |= guard != 0;
+        long q = UInt128.divideE10(0, x3, 1);
+        long r = x3 - q * 10;
+        x3 = q;
+        q = UInt128.divideE10(r, x2, 1);
+        r = x2 - q * 10;
+        x2 = q;
+        q = UInt128.divideE10(r, x1, 1);
+        r = x1 - q * 10;
+        x1 = q;
+        q = UInt128.divideE10(r, x0, 1);
+        guard = x0 - q * 10;
+        x0 = q;
+        ++drop;
+        more = x3 != 0 || x2 != 0 || x1 > MAX_HI;
+        continue;
+      }
+
+      if (guard != 0 || sticky) {
+        final int inc = roundUp(rm, neg, guard, sticky, x0);
+        if (inc < 0)
+          return false;
+
+        if (inc > 0 && ++x0 == 0 && ++x1 > MAX_HI) {
+          // Rounded up to 2^111, so drop 1 more digit from the significand that was MAX
+          if (fixed)
+            return false;
+
+          x0 = -1;
+          x1 = MAX_HI;
+          more = true;
+          continue;
+        }
+      }
+
+      break;
+    }
+
+    scale -= drop;
+    if ((x1 | x0) == 0)
+      return result.assign0(0, 0, scale < Short.MIN_VALUE || Short.MAX_VALUE < scale ? 0 : scale);
+
+    return result.assign0(neg, x1, x0, scale);
+  }
+
+  /**
+   * Returns {@code 1} if the significand that is followed by the dropped digit {@code guard} (and by nonzero digits if
+   * {@code sticky} is {@code true}) is to be rounded up in magnitude, {@code 0} if not, or {@code -1} if rounding is not permitted.
+   */
+  private static int roundUp(final RoundingMode rm, final boolean neg, final long guard, final boolean sticky, final long x0) {
+    if (rm == RoundingMode.UNNECESSARY || rm == null)
+      return -1;
+
+    if (rm == RoundingMode.DOWN)
+      return 0;
+
+    if (rm == RoundingMode.UP)
+      return 1;
+
+    if (rm == RoundingMode.FLOOR)
+      return neg ? 1 : 0;
+
+    if (rm == RoundingMode.CEILING)
+      return neg ? 0 : 1;
+
+    if (rm == RoundingMode.HALF_UP)
+      return guard >= 5 ? 1 : 0;
+
+    if (rm == RoundingMode.HALF_DOWN)
+      return guard > 5 || guard == 5 && sticky ? 1 : 0;
+
+    return guard > 5 || guard == 5 && (sticky || (x0 & 1) != 0) ? 1 : 0;
+  }
+
+  private long hi;
+  private long lo;
+  private short scale;
+
+  /**
+   * Creates a new {@link Decimal128} with the specified {@code significand} and {@code scale}.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   */
+  public Decimal128(final long significand, final short scale) {
+    this.hi = significand >> 63;
+    this.lo = significand;
+    this.scale = scale;
+  }
+
+  /**
+   * Creates a new {@link Decimal128} with the specified 128-bit significand {@code (significandHi, significandLo)} and
+   * {@code scale}.
+   *
+   * @param significandHi The high 64 bits of the significand.
+   * @param significandLo The low 64 bits of the significand.
+   * @param scale The scale.
+   * @throws IllegalArgumentException If the significand cannot be represented as the significand of a {@link Decimal128}.
+   */
+  public Decimal128(final long significandHi, final long significandLo, final short scale) {
+    if (!isDecimal128(significandHi, significandLo))
+      throw new IllegalArgumentException("Significand (" + toBigDecimal(significandHi, significandLo, (short)0) + ") is out of range");
+
+    this.hi = significandHi;
+    this.lo = significandLo;
+    this.scale = scale;
+  }
+
+  /**
+   * Creates a new {@link Decimal128} with the value of the provided {@link Decimal}.
+   *
+   * @param dec The {@link Decimal}.
+   */
+  public Decimal128(final Decimal dec) {
+    this(dec.significand, dec.scale);
+  }
+
+  private Decimal128() {
+  }
+
+  private boolean assign0(final long hi, final long lo, final int scale) {
+    if (scale < Short.MIN_VALUE || Short.MAX_VALUE < scale)
+      return false;
+
+    this.hi = hi;
+    this.lo = lo;
+    this.scale = (short)scale;
+    return true;
+  }
+
+  private boolean assign0(final boolean neg, final long hi, final long lo, final int scale) {
+    return neg ? assign0(lo == 0 ? -hi : ~hi, -lo, scale) : assign0(hi, lo, scale);
+  }
+
+  private boolean encode(final long[] result) {
+    result[0] = (long)scale << SCALE_SHIFT | hi & SIGNIFICAND_HI_MASK;
+    result[1] = lo;
+    return true;
+  }
+
+  /**
+   * Assigns the value of the provided {@link Decimal128} to this {@link Decimal128}.
+   *
+   * @param copy The {@link Decimal128} to copy.
+   * @return {@code this} {@link Decimal128}.
+   */
+  public Decimal128 assign(final Decimal128 copy) {
+    this.hi = copy.hi;
+    this.lo = copy.lo;
+    this.scale = copy.scale;
+    return this;
+  }
+
+  /**
+   * Writes the encoded value of this {@link Decimal128} into {@code result[0]} (hi) and {@code result[1]} (lo).
+   *
+   * @param result The array into which the encoded value is to be written.
+   * @return The provided array.
+   */
+  public long[] toLongs(final long[] result) {
+    encode(result);
+    return result;
+  }
+
+  /**
+   * Adds the provided {@link Decimal128} to this {@link Decimal128}, i.e.:
+   *
+   * <pre>
+   * this = this + add
+   * </pre>
+   *
+   * @param add The {@link Decimal128} to add.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 add(final Decimal128 add) {
+    return add0(hi, lo, scale, add.hi, add.lo, add.scale, this) ? this : null;
+  }
+
+  /**
+   * Subtracts the provided {@link Decimal128} from this {@link Decimal128}, i.e.:
+   *
+   * <pre>
+   * this = this - sub
+   * </pre>
+   *
+   * @param sub The {@link Decimal128} to subtract.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 sub(final Decimal128 sub) {
+    return add0(hi, lo, scale, sub.lo == 0 ? -sub.hi : ~sub.hi, -sub.lo, sub.scale, this) ? this : null;
+  }
+
+  /**
+   * Multiplies this {@link Decimal128} by the provided {@link Decimal128}, i.e.:
+   *
+   * <pre>
+   * this = this * mul
+   * </pre>
+   *
+   * @param mul The {@link Decimal128} by which to multiply.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 mul(final Decimal128 mul) {
+    return mul0(hi, lo, scale, mul.hi, mul.lo, mul.scale, this) ? this : null;
+  }
+
+  /**
+   * Divides this {@link Decimal128} by the provided {@link Decimal128}, i.e.:
+   *
+   * <pre>
+   * this = this / div
+   * </pre>
+   *
+   * @param div The {@link Decimal128} by which to divide.
+   * @param rm The {@link RoundingMode}.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 div(final Decimal128 div, final RoundingMode rm) {
+    return div0(hi, lo, scale, div.hi, div.lo, div.scale, rm, this) ? this : null;
+  }
+
+  /**
+   * Assigns to this {@link Decimal128} the remainder of its division by the provided {@link Decimal128}, i.e.:
+   *
+   * <pre>
+   * this = this % div
+   * </pre>
+   *
+   * @param div The {@link Decimal128} by which to divide.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 rem(final Decimal128 div) {
+    return rem0(hi, lo, scale, div.hi, div.lo, div.scale, this) ? this : null;
+  }
+
+  /**
+   * Sets the scale of this {@link Decimal128} to the provided {@code newScale}, rounding down if the scale is reduced.
+   * <p>
+   * Calling this method is the equivalent of:
+   *
+   * <pre>
+   * setScale(newScale, RoundingMode.DOWN)
+   * </pre>
+   *
+   * @param newScale The new scale.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 setScale(final short newScale) {
+    return setScale(newScale, RoundingMode.DOWN);
+  }
+
+  /**
+   * Sets the scale of this {@link Decimal128} to the provided {@code newScale}. If the scale is reduced, the significand is divided
+   * by the appropriate power of ten and rounded with the provided {@link RoundingMode}; if the scale is increased, the significand is
+   * multiplied by the appropriate power of ten, which must not overflow the significand.
+   *
+   * @param newScale The new scale.
+   * @param rm The {@link RoundingMode}.
+   * @return {@code this} {@link Decimal128}, or {@code null} if the result cannot be represented, in which case this
+   *         {@link Decimal128} is not modified.
+   */
+  public Decimal128 setScale(final short newScale, final RoundingMode rm) {
+    return setScale0(hi, lo, scale, newScale, rm, this) ? this : null;
+  }
+
+  /**
+   * Negates this {@link Decimal128}.
+   *
+   * @return {@code this} {@link Decimal128}.
+   */
+  public Decimal128 neg() {
+    hi = lo == 0 ? -hi : ~hi;
+    lo = -lo;
+    return this;
+  }
+
+  /**
+   * Sets this {@link Decimal128} to its absolute value.
+   *
+   * @return {@code this} {@link Decimal128}.
+   */
+  public Decimal128 abs() {
+    return hi < 0 ? neg() : this;
+  }
+
+  /**
+   * Returns the signum of this {@link Decimal128}.
+   *
+   * @return {@code -1}, {@code 0}, or {@code 1} as the value of this {@link Decimal128} is negative, zero, or positive.
+   */
+  public byte signum() {
+    return signum0(hi, lo);
+  }
+
+  /**
+   * Returns the <i>precision</i> of this {@link Decimal128}. (The precision is the number of digits in the significand.)
+   * <p>
+   * The precision of a zero value is {@code 1}.
+   *
+   * @return The precision of this {@link Decimal128}.
+   */
+  public byte precision() {
+    return precision0(hi, lo);
+  }
+
+  /**
+   * Returns the scale of this {@link Decimal128}.
+   *
+   * @return The scale of this {@link Decimal128}.
+   */
+  public short scale() {
+    return scale;
+  }
+
+  /**
+   * Returns the high 64 bits of the significand of this {@link Decimal128}.
+   *
+   * @return The high 64 bits of the significand of this {@link Decimal128}.
+   */
+  public long significandHi() {
+    return hi;
+  }
+
+  /**
+   * Returns the low 64 bits of the significand of this {@link Decimal128}.
+   *
+   * @return The low 64 bits of the significand of this {@link Decimal128}.
+   */
+  public long significandLo() {
+    return lo;
+  }
+
+  @Override
+  public int compareTo(final Decimal128 dec) {
+    return compare0(hi, lo, scale, dec.hi, dec.lo, dec.scale);
+  }
+
+  /**
+   * Returns a new {@link BigDecimal} with the value of this {@link Decimal128}.
+   *
+   * @return A new {@link BigDecimal} with the value of this {@link Decimal128}.
+   */
+  public BigDecimal toBigDecimal() {
+    return toBigDecimal(hi, lo, scale);
+  }
+
+  @Override
+  public int intValue() {
+    return (int)longValue();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * As with {@link BigDecimal#longValue()}, the fractional part is discarded, and the result is the low 64 bits of the integer part.
+   */
+  @Override
+  public long longValue() {
+    if (scale <= 0) {
+      // 10^n = 2^n * 5^n, so the low 64 bits of the product are 0 once n reaches 64
+      long value = lo;
+      for (int n = -scale; n > 0 && value != 0; --n) // [N]
+        value *= 10;
+
+      return value;
+    }
+
+    // |significand| < 10^MAX_PRECISION
+    if (scale >= MAX_PRECISION)
+      return 0;
+
+    final boolean neg = hi < 0;
+    final long h = neg ? lo == 0 ? -hi : ~hi : hi;
+    final long l = neg ? -lo : lo;
+    final long eh = UInt128.E10_HI[scale];
+    final long q = scale < FastMath.longE10.length ? UInt128.divideE10(h, l, scale) : eh == 0 ? UInt128.divide(h, l, UInt128.E10_LO[scale]) : UInt128.divide(h, l, eh, UInt128.E10_LO[scale]);
+    return neg ? -q : q;
+  }
+
+  @Override
+  public float floatValue() {
+    // Both operands are exact floats, so the single rounding of the product or quotient is correct
+    if (hi == lo >> 63 && -(1 << 24) < lo && lo < 1 << 24 && -10 <= scale && scale <= 10)
+      return scale < 0 ? lo * (float)FastMath.longE10[-scale] : lo / (float)FastMath.longE10[scale];
+
+    return toBigDecimal().floatValue();
+  }
+
+  @Override
+  public double doubleValue() {
+    return hi == lo >> 63 ? FloatingDecimal.doubleValue(lo, scale) : toBigDecimal().doubleValue();
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Long.hashCode(hi) + Long.hashCode(lo)) + scale;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Decimal128))
+      return false;
+
+    final Decimal128 that = (Decimal128)obj;
+    return hi == that.hi && lo == that.lo && scale == that.scale;
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toString();
+  }
+
+  @Override
+  public Decimal128 clone() {
+    try {
+      return (Decimal128)super.clone();
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
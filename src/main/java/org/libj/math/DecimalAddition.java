@@ -36,25 +36,31 @@ abstract class DecimalAddition extends FixedPoint {
     return null;
   };
 
-  static long add0(long dec1, long dec2, final long defaultValue) {
-    long significand1 = significand(dec1);
+  static long add0(final long dec1, final long dec2, final byte scaleBits, final long defaultValue) {
+    final long significand1 = significand(dec1, scaleBits);
     if (significand1 == 0)
       return dec2;
 
-    final long significand2 = significand(dec2);
+    final long significand2 = significand(dec2, scaleBits);
     if (significand2 == 0)
       return dec1;
 
-    final short scale1 = scale(dec1);
-    final short scale2 = scale(dec2);
-    final Decimal result = Decimal.threadLocal.get();
-    if (add0(significand1, scale1, significand2, scale2, false, result))
-      return result.encode(defaultValue);
+    final short scale1 = scale(dec1, Numbers.precision(significand1), scaleBits);
+    final short scale2 = scale(dec2, Numbers.precision(significand2), scaleBits);
+    final Decimal result = Decimal.scratch.acquire();
+    final long value = add0(significand1, scale1, significand2, scale2, false, scaleBits, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
+    Decimal.scratch.release(result);
+    return value;
+  }
 
-    return defaultValue;
+  static boolean add0(final long significand1, final short scale1, final long significand2, final short scale2, final boolean negate, final Decimal result) {
+    return add0(significand1, scale1, significand2, scale2, negate, SCALE_BITS, result);
   }
 
-  static boolean add0(long significand1, short scale1, long significand2, short scale2, final boolean negate, final Decimal result) {
+  static boolean add0(long significand1, short scale1, long significand2, short scale2, final boolean negate, final byte scaleBits, final Decimal result) {
+    final long minSignificand = minSignificand(scaleBits);
+    final long maxSignificand = maxSignificand(scaleBits);
+    final short minPscale = minPscale(scaleBits);
     long v;
     short s;
     long r = 0;
@@ -94,7 +100,7 @@ abstract class DecimalAddition extends FixedPoint {
 
       final int p1 = Numbers.precision(significand1);
       final int p2 = Numbers.precision(significand2);
-      if ((p1 - scale1) - (p2 - scale2) > Numbers.precision(MAX_SIGNIFICAND)) {
+      if ((p1 - scale1) - (p2 - scale2) > Numbers.precision(maxSignificand)) {
         if (z1 > 0) {
           significand1 *= FastMath.longE10[z1];
           scale1 += z1;
@@ -113,7 +119,7 @@ abstract class DecimalAddition extends FixedPoint {
       // but it's ok cause that precision is insignificant).
 
       // How many multiples of 10 until overflow?
-      final int dp1 = Numbers.precision(MIN_SIGNIFICAND / significand1) - 1;
+      final int dp1 = Numbers.precision(minSignificand / significand1) - 1;
 
       // ds is always positive, and greater than 0
       int ds = scale2 - scale1;
@@ -158,29 +164,24 @@ abstract class DecimalAddition extends FixedPoint {
         }
 
         if (ds2 > 0) {
-          final int[] val1 = BigInt.assignInPlace(Decimal.buf1.get(), significand1);
-          int len = val1[0];
-          final int sig;
-          if (len < 0) {
-            len = -len;
-            sig = -1;
-          }
-          else {
-            sig = 1;
-          }
-
+          // Compute significand1 * 10^ds2 + significand2 as a signed 128-bit (hi, lo)
           long f = FastMath.longE10[ds2];
-          if (ds2 < 10)
-            len = BigInt.umul0(val1, BigInt.OFF, len, (int)f);
-          else
-            len = BigInt.umul0(val1, BigInt.OFF, len, f & BigInt.LONG_MASK, f >>> 32);
+          final long m1 = Math.abs(significand1);
+          long hi = UInt128.multiplyHigh(m1, f);
+          long lo = m1 * f;
+          if (significand1 < 0) {
+            hi = lo == 0 ? -hi : ~hi;
+            lo = -lo;
+          }
 
-          val1[0] = len * sig;
-          BigInt.addInPlace(val1, significand2);
+          final long sum = lo + significand2;
+          hi += (significand2 >> 63) + (Long.compareUnsigned(sum, lo) < 0 ? 1 : 0);
+          lo = sum;
 
-          if (f <= 100 && BigInt.equals(BigInt.assignInPlace(Decimal.buf2.get(), v = BigInt.longValue(val1)), val1)) {
+          if (f <= 100 && hi == lo >> 63) {
+            v = lo;
             scale1 += f == 100 ? 2 : 1;
-            final long p = v / MIN_SIGNIFICAND;
+            final long p = v / minSignificand;
             if (p != 0 && (ds = Numbers.precision(p)) > 0) {
               scale1 -= ds;
               if (--ds > 0) {
@@ -189,31 +190,51 @@ abstract class DecimalAddition extends FixedPoint {
                 v /= f;
               }
 
-              if (v != (v < 0 ? MIN_SIGNIFICAND : MAX_SIGNIFICAND) || ds == 0 || roundHalfUp(ds == 1 ? r0 : r0 / FastMath.longE10[ds - 1]) != 0)
+              if (v != (v < 0 ? minSignificand : maxSignificand) || ds == 0 || roundHalfUp(ds == 1 ? r0 : r0 / FastMath.longE10[ds - 1]) != 0)
                 v = roundHalfUp10(v);
               else
                 ++scale1;
             }
           }
           else {
+            // Divide the magnitude, and carry the sign as is done for a value-encoded number
+            final boolean sig = hi >= 0;
+            if (!sig) {
+              hi = lo == 0 ? -hi : ~hi;
+              lo = -lo;
+            }
+
             long r1;
             boolean looped = false;
+            int e = ds2;
             do {
-              r1 = r0 = BigInt.divRem(val1, f);
+              final long q = UInt128.divideE10(hi, lo, e);
+              r1 = r0 = lo - q * f;
+              hi /= f;
+              lo = q;
+              if (!sig) {
+                r1 = r0 = -r0;
+                v = -lo;
+              }
+              else {
+                v = lo;
+              }
+
               f /= 10;
               r0 /= f;
               r = roundHalfUp(r0);
-              v = BigInt.longValue(val1) + r;
-              if (v < 0 == val1[0] < 0)
+              v += r;
+              if (v < 0 == (!sig && (hi | lo) != 0))
                 break;
 
               f = 10;
+              e = 1;
               looped = true;
               --scale1;
             }
             while (true);
 
-            if (!looped && Numbers.precision(MIN_SIGNIFICAND / v) == 2) { // We can get 1 more digit of precision
+            if (!looped && Numbers.precision(minSignificand / v) == 2) { // We can get 1 more digit of precision
               f /= 10;
               if (f > 1)
                 r1 /= f;
@@ -251,7 +272,7 @@ abstract class DecimalAddition extends FixedPoint {
             if (v < 0 ? sig != -1 : v == 0 ? sig != 0 : sig != 1) {
               // overflow can only be off by a factor of 10,
               // since this is addition/subtraction
-              if (--s < MIN_PSCALE) {
+              if (--s < minPscale) {
                 result.error("Overflow");
                 return false;
               }
@@ -267,10 +288,10 @@ abstract class DecimalAddition extends FixedPoint {
     }
 
     byte p = Numbers.precision(v);
-    if (v < MIN_SIGNIFICAND || MAX_SIGNIFICAND < v) {
+    if (v < minSignificand || maxSignificand < v) {
       // overflow can only be off by a factor of 10, since this is
       // addition/subtraction
-      if (--s - --p < MIN_PSCALE) {
+      if (--s - --p < minPscale) {
         result.error("Overflow");
         return false;
       }
@@ -279,8 +300,8 @@ abstract class DecimalAddition extends FixedPoint {
     }
 
     if (negate) {
-      if (v == MIN_SIGNIFICAND) {
-        if (--s - --p < MIN_PSCALE) {
+      if (v == minSignificand) {
+        if (--s - --p < minPscale) {
           result.error("Overflow");
           return false;
         }
@@ -291,6 +312,6 @@ abstract class DecimalAddition extends FixedPoint {
       v = -v;
     }
 
-    return checkScale(v, p, s, result);
+    return checkScale(v, p, s, scaleBits, result);
   }
 }
\ No newline at end of file
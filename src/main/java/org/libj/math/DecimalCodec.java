@@ -0,0 +1,818 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.libj.lang.Numbers;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+/**
+ * A layout of the {@code long} encoding of a decimal, defined by the number of bits reserved for the scale. The encoding is that
+ * of {@link Decimal#valueOf(long,int,long)}: the sign bit, followed by {@code scaleBits} bits for {@code scale - precision}, and
+ * the remaining {@code 63 - scaleBits} bits for the significand. Fewer scale bits give a narrower range of magnitudes, but a wider
+ * significand:
+ * <ul>
+ * <li>{@link #SCALE_4}: {@code scale - precision} in [{@code -8}, {@code 7}], and a 60-bit significand.</li>
+ * <li>{@link #SCALE_6}: {@code scale - precision} in [{@code -32}, {@code 31}], and a 58-bit significand.</li>
+ * <li>{@link #SCALE_9}: {@code scale - precision} in [{@code -256}, {@code 255}], and a 55-bit significand. This is the layout
+ * of the static API of {@link Decimal} and {@link DecimalMath}.</li>
+ * </ul>
+ * The arithmetic of each layout rounds its results to the significand of the layout. The transcendental functions are evaluated
+ * with {@link DecimalMath} to the precision of {@link Decimal}, and the result is then encoded in the layout.
+ * <p>
+ * Each layout is a final nested class that passes its number of scale bits to the static cores of {@link FixedPoint} and
+ * {@link Decimal} as a compile-time constant. Calls on the {@code static final} instances are therefore bound statically, and once
+ * a core is inlined, the masks and limits of the layout are computed from a constant.
+ */
+public abstract class DecimalCodec {
+  /**
+   * The {@link DecimalCodec} with 4 bits reserved for the scale.
+   */
+  public static final Scale4 SCALE_4 = new Scale4();
+
+  /**
+   * The {@link DecimalCodec} with 6 bits reserved for the scale.
+   */
+  public static final Scale6 SCALE_6 = new Scale6();
+
+  /**
+   * The {@link DecimalCodec} with 9 bits reserved for the scale, which is the layout of {@link Decimal}.
+   */
+  public static final Scale9 SCALE_9 = new Scale9();
+
+  /**
+   * Returns the predefined {@link DecimalCodec} with the provided number of {@code scaleBits}.
+   *
+   * @param scaleBits The number of bits reserved for the scale.
+   * @return The predefined {@link DecimalCodec} with the provided number of {@code scaleBits}.
+   * @throws IllegalArgumentException If there is no predefined {@link DecimalCodec} with the provided number of {@code scaleBits}.
+   */
+  public static DecimalCodec of(final int scaleBits) {
+    if (scaleBits == Scale4.SCALE_BITS)
+      return SCALE_4;
+
+    if (scaleBits == Scale6.SCALE_BITS)
+      return SCALE_6;
+
+    if (scaleBits == Scale9.SCALE_BITS)
+      return SCALE_9;
+
+    throw new IllegalArgumentException("Unsupported scaleBits: " + scaleBits);
+  }
+
+  DecimalCodec() {
+  }
+
+  /**
+   * Returns the number of bits reserved for the scale in this layout.
+   *
+   * @return The number of bits reserved for the scale in this layout.
+   */
+  public abstract byte scaleBits();
+
+  /**
+   * Returns the minimum significand of this layout.
+   *
+   * @return The minimum significand of this layout.
+   */
+  public long minSignificand() {
+    return FixedPoint.minSignificand(scaleBits());
+  }
+
+  /**
+   * Returns the maximum significand of this layout.
+   *
+   * @return The maximum significand of this layout.
+   */
+  public long maxSignificand() {
+    return FixedPoint.maxSignificand(scaleBits());
+  }
+
+  /**
+   * Returns the maximum number of digits of a significand of this layout.
+   *
+   * @return The maximum number of digits of a significand of this layout.
+   */
+  public byte maxPrecision() {
+    return Numbers.precision(maxSignificand());
+  }
+
+  /**
+   * Returns the minimum of {@code scale - precision} of this layout.
+   *
+   * @return The minimum of {@code scale - precision} of this layout.
+   */
+  public short minPscale() {
+    return FixedPoint.minPscale(scaleBits());
+  }
+
+  /**
+   * Returns the maximum of {@code scale - precision} of this layout.
+   *
+   * @return The maximum of {@code scale - precision} of this layout.
+   */
+  public short maxPscale() {
+    return FixedPoint.maxPscale(scaleBits());
+  }
+
+  /**
+   * Returns {@code true} if the provided {@code significand} can be represented in this layout, otherwise {@code false}.
+   *
+   * @param significand The significand.
+   * @return {@code true} if the provided {@code significand} can be represented in this layout, otherwise {@code false}.
+   */
+  public boolean isDecimal(final long significand) {
+    return minSignificand() <= significand && significand <= maxSignificand();
+  }
+
+  /**
+   * Encodes the provided {@code significand} and {@code scale} in this layout.
+   *
+   * @param significand The significand.
+   * @param scale The scale.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The provided {@code significand} and {@code scale} encoded in this layout.
+   * @see Decimal#valueOf(long,int,long)
+   */
+  public abstract long valueOf(long significand, int scale, long defaultValue);
+
+  /**
+   * Returns the significand of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The significand of the provided decimal encoded in this layout.
+   */
+  public abstract long significand(long dec);
+
+  /**
+   * Returns the scale of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The scale of the provided decimal encoded in this layout.
+   */
+  public abstract short scale(long dec);
+
+  /**
+   * Returns the absolute value of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The absolute value of the provided decimal encoded in this layout.
+   * @see Decimal#abs(long,long)
+   */
+  public abstract long abs(long dec, long defaultValue);
+
+  /**
+   * Returns the negation of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The negation of the provided decimal encoded in this layout.
+   * @see Decimal#neg(long,long)
+   */
+  public abstract long neg(long dec, long defaultValue);
+
+  /**
+   * Returns the result of {@code dec1 + dec2}, with the arguments and the result encoded in this layout.
+   *
+   * @param dec1 The first argument.
+   * @param dec2 The second argument.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The result of {@code dec1 + dec2}.
+   * @see Decimal#add(long,long,long)
+   */
+  public abstract long add(long dec1, long dec2, long defaultValue);
+
+  /**
+   * Returns the result of {@code dec1 - dec2}, with the arguments and the result encoded in this layout.
+   *
+   * @param dec1 The first argument.
+   * @param dec2 The second argument.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The result of {@code dec1 - dec2}.
+   * @see Decimal#sub(long,long,long)
+   */
+  public abstract long sub(long dec1, long dec2, long defaultValue);
+
+  /**
+   * Returns the result of {@code dec1 * dec2}, with the arguments and the result encoded in this layout.
+   *
+   * @param dec1 The first argument.
+   * @param dec2 The second argument.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The result of {@code dec1 * dec2}.
+   * @see Decimal#mul(long,long,long)
+   */
+  public abstract long mul(long dec1, long dec2, long defaultValue);
+
+  /**
+   * Returns the result of {@code dec1 / dec2}, with the arguments and the result encoded in this layout.
+   *
+   * @param dec1 The first argument.
+   * @param dec2 The second argument.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The result of {@code dec1 / dec2}.
+   * @see Decimal#div(long,long,RoundingMode,long)
+   */
+  public abstract long div(long dec1, long dec2, RoundingMode rm, long defaultValue);
+
+  /**
+   * Returns the result of {@code dec1 % dec2}, with the arguments and the result encoded in this layout.
+   *
+   * @param dec1 The first argument.
+   * @param dec2 The second argument.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The result of {@code dec1 % dec2}.
+   * @see Decimal#rem(long,long,long)
+   */
+  public abstract long rem(long dec1, long dec2, long defaultValue);
+
+  /**
+   * Returns the provided decimal encoded in this layout with its scale set to {@code newScale}, rounded with the provided
+   * {@link RoundingMode}.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param newScale The new scale.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The provided decimal with its scale set to {@code newScale}.
+   * @see Decimal#setScale(long,short,RoundingMode,long)
+   */
+  public abstract long setScale(long dec, short newScale, RoundingMode rm, long defaultValue);
+
+  /**
+   * Returns the provided decimal encoded in this layout with its scale set to {@code newScale}, rounded down.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param newScale The new scale.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The provided decimal with its scale set to {@code newScale}.
+   * @see Decimal#setScale(long,short,long)
+   */
+  public long setScale(final long dec, final short newScale, final long defaultValue) {
+    return setScale(dec, newScale, RoundingMode.DOWN, defaultValue);
+  }
+
+  /**
+   * Compares the provided decimals encoded in this layout numerically.
+   *
+   * @param dec1 The first decimal.
+   * @param dec2 The second decimal.
+   * @return The value {@code 0} if {@code dec1 == dec2}; a value less than {@code 0} if {@code dec1 < dec2}; and a value greater
+   *         than {@code 0} if {@code dec1 > dec2}.
+   * @see Decimal#compare(long,long)
+   */
+  public abstract int compare(long dec1, long dec2);
+
+  /**
+   * Returns the signum of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The signum of the provided decimal encoded in this layout.
+   */
+  public byte signum(final long dec) {
+    final long significand = significand(dec);
+    return significand < 0 ? -1 : significand == 0 ? 0 : (byte)1;
+  }
+
+  /**
+   * Returns the precision of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The precision of the provided decimal encoded in this layout.
+   */
+  public byte precision(final long dec) {
+    return Numbers.precision(significand(dec));
+  }
+
+  /**
+   * Returns the provided decimal encoded in the provided layout, encoded in this layout.
+   *
+   * @param dec The decimal encoded in the provided layout.
+   * @param codec The layout of the provided decimal.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The provided decimal encoded in this layout.
+   */
+  public long valueOf(final long dec, final DecimalCodec codec, final long defaultValue) {
+    return codec == this ? dec : valueOf(codec.significand(dec), codec.scale(dec), defaultValue);
+  }
+
+  /**
+   * Returns the value of the provided {@link Decimal} encoded in this layout.
+   *
+   * @param dec The {@link Decimal}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The value of the provided {@link Decimal} encoded in this layout.
+   */
+  public long valueOf(final Decimal dec, final long defaultValue) {
+    return valueOf(dec.significand, dec.scale, defaultValue);
+  }
+
+  /**
+   * Returns the value of the provided {@link BigDecimal} encoded in this layout, rounded with the provided {@link RoundingMode} to
+   * the significand of this layout if necessary.
+   *
+   * @param bDec The {@link BigDecimal}.
+   * @param rm The {@link RoundingMode}, or {@code null} if rounding is not permitted.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The value of the provided {@link BigDecimal} encoded in this layout.
+   */
+  public long valueOf(BigDecimal bDec, final RoundingMode rm, final long defaultValue) {
+    bDec = bDec.stripTrailingZeros();
+    final int significandBits = 63 - scaleBits();
+    if (bDec.unscaledValue().bitLength() > significandBits) {
+      if (rm == RoundingMode.UNNECESSARY || rm == null)
+        return defaultValue;
+
+      // Rounding to maxPrecision digits may still overflow the significand, in which case 1 more digit is dropped
+      bDec = bDec.round(new MathContext(maxPrecision(), rm));
+      if (bDec.unscaledValue().bitLength() > significandBits)
+        bDec = bDec.round(new MathContext(maxPrecision() - 1, rm));
+    }
+
+    return valueOf(bDec.unscaledValue().longValue(), bDec.scale(), defaultValue);
+  }
+
+  /**
+   * Returns a new {@link Decimal} with the value of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return A new {@link Decimal} with the value of the provided decimal encoded in this layout.
+   */
+  public Decimal toDecimal(final long dec) {
+    return new Decimal(significand(dec), scale(dec));
+  }
+
+  /**
+   * Returns a new {@link BigDecimal} with the value of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return A new {@link BigDecimal} with the value of the provided decimal encoded in this layout.
+   */
+  public BigDecimal toBigDecimal(final long dec) {
+    return BigDecimal.valueOf(significand(dec), scale(dec));
+  }
+
+  /**
+   * Returns the {@code long} value of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The {@code long} value of the provided decimal encoded in this layout.
+   * @see Decimal#longValue(long,short)
+   */
+  public long longValue(final long dec) {
+    return Decimal.longValue(significand(dec), scale(dec));
+  }
+
+  /**
+   * Returns the {@code double} value of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The {@code double} value of the provided decimal encoded in this layout.
+   * @see Decimal#doubleValue(long,short)
+   */
+  public double doubleValue(final long dec) {
+    return Decimal.doubleValue(significand(dec), scale(dec));
+  }
+
+  /**
+   * Returns the string representation of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @return The string representation of the provided decimal encoded in this layout.
+   * @see Decimal#toString(long,short)
+   */
+  public String toString(final long dec) {
+    return Decimal.toString(significand(dec), scale(dec));
+  }
+
+  /**
+   * Returns the square root of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The square root of the provided decimal.
+   * @see DecimalMath#sqrt(long,RoundingMode,long)
+   */
+  public long sqrt(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.sqrt(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the natural logarithm of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The natural logarithm of the provided decimal.
+   * @see DecimalMath#log(long,RoundingMode,long)
+   */
+  public long log(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.log(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the logarithm of the provided decimal encoded in this layout in the base {@code b}.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param b The base.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The logarithm of the provided decimal in the base {@code b}.
+   * @see DecimalMath#log(long,double,RoundingMode,long)
+   */
+  public long log(final long dec, final double b, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.log(dec, b, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the binary logarithm of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The binary logarithm of the provided decimal.
+   * @see DecimalMath#log2(long,RoundingMode,long)
+   */
+  public long log2(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.log2(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the decimal logarithm of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The decimal logarithm of the provided decimal.
+   * @see DecimalMath#log10(long,RoundingMode,long)
+   */
+  public long log10(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.log10(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the sine of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The sine of the provided decimal.
+   * @see DecimalMath#sin(long,RoundingMode,long)
+   */
+  public long sin(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.sin(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the cosine of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The cosine of the provided decimal.
+   * @see DecimalMath#cos(long,RoundingMode,long)
+   */
+  public long cos(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.cos(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the tangent of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The tangent of the provided decimal.
+   * @see DecimalMath#tan(long,RoundingMode,long)
+   */
+  public long tan(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.tan(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the arcsine of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The arcsine of the provided decimal.
+   * @see DecimalMath#asin(long,RoundingMode,long)
+   */
+  public long asin(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.asin(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the arccosine of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The arccosine of the provided decimal.
+   * @see DecimalMath#acos(long,RoundingMode,long)
+   */
+  public long acos(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.acos(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the arctangent of the provided decimal encoded in this layout.
+   *
+   * @param dec The decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The arctangent of the provided decimal.
+   * @see DecimalMath#atan(long,RoundingMode,long)
+   */
+  public long atan(final long dec, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.atan(dec, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the atan2 of the provided decimals encoded in this layout.
+   *
+   * @param decY The Y decimal encoded in this layout.
+   * @param decX The X decimal encoded in this layout.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The atan2 of the provided decimals.
+   * @see DecimalMath#atan2(long,long,RoundingMode,long)
+   */
+  public long atan2(final long decY, final long decX, final RoundingMode rm, final long defaultValue) {
+    return DecimalMath.atan2(decY, decX, rm, scaleBits(), defaultValue);
+  }
+
+  /**
+   * Returns the provided decimal {@code decX} raised to the power of the provided decimal {@code decY}, with the arguments and the
+   * result encoded in this layout.
+   *
+   * @param decX The base.
+   * @param decY The power.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return The provided decimal {@code decX} raised to the power of the provided decimal {@code decY}.
+   * @see DecimalMath#pow(long,long,RoundingMode,long)
+   */
+  public long pow(final long decX, final long decY, final RoundingMode rm, final long defaultValue) {
+    return valueOf(BigDecimalMath.pow(toBigDecimal(decX), toBigDecimal(decY), new MathContext(maxPrecision(), rm)), rm, defaultValue);
+  }
+
+  /**
+   * Returns <i>e</i> raised to the power of the provided decimal encoded in this layout.
+   *
+   * @param dec The power.
+   * @param rm The {@link RoundingMode}.
+   * @param defaultValue The value to be returned if the result cannot be represented in this layout.
+   * @return <i>e</i> raised to the power of the provided decimal.
+   * @see DecimalMath#exp(long,RoundingMode,long)
+   */
+  public long exp(final long dec, final RoundingMode rm, final long defaultValue) {
+    return valueOf(BigDecimalMath.exp(toBigDecimal(dec), new MathContext(maxPrecision(), rm)), rm, defaultValue);
+  }
+
+  /**
+   * The {@link DecimalCodec} with 4 bits reserved for the scale.
+   */
+  public static final class Scale4 extends DecimalCodec {
+    private static final byte SCALE_BITS = 4;
+
+    private Scale4() {
+    }
+
+    @Override
+    public byte scaleBits() {
+      return SCALE_BITS;
+    }
+
+    @Override
+    public long valueOf(final long significand, final int scale, final long defaultValue) {
+      return FixedPoint.encode(significand, Numbers.precision(significand), scale, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long significand(final long dec) {
+      return FixedPoint.significand(dec, SCALE_BITS);
+    }
+
+    @Override
+    public short scale(final long dec) {
+      return FixedPoint.scale(dec, Numbers.precision(FixedPoint.significand(dec, SCALE_BITS)), SCALE_BITS);
+    }
+
+    @Override
+    public long abs(final long dec, final long defaultValue) {
+      return Decimal.abs(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long neg(final long dec, final long defaultValue) {
+      return Decimal.neg(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long add(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.add(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long sub(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.sub(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long mul(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.mul(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long div(final long dec1, final long dec2, final RoundingMode rm, final long defaultValue) {
+      return Decimal.div(dec1, dec2, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long rem(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.rem(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long setScale(final long dec, final short newScale, final RoundingMode rm, final long defaultValue) {
+      return Decimal.setScale(dec, newScale, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public int compare(final long dec1, final long dec2) {
+      return Decimal.compare(dec1, dec2, SCALE_BITS);
+    }
+  }
+
+  /**
+   * The {@link DecimalCodec} with 6 bits reserved for the scale.
+   */
+  public static final class Scale6 extends DecimalCodec {
+    private static final byte SCALE_BITS = 6;
+
+    private Scale6() {
+    }
+
+    @Override
+    public byte scaleBits() {
+      return SCALE_BITS;
+    }
+
+    @Override
+    public long valueOf(final long significand, final int scale, final long defaultValue) {
+      return FixedPoint.encode(significand, Numbers.precision(significand), scale, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long significand(final long dec) {
+      return FixedPoint.significand(dec, SCALE_BITS);
+    }
+
+    @Override
+    public short scale(final long dec) {
+      return FixedPoint.scale(dec, Numbers.precision(FixedPoint.significand(dec, SCALE_BITS)), SCALE_BITS);
+    }
+
+    @Override
+    public long abs(final long dec, final long defaultValue) {
+      return Decimal.abs(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long neg(final long dec, final long defaultValue) {
+      return Decimal.neg(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long add(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.add(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long sub(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.sub(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long mul(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.mul(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long div(final long dec1, final long dec2, final RoundingMode rm, final long defaultValue) {
+      return Decimal.div(dec1, dec2, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long rem(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.rem(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long setScale(final long dec, final short newScale, final RoundingMode rm, final long defaultValue) {
+      return Decimal.setScale(dec, newScale, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public int compare(final long dec1, final long dec2) {
+      return Decimal.compare(dec1, dec2, SCALE_BITS);
+    }
+  }
+
+  /**
+   * The {@link DecimalCodec} with 9 bits reserved for the scale, which is the layout of the static API of {@link Decimal} and {@link DecimalMath}.
+   */
+  public static final class Scale9 extends DecimalCodec {
+    private static final byte SCALE_BITS = 9;
+
+    private Scale9() {
+    }
+
+    @Override
+    public byte scaleBits() {
+      return SCALE_BITS;
+    }
+
+    @Override
+    public long valueOf(final long significand, final int scale, final long defaultValue) {
+      return FixedPoint.encode(significand, Numbers.precision(significand), scale, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long significand(final long dec) {
+      return FixedPoint.significand(dec, SCALE_BITS);
+    }
+
+    @Override
+    public short scale(final long dec) {
+      return FixedPoint.scale(dec, Numbers.precision(FixedPoint.significand(dec, SCALE_BITS)), SCALE_BITS);
+    }
+
+    @Override
+    public long abs(final long dec, final long defaultValue) {
+      return Decimal.abs(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long neg(final long dec, final long defaultValue) {
+      return Decimal.neg(dec, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long add(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.add(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long sub(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.sub(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long mul(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.mul(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long div(final long dec1, final long dec2, final RoundingMode rm, final long defaultValue) {
+      return Decimal.div(dec1, dec2, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long rem(final long dec1, final long dec2, final long defaultValue) {
+      return Decimal.rem(dec1, dec2, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public long setScale(final long dec, final short newScale, final RoundingMode rm, final long defaultValue) {
+      return Decimal.setScale(dec, newScale, rm, SCALE_BITS, defaultValue);
+    }
+
+    @Override
+    public int compare(final long dec1, final long dec2) {
+      return Decimal.compare(dec1, dec2, SCALE_BITS);
+    }
+  }
+}
@@ -23,12 +23,19 @@ import org.libj.lang.Numbers;
 abstract class DecimalDivision extends FixedPoint {
   private static final byte maxE10 = (byte)(FastMath.longE10.length - 1);
 
-  static boolean div0(long significand1, int scale1, long significand2, int scale2, final Decimal result, final RoundingMode rm) {
+  static boolean div0(final long significand1, final int scale1, final long significand2, final int scale2, final Decimal result, final RoundingMode rm) {
+    return div0(significand1, scale1, significand2, scale2, SCALE_BITS, result, rm);
+  }
+
+  static boolean div0(long significand1, int scale1, long significand2, int scale2, final byte scaleBits, final Decimal result, final RoundingMode rm) {
     if (rm != RoundingMode.HALF_UP)
       throw new IllegalArgumentException("Only RoundingMode.HALF_UP is supported");
 
+    final long minSignificand = minSignificand(scaleBits);
+    final long maxSignificand = maxSignificand(scaleBits);
+
     final byte p1 = Numbers.precision(significand1);
-    int ds1 = Numbers.precision(MIN_SIGNIFICAND / significand1) - 1;
+    int ds1 = Numbers.precision(minSignificand / significand1) - 1;
 
     // If significand2 has trailing zeroes, remove them first.
     final byte z2 = Numbers.trailingZeroes(significand2);
@@ -52,7 +59,7 @@ abstract class DecimalDivision extends FixedPoint {
         r1 *= 10;
         r2 = r1 / significand2;
         if (r2 != 0) {
-          final int ds = Numbers.precision(MIN_SIGNIFICAND / v) - 1;
+          final int ds = Numbers.precision(minSignificand / v) - 1;
           if (ds > 0) {
             v *= 10;
             v += r2;
@@ -66,7 +73,7 @@ abstract class DecimalDivision extends FixedPoint {
       }
     }
     else {
-      int p = Numbers.precision(MAX_SIGNIFICAND) + p1 + p2 - 1;
+      int p = Numbers.precision(maxSignificand) + p1 + p2 - 1;
       if (ds1 > p) {
         ds1 = p;
         p = 0;
@@ -78,26 +85,33 @@ abstract class DecimalDivision extends FixedPoint {
       significand1 *= FastMath.longE10[ds1];
       scale1 += ds1;
 
-      final int[] val = BigInt.assignInPlace(Decimal.buf1.get(), significand1);
-      if (p > 0) {
-        if (p > maxE10)
-          p = maxE10;
-
-        BigInt.mulInPlace(val, FastMath.longE10[p]);
-        scale1 += p;
-      }
+      if (p > maxE10)
+        p = maxE10;
 
+      // Compute the magnitude of the quotient of significand1 * 10^p and significand2 as an unsigned 128-bit (hi, lo)
+      final boolean sig = significand1 < 0 == significand2 < 0;
+      final long m1 = Math.abs(significand1);
+      final long m2 = Math.abs(significand2);
+      long hi = UInt128.multiplyHigh(m1, FastMath.longE10[p]);
+      long lo = m1 * FastMath.longE10[p];
+      scale1 += p;
       s = scale1 - scale2;
 
-      r1 = BigInt.divRem(val, significand2);
-      final int[] val2 = BigInt.copyInPlace(val, Math.abs(val[0]) + 1, Decimal.buf2.get());
-      final long dp = BigInt.longValue(BigInt.div(val2, MAX_SIGNIFICAND));
+      final long q = UInt128.divide(hi, lo, m2);
+      r1 = lo - q * m2;
+      if (significand1 < 0)
+        r1 = -r1;
+
+      hi = UInt128.divideUnsigned(hi, m2);
+      lo = q;
+
+      final long dp = UInt128.divide(hi, lo, maxSignificand);
       if (dp == 0) {
-        v = BigInt.longValue(val);
+        v = sig ? lo : -lo;
         if (r1 != 0) {
           r1 /= significand2 / 100;
           if (r1 != 0) {
-            final int ds = Numbers.precision(MIN_SIGNIFICAND / v) - 1;
+            final int ds = Numbers.precision(minSignificand / v) - 1;
             if (ds > 0) {
               v *= 10;
               v += r1 / 10;
@@ -117,19 +131,27 @@ abstract class DecimalDivision extends FixedPoint {
           return false;
         }
 
-        r1 = BigInt.divRem(val, FastMath.longE10[ds]);
-        v = BigInt.longValue(val);
-        if (r1 != 0) {
-          final byte rp = Numbers.precision(r1);
-          final long r = rp < ds ? 0 : rp == 1 ? r1 : r1 / FastMath.longE10[rp - 1];
-          v = roundHalfUp(r, v);
-        }
+        v = UInt128.divideE10(hi, lo, ds);
+        final long rem = lo - v * FastMath.longE10[ds];
+        if (rem != 0)
+          v = roundHalfUp(rem / FastMath.longE10[ds - 1], v);
+
+        if (!sig)
+          v = -v;
 
         s -= ds;
       }
     }
 
-    return checkScale(v, Numbers.precision(v), s, result);
+    return checkScale(v, Numbers.precision(v), s, scaleBits, result);
+  }
+
+  /**
+   * Returns {@code (m * f) % d}, where all of the arguments are unsigned.
+   */
+  private static long mulMod(final long m, final long f, final long d) {
+    final long lo = m * f;
+    return lo - UInt128.divide(UInt128.multiplyHigh(m, f), lo, d) * d;
   }
 
   static boolean rem0(long significand1, int scale1, long significand2, int scale2, final Decimal result) {
@@ -168,14 +190,18 @@ abstract class DecimalDivision extends FixedPoint {
           return true;
         }
 
-        final int[] val1 = BigInt.assignInPlace(Decimal.buf1.get(), significand1);
+        // Reduce (significand1 * 10^ds) % significand2 on the magnitudes one factor of 10^18 at a time, so each product fits 128 bits
+        final long m2 = Math.abs(significand2);
+        long rem = UInt128.remainderUnsigned(Math.abs(significand1), m2);
         if (ds > 18) {
-          BigInt.mulInPlace(val1, FastMath.longE10[18]);
+          rem = mulMod(rem, FastMath.longE10[18], m2);
           ds -= 18;
         }
 
-        BigInt.mulInPlace(val1, FastMath.longE10[ds]);
-        final long rem = BigInt.rem(val1, significand2);
+        rem = mulMod(rem, FastMath.longE10[ds], m2);
+        if (significand1 < 0)
+          rem = -rem;
+
         result.assign(rem, (short)scale2);
 
         return true;
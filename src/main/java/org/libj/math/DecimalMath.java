@@ -130,8 +130,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long sqrt(final long dec, final RoundingMode rm, final long defaultValue) {
+    return sqrt(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long sqrt(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return sqrt0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return sqrt0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -192,11 +197,11 @@ public final class DecimalMath {
   }
 
   private static double log0(final long significand, final short scale) {
-    return DecimalNative.nativeLog(significand, scale);
+    return DecimalNative.log(significand, scale);
   }
 
   private static double log0(final long significand, final short scale, final double baseLog) {
-    return DecimalNative.nativeLogBase(significand, scale, baseLog);
+    return DecimalNative.logBase(significand, scale, baseLog);
   }
 
   private static double ln0(final long significand, final short scale) {
@@ -221,8 +226,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long log(final long dec, final RoundingMode rm, final long defaultValue) {
+    return log(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long log(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return log0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return log0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -279,8 +289,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long log(final long dec, final double b, final RoundingMode rm, final long defaultValue) {
+    return log(dec, b, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long log(final long dec, final double b, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return log0(significand(dec), scale(dec), Math.log(b), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return log0(significand, scale(dec, Numbers.precision(significand), scaleBits), Math.log(b), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -338,8 +353,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long log2(final long dec, final RoundingMode rm, final long defaultValue) {
+    return log2(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long log2(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return log0(significand(dec), scale(dec), Constants.LOG_2, rm, result) ? result.encode(defaultValue) : defaultValue;
+    return log0(significand, scale(dec, Numbers.precision(significand), scaleBits), Constants.LOG_2, rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -395,8 +415,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long log10(final long dec, final RoundingMode rm, final long defaultValue) {
+    return log10(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long log10(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return log0(significand(dec), scale(dec), Constants.LOG_10, rm, result) ? result.encode(defaultValue) : defaultValue;
+    return log0(significand, scale(dec, Numbers.precision(significand), scaleBits), Constants.LOG_10, rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -442,7 +467,7 @@ public final class DecimalMath {
     // FIXME: Very narrow range for native execution
     if (scale == 0 && Math.abs(significand) < 2000) {
       final long defaultValue = Long.MIN_VALUE;
-      final long dec = DecimalNative.nativeSin(significand, scale, rm.ordinal(), defaultValue);
+      final long dec = DecimalNative.sin(significand, scale, rm.ordinal(), defaultValue);
       if (dec == defaultValue)
         return false;
 
@@ -471,8 +496,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long sin(final long dec, final RoundingMode rm, final long defaultValue) {
+    return sin(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long sin(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return sin0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return sin0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -518,7 +548,7 @@ public final class DecimalMath {
     // FIXME: Very narrow range for native execution
     if (scale == 0 && Math.abs(significand) < 2000) {
       final long defaultValue = Long.MIN_VALUE;
-      final long dec = DecimalNative.nativeCos(significand, scale, rm.ordinal(), defaultValue);
+      final long dec = DecimalNative.cos(significand, scale, rm.ordinal(), defaultValue);
       if (dec == defaultValue)
         return false;
 
@@ -547,8 +577,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long cos(final long dec, final RoundingMode rm, final long defaultValue) {
+    return cos(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long cos(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return cos0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return cos0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -594,7 +629,7 @@ public final class DecimalMath {
     // FIXME: Very narrow range for native execution
     if (scale == 0 && Math.abs(significand) < 2000) {
       final long defaultValue = Long.MIN_VALUE;
-      final long dec = DecimalNative.nativeTan(significand, scale, rm.ordinal(), defaultValue);
+      final long dec = DecimalNative.tan(significand, scale, rm.ordinal(), defaultValue);
       if (dec == defaultValue)
         return false;
 
@@ -623,8 +658,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long tan(final long dec, final RoundingMode rm, final long defaultValue) {
+    return tan(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long tan(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return tan0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return tan0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -668,7 +708,7 @@ public final class DecimalMath {
 
   private static boolean asin0(final long significand, final short scale, final RoundingMode rm, final Decimal result) {
     final long defaultValue = Long.MIN_VALUE;
-    final long dec = DecimalNative.nativeAsin(significand, scale, rm.ordinal(), defaultValue);
+    final long dec = DecimalNative.asin(significand, scale, rm.ordinal(), defaultValue);
     if (dec == defaultValue)
       return false;
 
@@ -690,8 +730,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long asin(final long dec, final RoundingMode rm, final long defaultValue) {
+    return asin(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long asin(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return asin0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return asin0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -735,7 +780,7 @@ public final class DecimalMath {
 
   private static boolean acos0(final long significand, final short scale, final RoundingMode rm, final Decimal result) {
     final long defaultValue = Long.MIN_VALUE;
-    final long dec = DecimalNative.nativeAcos(significand, scale, rm.ordinal(), defaultValue);
+    final long dec = DecimalNative.acos(significand, scale, rm.ordinal(), defaultValue);
     if (dec == defaultValue)
       return false;
 
@@ -757,8 +802,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long acos(final long dec, final RoundingMode rm, final long defaultValue) {
+    return acos(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long acos(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return acos0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return acos0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -802,7 +852,7 @@ public final class DecimalMath {
 
   private static boolean atan0(final long significand, final short scale, final RoundingMode rm, final Decimal result) {
     final long defaultValue = Long.MIN_VALUE;
-    final long dec = DecimalNative.nativeAtan(significand, scale, rm.ordinal(), defaultValue);
+    final long dec = DecimalNative.atan(significand, scale, rm.ordinal(), defaultValue);
     if (dec == defaultValue)
       return false;
 
@@ -824,8 +874,13 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long atan(final long dec, final RoundingMode rm, final long defaultValue) {
+    return atan(dec, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long atan(final long dec, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significand = significand(dec, scaleBits);
     final Decimal result = new Decimal();
-    return atan0(significand(dec), scale(dec), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return atan0(significand, scale(dec, Numbers.precision(significand), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -871,7 +926,7 @@ public final class DecimalMath {
     // FIXME: This is not really working. Need to figure out the bounds.
     if (scaleY == 0 && Math.abs(significandX) < 2000 && Math.abs(significandY) < 2000) {
       final long defaultValue = Long.MIN_VALUE;
-      final long dec = DecimalNative.nativeAtan2(significandY, scaleY, significandX, scaleX, rm.ordinal(), defaultValue);
+      final long dec = DecimalNative.atan2(significandY, scaleY, significandX, scaleX, rm.ordinal(), defaultValue);
       if (dec == defaultValue)
         return false;
 
@@ -902,8 +957,14 @@ public final class DecimalMath {
    * @see Decimal#valueOf(long,int,long)
    */
   public static long atan2(final long decY, final long decX, final RoundingMode rm, final long defaultValue) {
+    return atan2(decY, decX, rm, SCALE_BITS, defaultValue);
+  }
+
+  static long atan2(final long decY, final long decX, final RoundingMode rm, final byte scaleBits, final long defaultValue) {
+    final long significandY = significand(decY, scaleBits);
+    final long significandX = significand(decX, scaleBits);
     final Decimal result = new Decimal();
-    return atan20(significand(decY), scale(decY), significand(decX), scale(decX), rm, result) ? result.encode(defaultValue) : defaultValue;
+    return atan20(significandY, scale(decY, Numbers.precision(significandY), scaleBits), significandX, scale(decX, Numbers.precision(significandX), scaleBits), rm, result) ? result.encode(scaleBits, defaultValue) : defaultValue;
   }
 
   /**
@@ -20,25 +20,32 @@ import org.libj.lang.Numbers;
 
 abstract class DecimalMultiplication extends FixedPoint {
   /**
-   * Returns the product of {@code v1 * v2}. If the result overflows {@code long}, or is outside the range of {@code MIN_VALUE} and
-   * {@code MAX_VALUE}, this method returns {@code 0}.
+   * Returns the product of {@code v1 * v2}. If the result overflows {@code long}, or is outside the range of {@code minSignificand}
+   * and {@code maxSignificand}, this method returns {@code 0}.
    *
    * @param v1 The multiplier.
    * @param v2 The multiplicand.
-   * @return the product of {@code v1 * v2}. If the result overflows {@code long}, or is outside the range of {@code MIN_VALUE} and
-   *         {@code MAX_VALUE}, this method returns {@code 0}.
+   * @param minSignificand The minimum significand.
+   * @param maxSignificand The maximum significand.
+   * @return the product of {@code v1 * v2}. If the result overflows {@code long}, or is outside the range of {@code minSignificand}
+   *         and {@code maxSignificand}, this method returns {@code 0}.
    */
-  private static long mulNonZero(final long v1, final long v2) {
+  private static long mulNonZero(final long v1, final long v2, final long minSignificand, final long maxSignificand) {
     final long product = v1 * v2;
     final long av1 = Math.abs(v1);
     final long av2 = Math.abs(v2);
-    if (((av1 | av2) >>> 31 == 0 || v2 == 0 || product / v2 == v1) && (v1 < 0 == v2 < 0 ? product <= MAX_SIGNIFICAND : MIN_SIGNIFICAND <= product))
+    if (((av1 | av2) >>> 31 == 0 || v2 == 0 || product / v2 == v1) && (v1 < 0 == v2 < 0 ? product <= maxSignificand : minSignificand <= product))
       return product;
 
     return 0;
   }
 
-  static boolean mul0(long significand1, short scale1, long significand2, short scale2, final Decimal result) {
+  static boolean mul0(final long significand1, final short scale1, final long significand2, final short scale2, final Decimal result) {
+    return mul0(significand1, scale1, significand2, scale2, SCALE_BITS, result);
+  }
+
+  static boolean mul0(long significand1, short scale1, long significand2, short scale2, final byte scaleBits, final Decimal result) {
+    final long maxSignificand = maxSignificand(scaleBits);
     // If significand1 has trailing zeroes, remove them first.
     final byte z1 = Numbers.trailingZeroes(significand1);
     if (z1 > 0) {
@@ -56,14 +63,17 @@ abstract class DecimalMultiplication extends FixedPoint {
     int s = scale1 + scale2;
 
     // Check if we can do simple multiplication
-    long v = mulNonZero(significand1, significand2);
+    long v = mulNonZero(significand1, significand2, minSignificand(scaleBits), maxSignificand);
     if (v == 0) {
-      final int[] val = BigInt.assignInPlace(Decimal.buf1.get(), significand1);
-      BigInt.mulInPlace(val, significand2);
-      final int[] val2 = BigInt.copyInPlace(val, Math.abs(val[0]) + 1, Decimal.buf2.get());
-      final long dp = BigInt.longValue(BigInt.div(val2, MAX_SIGNIFICAND));
+      // The product overflows, so compute its magnitude as an unsigned 128-bit (hi, lo)
+      final boolean sig = significand1 < 0 == significand2 < 0;
+      final long m1 = Math.abs(significand1);
+      final long m2 = Math.abs(significand2);
+      final long hi = UInt128.multiplyHigh(m1, m2);
+      final long lo = m1 * m2;
+      final long dp = UInt128.divide(hi, lo, maxSignificand);
       if (dp == 0) {
-        v = BigInt.longValue(val);
+        v = lo;
       }
       else {
         final byte ds = Numbers.precision(dp);
@@ -72,18 +82,18 @@ abstract class DecimalMultiplication extends FixedPoint {
           return false;
         }
 
-        final long rem = BigInt.divRem(val, FastMath.longE10[ds]);
-        v = BigInt.longValue(val);
-        if (rem != 0) {
-          final byte rp = Numbers.precision(rem);
-          final long r = rp < ds ? 0 : rp == 1 ? rem : rem / FastMath.longE10[rp - 1];
-          v = roundHalfUp(r, v);
-        }
+        v = UInt128.divideE10(hi, lo, ds);
+        final long rem = lo - v * FastMath.longE10[ds];
+        if (rem != 0)
+          v = roundHalfUp(rem / FastMath.longE10[ds - 1], v);
 
         s -= ds;
       }
+
+      if (!sig)
+        v = -v;
     }
 
-    return checkScale(v, Numbers.precision(v), s, result);
+    return checkScale(v, Numbers.precision(v), s, scaleBits, result);
   }
 }
\ No newline at end of file
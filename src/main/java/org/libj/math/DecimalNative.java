@@ -17,8 +17,42 @@
 package org.libj.math;
 
 public class DecimalNative {
-  static {
-    NativeMath.loadNative();
+  private static final boolean FOREIGN = NativeMath.loadNative() == NativeMath.Mode.FOREIGN;
+
+  static double log(final long significand, final short scale) {
+    return FOREIGN ? NativeForeign.log(significand, scale) : nativeLog(significand, scale);
+  }
+
+  static double logBase(final long significand, final short scale, final double base) {
+    return FOREIGN ? NativeForeign.logBase(significand, scale, base) : nativeLogBase(significand, scale, base);
+  }
+
+  static long sin(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.sin(significand, scale, rm, defaultValue) : nativeSin(significand, scale, rm, defaultValue);
+  }
+
+  static long cos(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.cos(significand, scale, rm, defaultValue) : nativeCos(significand, scale, rm, defaultValue);
+  }
+
+  static long tan(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.tan(significand, scale, rm, defaultValue) : nativeTan(significand, scale, rm, defaultValue);
+  }
+
+  static long asin(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.asin(significand, scale, rm, defaultValue) : nativeAsin(significand, scale, rm, defaultValue);
+  }
+
+  static long acos(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.acos(significand, scale, rm, defaultValue) : nativeAcos(significand, scale, rm, defaultValue);
+  }
+
+  static long atan(final long significand, final short scale, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.atan(significand, scale, rm, defaultValue) : nativeAtan(significand, scale, rm, defaultValue);
+  }
+
+  static long atan2(final long significand1, final short scale1, final long significand2, final short scale2, final int rm, final long defaultValue) {
+    return FOREIGN ? NativeForeign.atan2(significand1, scale1, significand2, scale2, rm, defaultValue) : nativeAtan2(significand1, scale1, significand2, scale2, rm, defaultValue);
   }
 
   static native double nativeDoubleValue(long significand, short scale);
@@ -40,6 +40,8 @@ public final class FastMath {
 
   private static volatile int[][] bigIntE10 = {new int[] {1, 1}};
 
+  private static volatile int[][] bigIntE10Pow2 = {new int[] {1, 10}};
+
   static {
     doubleE10(1024);
     E10(16);
@@ -138,6 +140,41 @@ public final class FastMath {
     }
   }
 
+  /**
+   * Return <code>10<sup>2<sup>k</sup></sup></code>, as a {@linkplain BigInt#val() value-encoded number}, expanding the underlying
+   * {@link #bigIntE10Pow2} array if necessary. The returned array is shared, and must not be modified.
+   *
+   * @param k The base 2 logarithm of the power of ten to be returned (&gt;= 0).
+   * @return A {@linkplain BigInt#val() value-encoded number} with the value (10<sup>2<sup>k</sup></sup>).
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is negative.
+   */
+  public static int[] E10Pow2(final int k) {
+    int[][] pows = bigIntE10Pow2;
+    if (k < pows.length)
+      return pows[k];
+
+    synchronized (bigIntE10Pow2) {
+      int curLen = pows.length;
+      // The following comparison and the above synchronized statement is
+      // to prevent multiple threads from expanding the same array.
+      if (curLen <= k) {
+        pows = Arrays.copyOf(pows, k + 1);
+        for (int[] val; curLen <= k; ++curLen) { // [A]
+          val = pows[curLen - 1];
+          pows[curLen] = BigInt.heapCopy(BigIntMultiplication.mul(val.clone(), val));
+        }
+
+        // Based on the following facts:
+        // 1. pows is a private local variable;
+        // 2. the following store is a volatile store.
+        // Thus the newly created array elements can be safely published.
+        bigIntE10Pow2 = pows;
+      }
+
+      return pows[k];
+    }
+  }
+
   /**
    * Returns the base 2 logarithm of positive {@code int} values, and {@code 0} for negative values.
    * <p>
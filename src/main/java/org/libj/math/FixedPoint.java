@@ -22,18 +22,14 @@ import org.libj.lang.Numbers;
 
 abstract class FixedPoint extends Number {
   static final byte SCALE_BITS = 9;
-  private static final byte VALUE_BITS = 63 - SCALE_BITS;
   private static final byte LONG_SHORT_SCALE_SHIFT = 63 - Short.SIZE;
-  private static final byte SHORT_SCALE_SHIFT = Short.SIZE - SCALE_BITS;
 
-  private static final long SCALE_MASK = (0xffffL << VALUE_BITS) & 0x7fffffffffffffffL;
-
-  public static final long MIN_SIGNIFICAND = -(2L << 62 - SCALE_BITS);
-  public static final long MAX_SIGNIFICAND = -MIN_SIGNIFICAND - 1;
+  public static final long MIN_SIGNIFICAND = minSignificand(SCALE_BITS);
+  public static final long MAX_SIGNIFICAND = maxSignificand(SCALE_BITS);
   public static final byte MAX_PRECISION = Numbers.precision(MAX_SIGNIFICAND);
 
-  public static final short MIN_PSCALE = -2 << SCALE_BITS - 2;
-  public static final short MAX_PSCALE = -MIN_PSCALE - 1;
+  public static final short MIN_PSCALE = minPscale(SCALE_BITS);
+  public static final short MAX_PSCALE = maxPscale(SCALE_BITS);
 
   static final double maxPos = 1.8014398509481983E255;        // encodeInPlace(MAX_VALUE, MIN_PSCALE, 0)
   static final double maxNeg = -1.8014398509481984E255;       // encodeInPlace(MIN_VALUE, MIN_PSCALE, 0)
@@ -43,6 +39,50 @@ abstract class FixedPoint extends Number {
   private static final double minMan2 = 0.6762169998536515;   // Frexp.frexp(minPos).mantissa
   private static final int minExp2 = -849;                    // Frexp.frexp(minPos).exponent
 
+  /**
+   * Returns the minimum significand of a decimal encoded with the given number of {@code scaleBits}.
+   *
+   * @param scaleBits The number of bits reserved for the scale.
+   * @return The minimum significand of a decimal encoded with the given number of {@code scaleBits}.
+   */
+  static long minSignificand(final byte scaleBits) {
+    return -(2L << 62 - scaleBits);
+  }
+
+  /**
+   * Returns the maximum significand of a decimal encoded with the given number of {@code scaleBits}.
+   *
+   * @param scaleBits The number of bits reserved for the scale.
+   * @return The maximum significand of a decimal encoded with the given number of {@code scaleBits}.
+   */
+  static long maxSignificand(final byte scaleBits) {
+    return (2L << 62 - scaleBits) - 1;
+  }
+
+  /**
+   * Returns the minimum of {@code scale - precision} of a decimal encoded with the given number of {@code scaleBits}.
+   *
+   * @param scaleBits The number of bits reserved for the scale.
+   * @return The minimum of {@code scale - precision} of a decimal encoded with the given number of {@code scaleBits}.
+   */
+  static short minPscale(final byte scaleBits) {
+    return (short)(-2 << scaleBits - 2);
+  }
+
+  /**
+   * Returns the maximum of {@code scale - precision} of a decimal encoded with the given number of {@code scaleBits}.
+   *
+   * @param scaleBits The number of bits reserved for the scale.
+   * @return The maximum of {@code scale - precision} of a decimal encoded with the given number of {@code scaleBits}.
+   */
+  static short maxPscale(final byte scaleBits) {
+    return (short)((2 << scaleBits - 2) - 1);
+  }
+
+  private static long scaleMask(final byte scaleBits) {
+    return (0xffffL << 63 - scaleBits) & 0x7fffffffffffffffL;
+  }
+
   /**
    * Returns {@code true} if the specified {@code long} value can be represented as a {@link Decimal}, otherwise {@code false}.
    *
@@ -218,20 +258,24 @@ abstract class FixedPoint extends Number {
     return encode(significand, Numbers.precision(significand), scale, defaultValue);
   }
 
-  static long encode(final long significand, final byte precision, int scale, final long defaultValue) {
-    if (significand < MIN_SIGNIFICAND || MAX_SIGNIFICAND < significand) {
+  static long encode(final long significand, final byte precision, final int scale, final long defaultValue) {
+    return encode(significand, precision, scale, SCALE_BITS, defaultValue);
+  }
+
+  static long encode(final long significand, final byte precision, int scale, final byte scaleBits, final long defaultValue) {
+    if (significand < minSignificand(scaleBits) || maxSignificand(scaleBits) < significand) {
       // System.err.println("Significand " + significand + " is outside permitted min(" + MIN_VALUE + ") max(" + MAX_VALUE + ")");
       return defaultValue;
     }
 
     scale -= precision;
 
-    if (scale < MIN_PSCALE || MAX_PSCALE < scale) {
+    if (scale < minPscale(scaleBits) || maxPscale(scaleBits) < scale) {
       // System.err.println("Scale " + scale + " is greater than bits allow: " + (scale < 0 ? MIN_SCALE : MAX_SCALE));
       return defaultValue;
     }
 
-    final long dec = encodeInPlace(significand, scale);
+    final long dec = encodeInPlace(significand, scale, scaleBits);
     if (dec == defaultValue)
       throw new IllegalArgumentException("Encoded decimal (" + dec + ") conflicts with defaultValue (" + defaultValue + ")");
 
@@ -239,7 +283,11 @@ abstract class FixedPoint extends Number {
   }
 
   static long encodeInPlace(final long significand, final long pscale) {
-    final long scaleMask = pscale << VALUE_BITS & SCALE_MASK;
+    return encodeInPlace(significand, pscale, SCALE_BITS);
+  }
+
+  static long encodeInPlace(final long significand, final long pscale, final byte scaleBits) {
+    final long scaleMask = pscale << 63 - scaleBits & scaleMask(scaleBits);
     final long dec = significand < 0 ? significand ^ scaleMask : significand | scaleMask;
     // System.out.println(" scale: " + Buffers.toString(scale));
     // System.out.println(" scaleMask: " + Buffers.toString(scaleMask));
@@ -259,9 +307,14 @@ abstract class FixedPoint extends Number {
    * @see #scale(long)
    */
   public static long significand(final long dec) {
+    return significand(dec, SCALE_BITS);
+  }
+
+  static long significand(final long dec, final byte scaleBits) {
     // System.out.println("decimal: " + Buffers.toString(dec));
     // System.out.println("sleMask: " + Buffers.toString(scaleMask));
-    return dec < 0 ? dec | SCALE_MASK : dec & ~SCALE_MASK;
+    final long scaleMask = scaleMask(scaleBits);
+    return dec < 0 ? dec | scaleMask : dec & ~scaleMask;
   }
 
   /**
@@ -281,21 +334,36 @@ abstract class FixedPoint extends Number {
   }
 
   static short scale(final long dec, final byte precision) {
-    short scale = (short)((dec < 0 ? ~(dec | ~SCALE_MASK) : (dec & SCALE_MASK)) >> LONG_SHORT_SCALE_SHIFT);
-    scale >>= SHORT_SCALE_SHIFT;
+    return scale(dec, precision, SCALE_BITS);
+  }
+
+  static short scale(final long dec, final byte precision, final byte scaleBits) {
+    final long scaleMask = scaleMask(scaleBits);
+    short scale = (short)((dec < 0 ? ~(dec | ~scaleMask) : (dec & scaleMask)) >> LONG_SHORT_SCALE_SHIFT);
+    scale >>= Short.SIZE - scaleBits;
     // System.out.println("~ encoded: " + Buffers.toString(dec));
     // System.out.println("~ scale: " + Buffers.toString(scale) + " " + scale);
     return scale += precision;
   }
 
   static boolean checkScale(final long significand, final byte precision, final int scale, final Decimal result) {
+    return checkScale(significand, precision, scale, SCALE_BITS, result);
+  }
+
+  static boolean checkScale(final long significand, final byte precision, final int scale, final byte scaleBits, final Decimal result) {
     final int pscale = scale - precision;
-    if (pscale < MIN_PSCALE) {
+    if (significand == 0 && (pscale < minPscale(scaleBits) || pscale > maxPscale(scaleBits))) {
+      // A zero is representable at any scale, so fall back to the canonical zero
+      result.assign(0, (short)0);
+      return true;
+    }
+
+    if (pscale < minPscale(scaleBits)) {
       result.error("Underflow");
       return false;
     }
 
-    if (pscale > MAX_PSCALE) {
+    if (pscale > maxPscale(scaleBits)) {
       result.error("Overflow");
       return false;
     }
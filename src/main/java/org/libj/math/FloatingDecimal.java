@@ -269,7 +269,7 @@ class FloatingDecimal {
       d5 = 0;
     }
 
-    final int[][] buf = threadLocal.get();
+    final int[][] buf = scratch.acquire();
 
     // dValue is now approximately the result
     // The hard part is adjusting it, by comparison with BigInt arithmetic.
@@ -394,6 +394,7 @@ class FloatingDecimal {
       continue; // Try again.
     }
 
+    scratch.release(buf);
     if (isNeg)
       ieeeBits |= SIGN_BIT_MASK_DOUBLE;
 
@@ -404,11 +405,16 @@ class FloatingDecimal {
   /* =========================================================================================== */
   /* =========================================================================================== */
 
-  private static final ThreadLocal<int[][]> threadLocal = new ThreadLocal<int[][]>() {
+  private static final ScratchBuffers.Pool<int[][]> scratch = new ScratchBuffers.Pool<int[][]>() {
     @Override
-    protected int[][] initialValue() {
+    protected int[][] create() {
       return new int[5][27];
     }
+
+    @Override
+    protected int sizeOf(final int[][] buffer) {
+      return 5 * 27 * Integer.BYTES;
+    }
   };
 
   /*
@@ -745,7 +751,7 @@ class FloatingDecimal {
     else {
       // We really must do BigInt arithmetic.
       // Fist, construct our BigInt initial values.
-      final int[][] buf = threadLocal.get();
+      final int[][] buf = scratch.acquire();
 
       final int[] s = BigInt.valueOfPow52(buf[0], S5, S2);
       final int shiftBias = BigInt.getNormalizationBias(s);
@@ -792,6 +798,8 @@ class FloatingDecimal {
       else {
         lowDigitDifference = 0L; // this here only for flow analysis!
       }
+
+      scratch.release(buf);
     }
 
     ++exp10;
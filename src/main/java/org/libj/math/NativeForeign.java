@@ -0,0 +1,351 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Optional;
+
+/**
+ * Bindings of the native kernels via the Foreign Function &amp; Memory API (JDK 22+).
+ * <p>
+ * The bindings link to the {@code JavaCritical_*} functions of the native library, which take arrays as {@code (length, pointer)}
+ * pairs. The downcall handles are created with {@code Linker.Option.critical(true)}, which allows the {@code int[]} arrays to be
+ * passed as heap segments without copying, and without the thread state transitions of a JNI call. Since this class must compile
+ * against Java 8, the API is accessed reflectively to create the handles, which are then adapted to exact Java signatures and
+ * invoked with {@link MethodHandle#invokeExact(Object...)}.
+ * <p>
+ * The bindings are {@linkplain #LINKED linked} only if the Foreign Function &amp; Memory API is available, and all functions were
+ * found in the native library. Otherwise, {@link NativeMath} falls back to the JNI bindings.
+ */
+final class NativeForeign {
+  private static final String PREFIX = "JavaCritical_org_libj_math_";
+
+  private static final Object linker;
+  private static final Object lookup;
+  private static final Object[] options;
+  private static final Method find;
+  private static final Method downcallHandle;
+  private static final Method ofVoid;
+  private static final Method of;
+  private static final Class<?> memoryLayoutClass;
+  private static final MethodHandle ofArray;
+  private static final Object INT;
+  private static final Object LONG;
+  private static final Object SHORT;
+  private static final Object DOUBLE;
+  private static final Object BOOLEAN;
+  private static final Object ADDRESS;
+
+  static {
+    Object linker0 = null, lookup0 = null, INT0 = null, LONG0 = null, SHORT0 = null, DOUBLE0 = null, BOOLEAN0 = null, ADDRESS0 = null;
+    Object[] options0 = null;
+    Method find0 = null, downcallHandle0 = null, ofVoid0 = null, of0 = null;
+    Class<?> memoryLayoutClass0 = null;
+    MethodHandle ofArray0 = null;
+    final File library = NativeMath.getLibrary();
+    if (library != null) {
+      try {
+        final Class<?> linkerClass = Class.forName("java.lang.foreign.Linker");
+        final Class<?> optionClass = Class.forName("java.lang.foreign.Linker$Option");
+        final Class<?> arenaClass = Class.forName("java.lang.foreign.Arena");
+        final Class<?> symbolLookupClass = Class.forName("java.lang.foreign.SymbolLookup");
+        final Class<?> memorySegmentClass = Class.forName("java.lang.foreign.MemorySegment");
+        final Class<?> functionDescriptorClass = Class.forName("java.lang.foreign.FunctionDescriptor");
+        final Class<?> valueLayoutClass = Class.forName("java.lang.foreign.ValueLayout");
+        memoryLayoutClass0 = Class.forName("java.lang.foreign.MemoryLayout");
+
+        linker0 = linkerClass.getMethod("nativeLinker").invoke(null);
+        final Object arena = arenaClass.getMethod("global").invoke(null);
+        lookup0 = symbolLookupClass.getMethod("libraryLookup", java.nio.file.Path.class, arenaClass).invoke(null, library.toPath(), arena);
+        find0 = symbolLookupClass.getMethod("find", String.class);
+
+        options0 = (Object[])Array.newInstance(optionClass, 1);
+        options0[0] = optionClass.getMethod("critical", boolean.class).invoke(null, true);
+
+        final Class<?> layoutArrayClass = Array.newInstance(memoryLayoutClass0, 0).getClass();
+        downcallHandle0 = linkerClass.getMethod("downcallHandle", memorySegmentClass, functionDescriptorClass, options0.getClass());
+        ofVoid0 = functionDescriptorClass.getMethod("ofVoid", layoutArrayClass);
+        of0 = functionDescriptorClass.getMethod("of", memoryLayoutClass0, layoutArrayClass);
+        ofArray0 = MethodHandles.publicLookup().findStatic(memorySegmentClass, "ofArray", MethodType.methodType(memorySegmentClass, int[].class));
+
+        INT0 = valueLayoutClass.getField("JAVA_INT").get(null);
+        LONG0 = valueLayoutClass.getField("JAVA_LONG").get(null);
+        SHORT0 = valueLayoutClass.getField("JAVA_SHORT").get(null);
+        DOUBLE0 = valueLayoutClass.getField("JAVA_DOUBLE").get(null);
+        BOOLEAN0 = valueLayoutClass.getField("JAVA_BOOLEAN").get(null);
+        ADDRESS0 = valueLayoutClass.getField("ADDRESS").get(null);
+      }
+      catch (final Exception | LinkageError e) {
+        System.err.println("Unable to initialize Foreign Function & Memory bindings: " + e);
+        linker0 = null;
+      }
+    }
+
+    linker = linker0;
+    lookup = lookup0;
+    options = options0;
+    find = find0;
+    downcallHandle = downcallHandle0;
+    ofVoid = ofVoid0;
+    of = of0;
+    memoryLayoutClass = memoryLayoutClass0;
+    ofArray = ofArray0;
+    INT = INT0;
+    LONG = LONG0;
+    SHORT = SHORT0;
+    DOUBLE = DOUBLE0;
+    BOOLEAN = BOOLEAN0;
+    ADDRESS = ADDRESS0;
+  }
+
+  private static final MethodHandle MUL_QUAD = bind("BigIntMultiplication_nativeMulQuad", void.class, "AiAiA");
+  private static final MethodHandle MUL_QUAD_IN_PLACE = bind("BigIntMultiplication_nativeMulQuadInPlace", void.class, "AiAii");
+  private static final MethodHandle KARATSUBA = bind("BigIntMultiplication_nativeKaratsuba", void.class, "AiAiAiiiiiii");
+  private static final MethodHandle SQUARE_KARATSUBA = bind("BigIntMultiplication_nativeSquareKaratsuba", void.class, "AiAiizii");
+  private static final MethodHandle SQUARE_QUAD = bind("BigIntMultiplication_nativeSquareQuad", void.class, "AiiAii");
+
+  private static final MethodHandle LOG = bind("DecimalNative_nativeLog", double.class, "ls");
+  private static final MethodHandle LOG_BASE = bind("DecimalNative_nativeLogBase", double.class, "lsd");
+  private static final MethodHandle SIN = bind("DecimalNative_nativeSin", long.class, "lsil");
+  private static final MethodHandle COS = bind("DecimalNative_nativeCos", long.class, "lsil");
+  private static final MethodHandle TAN = bind("DecimalNative_nativeTan", long.class, "lsil");
+  private static final MethodHandle ASIN = bind("DecimalNative_nativeAsin", long.class, "lsil");
+  private static final MethodHandle ACOS = bind("DecimalNative_nativeAcos", long.class, "lsil");
+  private static final MethodHandle ATAN = bind("DecimalNative_nativeAtan", long.class, "lsil");
+  private static final MethodHandle ATAN2 = bind("DecimalNative_nativeAtan2", long.class, "lslsil");
+
+  /**
+   * Whether all functions of the native library are linked via the Foreign Function &amp; Memory API.
+   */
+  static final boolean LINKED = MUL_QUAD != null && MUL_QUAD_IN_PLACE != null && KARATSUBA != null && SQUARE_KARATSUBA != null && SQUARE_QUAD != null && LOG != null && LOG_BASE != null && SIN != null && COS != null && TAN != null && ASIN != null && ACOS != null && ATAN != null && ATAN2 != null;
+
+  /**
+   * Returns a downcall handle to the function with the provided name (without the {@code JavaCritical_org_libj_math_} prefix),
+   * adapted to the exact Java signature of its JNI counterpart, or {@code null} if the function could not be linked.
+   * <p>
+   * The parameters are specified as a string of type codes: {@code 'A'} for an {@code int[]} (passed as a {@code (length, pointer)}
+   * pair, of which the length is unused), {@code 'i'} for {@code int}, {@code 'l'} for {@code long}, {@code 's'} for {@code short},
+   * {@code 'd'} for {@code double}, and {@code 'z'} for {@code boolean}.
+   *
+   * @param name The name of the function.
+   * @param returnType The return type of the function.
+   * @param params The type codes of the parameters of the function.
+   * @return A downcall handle to the function with the provided name, or {@code null} if the function could not be linked.
+   */
+  private static MethodHandle bind(final String name, final Class<?> returnType, final String params) {
+    if (linker == null)
+      return null;
+
+    try {
+      final Optional<?> symbol = (Optional<?>)find.invoke(lookup, PREFIX + name);
+      if (!symbol.isPresent())
+        return null;
+
+      final ArrayList<Object> layouts = new ArrayList<>();
+      for (int i = 0, i$ = params.length(); i < i$; ++i) { // [N]
+        final char ch = params.charAt(i);
+        if (ch == 'A') {
+          layouts.add(INT);
+          layouts.add(ADDRESS);
+        }
+        else {
+          layouts.add(layout(ch));
+        }
+      }
+
+      final Object[] args = layouts.toArray((Object[])Array.newInstance(memoryLayoutClass, layouts.size()));
+      final Object descriptor = returnType == void.class ? ofVoid.invoke(null, (Object)args) : of.invoke(null, layout(returnType == double.class ? 'd' : 'l'), args);
+      MethodHandle handle = (MethodHandle)downcallHandle.invoke(linker, symbol.get(), descriptor, options);
+
+      // Replace each (length, pointer) pair with an int[] that is passed as a heap segment
+      for (int i = 0, p = 0, i$ = params.length(); i < i$; ++i, ++p) { // [N]
+        if (params.charAt(i) == 'A') {
+          handle = MethodHandles.insertArguments(handle, p, 0);
+          handle = MethodHandles.filterArguments(handle, p, ofArray);
+        }
+      }
+
+      return handle;
+    }
+    catch (final Exception | LinkageError e) {
+      System.err.println("Unable to link " + PREFIX + name + ": " + e);
+      return null;
+    }
+  }
+
+  private static Object layout(final char ch) {
+    switch (ch) {
+      case 'i':
+        return INT;
+      case 'l':
+        return LONG;
+      case 's':
+        return SHORT;
+      case 'd':
+        return DOUBLE;
+      case 'z':
+        return BOOLEAN;
+      default:
+        throw new IllegalArgumentException("Unsupported type code: " + ch);
+    }
+  }
+
+  private static RuntimeException rethrow(final Throwable t) {
+    if (t instanceof RuntimeException)
+      throw (RuntimeException)t;
+
+    if (t instanceof Error)
+      throw (Error)t;
+
+    throw new IllegalStateException(t);
+  }
+
+  static void mulQuad(final int[] x, final int xlen, final int[] y, final int ylen, final int[] z) {
+    try {
+      MUL_QUAD.invokeExact(x, xlen, y, ylen, z);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void mulQuadInPlace(final int[] x, final int xlen, final int[] y, final int ylen, final int zlen) {
+    try {
+      MUL_QUAD_IN_PLACE.invokeExact(x, xlen, y, ylen, zlen);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void karatsuba(final int[] x, final int xoff, final int[] y, final int yoff, final int[] z, final int zoff, final int zlen, final int zlength, final int off, final int len, final int parallelThreshold, final int parallelThresholdZ) {
+    try {
+      KARATSUBA.invokeExact(x, xoff, y, yoff, z, zoff, zlen, zlength, off, len, parallelThreshold, parallelThresholdZ);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void squareKaratsuba(final int[] x, final int len, final int[] z, final int zlen, final int zlength, final boolean yCopy, final int parallelThreshold, final int parallelThresholdZ) {
+    try {
+      SQUARE_KARATSUBA.invokeExact(x, len, z, zlen, zlength, yCopy, parallelThreshold, parallelThresholdZ);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static void squareQuad(final int[] x, final int xoff, final int xlen, final int[] z, final int zoff, final int zlen) {
+    try {
+      SQUARE_QUAD.invokeExact(x, xoff, xlen, z, zoff, zlen);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static double log(final long significand, final short scale) {
+    try {
+      return (double)LOG.invokeExact(significand, scale);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static double logBase(final long significand, final short scale, final double base) {
+    try {
+      return (double)LOG_BASE.invokeExact(significand, scale, base);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long sin(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)SIN.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long cos(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)COS.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long tan(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)TAN.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long asin(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)ASIN.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long acos(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)ACOS.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long atan(final long significand, final short scale, final int rm, final long defaultValue) {
+    try {
+      return (long)ATAN.invokeExact(significand, scale, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  static long atan2(final long significand1, final short scale1, final long significand2, final short scale2, final int rm, final long defaultValue) {
+    try {
+      return (long)ATAN2.invokeExact(significand1, scale1, significand2, scale2, rm, defaultValue);
+    }
+    catch (final Throwable t) {
+      throw rethrow(t);
+    }
+  }
+
+  private NativeForeign() {
+  }
+}
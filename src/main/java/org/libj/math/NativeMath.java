@@ -37,6 +37,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ForkJoinPool;
 
 import org.libj.lang.OperatingSystem;
 import org.libj.lang.Systems;
@@ -45,10 +46,80 @@ final class NativeMath {
   enum Mode {
     JAVA,
     NATIVE,
-    CRITICAL
+    CRITICAL,
+    FOREIGN
   }
 
+  /**
+   * System property specifying the number of threads for parallel multiplication. This value bounds the {@link ForkJoinPool} of
+   * the Java algorithms, as well as the persistent worker pool of the native algorithms. If the property is not set, the Java
+   * algorithms use the {@linkplain ForkJoinPool#commonPool() common pool}, and the native worker pool is sized to the number of
+   * available processors.
+   */
+  static final String PARALLELISM_PROPERTY = "org.libj.math.parallelism";
+
+  /**
+   * System property that enables the {@linkplain Mode#FOREIGN Foreign Function &amp; Memory bindings} on JDK 22+, instead of the
+   * JNI bindings. The bindings are opt-in until the critical downcalls to heap segments have been run on JDK 22+, after which they
+   * are to be selected by default on JDK 22+, with this property as the means to disable them.
+   */
+  static final String FOREIGN_PROPERTY = "org.libj.math.foreign";
+
   private static Mode mode;
+  private static File library;
+
+  private static native void nativeInitPool(int size);
+
+  /**
+   * Returns the value of the {@link #PARALLELISM_PROPERTY} system property, or {@code -1} if the property is not set.
+   *
+   * @return The value of the {@link #PARALLELISM_PROPERTY} system property, or {@code -1} if the property is not set.
+   * @throws NumberFormatException If the value of the property is not an integer.
+   * @throws IllegalArgumentException If the value of the property is negative.
+   */
+  static int getParallelism() {
+    final String value = System.getProperty(PARALLELISM_PROPERTY);
+    if (value == null)
+      return -1;
+
+    final int parallelism = Integer.parseInt(value);
+    if (parallelism < 0)
+      throw new IllegalArgumentException(PARALLELISM_PROPERTY + " (" + parallelism + ") must be non-negative");
+
+    return parallelism;
+  }
+
+  /**
+   * Returns the native library loaded by {@link #loadNative()}, or {@code null} if no native library was loaded.
+   *
+   * @return The native library loaded by {@link #loadNative()}, or {@code null} if no native library was loaded.
+   */
+  static File getLibrary() {
+    return library;
+  }
+
+  /**
+   * Returns whether the {@link #FOREIGN_PROPERTY} system property is set, and the runtime supports the Foreign Function &amp;
+   * Memory API with critical downcalls to heap segments, which are available as of JDK 22.
+   *
+   * @return Whether the {@link #FOREIGN_PROPERTY} system property is set, and the runtime supports the Foreign Function &amp;
+   *         Memory API with critical downcalls to heap segments.
+   */
+  private static boolean isForeignEnabled() {
+    if (!Systems.hasProperty(FOREIGN_PROPERTY))
+      return false;
+
+    final String version = System.getProperty("java.specification.version");
+    if (version == null || version.startsWith("1."))
+      return false;
+
+    try {
+      return Integer.parseInt(version) >= 22;
+    }
+    catch (final NumberFormatException e) {
+      return false;
+    }
+  }
 
   static Mode loadNative() {
     if (mode != null)
@@ -99,17 +170,30 @@ final class NativeMath {
 
       try {
         System.load(file.getAbsolutePath());
+        library = file;
       }
       catch (final UnsatisfiedLinkError e) {
         e.printStackTrace();
         System.err.println("Starting without JNI bindings");
       }
+
+      try {
+        final int parallelism = getParallelism();
+        nativeInitPool(parallelism != -1 ? parallelism : Runtime.getRuntime().availableProcessors());
+      }
+      catch (final UnsatisfiedLinkError e) {
+        // Native library predates the worker pool, and spawns a thread for each parallel Karatsuba subproblem instead
+      }
     }
     else {
       System.err.println("Not found: " + resourceName);
       System.err.println("Starting without JNI bindings");
     }
 
+    // On JDK 22+, critical downcalls via the Foreign Function & Memory API replace the JNI bindings if enabled
+    if (!useCritical && library != null && isForeignEnabled() && NativeForeign.LINKED)
+      return mode = Mode.FOREIGN;
+
     return mode = useCritical ? Mode.CRITICAL : Mode.NATIVE;
   }
 
@@ -0,0 +1,371 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded lock-free pools of the scratch buffers that are used internally by {@link BigInt}, {@link Decimal} and
+ * {@link FloatingDecimal}.
+ * <p>
+ * A scratch buffer is acquired for the duration of a single operation, and is released to its pool when the operation completes.
+ * Unlike a {@link ThreadLocal}, which retains a buffer for each thread that has ever used it, a pool retains at most a fixed number
+ * of buffers that are shared by all threads, which makes the retained memory independent of the number of threads, as is needed
+ * with virtual threads. If a pool is empty, a new buffer is created, and if a pool is full, a released buffer is left to the garbage
+ * collector.
+ * <p>
+ * The number of buffers retained per pool is specified by the {@value #SLOTS_PROPERTY} system property (default: 4 times the number
+ * of available processors), which is rounded up to a power of two. The maximum length of the retained {@code int[]} and
+ * {@code long[]} buffers is specified by the {@value #MAX_LENGTH_PROPERTY} system property (default: {@code 65536}). Buffers that
+ * are longer are created for the operation that needs them, and are not retained.
+ */
+public final class ScratchBuffers {
+  /**
+   * System property specifying the maximum number of buffers that are retained by each pool.
+   */
+  public static final String SLOTS_PROPERTY = "org.libj.math.scratch.slots";
+
+  /**
+   * System property specifying the maximum length of the {@code int[]} and {@code long[]} buffers that are retained.
+   */
+  public static final String MAX_LENGTH_PROPERTY = "org.libj.math.scratch.maxLength";
+
+  private static final int SLOTS = ceilPow2(getProperty(SLOTS_PROPERTY, 4 * Runtime.getRuntime().availableProcessors()));
+  private static final int MAX_LENGTH = getProperty(MAX_LENGTH_PROPERTY, 1 << 16);
+
+  private static final LongAdder allocations = new LongAdder();
+  private static final LongAdder discards = new LongAdder();
+  private static volatile int highWaterLength;
+  private static Pool<?>[] pools = {};
+
+  /**
+   * Returns the value of the provided system property, or {@code defaultValue} if the property is not set.
+   *
+   * @throws NumberFormatException If the value of the property is not an integer.
+   * @throws IllegalArgumentException If the value of the property is not positive.
+   */
+  private static int getProperty(final String name, final int defaultValue) {
+    final String value = System.getProperty(name);
+    if (value == null)
+      return defaultValue;
+
+    final int property = Integer.parseInt(value);
+    if (property <= 0)
+      throw new IllegalArgumentException(name + " (" + property + ") must be positive");
+
+    return property;
+  }
+
+  private static int ceilPow2(final int n) {
+    return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+  }
+
+  /**
+   * Pool of scratch buffers of type {@code <T>}.
+   * <p>
+   * The buffers are kept in an {@link AtomicReferenceArray} of slots, of which each thread probes first the slot that corresponds to
+   * the identity hash code of the thread, so that concurrent threads rarely contend for the same slot.
+   *
+   * @param <T> The type of the scratch buffers.
+   */
+  abstract static class Pool<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    Pool() {
+      this.slots = new AtomicReferenceArray<>(SLOTS);
+      this.mask = SLOTS - 1;
+      synchronized (ScratchBuffers.class) {
+        final Pool<?>[] pools = Arrays.copyOf(ScratchBuffers.pools, ScratchBuffers.pools.length + 1);
+        pools[pools.length - 1] = this;
+        ScratchBuffers.pools = pools;
+      }
+    }
+
+    /**
+     * Returns a new scratch buffer.
+     *
+     * @return A new scratch buffer.
+     */
+    protected abstract T create();
+
+    /**
+     * Returns the count of bytes of the arrays of the provided scratch buffer.
+     *
+     * @param buffer The scratch buffer.
+     * @return The count of bytes of the arrays of the provided scratch buffer.
+     */
+    protected int sizeOf(final T buffer) {
+      return 0;
+    }
+
+    /**
+     * Returns whether the provided released scratch buffer may be retained by this pool.
+     *
+     * @param buffer The scratch buffer.
+     * @return Whether the provided released scratch buffer may be retained by this pool.
+     */
+    protected boolean retain(final T buffer) {
+      return true;
+    }
+
+    /**
+     * Removes and returns a retained scratch buffer, or {@code null} if this pool retains no buffers.
+     */
+    final T poll() {
+      final int start = System.identityHashCode(Thread.currentThread());
+      for (int i = 0, j; i <= mask; ++i) { // [A]
+        final T buffer = slots.get(j = start + i & mask);
+        if (buffer != null && slots.compareAndSet(j, buffer, null))
+          return buffer;
+      }
+
+      return null;
+    }
+
+    /**
+     * Returns a scratch buffer, which must be {@linkplain #release(Object) released} when it is no longer used.
+     *
+     * @return A scratch buffer.
+     */
+    T acquire() {
+      final T buffer = poll();
+      if (buffer != null)
+        return buffer;
+
+      allocations.increment();
+      return create();
+    }
+
+    /**
+     * Releases the provided scratch buffer to this pool, which must no longer be referenced.
+     *
+     * @param buffer The scratch buffer.
+     */
+    void release(final T buffer) {
+      if (!retain(buffer)) {
+        discards.increment();
+        return;
+      }
+
+      final int start = System.identityHashCode(Thread.currentThread());
+      for (int i = 0, j; i <= mask; ++i) // [A]
+        if (slots.get(j = start + i & mask) == null && slots.compareAndSet(j, null, buffer))
+          return;
+
+      discards.increment();
+    }
+
+    long retainedBytes() {
+      long bytes = 0;
+      for (int i = 0; i <= mask; ++i) { // [A]
+        final T buffer = slots.get(i);
+        if (buffer != null)
+          bytes += sizeOf(buffer);
+      }
+
+      return bytes;
+    }
+  }
+
+  /**
+   * Pool of {@code int[]} scratch buffers of varying lengths.
+   */
+  static final class IntArrays extends Pool<int[]> {
+    private static final int INITIAL_SIZE = 17;
+
+    @Override
+    protected int[] create() {
+      return new int[INITIAL_SIZE];
+    }
+
+    @Override
+    protected int sizeOf(final int[] buffer) {
+      return buffer.length * Integer.BYTES;
+    }
+
+    @Override
+    protected boolean retain(final int[] buffer) {
+      return buffer.length <= MAX_LENGTH;
+    }
+
+    /**
+     * Returns an {@code int[]} scratch buffer with length that is at least {@code len}, which must be {@linkplain #release(Object)
+     * released} when it is no longer used. The contents of the returned buffer are undefined.
+     *
+     * @param len The minimal length of the returned buffer.
+     * @return An {@code int[]} scratch buffer with length that is at least {@code len}.
+     */
+    int[] acquire(final int len) {
+      if (len > highWaterLength)
+        updateHighWaterLength(len);
+
+      final int[] buffer = poll();
+      if (buffer != null) {
+        if (buffer.length >= len)
+          return buffer;
+
+        // The buffer is too short, and is left to the garbage collector in favor of the longer buffer that replaces it
+        discards.increment();
+      }
+
+      allocations.increment();
+      return new int[Math.max(INITIAL_SIZE, len)];
+    }
+  }
+
+  /**
+   * Pool of {@code long[]} scratch buffers of varying lengths.
+   */
+  static final class LongArrays extends Pool<long[]> {
+    @Override
+    protected long[] create() {
+      return new long[0];
+    }
+
+    @Override
+    protected int sizeOf(final long[] buffer) {
+      return buffer.length * Long.BYTES;
+    }
+
+    @Override
+    protected boolean retain(final long[] buffer) {
+      return buffer.length <= MAX_LENGTH;
+    }
+
+    /**
+     * Returns a {@code long[]} scratch buffer with length that is at least {@code len}, which must be
+     * {@linkplain #release(Object) released} when it is no longer used. The contents of the returned buffer are undefined.
+     *
+     * @param len The minimal length of the returned buffer.
+     * @return A {@code long[]} scratch buffer with length that is at least {@code len}.
+     */
+    long[] acquire(final int len) {
+      if (len > highWaterLength)
+        updateHighWaterLength(len);
+
+      final long[] buffer = poll();
+      if (buffer != null) {
+        if (buffer.length >= len)
+          return buffer;
+
+        // The buffer is too short, and is left to the garbage collector in favor of the longer buffer that replaces it
+        discards.increment();
+      }
+
+      allocations.increment();
+      return new long[len];
+    }
+  }
+
+  /**
+   * The pool of {@code int[]} scratch buffers.
+   */
+  static final IntArrays ints = new IntArrays();
+
+  /**
+   * The pool of {@code long[]} scratch buffers.
+   */
+  static final LongArrays longs = new LongArrays();
+
+  private static synchronized void updateHighWaterLength(final int len) {
+    if (len > highWaterLength)
+      highWaterLength = len;
+  }
+
+  /**
+   * Returns the maximum number of buffers that are retained by each pool.
+   *
+   * @return The maximum number of buffers that are retained by each pool.
+   * @see #SLOTS_PROPERTY
+   */
+  public static int slots() {
+    return SLOTS;
+  }
+
+  /**
+   * Returns the maximum length of the {@code int[]} and {@code long[]} buffers that are retained.
+   *
+   * @return The maximum length of the {@code int[]} and {@code long[]} buffers that are retained.
+   * @see #MAX_LENGTH_PROPERTY
+   */
+  public static int maxLength() {
+    return MAX_LENGTH;
+  }
+
+  /**
+   * Returns the count of bytes of the arrays of the scratch buffers that are currently retained by all pools, which is at most
+   * {@code slots() * maxLength() * 12} for the {@code int[]} and {@code long[]} buffers, plus a small constant for the other
+   * pools.
+   *
+   * @return The count of bytes of the arrays of the scratch buffers that are currently retained by all pools.
+   */
+  public static long retainedBytes() {
+    long bytes = 0;
+    for (final Pool<?> pool : pools) // [A]
+      bytes += pool.retainedBytes();
+
+    return bytes;
+  }
+
+  /**
+   * Returns the high-water mark of the length of the {@code int[]} and {@code long[]} scratch buffers that have been requested since
+   * the last {@linkplain #resetStats() reset}.
+   *
+   * @return The high-water mark of the length of the {@code int[]} and {@code long[]} scratch buffers that have been requested.
+   */
+  public static int highWaterLength() {
+    return highWaterLength;
+  }
+
+  /**
+   * Returns the count of scratch buffers that have been created since the last {@linkplain #resetStats() reset}, because no retained
+   * buffer was available, or no retained buffer was long enough. A count that keeps growing under steady load indicates that
+   * {@value #SLOTS_PROPERTY} or {@value #MAX_LENGTH_PROPERTY} is too small.
+   *
+   * @return The count of scratch buffers that have been created since the last reset.
+   */
+  public static long allocations() {
+    return allocations.sum();
+  }
+
+  /**
+   * Returns the count of released scratch buffers that have been left to the garbage collector since the last
+   * {@linkplain #resetStats() reset}, because their pool was full, because they were longer than {@link #maxLength()}, or because
+   * they were shorter than the length that was requested of their pool.
+   *
+   * @return The count of released scratch buffers that have been left to the garbage collector since the last reset.
+   */
+  public static long discards() {
+    return discards.sum();
+  }
+
+  /**
+   * Resets the {@linkplain #highWaterLength() high-water mark}, {@linkplain #allocations() allocations} and
+   * {@linkplain #discards() discards} statistics.
+   */
+  public static synchronized void resetStats() {
+    highWaterLength = 0;
+    allocations.reset();
+    discards.reset();
+  }
+
+  private ScratchBuffers() {
+  }
+}
@@ -0,0 +1,274 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.libj.math.BigIntValue.*;
+
+/**
+ * Fixed-width unsigned 128-bit arithmetic on {@code (hi, lo)} pairs of {@code long}s, which is used by {@link Decimal} for the
+ * intermediate results that overflow 64 bits.
+ * <p>
+ * All methods are allocation-free. The 128-by-64 division returns only the low 64 bits of the quotient, and the remainder is
+ * recovered by the caller as {@code lo - q * d}, which is exact because the remainder is narrower than the divisor. Division by a
+ * power of ten uses a table of precomputed reciprocals (Möller and Granlund, <i>Improved division by invariant integers</i>), which
+ * replaces the two hardware divisions of the general case with multiplications.
+ * <p>
+ * The sources are compiled for Java 8, so {@code Math.multiplyHigh(long,long)} (Java 9) and
+ * {@code Math.unsignedMultiplyHigh(long,long)} (Java 18) are substituted by their portable equivalents, and
+ * {@link Long#divideUnsigned(long,long)} is substituted by a version that does not fall back to {@link java.math.BigInteger}.
+ */
+final class UInt128 {
+  private static final byte[] E10_SHIFT = new byte[FastMath.longE10.length];
+  private static final long[] E10_RECIPROCAL = new long[FastMath.longE10.length];
+
+  /** The high 64 bits of <code>10<sup>n</sup></code>, for {@code n} from {@code 0} to {@code 38}. */
+  static final long[] E10_HI = new long[39];
+
+  /** The low 64 bits of <code>10<sup>n</sup></code>, for {@code n} from {@code 0} to {@code 38}. */
+  static final long[] E10_LO = new long[39];
+
+  static {
+    E10_LO[0] = 1;
+    for (int i = 1; i < E10_LO.length; ++i) {
+      E10_LO[i] = E10_LO[i - 1] * 10;
+      E10_HI[i] = multiplyHigh(E10_LO[i - 1], 10) + E10_HI[i - 1] * 10;
+    }
+
+    for (int i = 0; i < FastMath.longE10.length; ++i) {
+      final int s = Long.numberOfLeadingZeros(FastMath.longE10[i]);
+      final long d = FastMath.longE10[i] << s;
+      E10_SHIFT[i] = (byte)s;
+      E10_RECIPROCAL[i] = divide0(~d, -1L, d);
+    }
+  }
+
+  /**
+   * Returns the most significant 64 bits of the unsigned 128-bit product of the provided unsigned 64-bit factors.
+   *
+   * @param x The first factor.
+   * @param y The second factor.
+   * @return The most significant 64 bits of the unsigned 128-bit product of the provided unsigned 64-bit factors.
+   * @complexity O(1)
+   */
+  static long multiplyHigh(final long x, final long y) {
+    // Hacker's Delight (2nd ed.), section 8-2
+    final long x0 = x & LONG_MASK;
+    final long x1 = x >>> 32;
+    final long y0 = y & LONG_MASK;
+    final long y1 = y >>> 32;
+    final long t = x1 * y0 + (x0 * y0 >>> 32);
+    final long w = (t & LONG_MASK) + x0 * y1;
+    return x1 * y1 + (t >>> 32) + (w >>> 32);
+  }
+
+  /**
+   * Compares the unsigned 128-bit values {@code (hi1, lo1)} and {@code (hi2, lo2)}.
+   *
+   * @param hi1 The high 64 bits of the first value.
+   * @param lo1 The low 64 bits of the first value.
+   * @param hi2 The high 64 bits of the second value.
+   * @param lo2 The low 64 bits of the second value.
+   * @return A negative value, zero, or a positive value if the first value is less than, equal to, or greater than the second value.
+   * @complexity O(1)
+   */
+  static int compare(final long hi1, final long lo1, final long hi2, final long lo2) {
+    return hi1 != hi2 ? Long.compareUnsigned(hi1, hi2) : Long.compareUnsigned(lo1, lo2);
+  }
+
+  /**
+   * Returns the number of decimal digits in the unsigned 128-bit value {@code (hi, lo)}. The precision of zero is {@code 1}.
+   *
+   * @param hi The high 64 bits of the value.
+   * @param lo The low 64 bits of the value.
+   * @return The number of decimal digits in the unsigned 128-bit value {@code (hi, lo)}.
+   * @complexity O(1)
+   */
+  static int precision(final long hi, final long lo) {
+    final int bits = hi != 0 ? 128 - Long.numberOfLeadingZeros(hi) : 64 - Long.numberOfLeadingZeros(lo);
+    if (bits == 0)
+      return 1;
+
+    // Hacker's Delight (2nd ed.), section 11-4: 1233 / 4096 approximates log10(2) from below
+    final int p = bits * 1233 >>> 12;
+    return compare(hi, lo, E10_HI[p], E10_LO[p]) < 0 ? p : p + 1;
+  }
+
+  /**
+   * Returns the unsigned quotient of the provided unsigned 64-bit dividend and divisor.
+   *
+   * @param n The dividend.
+   * @param d The divisor.
+   * @return The unsigned quotient of the provided unsigned 64-bit dividend and divisor.
+   * @throws ArithmeticException If {@code d} is zero.
+   * @complexity O(1)
+   */
+  static long divideUnsigned(final long n, final long d) {
+    if (d < 0)
+      return Long.compareUnsigned(n, d) < 0 ? 0 : 1;
+
+    if (n >= 0)
+      return n / d;
+
+    final long q = (n >>> 1) / d << 1;
+    return Long.compareUnsigned(n - q * d, d) >= 0 ? q + 1 : q;
+  }
+
+  /**
+   * Returns the unsigned remainder of the provided unsigned 64-bit dividend and divisor.
+   *
+   * @param n The dividend.
+   * @param d The divisor.
+   * @return The unsigned remainder of the provided unsigned 64-bit dividend and divisor.
+   * @throws ArithmeticException If {@code d} is zero.
+   * @complexity O(1)
+   */
+  static long remainderUnsigned(final long n, final long d) {
+    if (d < 0)
+      return Long.compareUnsigned(n, d) < 0 ? n : n - d;
+
+    if (n >= 0)
+      return n % d;
+
+    final long r = n - ((n >>> 1) / d << 1) * d;
+    return Long.compareUnsigned(r, d) >= 0 ? r - d : r;
+  }
+
+  /**
+   * Returns the low 64 bits of the unsigned quotient of the 128-bit dividend {@code (hi, lo)} and the unsigned 64-bit divisor
+   * {@code d}. The high 64 bits of the quotient are {@code divideUnsigned(hi, d)}.
+   *
+   * @param hi The high 64 bits of the dividend.
+   * @param lo The low 64 bits of the dividend.
+   * @param d The divisor.
+   * @return The low 64 bits of the unsigned quotient of the 128-bit dividend {@code (hi, lo)} and the divisor {@code d}.
+   * @throws ArithmeticException If {@code d} is zero.
+   * @complexity O(1)
+   */
+  static long divide(long hi, long lo, long d) {
+    if (Long.compareUnsigned(hi, d) >= 0)
+      hi = remainderUnsigned(hi, d);
+
+    final int s = Long.numberOfLeadingZeros(d);
+    if (s != 0) {
+      d <<= s;
+      hi = hi << s | lo >>> 64 - s;
+      lo <<= s;
+    }
+
+    return divide0(hi, lo, d);
+  }
+
+  /**
+   * Returns the low 64 bits of the unsigned quotient of the 128-bit dividend {@code (hi, lo)} and {@code 10^n}. The high 64 bits of
+   * the quotient are {@code divideUnsigned(hi, FastMath.longE10[n])}.
+   *
+   * @param hi The high 64 bits of the dividend.
+   * @param lo The low 64 bits of the dividend.
+   * @param n The power of ten of the divisor, which must be in the range of {@link FastMath#longE10}.
+   * @return The low 64 bits of the unsigned quotient of the 128-bit dividend {@code (hi, lo)} and {@code 10^n}.
+   * @complexity O(1)
+   */
+  static long divideE10(long hi, long lo, final int n) {
+    final long d = FastMath.longE10[n];
+    if (Long.compareUnsigned(hi, d) >= 0)
+      hi = remainderUnsigned(hi, d);
+
+    // 10^n < 2^63, so the shift is never 0
+    final int s = E10_SHIFT[n];
+    final long dn = d << s;
+    hi = hi << s | lo >>> 64 - s;
+    lo <<= s;
+
+    final long v = E10_RECIPROCAL[n];
+    long q0 = v * hi;
+    long q1 = multiplyHigh(v, hi) + hi + 1;
+    q0 += lo;
+    if (Long.compareUnsigned(q0, lo) < 0)
+      ++q1;
+
+    long r = lo - q1 * dn;
+    if (Long.compareUnsigned(r, q0) > 0) {
+      --q1;
+      r += dn;
+    }
+
+    return Long.compareUnsigned(r, dn) >= 0 ? q1 + 1 : q1;
+  }
+
+  /**
+   * Returns the unsigned quotient of the 128-bit dividend {@code (uh, ul)} and the 128-bit divisor {@code (vh, vl)}, where
+   * {@code vh != 0}, which guarantees that the quotient fits in 64 bits. The remainder is {@code (uh, ul) - q * (vh, vl)}.
+   *
+   * @param uh The high 64 bits of the dividend.
+   * @param ul The low 64 bits of the dividend.
+   * @param vh The high 64 bits of the divisor, which must not be zero.
+   * @param vl The low 64 bits of the divisor.
+   * @return The unsigned quotient of the 128-bit dividend {@code (uh, ul)} and the 128-bit divisor {@code (vh, vl)}.
+   * @complexity O(1)
+   */
+  static long divide(final long uh, final long ul, final long vh, final long vl) {
+    // Hacker's Delight (2nd ed.), section 9-5: estimate with the top 64 bits of the divisor, and correct by at most 1
+    final int s = Long.numberOfLeadingZeros(vh);
+    final long v1 = s == 0 ? vh : vh << s | vl >>> 64 - s;
+    final long q1 = divide0(uh >>> 1, uh << 63 | ul >>> 1, v1);
+    long q = q1 >>> 63 - s;
+    if (q != 0)
+      --q;
+
+    // (uh, ul) - q * (vh, vl) >= (vh, vl)
+    final long pl = q * vl;
+    final long rl = ul - pl;
+    final long rh = uh - (multiplyHigh(q, vl) + q * vh) - (Long.compareUnsigned(ul, pl) < 0 ? 1 : 0);
+    return compare(rh, rl, vh, vl) >= 0 ? q + 1 : q;
+  }
+
+  /**
+   * Returns the unsigned quotient of the 128-bit dividend {@code (hi, lo)} and the normalized divisor {@code d}, whose most
+   * significant bit is set, where {@code hi < d}.
+   *
+   * @complexity O(1)
+   */
+  private static long divide0(final long hi, final long lo, final long d) {
+    // Hacker's Delight (2nd ed.), section 9-4, with base 2^32 digits
+    final long dh = d >>> 32;
+    final long dl = d & LONG_MASK;
+    final long lh = lo >>> 32;
+    final long ll = lo & LONG_MASK;
+
+    long q1 = divideUnsigned(hi, dh);
+    long r = hi - q1 * dh;
+    while (q1 > LONG_MASK || Long.compareUnsigned(q1 * dl, r << 32 | lh) > 0) {
+      --q1;
+      if ((r += dh) > LONG_MASK)
+        break;
+    }
+
+    final long t = (hi << 32 | lh) - q1 * d;
+    long q0 = divideUnsigned(t, dh);
+    r = t - q0 * dh;
+    while (q0 > LONG_MASK || Long.compareUnsigned(q0 * dl, r << 32 | ll) > 0) {
+      --q0;
+      if ((r += dh) > LONG_MASK)
+        break;
+    }
+
+    return q1 << 32 | q0;
+  }
+
+  private UInt128() {
+  }
+}
@@ -0,0 +1,143 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Schoolbook multiplication and squaring kernels implemented with the {@code jdk.incubator.vector} API. This class is compiled
+ * for JDK 17+, and is only linked by {@link BigIntVector} if the {@code jdk.incubator.vector} module is present at runtime.
+ * <p>
+ * The limbs are zero-extended to {@code long} lanes, so that each lane of a vector multiply produces the full 64-bit product of two
+ * limbs. Instead of propagating a carry from lane to lane, the low and high 32 bits of the products are accumulated in separate
+ * {@code long} columns, which cannot overflow for fewer than <code>2<sup>29</sup></code> limbs. The carries are resolved in a
+ * single scalar pass over the columns after all products have been accumulated.
+ */
+final class BigIntVectorKernels {
+  private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+  private static final long LONG_MASK = 0xFFFFFFFFL;
+
+  /**
+   * Returns the number of {@code long} lanes of the preferred vector species on this platform.
+   *
+   * @return The number of {@code long} lanes of the preferred vector species on this platform.
+   */
+  static int lanes() {
+    return SPECIES.length();
+  }
+
+  /**
+   * Multiplies the {@code xlen} limbs of {@code x} starting at {@code xoff} by the {@code ylen} limbs of {@code y} starting at
+   * {@code yoff}, and sets the {@code xlen + ylen} limbs of the product in {@code z} starting at {@code zoff}. The arrays may
+   * overlap, because all limbs of {@code x} and {@code y} are read before the product is written.
+   */
+  static void mul(final int[] x, final int xoff, final int xlen, final int[] y, final int yoff, final int ylen, final int[] z, final int zoff) {
+    // Vectorize the inner loop over the longer of the two operands
+    if (xlen > ylen) {
+      mul(y, yoff, ylen, x, xoff, xlen, z, zoff);
+      return;
+    }
+
+    final int zlen = xlen + ylen, lo = ylen, hi = lo + zlen;
+    final long[] t = ScratchBuffers.longs.acquire(hi + zlen);
+    for (int j = 0; j < ylen; ++j) // [A]
+      t[j] = y[yoff + j] & LONG_MASK;
+
+    Arrays.fill(t, lo, hi + zlen, 0);
+
+    final int n = SPECIES.length(), bound = SPECIES.loopBound(ylen);
+    for (int i = 0; i < xlen; ++i) { // [A]
+      final long x0 = x[xoff + i] & LONG_MASK;
+      final LongVector xv = LongVector.broadcast(SPECIES, x0);
+      int j = 0;
+      for (int k; j < bound; j += n) { // [A]
+        final LongVector p = xv.mul(LongVector.fromArray(SPECIES, t, j));
+        k = i + j;
+        LongVector.fromArray(SPECIES, t, lo + k).add(p.and(LONG_MASK)).intoArray(t, lo + k);
+        LongVector.fromArray(SPECIES, t, hi + k).add(p.lanewise(VectorOperators.LSHR, 32)).intoArray(t, hi + k);
+      }
+
+      for (long p; j < ylen; ++j) { // [A]
+        p = x0 * t[j];
+        t[lo + i + j] += p & LONG_MASK;
+        t[hi + i + j] += p >>> 32;
+      }
+    }
+
+    // Resolve the carries: the high half of column k - 1 is added to the low half of column k
+    long carry = t[lo];
+    z[zoff] = (int)carry;
+    for (int k = 1; k < zlen; ++k) { // [A]
+      carry = (carry >>> 32) + t[lo + k] + t[hi + k - 1];
+      z[zoff + k] = (int)carry;
+    }
+
+    ScratchBuffers.longs.release(t);
+  }
+
+  /**
+   * Squares the {@code len} limbs of {@code x} starting at {@code xoff}, and sets the {@code len * 2} limbs of the square in
+   * {@code z} starting at {@code zoff}. The arrays may overlap, because all limbs of {@code x} are read before the square is written.
+   */
+  static void square(final int[] x, final int xoff, final int len, final int[] z, final int zoff) {
+    final int zlen = len * 2, lo = len, hi = lo + zlen;
+    final long[] t = ScratchBuffers.longs.acquire(hi + zlen);
+    for (int j = 0; j < len; ++j) // [A]
+      t[j] = x[xoff + j] & LONG_MASK;
+
+    Arrays.fill(t, lo, hi + zlen, 0);
+
+    // Accumulate the off-diagonal products x[i] * x[j] for i < j, which are counted twice when the carries are resolved
+    final int n = SPECIES.length();
+    for (int i = 0; i < len - 1; ++i) { // [A]
+      final long x0 = t[i];
+      final LongVector xv = LongVector.broadcast(SPECIES, x0);
+      int j = i + 1;
+      for (int k, bound = len - n; j <= bound; j += n) { // [A]
+        final LongVector p = xv.mul(LongVector.fromArray(SPECIES, t, j));
+        k = i + j;
+        LongVector.fromArray(SPECIES, t, lo + k).add(p.and(LONG_MASK)).intoArray(t, lo + k);
+        LongVector.fromArray(SPECIES, t, hi + k).add(p.lanewise(VectorOperators.LSHR, 32)).intoArray(t, hi + k);
+      }
+
+      for (long p; j < len; ++j) { // [A]
+        p = x0 * t[j];
+        t[lo + i + j] += p & LONG_MASK;
+        t[hi + i + j] += p >>> 32;
+      }
+    }
+
+    // Resolve the carries, doubling the off-diagonal products, and adding the diagonal squares x[i] * x[i] at column 2 * i
+    long carry = 0, d;
+    for (int i = 0, k = 0; i < len; ++i) { // [A]
+      d = t[i] * t[i];
+      carry = (carry >>> 32) + ((t[lo + k] + (k == 0 ? 0 : t[hi + k - 1])) << 1) + (d & LONG_MASK);
+      z[zoff + k++] = (int)carry;
+      carry = (carry >>> 32) + ((t[lo + k] + t[hi + k - 1]) << 1) + (d >>> 32);
+      z[zoff + k++] = (int)carry;
+    }
+
+    ScratchBuffers.longs.release(t);
+  }
+
+  private BigIntVectorKernels() {
+  }
+}
@@ -0,0 +1,1020 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Arbitrary precision integer of which the {@linkplain BigInt#val() value-encoded number} is stored off-heap in a
+ * {@link MemorySegment}, for numbers with millions of limbs, which as {@code int[]} would be humongous objects for the garbage
+ * collector.
+ * <p>
+ * The segment has the same layout as the {@code int[]} of a {@link BigInt}: the {@code int} at index {@code 0} is the signed length,
+ * which is followed by the limbs in <i>little-endian</i> order. A {@link BigIntSegment} is therefore copied to and from a
+ * {@link BigInt} with a single bulk copy, with {@link #BigIntSegment(Arena,BigInt)}, {@link #assign(BigInt)} and
+ * {@link #toBigInt()}.
+ * <p>
+ * The segment is allocated in the {@link Arena} that is provided at construction, which determines its lifetime. Like
+ * {@link BigInt}, a {@link BigIntSegment} is mutable, and its arithmetic methods set the result to {@code this}. If the result
+ * requires a larger segment, a new segment is allocated in the arena, and the previous segment is released when the arena is
+ * closed. The temporary segments of multiplication and division are allocated in confined arenas that are closed before the
+ * methods return.
+ * <p>
+ * Segments are multiplied with the Toom-Cook 3-way algorithm of {@link BigIntMultiplication}, and divided with the
+ * Burnikel-Ziegler and Newton algorithms of {@link BigIntDivision}, which operate on slices of the segments through a
+ * {@link BigIntLimbs} adapter. The recursion stops at pieces of at most {@link #HEAP_THRESHOLD} limbs, which are copied to the heap,
+ * and are multiplied or divided there with the algorithms of {@link BigInt}, including Karatsuba, native and NTT multiplication.
+ * Divisors of at most half of that are divided into the dividend in pieces of {@link #HEAP_THRESHOLD} limbs. The heap copies are
+ * therefore bounded in size, however large the operands.
+ * <p>
+ * This class is compiled for JDK 22+ from {@code src/main/java22}.
+ */
+public final class BigIntSegment implements Comparable<BigIntSegment> {
+  /**
+   * Number of limbs at or below which the pieces of the operands of multiplication and division are copied to the heap, and are
+   * multiplied or divided with the algorithms of {@link BigInt}. The default of {@code 2^15} limbs keeps the copies, and the products
+   * of 2 pieces, well below the size at which the G1 garbage collector allocates arrays as humongous objects.
+   */
+  static final int HEAP_THRESHOLD = BigIntProfile.get("SEGMENT_HEAP_THRESHOLD", 1 << 15, 2);
+
+  private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+  private static final long LONG_MASK = 0xFFFFFFFFL;
+
+  /**
+   * The adapter of {@link BigIntSegment}s, of which the temporaries are allocated in confined arenas that are closed when they are
+   * freed. The operations compute their results in the space of their first operand.
+   */
+  private static final BigIntLimbs<BigIntSegment> LIMBS = new BigIntLimbs<BigIntSegment>() {
+    @Override
+    int threshold() {
+      return HEAP_THRESHOLD / 2;
+    }
+
+    @Override
+    int signum(final BigIntSegment val) {
+      return val.signum();
+    }
+
+    @Override
+    int length(final BigIntSegment val) {
+      return val.length();
+    }
+
+    @Override
+    long bitLength(final BigIntSegment val) {
+      final int len = val.length();
+      return len == 0 ? 0 : 32L * len - Integer.numberOfLeadingZeros(get(val.segment, len));
+    }
+
+    @Override
+    int compareToAbs(final BigIntSegment val1, final BigIntSegment val2) {
+      return compare(val1.segment, 1, val1.length(), val2.segment, 1, val2.length());
+    }
+
+    @Override
+    BigIntSegment[] array(final int len) {
+      return new BigIntSegment[len];
+    }
+
+    @Override
+    BigIntSegment alloc(final int len) {
+      return new BigIntSegment(Arena.ofConfined(), len);
+    }
+
+    @Override
+    BigIntSegment slice(final BigIntSegment val, final int from, int to) {
+      if (to > val.length())
+        to = val.length();
+
+      final int len = to <= from ? 0 : normalize(val.segment, 1 + from, to - from);
+      // Room for the carry of an addition or a shift
+      final BigIntSegment slice = alloc(len + 1);
+      if (len > 0)
+        MemorySegment.copy(val.segment, (1L + from) * Integer.BYTES, slice.segment, Integer.BYTES, (long)len * Integer.BYTES);
+
+      set(slice.segment, 0, len);
+      return slice;
+    }
+
+    @Override
+    BigIntSegment copy(final BigIntSegment val) {
+      return alloc(val.length() + 1).assign(val);
+    }
+
+    @Override
+    BigIntSegment join(final BigIntSegment hi, final BigIntSegment lo, final int n) {
+      final int hlen = hi.length(), llen = lo.length();
+      if (hlen == 0)
+        return slice(lo, 0, llen);
+
+      final int len = n + hlen;
+      final BigIntSegment val = alloc(len + 1);
+      MemorySegment.copy(lo.segment, Integer.BYTES, val.segment, Integer.BYTES, (long)llen * Integer.BYTES);
+      MemorySegment.copy(hi.segment, Integer.BYTES, val.segment, (1L + n) * Integer.BYTES, (long)hlen * Integer.BYTES);
+      set(val.segment, 0, len);
+      return val;
+    }
+
+    @Override
+    BigIntSegment pow2(final int k) {
+      final int len = (k >>> 5) + 1;
+      final BigIntSegment val = alloc(len + 1);
+      set(val.segment, len, 1 << (k & 31));
+      set(val.segment, 0, len);
+      return val;
+    }
+
+    @Override
+    BigIntSegment add(final BigIntSegment val, final BigIntSegment add) {
+      return val.add(add);
+    }
+
+    @Override
+    BigIntSegment sub(final BigIntSegment val, final BigIntSegment sub) {
+      return val.sub(sub);
+    }
+
+    @Override
+    BigIntSegment add(final BigIntSegment val, final int add) {
+      if (add == 0)
+        return val;
+
+      try (final Arena arena = Arena.ofConfined()) {
+        return val.add(new BigIntSegment(arena, new int[] {add < 0 ? -1 : 1, Math.abs(add)}));
+      }
+    }
+
+    @Override
+    BigIntSegment sub(final BigIntSegment val, final int sub) {
+      return add(val, -sub);
+    }
+
+    @Override
+    BigIntSegment shiftLeft(final BigIntSegment val, final int num) {
+      return val.shiftLeft(num);
+    }
+
+    @Override
+    BigIntSegment shiftRight(final BigIntSegment val, final int num) {
+      return val.shiftRight(num);
+    }
+
+    @Override
+    BigIntSegment exactDivideBy3(final BigIntSegment val) {
+      final MemorySegment x = val.segment;
+      int len = get(x, 0);
+      final boolean sig = len >= 0;
+      if (!sig)
+        len = -len;
+
+      long borrow = 0, w, q;
+      for (int i = 1; i <= len; ++i) { // [A]
+        w = (get(x, i) & LONG_MASK) - borrow;
+        borrow = w < 0 ? 1 : 0;
+
+        // 0xAAAAAAAB is the modular inverse of 3 (mod 2^32)
+        q = (w & LONG_MASK) * 0xAAAAAAABL & LONG_MASK;
+        set(x, i, (int)q);
+        if (q >= 0x55555556L) {
+          ++borrow;
+          if (q >= 0xAAAAAAABL)
+            ++borrow;
+        }
+      }
+
+      return val.setLength(len, sig);
+    }
+
+    @Override
+    BigIntSegment mul(final BigIntSegment val, final BigIntSegment mul) {
+      final BigIntSegment z = product(val, mul);
+      val.assign(z);
+      free(z);
+      return val;
+    }
+
+    @Override
+    BigIntSegment mul(final BigIntSegment val, final BigIntSegment mul, final int parallelThreshold, final int parallelThresholdZ) {
+      // The temporaries are confined to the current thread, so the products are never computed in parallel
+      return mul(val, mul);
+    }
+
+    @Override
+    BigIntSegment[] divRem(final BigIntSegment val, final BigIntSegment div) {
+      final int len1 = val.length(), len2 = div.length();
+      if (len1 <= HEAP_THRESHOLD) {
+        final int[] q = val.toHeap(0), d = div.toHeap(0), r = BigIntDivision.divRem(q, d);
+        final BigIntSegment[] qr = pair(new BigIntSegment(Arena.ofConfined(), q), new BigIntSegment(Arena.ofConfined(), r));
+        BigIntValue.free(q, d, r);
+        return qr;
+      }
+
+      if (len2 <= HEAP_THRESHOLD / 2)
+        return divRemChunked(val, len1, div);
+
+      // The quotient is short, so it is estimated from the high limbs of the operands to within a few units, and is then corrected
+      // with the remainder
+      final int s = Math.max(0, 2 * len2 - len1 - 3);
+      final int[] q = val.toHeap(s), d = div.toHeap(s);
+      BigIntValue.free(d, BigIntDivision.divRem(q, d));
+      final BigIntSegment a = slice(val, 0, len1), b = slice(div, 0, len2);
+      final BigIntSegment[] qr = BigIntDivision.newtonCorrect(this, a, b, new BigIntSegment(Arena.ofConfined(), q));
+      BigIntValue.free(q);
+      freeExcept(qr, a, b);
+      return qr;
+    }
+
+    @Override
+    void addShifted(final BigIntSegment z, final int zlen, final BigIntSegment val, final int off) {
+      addTo(z.segment, 1L + off, val.segment, 1, val.length());
+    }
+
+    @Override
+    BigIntSegment setLength(final BigIntSegment z, final int len, final boolean sig) {
+      return z.setLength(len, sig);
+    }
+
+    @Override
+    void free(final BigIntSegment val) {
+      val.arena.close();
+    }
+  };
+
+  private final Arena arena;
+  private MemorySegment segment;
+
+  /**
+   * Creates a {@link BigIntSegment} with the value of zero, in a segment with room for {@code capacity} limbs that is allocated in
+   * the provided {@link Arena}.
+   *
+   * @param arena The {@link Arena} in which the segment is allocated.
+   * @param capacity The number of limbs for which to allocate room.
+   * @throws IllegalArgumentException If {@code capacity} is negative.
+   * @throws NullPointerException If {@code arena} is null.
+   */
+  public BigIntSegment(final Arena arena, final int capacity) {
+    if (capacity < 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be non-negative");
+
+    this.arena = arena;
+    this.segment = allocate(arena, capacity);
+  }
+
+  /**
+   * Creates a {@link BigIntSegment} with a copy of the provided {@linkplain BigInt#val() value-encoded number}, in a segment that is
+   * allocated in the provided {@link Arena}.
+   *
+   * @param arena The {@link Arena} in which the segment is allocated.
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @throws NullPointerException If {@code arena} or {@code val} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment(final Arena arena, final int[] val) {
+    this(arena, Math.abs(val[0]));
+    assign(val);
+  }
+
+  /**
+   * Creates a {@link BigIntSegment} with a copy of the value of the provided {@link BigInt}, in a segment that is allocated in the
+   * provided {@link Arena}.
+   *
+   * @param arena The {@link Arena} in which the segment is allocated.
+   * @param val The {@link BigInt}.
+   * @throws NullPointerException If {@code arena} or {@code val} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment(final Arena arena, final BigInt val) {
+    this(arena, val.val());
+  }
+
+  private static MemorySegment allocate(final Arena arena, final int capacity) {
+    return arena.allocate((capacity + 1L) * Integer.BYTES, Integer.BYTES);
+  }
+
+  private static int get(final MemorySegment x, final long i) {
+    return x.getAtIndex(INT, i);
+  }
+
+  private static void set(final MemorySegment x, final long i, final int v) {
+    x.setAtIndex(INT, i, v);
+  }
+
+  /**
+   * Returns the {@link Arena} in which the segment of this {@link BigIntSegment} is allocated.
+   *
+   * @return The {@link Arena} in which the segment of this {@link BigIntSegment} is allocated.
+   */
+  public Arena arena() {
+    return arena;
+  }
+
+  /**
+   * Returns the segment of this {@link BigIntSegment}, which holds its {@linkplain BigInt#val() value-encoded number}, and which is
+   * replaced by a larger segment if a subsequent operation requires more room.
+   *
+   * @return The segment of this {@link BigIntSegment}.
+   */
+  public MemorySegment segment() {
+    return segment;
+  }
+
+  /**
+   * Returns the number of limbs for which the segment of this {@link BigIntSegment} has room.
+   *
+   * @return The number of limbs for which the segment of this {@link BigIntSegment} has room.
+   */
+  public int capacity() {
+    return (int)(segment.byteSize() / Integer.BYTES - 1);
+  }
+
+  /**
+   * Returns the number of limbs of the magnitude of this {@link BigIntSegment}.
+   *
+   * @return The number of limbs of the magnitude of this {@link BigIntSegment}.
+   * @complexity O(1)
+   */
+  public int length() {
+    return Math.abs(get(segment, 0));
+  }
+
+  /**
+   * Returns the signum of this {@link BigIntSegment}.
+   *
+   * @return {@code -1}, {@code 0} or {@code 1} if this {@link BigIntSegment} is negative, zero, or positive, respectively.
+   * @complexity O(1)
+   */
+  public int signum() {
+    return Integer.signum(get(segment, 0));
+  }
+
+  /**
+   * Ensures that the segment of this {@link BigIntSegment} has room for {@code len} limbs, and otherwise replaces it with a larger
+   * segment to which the current value is copied.
+   */
+  private void ensureCapacity(final int len) {
+    final int capacity = capacity();
+    if (len <= capacity)
+      return;
+
+    final MemorySegment segment = allocate(arena, Math.max(len, capacity + (capacity >> 1)));
+    MemorySegment.copy(this.segment, 0, segment, 0, (length() + 1L) * Integer.BYTES);
+    this.segment = segment;
+  }
+
+  /**
+   * Sets the value of this {@link BigIntSegment} to the provided {@linkplain BigInt#val() value-encoded number}.
+   *
+   * @param val The {@linkplain BigInt#val() value-encoded number}.
+   * @return {@code this}
+   * @throws NullPointerException If {@code val} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment assign(final int[] val) {
+    final int len = Math.abs(val[0]);
+    ensureCapacity(len);
+    MemorySegment.copy(val, 0, segment, INT, 0, len + 1);
+    return this;
+  }
+
+  /**
+   * Sets the value of this {@link BigIntSegment} to the value of the provided {@link BigInt}.
+   *
+   * @param val The {@link BigInt}.
+   * @return {@code this}
+   * @throws NullPointerException If {@code val} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment assign(final BigInt val) {
+    return assign(val.val());
+  }
+
+  /**
+   * Sets the value of this {@link BigIntSegment} to the value of the provided {@link BigIntSegment}.
+   *
+   * @param val The {@link BigIntSegment}.
+   * @return {@code this}
+   * @throws NullPointerException If {@code val} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment assign(final BigIntSegment val) {
+    if (val != this) {
+      final int len = val.length();
+      ensureCapacity(len);
+      MemorySegment.copy(val.segment, 0, segment, 0, (len + 1L) * Integer.BYTES);
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns a new {@linkplain BigInt#val() value-encoded number} on the heap with the value of this {@link BigIntSegment}.
+   *
+   * @return A new {@linkplain BigInt#val() value-encoded number} on the heap with the value of this {@link BigIntSegment}.
+   * @complexity O(n)
+   */
+  public int[] toVal() {
+    final int[] val = new int[length() + 1];
+    MemorySegment.copy(segment, INT, 0, val, 0, val.length);
+    return val;
+  }
+
+  /**
+   * Returns a new {@link BigInt} with the value of this {@link BigIntSegment}.
+   *
+   * @return A new {@link BigInt} with the value of this {@link BigIntSegment}.
+   * @complexity O(n)
+   */
+  public BigInt toBigInt() {
+    return new BigInt(toVal());
+  }
+
+  /**
+   * Returns a copy of the magnitude of the limbs {@code [from, length())} of this {@link BigIntSegment} in a
+   * {@linkplain BigInt#val() value-encoded number} from the {@link BigIntAllocator} of the current thread.
+   */
+  private int[] toHeap(final int from) {
+    final int len = length() - from;
+    final int[] val = BigIntValue.alloc(len + 1);
+    MemorySegment.copy(segment, INT, (1L + from) * Integer.BYTES, val, 1, len);
+    val[0] = len;
+    return val;
+  }
+
+  /**
+   * Sets the signed length of this {@link BigIntSegment} to {@code len} limbs with the provided sign, after removing the leading
+   * zero limbs.
+   */
+  private BigIntSegment setLength(int len, final boolean sig) {
+    len = normalize(segment, 1, len);
+    set(segment, 0, sig ? len : -len);
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigIntSegment} to its absolute value.
+   *
+   * @return {@code this}
+   * @complexity O(1)
+   */
+  public BigIntSegment abs() {
+    set(segment, 0, length());
+    return this;
+  }
+
+  /**
+   * Sets this {@link BigIntSegment} to its negated value.
+   *
+   * @return {@code this}
+   * @complexity O(1)
+   */
+  public BigIntSegment neg() {
+    set(segment, 0, -get(segment, 0));
+    return this;
+  }
+
+  /**
+   * Adds the provided {@link BigIntSegment} to this {@link BigIntSegment}.
+   *
+   * <pre>
+   * this = this + add
+   * </pre>
+   *
+   * @param add The {@link BigIntSegment} to add.
+   * @return {@code this}
+   * @throws NullPointerException If {@code add} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment add(final BigIntSegment add) {
+    return add(add, false);
+  }
+
+  /**
+   * Subtracts the provided {@link BigIntSegment} from this {@link BigIntSegment}.
+   *
+   * <pre>
+   * this = this - sub
+   * </pre>
+   *
+   * @param sub The {@link BigIntSegment} to subtract.
+   * @return {@code this}
+   * @throws NullPointerException If {@code sub} is null.
+   * @complexity O(n)
+   */
+  public BigIntSegment sub(final BigIntSegment sub) {
+    return add(sub, true);
+  }
+
+  private BigIntSegment add(final BigIntSegment y, final boolean negate) {
+    int xlen = get(segment, 0), ylen = get(y.segment, 0);
+    if (negate)
+      ylen = -ylen;
+
+    if (ylen == 0)
+      return this;
+
+    boolean xsig = true, ysig = true;
+    if (xlen < 0) { xlen = -xlen; xsig = false; }
+    if (ylen < 0) { ylen = -ylen; ysig = false; }
+
+    ensureCapacity(Math.max(xlen, ylen) + 1);
+    final MemorySegment x = segment, ys = y.segment;
+    if (xsig == ysig)
+      return setLength(xlen >= ylen ? add(x, 1, x, 1, xlen, ys, 1, ylen) : add(x, 1, ys, 1, ylen, x, 1, xlen), xsig);
+
+    final int c = compare(x, 1, xlen, ys, 1, ylen);
+    if (c == 0) {
+      set(x, 0, 0);
+      return this;
+    }
+
+    if (c > 0) {
+      sub(x, 1, x, 1, xlen, ys, 1, ylen);
+      return setLength(xlen, xsig);
+    }
+
+    sub(x, 1, ys, 1, ylen, x, 1, xlen);
+    return setLength(ylen, ysig);
+  }
+
+  /**
+   * Multiplies this {@link BigIntSegment} by the provided {@link BigIntSegment}.
+   *
+   * <pre>
+   * this = this * mul
+   * </pre>
+   *
+   * @param mul The {@link BigIntSegment} by which to multiply.
+   * @return {@code this}
+   * @throws NullPointerException If {@code mul} is null.
+   * @complexity O(n^1.465)
+   */
+  public BigIntSegment mul(final BigIntSegment mul) {
+    if (signum() == 0)
+      return this;
+
+    if (mul.signum() == 0) {
+      set(segment, 0, 0);
+      return this;
+    }
+
+    return LIMBS.mul(this, mul);
+  }
+
+  /**
+   * Returns the product of the provided {@link BigIntSegment}s as a new {@link BigIntSegment} in a confined {@link Arena}. If
+   * {@code x == y}, the product is computed as a square.
+   * <p>
+   * Operands of at most {@link #HEAP_THRESHOLD} limbs are multiplied on the heap with {@link BigInt#mul(int[],int[])}. Unbalanced
+   * operands are multiplied in pieces of the longer operand, which are accumulated in the product, and balanced operands are
+   * multiplied with {@link BigIntMultiplication#toomCook3(BigIntLimbs,Object,int,Object,int,boolean,int,int)}.
+   */
+  private static BigIntSegment product(BigIntSegment x, BigIntSegment y) {
+    int xlen = get(x.segment, 0), ylen = get(y.segment, 0);
+    if (xlen == 0 || ylen == 0)
+      return LIMBS.alloc(0);
+
+    boolean sig = true;
+    if (xlen < 0) { xlen = -xlen; sig = false; }
+    if (ylen < 0) { ylen = -ylen; sig = !sig; }
+
+    if (Math.max(xlen, ylen) <= HEAP_THRESHOLD) {
+      final int[] a = x.toHeap(0), b = x == y ? a : y.toHeap(0), z = BigIntMultiplication.mul(a, b);
+      final BigIntSegment product = new BigIntSegment(Arena.ofConfined(), z);
+      BigIntValue.free(a, b, z);
+      return product.setLength(product.length(), sig);
+    }
+
+    if (xlen < ylen) {
+      final BigIntSegment t = x; x = y; y = t;
+      final int tlen = xlen; xlen = ylen; ylen = tlen;
+    }
+
+    if (xlen < 2 * ylen)
+      return BigIntMultiplication.toomCook3(LIMBS, x, xlen, y, ylen, sig, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // Unbalanced operands are multiplied in pieces of the longer operand, which are balanced or small enough for the heap
+    final int zlen = xlen + ylen, c = Math.max(ylen, HEAP_THRESHOLD);
+    final BigIntSegment z = LIMBS.alloc(zlen);
+    for (int off = 0; off < xlen; off += c) { // [A]
+      final BigIntSegment piece = LIMBS.slice(x, off, off + c), p = product(piece, y);
+      addTo(z.segment, 1L + off, p.segment, 1, p.length());
+      LIMBS.free(piece, p);
+    }
+
+    return z.setLength(zlen, sig);
+  }
+
+  /**
+   * Divides this {@link BigIntSegment} by the provided {@link BigIntSegment}, and sets this {@link BigIntSegment} to the quotient,
+   * which is rounded toward zero.
+   *
+   * <pre>
+   * this = this / div
+   * </pre>
+   *
+   * @param div The divisor.
+   * @return {@code this}
+   * @throws ArithmeticException If {@code div} is zero.
+   * @throws NullPointerException If {@code div} is null.
+   * @complexity O(M(n) log(n)), where M(n) is the complexity of multiplication.
+   */
+  public BigIntSegment div(final BigIntSegment div) {
+    return divRem(div, true);
+  }
+
+  /**
+   * Divides this {@link BigIntSegment} by the provided {@link BigIntSegment}, and sets this {@link BigIntSegment} to the remainder,
+   * which has the sign of the dividend.
+   *
+   * <pre>
+   * this = this % div
+   * </pre>
+   *
+   * @param div The divisor.
+   * @return {@code this}
+   * @throws ArithmeticException If {@code div} is zero.
+   * @throws NullPointerException If {@code div} is null.
+   * @complexity O(M(n) log(n)), where M(n) is the complexity of multiplication.
+   */
+  public BigIntSegment rem(final BigIntSegment div) {
+    return divRem(div, false);
+  }
+
+  private BigIntSegment divRem(final BigIntSegment div, final boolean quotient) {
+    int xlen = get(segment, 0), ylen = get(div.segment, 0);
+    if (ylen == 0)
+      throw new ArithmeticException("/ by zero");
+
+    if (xlen == 0)
+      return this;
+
+    boolean xsig = true, ysig = true;
+    if (xlen < 0) { xlen = -xlen; xsig = false; }
+    if (ylen < 0) { ylen = -ylen; ysig = false; }
+
+    final int c = compare(segment, 1, xlen, div.segment, 1, ylen);
+    if (c < 0) {
+      if (quotient)
+        set(segment, 0, 0);
+
+      return this;
+    }
+
+    if (c == 0) {
+      if (!quotient) {
+        set(segment, 0, 0);
+        return this;
+      }
+
+      set(segment, 1, 1);
+      set(segment, 0, xsig == ysig ? 1 : -1);
+      return this;
+    }
+
+    final BigIntSegment[] qr = BigIntDivision.divRem(LIMBS, this, div);
+    assign(quotient ? qr[0] : qr[1]);
+    LIMBS.free(qr[0], qr[1] == this ? null : qr[1]);
+    return quotient ? setLength(length(), xsig == ysig) : setLength(length(), xsig);
+  }
+
+  /**
+   * Divides the magnitude of {@code val} of {@code len1} limbs by the magnitude of {@code div} of at most {@link #HEAP_THRESHOLD} / 2
+   * limbs, and returns an array of the quotient and the remainder as new {@link BigIntSegment}s in confined arenas.
+   * <p>
+   * The dividend is divided from its highest limbs in pieces of {@link #HEAP_THRESHOLD} limbs, each of which is the remainder of the
+   * higher pieces followed by the next limbs of the dividend, and is divided on the heap with {@link BigInt#divRem(int[],int[])}.
+   */
+  private static BigIntSegment[] divRemChunked(final BigIntSegment val, final int len1, final BigIntSegment div) {
+    final int[] d = div.toHeap(0);
+    final int c = HEAP_THRESHOLD - d[0];
+    final BigIntSegment q = LIMBS.alloc(len1);
+    int[] r = BigIntValue.alloc(1);
+    for (int hi = len1, lo; hi > 0; hi = lo) { // [N]
+      lo = Math.max(0, hi - c);
+      final int rlen = r[0];
+      int len = hi - lo + rlen;
+      final int[] p = BigIntValue.alloc(len + 1);
+      MemorySegment.copy(val.segment, INT, (1L + lo) * Integer.BYTES, p, 1, hi - lo);
+      System.arraycopy(r, 1, p, 1 + hi - lo, rlen);
+      for (; len > 0 && p[len] == 0; --len);
+      p[0] = len;
+      BigIntValue.free(r);
+
+      // The remainder is less than the divisor, so the quotient of the piece is less than 2^(32 * (hi - lo))
+      r = BigIntDivision.divRem(p, d);
+      MemorySegment.copy(p, 1, q.segment, INT, (1L + lo) * Integer.BYTES, p[0]);
+      if (p != r)
+        BigIntValue.free(p);
+    }
+
+    final BigIntSegment[] qr = LIMBS.pair(q.setLength(len1, true), new BigIntSegment(Arena.ofConfined(), r));
+    BigIntValue.free(d, r);
+    return qr;
+  }
+
+  /**
+   * Shifts this {@link BigIntSegment} left by the specified number of bits. The shift distance, {@code num}, may be negative, in
+   * which case this method performs a right shift.
+   *
+   * <pre>
+   * this = this &lt;&lt; num
+   * </pre>
+   *
+   * @param num The amount by which to shift.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntSegment shiftLeft(final int num) {
+    if (num < 0)
+      return shiftRight(num == Integer.MIN_VALUE ? Integer.MAX_VALUE : -num);
+
+    int len = get(segment, 0);
+    if (num == 0 || len == 0)
+      return this;
+
+    boolean sig = true;
+    if (len < 0) { len = -len; sig = false; }
+
+    final int shiftBig = num >>> 5;
+    final int zlen = len + shiftBig + 1;
+    ensureCapacity(zlen);
+    final MemorySegment x = segment;
+    set(x, zlen, shiftLeft(x, 1 + shiftBig, x, 1, len, num & 31));
+    x.asSlice(Integer.BYTES, (long)shiftBig * Integer.BYTES).fill((byte)0);
+    return setLength(zlen, sig);
+  }
+
+  /**
+   * Shifts this {@link BigIntSegment} right by the specified number of bits, which rounds toward negative infinity. The shift
+   * distance, {@code num}, may be negative, in which case this method performs a left shift.
+   *
+   * <pre>
+   * this = this &gt;&gt; num
+   * </pre>
+   *
+   * @param num The amount by which to shift.
+   * @return {@code this}
+   * @complexity O(n)
+   */
+  public BigIntSegment shiftRight(final int num) {
+    if (num < 0)
+      return shiftLeft(num == Integer.MIN_VALUE ? Integer.MAX_VALUE : -num);
+
+    int len = get(segment, 0);
+    if (num == 0 || len == 0)
+      return this;
+
+    boolean sig = true;
+    if (len < 0) { len = -len; sig = false; }
+
+    final int shiftBig = num >>> 5, shiftSmall = num & 31;
+    if (shiftBig >= len) {
+      set(segment, 1, sig ? 0 : 1);
+      return setLength(1, sig);
+    }
+
+    boolean oneLost = false;
+    if (!sig) {
+      // Find out whether any one-bits will be shifted off the end, in which case the carry of the increment may need a limb
+      for (int i = 1; i <= shiftBig && !(oneLost = get(segment, i) != 0); ++i); // [A]
+      if (!oneLost && shiftSmall != 0)
+        oneLost = get(segment, shiftBig + 1) << 32 - shiftSmall != 0;
+
+      if (oneLost)
+        ensureCapacity(len + 1);
+    }
+
+    final MemorySegment x = segment;
+    len -= shiftBig;
+    shiftRight(x, 1, x, 1 + shiftBig, len, shiftSmall);
+    if (oneLost) {
+      set(x, len + 1, 0);
+      increment(x, 1);
+      ++len;
+    }
+
+    return setLength(len, sig);
+  }
+
+  /**
+   * Compares this {@link BigIntSegment} with the provided {@link BigIntSegment}.
+   *
+   * @param o The {@link BigIntSegment} with which to compare.
+   * @return {@code -1}, {@code 0} or {@code 1} if this {@link BigIntSegment} is less than, equal to, or greater than {@code o}.
+   * @throws NullPointerException If {@code o} is null.
+   * @complexity O(n)
+   */
+  @Override
+  public int compareTo(final BigIntSegment o) {
+    int xlen = get(segment, 0), ylen = get(o.segment, 0);
+    if (xlen != ylen)
+      return xlen < ylen ? -1 : 1;
+
+    if (xlen == 0)
+      return 0;
+
+    final int c = compare(segment, 1, Math.abs(xlen), o.segment, 1, Math.abs(ylen));
+    return xlen < 0 ? -c : c;
+  }
+
+  /**
+   * Tests equality of this {@link BigIntSegment} and the provided object.
+   *
+   * @param obj The object with which to test for equality.
+   * @return {@code true} if {@code obj} is a {@link BigIntSegment} with the same value as this {@link BigIntSegment}, otherwise
+   *         {@code false}.
+   * @complexity O(n)
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    return obj == this || obj instanceof BigIntSegment && compareTo((BigIntSegment)obj) == 0;
+  }
+
+  /**
+   * Computes the hash code of this {@link BigIntSegment}, which is equal to the {@linkplain BigInt#hashCode() hash code} of a
+   * {@link BigInt} with the same value.
+   *
+   * @return The hash code of this {@link BigIntSegment}.
+   * @complexity O(n)
+   */
+  @Override
+  public int hashCode() {
+    int len = get(segment, 0);
+    final boolean sig = len >= 0;
+    if (!sig)
+      len = -len;
+
+    int hashCode = 0;
+    for (; len >= 1; --len) // [A]
+      hashCode = (int)(31 * hashCode + (get(segment, len) & LONG_MASK));
+
+    return sig ? hashCode : -hashCode;
+  }
+
+  /**
+   * Converts this {@link BigIntSegment} into a string of radix 10, via a {@link BigInt} on the heap.
+   *
+   * @return The string representation of this {@link BigIntSegment} in radix 10.
+   */
+  @Override
+  public String toString() {
+    return toBigInt().toString();
+  }
+
+  /* =========================================================================================== */
+  /* The kernels operate on magnitudes of {@code len} limbs at limb index {@code off} of a segment */
+  /* =========================================================================================== */
+
+  /**
+   * Returns the length of the magnitude of {@code len} limbs at {@code off}, without its leading zero limbs.
+   */
+  private static int normalize(final MemorySegment x, final long off, int len) {
+    while (len > 0 && get(x, off + len - 1) == 0) // [A]
+      --len;
+
+    return len;
+  }
+
+  /**
+   * Compares the normalized magnitudes {@code x} and {@code y}.
+   */
+  private static int compare(final MemorySegment x, final long xoff, final int xlen, final MemorySegment y, final long yoff, final int ylen) {
+    if (xlen != ylen)
+      return xlen < ylen ? -1 : 1;
+
+    for (int i = xlen - 1, a, b; i >= 0; --i) // [A]
+      if ((a = get(x, xoff + i)) != (b = get(y, yoff + i)))
+        return Integer.compareUnsigned(a, b) < 0 ? -1 : 1;
+
+    return 0;
+  }
+
+  /**
+   * Sets {@code z = x + y}, where {@code xlen >= ylen}, and returns the length of {@code z}. The magnitude {@code z} may be
+   * {@code x} or {@code y} at the same offset.
+   */
+  private static int add(final MemorySegment z, final long zoff, final MemorySegment x, final long xoff, final int xlen, final MemorySegment y, final long yoff, final int ylen) {
+    long c = 0;
+    int i = 0;
+    for (; i < ylen; ++i) { // [A]
+      c += (get(x, xoff + i) & LONG_MASK) + (get(y, yoff + i) & LONG_MASK);
+      set(z, zoff + i, (int)c);
+      c >>>= 32;
+    }
+
+    for (; i < xlen; ++i) { // [A]
+      c += get(x, xoff + i) & LONG_MASK;
+      set(z, zoff + i, (int)c);
+      c >>>= 32;
+    }
+
+    if (c == 0)
+      return xlen;
+
+    set(z, zoff + xlen, (int)c);
+    return xlen + 1;
+  }
+
+  /**
+   * Sets {@code z = x - y}, where {@code x >= y} and {@code xlen >= ylen}, in {@code xlen} limbs. The magnitude {@code z} may be
+   * {@code x} or {@code y} at the same offset.
+   */
+  private static void sub(final MemorySegment z, final long zoff, final MemorySegment x, final long xoff, final int xlen, final MemorySegment y, final long yoff, final int ylen) {
+    long b = 0;
+    int i = 0;
+    for (; i < ylen; ++i) { // [A]
+      b += (get(x, xoff + i) & LONG_MASK) - (get(y, yoff + i) & LONG_MASK);
+      set(z, zoff + i, (int)b);
+      b >>= 32;
+    }
+
+    for (; i < xlen; ++i) { // [A]
+      b += get(x, xoff + i) & LONG_MASK;
+      set(z, zoff + i, (int)b);
+      b >>= 32;
+    }
+  }
+
+  /**
+   * Sets {@code z += a}, propagating the carry into the limbs of {@code z} above {@code alen}.
+   */
+  private static void addTo(final MemorySegment z, long zoff, final MemorySegment a, final long aoff, final int alen) {
+    long c = 0;
+    for (int i = 0; i < alen; ++i, ++zoff) { // [A]
+      c += (get(z, zoff) & LONG_MASK) + (get(a, aoff + i) & LONG_MASK);
+      set(z, zoff, (int)c);
+      c >>>= 32;
+    }
+
+    for (; c != 0; ++zoff) { // [A]
+      c += get(z, zoff) & LONG_MASK;
+      set(z, zoff, (int)c);
+      c >>>= 32;
+    }
+  }
+
+  /**
+   * Increments the magnitude at {@code off}, which must have room for the carry.
+   */
+  private static void increment(final MemorySegment x, long off) {
+    int v;
+    while ((v = get(x, off) + 1) == 0) // [A]
+      set(x, off++, 0);
+
+    set(x, off, v);
+  }
+
+  /**
+   * Sets {@code z = x << s}, where {@code 0 <= s < 32}, in {@code len} limbs, and returns the bits that are shifted out of the
+   * highest limb. The magnitude {@code z} may be {@code x} at the same or a higher offset.
+   */
+  private static int shiftLeft(final MemorySegment z, final long zoff, final MemorySegment x, final long xoff, final int len, final int s) {
+    if (s == 0) {
+      MemorySegment.copy(x, xoff * Integer.BYTES, z, zoff * Integer.BYTES, (long)len * Integer.BYTES);
+      return 0;
+    }
+
+    final int t = 32 - s;
+    int hi = get(x, xoff + len - 1);
+    final int out = hi >>> t;
+    for (int i = len - 1, lo; i > 0; --i, hi = lo) // [A]
+      set(z, zoff + i, hi << s | (lo = get(x, xoff + i - 1)) >>> t);
+
+    set(z, zoff, hi << s);
+    return out;
+  }
+
+  /**
+   * Sets {@code z = x >>> s}, where {@code 0 <= s < 32}, in {@code len} limbs. The magnitude {@code z} may be {@code x} at the same
+   * or a lower offset.
+   */
+  private static void shiftRight(final MemorySegment z, final long zoff, final MemorySegment x, final long xoff, final int len, final int s) {
+    if (s == 0) {
+      MemorySegment.copy(x, xoff * Integer.BYTES, z, zoff * Integer.BYTES, (long)len * Integer.BYTES);
+      return;
+    }
+
+    final int t = 32 - s;
+    int lo = get(x, xoff);
+    for (int i = 0, hi; i < len - 1; ++i, lo = hi) // [A]
+      set(z, zoff + i, lo >>> s | (hi = get(x, xoff + i + 1)) << t);
+
+    set(z, zoff + len - 1, lo >>> s);
+  }
+}
@@ -0,0 +1,162 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class BigIntAllocatorTest extends BigIntTest {
+  private static void assertArithmetic(final int maxLength) {
+    for (int i = 0; i < 20; ++i) { // [N]
+      final int[] x = randomVal(1 + random.nextInt(maxLength));
+      final int[] y = randomVal(1 + random.nextInt(maxLength));
+      final BigInteger a = BigInt.toBigInteger(x);
+      final BigInteger b = BigInt.toBigInteger(y);
+      assertEquals(a.multiply(b), new BigInt(a).mul(new BigInt(b)).toBigInteger());
+      assertEquals(a.multiply(b), BigInt.toBigInteger(BigInt.mul(x.clone(), y.clone())));
+      assertEquals(a.multiply(a), new BigInt(a).mul(new BigInt(a)).toBigInteger());
+      assertEquals(a.add(b).pow(2), new BigInt(a).add(new BigInt(b)).pow(2).toBigInteger());
+      assertEquals(a.add(b).pow(2), BigInt.toBigInteger(BigInt.pow(BigInt.add(x.clone(), y), 2)));
+      assertEquals(a.divide(b), new BigInt(a).div(new BigInt(b)).toBigInteger());
+      assertEquals(a.divide(b), BigInt.toBigInteger(BigInt.div(x.clone(), y.clone())));
+      assertEquals(a.toString(), new BigInt(a).toString());
+      assertEquals(a.toString(), BigInt.toString(x));
+    }
+  }
+
+  @Test
+  public void testPool() {
+    final BigIntAllocator.Pool pool = new BigIntAllocator.Pool(2, 1 << 10);
+    final int[] a = pool.alloc(33);
+    assertEquals(64, a.length);
+    a[5] = 7;
+    pool.free(a);
+    assertEquals(1, pool.retained());
+    final int[] b = pool.alloc(40);
+    assertSame(a, b);
+    assertEquals(0, b[5]);
+    assertEquals(0, pool.retained());
+
+    pool.free(new int[64]);
+    pool.free(new int[64]);
+    pool.free(new int[64]);
+    assertEquals(2, pool.retained());
+
+    pool.free(new int[65]);
+    pool.free(new int[1 << 11]);
+    assertEquals(2, pool.retained());
+    assertEquals(1 << 11, pool.alloc(1 << 11).length);
+    assertEquals(2000, pool.alloc(2000).length);
+  }
+
+  @Test
+  public void testGlobalPool() {
+    final int[] allocated = {0};
+    final BigIntAllocator.Pool pool = new BigIntAllocator.Pool(64, 1 << 16) {
+      @Override
+      public int[] alloc(final int len) {
+        ++allocated[0];
+        return super.alloc(len);
+      }
+    };
+
+    BigInt.setAllocator(pool);
+    try {
+      assertSame(pool, BigInt.getAllocator());
+      assertArithmetic(BigIntMultiplication.KARATSUBA_THRESHOLD_Z * 4);
+      // The native kernels do not free temporaries to the allocator, so only its allocations are common to all modes
+      assertTrue(allocated[0] > 0);
+    }
+    finally {
+      BigInt.setAllocator(null);
+    }
+
+    assertSame(BigIntAllocator.HEAP, BigInt.getAllocator());
+  }
+
+  private static BigInteger random(final int length) {
+    return BigInt.toBigInteger(randomVal(length));
+  }
+
+  private static void assertFreed(final Runnable operation) {
+    final BigIntAllocator.Pool pool = new BigIntAllocator.Pool(64, 1 << 20);
+    BigInt.setAllocator(pool);
+    try {
+      operation.run();
+      assertTrue(pool.retained() > 0);
+    }
+    finally {
+      BigInt.setAllocator(null);
+    }
+  }
+
+  @Test
+  public void testGlobalPoolReuse() {
+    final BigInteger a = random(BigIntMultiplication.TOOM_COOK_THRESHOLD * 2);
+    final BigInteger b = random(BigIntMultiplication.TOOM_COOK_THRESHOLD * 2);
+    assertFreed(() -> assertEquals(a.multiply(b), new BigInt(a).mul(new BigInt(b)).toBigInteger()));
+    assertFreed(() -> assertEquals(a.multiply(b), BigInt.toBigInteger(BigInt.mul(BigInt.valueOf(a), BigInt.valueOf(b)))));
+
+    final BigInteger d = random(BigIntDivision.BURNIKEL_ZIEGLER_THRESHOLD * 4);
+    final BigInteger n = random(BigIntDivision.BURNIKEL_ZIEGLER_THRESHOLD * 12 + BigIntDivision.BURNIKEL_ZIEGLER_OFFSET);
+    assertFreed(() -> assertEquals(n.divide(d), new BigInt(n).div(new BigInt(d)).toBigInteger()));
+    assertFreed(() -> assertEquals(n.divide(d), BigInt.toBigInteger(BigInt.div(BigInt.valueOf(n), BigInt.valueOf(d)))));
+
+    final BigInteger g = random(BigIntGcd.HALF_GCD_THRESHOLD);
+    final BigInteger x = random(BigIntGcd.HALF_GCD_THRESHOLD).multiply(g);
+    final BigInteger y = random(BigIntGcd.HALF_GCD_THRESHOLD).multiply(g);
+    assertFreed(() -> assertEquals(x.gcd(y), new BigInt(x).gcd(new BigInt(y)).toBigInteger()));
+    assertFreed(() -> assertEquals(x.gcd(y), BigInt.toBigInteger(BigInt.gcd(BigInt.valueOf(x), BigInt.valueOf(y)))));
+  }
+
+  @Test
+  public void testArena() {
+    final BigIntAllocator.Pool pool = new BigIntAllocator.Pool(1024, 1 << 16);
+    for (int i = 0; i < 3; ++i) { // [N]
+      try (final BigIntAllocator.Arena arena = BigIntAllocator.openArena(pool)) {
+        assertArithmetic(BigIntMultiplication.KARATSUBA_THRESHOLD_Z * 4);
+        assertTrue(arena.allocated() > 0);
+      }
+
+      assertTrue(pool.retained() > 0);
+    }
+  }
+
+  @Test
+  public void testNestedArena() {
+    final BigIntAllocator.Pool pool = new BigIntAllocator.Pool(16, 1 << 10);
+    final BigIntAllocator.Arena outer = BigIntAllocator.openArena(pool);
+    final BigIntAllocator.Arena inner = BigIntAllocator.openArena(pool);
+    try {
+      outer.close();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    new BigInt(Long.MAX_VALUE).mul(Long.MAX_VALUE).mul(Long.MAX_VALUE);
+    assertTrue(inner.allocated() > 0);
+    assertEquals(0, outer.allocated());
+    inner.close();
+    new BigInt(Long.MAX_VALUE).mul(Long.MAX_VALUE).mul(Long.MAX_VALUE);
+    assertTrue(outer.allocated() > 0);
+    outer.close();
+  }
+}
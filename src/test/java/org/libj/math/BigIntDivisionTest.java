@@ -16,6 +16,7 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
@@ -192,4 +193,60 @@ public class BigIntDivisionTest extends BigIntTest {
           return a;
         }, BigInt::toString));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testBurnikelZiegler() {
+    final int threshold = BigIntDivision.BURNIKEL_ZIEGLER_THRESHOLD;
+    for (int i = 0; i < 200; ++i) { // [N]
+      final int len2 = threshold + random.nextInt(threshold * 2);
+      final int[] v1 = randomVal(len2 + BigIntDivision.BURNIKEL_ZIEGLER_OFFSET + random.nextInt(threshold * 4));
+      final int[] v2 = randomVal(len2);
+      v2[len2] |= 1;
+      if (random.nextBoolean())
+        v1[0] = -v1[0];
+
+      if (random.nextBoolean())
+        v2[0] = -v2[0];
+
+      final BigInteger[] expected = BigInt.toBigInteger(v1).divideAndRemainder(BigInt.toBigInteger(v2));
+      assertEquals(expected[0].toString(), BigInt.toString(BigInt.div(v1.clone(), v2)));
+      assertEquals(expected[1].toString(), BigInt.toString(BigInt.rem(v1.clone(), v2)));
+    }
+  }
+
+  @Test
+  public void testNewton() {
+    // The dividend exceeds 120000 ints at the default thresholds, so only a few divisions are checked
+    final int threshold = BigIntDivision.NEWTON_THRESHOLD;
+    for (int i = 0; i < 2; ++i) { // [N]
+      final int len2 = threshold + random.nextInt(threshold / 4);
+      final int[] v1 = randomVal(len2 + BigIntDivision.NEWTON_OFFSET + random.nextInt(threshold / 2));
+      final int[] v2 = randomVal(len2);
+      if (random.nextBoolean())
+        v1[0] = -v1[0];
+
+      if (random.nextBoolean())
+        v2[0] = -v2[0];
+
+      final BigInteger[] expected = BigInt.toBigInteger(v1).divideAndRemainder(BigInt.toBigInteger(v2));
+      assertEquals(expected[0], BigInt.toBigInteger(BigInt.div(v1.clone(), v2)));
+      assertEquals(expected[1], BigInt.toBigInteger(BigInt.rem(v1.clone(), v2)));
+    }
+  }
+
+  @Test
+  public void testReciprocal() {
+    final int threshold = BigIntDivision.NEWTON_RECIPROCAL_THRESHOLD;
+    for (int i = 0; i < 100; ++i) { // [N]
+      final int len = 1 + random.nextInt(threshold / 4);
+      final int[] val = randomVal(len);
+      val[len] |= 1;
+      if (random.nextBoolean())
+        val[0] = -val[0];
+
+      final int precisionBits = random.nextInt(32 * (len + threshold * (i % 3)));
+      final BigInteger expected = BigInteger.ONE.shiftLeft(precisionBits).divide(BigInt.toBigInteger(val));
+      assertEquals(expected.toString(), BigInt.toString(BigInt.reciprocal(val, precisionBits)));
+    }
+  }
+}
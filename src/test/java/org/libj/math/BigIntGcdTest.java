@@ -0,0 +1,147 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntGcdTest extends BigIntTest {
+  /**
+   * Returns the string of {@code g}, if {@code a * x + b * y = g} and {@code |x| <= |b| / 2g}, otherwise a string that does not
+   * match the gcd.
+   */
+  private static String bezout(final BigInteger a, final BigInteger b, final BigInteger g, final BigInteger x, final BigInteger y) {
+    if (!a.multiply(x).add(b.multiply(y)).equals(g))
+      return "not bezout: " + g + " " + x + " " + y;
+
+    if (b.signum() != 0 && x.abs().shiftLeft(1).compareTo(b.abs().divide(g)) > 0)
+      return "not least: " + g + " " + x + " " + y;
+
+    return String.valueOf(g);
+  }
+
+  private void testGcd(final AuditReport report, final int scale) {
+    // A random common factor, so that the gcd is not mostly 1
+    final String[] f = {null};
+    test("gcd(T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> {
+          f[0] = random.nextBoolean() ? "1" : randomBig(1 + random.nextInt(32 * scale), true);
+          return scaledBigInteger(a, scale).multiply(new BigInteger(f[0]));
+        }, (final String b) -> scaledBigInteger(b, scale).multiply(new BigInteger(f[0])), (final BigInteger a, final BigInteger b) -> a.gcd(b), String::valueOf),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale).mul(new BigInt(f[0])), (final String b) -> scaledBigInt(b, scale).mul(new BigInt(f[0])), (final BigInt a, final BigInt b) -> a.gcd(b), String::valueOf),
+        s(int[].class, (final String a) -> BigInt.mul(scaledVal(a, scale), BigInt.valueOf(f[0])), (final String b) -> BigInt.mul(scaledVal(b, scale), BigInt.valueOf(f[0])), (final int[] a, final int[] b) -> BigInt.gcd(a, b), BigInt::toString));
+  }
+
+  private void testGcdExt(final AuditReport report, final int scale) {
+    final BigInteger[] ab = new BigInteger[2];
+    test("gcdExt(T,T,T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> ab[0] = scaledBigInteger(a, scale), (final String b) -> ab[1] = scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.gcd(b), String::valueOf),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> {
+          final BigInt x = new BigInt(0);
+          final BigInt y = new BigInt(0);
+          return new BigInt[] {a.gcdExt(b, x, y), x, y};
+        }, (final BigInt[] o) -> bezout(ab[0], ab[1], o[0].toBigInteger(), o[1].toBigInteger(), o[2].toBigInteger())),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> {
+          final int[][] xy = new int[2][];
+          return new int[][] {BigInt.gcdExt(a, b, xy), xy[0], xy[1]};
+        }, (final int[][] o) -> bezout(ab[0], ab[1], BigInt.toBigInteger(o[0]), BigInt.toBigInteger(o[1]), BigInt.toBigInteger(o[2]))));
+  }
+
+  private void testModInverse(final AuditReport report, final int scale) {
+    test("modInverse(T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.modInverse(b), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> a.modInverse(b), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> BigInt.modInverse(a, b), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  @Test
+  public void testGcd(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Greatest common divisor of `T` and `T`, of which half share a random common factor. Operands of up to 64 bits take binary GCD, and longer operands take Lehmer's algorithm.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testGcd(report, i);
+  }
+
+  @Test
+  public void testGcdExt(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Extended greatest common divisor of `T` and `T`. The `BigInteger` class does not have an extended gcd. Therefore, for this test, the cofactors `x` and `y` of `BigInt` are checked to satisfy `a * x + b * y = gcd(a, b)`, with `|x| <= |b| / 2gcd(a, b)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testGcdExt(report, i);
+  }
+
+  @Test
+  public void testModInverse(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Modular inverse of `T` by a modulus `m`. A modulus that is not positive, or a `T` that is not relatively prime to the modulus, throws `ArithmeticException`, as it does from `BigInteger.modInverse(BigInteger)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testModInverse(report, i);
+  }
+
+  @Test
+  public void testHalfGcd() {
+    final int n = BigIntGcd.HALF_GCD_THRESHOLD;
+    final int[] f = randomVal(n / 2);
+    final int[] a = BigInt.mul(randomVal(n), f);
+    final int[] b = BigInt.mul(randomVal(n), f);
+    final BigInteger ai = BigInt.toBigInteger(a);
+    final BigInteger bi = BigInt.toBigInteger(b);
+    final BigInteger g = ai.gcd(bi);
+
+    assertEquals(g, new BigInt(a.clone()).gcd(new BigInt(b.clone())).toBigInteger());
+    final int[][] xy = new int[2][];
+    assertEquals(String.valueOf(g), bezout(ai, bi, BigInt.toBigInteger(BigInt.gcdExt(a.clone(), b.clone(), xy)), BigInt.toBigInteger(xy[0]), BigInt.toBigInteger(xy[1])));
+    assertEquals(g, BigInt.toBigInteger(BigInt.gcd(a, b)));
+  }
+
+  @Test
+  public void testEdgeCases() {
+    final long[][] pairs = {{0, 0}, {0, -5}, {-12, 0}, {7, 1}, {-12, 18}};
+    for (final long[] pair : pairs) { // [A]
+      final String expected = BigInteger.valueOf(pair[0]).gcd(BigInteger.valueOf(pair[1])).toString();
+      assertEquals(expected, new BigInt(pair[0]).gcd(new BigInt(pair[1])).toString());
+      assertEquals(expected, BigInt.toString(BigInt.gcd(BigInt.valueOf(pair[0]), BigInt.valueOf(pair[1]))));
+    }
+
+    final BigInteger[][] powers = {{BigInteger.ONE.shiftLeft(64), BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE)}, {BigInteger.ONE.shiftLeft(200), BigInteger.ONE.shiftLeft(100)}};
+    for (final BigInteger[] pair : powers) // [A]
+      assertEquals(pair[0].gcd(pair[1]), new BigInt(pair[0]).gcd(new BigInt(pair[1])).toBigInteger());
+
+    assertEquals("0", new BigInt(5).modInverse(new BigInt(1)).toString());
+    final BigInt x = new BigInt(0);
+    final BigInt y = new BigInt(0);
+    assertEquals("2", new BigInt(240).gcdExt(new BigInt(46), x, y).toString());
+    assertEquals("-9", x.toString());
+    assertEquals("47", y.toString());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testModInverseZeroModulus() {
+    new BigInt(3).modInverse(new BigInt(0));
+  }
+}
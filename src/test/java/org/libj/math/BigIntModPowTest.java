@@ -0,0 +1,99 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntModPowTest extends BigIntTest {
+  private void testModPow(final AuditReport report, final int scale) {
+    final String[] exp = {null};
+    test("modPow(T,T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> {
+          exp[0] = randomBig(1 + random.nextInt(32));
+          return scaledBigInteger(b, scale);
+        }, (final BigInteger a, final BigInteger b) -> a.modPow(new BigInteger(exp[0]), b), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> a.modPow(new BigInt(exp[0]), b), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> BigInt.modPow(a, BigInt.valueOf(exp[0]), b), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  @Test
+  public void testModPow(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Modular exponentiation of `T` to a random exponent of up to 32 digits by a modulus `m`. An odd modulus is reduced with Montgomery multiplication, and an even modulus with Barrett reduction.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "A negative exponent raises the modular inverse of `T`. A modulus that is not positive, or a negative exponent of a `T` that is not invertible, throws `ArithmeticException`, as it does from `BigInteger.modPow(BigInteger,BigInteger)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testModPow(report, i);
+  }
+
+  @Test
+  public void testBarrett() {
+    // An odd modulus at the Montgomery threshold is reduced with Barrett reduction
+    final int[] m = randomVal(BigIntMath.MONTGOMERY_THRESHOLD);
+    m[1] |= 1;
+    final int[] val = randomVal(BigIntMath.MONTGOMERY_THRESHOLD);
+    final int[] exp = randomVal(2);
+
+    final BigInteger expected = BigInt.toBigInteger(val).modPow(BigInt.toBigInteger(exp), BigInt.toBigInteger(m));
+    assertEquals(expected, new BigInt(val.clone()).modPow(new BigInt(exp), new BigInt(m)).toBigInteger());
+    assertEquals(expected, BigInt.toBigInteger(BigInt.modPow(val, exp, m)));
+  }
+
+  @Test
+  public void testEdgeCases() {
+    assertEquals("0", new BigInt(7).modPow(new BigInt(5), new BigInt(1)).toString());
+    assertEquals("1", new BigInt(0).modPow(new BigInt(0), new BigInt(3)).toString());
+    assertEquals("0", new BigInt(0).modPow(new BigInt(5), new BigInt(3)).toString());
+    assertEquals("4", new BigInt(-3).modPow(new BigInt(3), new BigInt(31)).toString());
+    assertEquals("445", new BigInt(4).modPow(new BigInt(13), new BigInt(497)).toString());
+  }
+
+  @Test
+  public void testInPlace() {
+    final int[] m = randomVal(8);
+    m[1] |= 1;
+    final int[] val = new int[m.length + 8];
+    System.arraycopy(randomVal(4), 0, val, 0, 5);
+    assertSame(val, BigInt.modPow(val, randomVal(8), m));
+  }
+
+  @Test
+  public void testNegativeExponent() {
+    assertEquals("5", new BigInt(3).modPow(new BigInt(-1), new BigInt(7)).toString());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testNegativeExponentNotInvertible() {
+    new BigInt(3).modPow(new BigInt(-1), new BigInt(9));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testZeroModulus() {
+    new BigInt(3).modPow(new BigInt(1), new BigInt(0));
+  }
+}
@@ -0,0 +1,93 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntModulusTest extends BigIntTest {
+  private void testReduce(final AuditReport report, final int scale) {
+    test("reduce(T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, 2 * scale), (final String b) -> scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.mod(b), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, 2 * scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> new BigInt(new BigIntModulus(b).reduce(a.val())), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, 2 * scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> new BigIntModulus(b).reduce(a), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private void testMulMod(final AuditReport report, final int scale) {
+    final String[] m = {null};
+    test("mulMod(T,T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> {
+          m[0] = scaledString(randomBig(1 + random.nextInt(64)), scale);
+          return scaledBigInteger(b, scale);
+        }, (final BigInteger a, final BigInteger b) -> a.multiply(b).mod(new BigInteger(m[0])), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> new BigInt(new BigIntModulus(new BigInt(m[0])).mulMod(a.val(), b.val())), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> new BigIntModulus(BigInt.valueOf(m[0])).mulMod(a, b), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private void testSqrMod(final AuditReport report, final int scale) {
+    test("sqrMod(T): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.multiply(a).mod(b), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> new BigInt(new BigIntModulus(b).sqrMod(a.val())), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> new BigIntModulus(b).sqrMod(a), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  @Test
+  public void testReduce(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Reduction of `T` by a modulus `m` of half its length with a precomputed Barrett context, compared to `BigInteger.mod(BigInteger)`.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "A modulus that is not positive throws `ArithmeticException` from the constructor of `BigIntModulus`, as it does from `BigInteger.mod(BigInteger)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testReduce(report, i);
+  }
+
+  @Test
+  public void testMulMod(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Product of `T` and `T` reduced by a random modulus `m` with a precomputed Barrett context, compared to `BigInteger.multiply(BigInteger).mod(BigInteger)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testMulMod(report, i);
+  }
+
+  @Test
+  public void testSqrMod(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Square of `T` reduced by a modulus `m` with a precomputed Barrett context, compared to `BigInteger.multiply(BigInteger).mod(BigInteger)`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testSqrMod(report, i);
+  }
+
+  @Test
+  public void testZeroModulus() {
+    try {
+      new BigIntModulus(new BigInt(0));
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+  }
+}
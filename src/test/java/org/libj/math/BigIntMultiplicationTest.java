@@ -16,9 +16,11 @@
 
 package org.libj.math;
 
+import static org.junit.Assert.*;
 import static org.libj.math.survey.AuditMode.*;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -161,7 +163,7 @@ public class BigIntMultiplicationTest extends BigIntTest {
     report.addComment(UNINSTRUMENTED.ordinal(), "For \"small sized\" numbers, `BigInt` outperforms `BigInteger` due to the efficiency gained from mutable design, and the reuse of the underlying magnitude array for calculations.");
     report.addComment(UNINSTRUMENTED.ordinal(), "For \"medium sized\" numbers, `BigInteger` outperforms `BigInt` due to the fact that `BigInteger.multiplyToLen(...)` is implemented as an intrinsic, which proves to beat `BigInt`'s critical native implementation of the same algorithm.");
     report.addComment(UNINSTRUMENTED.ordinal(), "For \"large sized\" numbers, `BigInt` outperforms `BigInteger` due to the efficiency gained from mutable design, and the reuse of the underlying magnitude array for calculations. Furthermore, `BigInt` utilizes an implementation of Karatsuba multiplication that is designed to reduce (or even eliminate) the need to instantiate transient `int[]` arrays for calculations. This algorithm is specifically designed to take advantage of any free space available in the `BigInt`'s own magnitude array. The free space in this array is used for calculation, if the space is sufficient. If not sufficient, the algorithm creates necessary arrays. Since this algorithm is implemented in JNI, all transient arrays are freed immediately after use, thus not impacting the heap allocation.");
-    report.addComment(UNINSTRUMENTED.ordinal(), "For \"very large sized\" numbers, `BigInt` outperforms `BigInteger` in lieu of its Parallel Karatsuba algorithm. Given input of a size above a threshold, the algorithm breaks the problem into its 3 parts (left, middle, right), and executes 3 threads to perform the calculations in parallel. Due to the recursive nature of the Karatsuba algorithm, subsequent recursion can also result in parallel execution. However, such a situation would only occur for very very very large numbers, because the threshold for recursive parallel execution is doubled for each recursion.");
+    report.addComment(UNINSTRUMENTED.ordinal(), "For \"very large sized\" numbers, `BigInt` outperforms `BigInteger` in lieu of its Parallel Karatsuba algorithm. Given input of a size above a threshold, the algorithm breaks the problem into its 3 parts (left, middle, right), and forks 3 tasks onto a `ForkJoinPool` to perform the calculations in parallel. Due to the recursive nature of the Karatsuba algorithm, subsequent recursion can also result in parallel execution. However, such a situation would only occur for very very very large numbers, because the threshold for recursive parallel execution is doubled for each recursion.");
     final int maxPrecision = TestAide.isInCiTest() ? 8 : TestAide.isInSurefireTest() ? 4 : 1024;
     for (int i = 1; i <= maxPrecision; i *= 2) // [N]
       testBig(report, i, i);
@@ -259,6 +261,95 @@ public class BigIntMultiplicationTest extends BigIntTest {
         }, (final int[] o) -> BigIntValue.longValue(o, 1, o[0])));
   }
 
+  @Test
+  public void testToomCook() {
+    final int threshold = BigIntMultiplication.TOOM_COOK_THRESHOLD;
+    for (int i = 0; i < 10; ++i) { // [N]
+      final int[] v1 = randomVal(threshold + random.nextInt(threshold));
+      final int[] v2 = randomVal(threshold + random.nextInt(threshold));
+      if (random.nextBoolean())
+        v2[0] = -v2[0];
+
+      final BigInteger b1 = new BigInteger(BigInt.toString(v1));
+      final BigInteger b2 = new BigInteger(BigInt.toString(v2));
+      assertEquals(b1.multiply(b2).toString(), BigInt.toString(BigInt.mul(v1, v2)));
+    }
+  }
+
+  @Test
+  public void testKaratsubaSquare() {
+    final int threshold = BigIntMultiplication.KARATSUBA_SQUARE_THRESHOLD;
+    for (int i = 0; i < 4; ++i) { // [N]
+      final int[] v1 = randomVal(threshold + random.nextInt(BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD - threshold));
+      final BigInteger b1 = new BigInteger(BigInt.toString(v1));
+      final String expected = b1.multiply(b1).toString();
+
+      // In-place squaring into an array that fits the temporary values
+      final int[] v2 = Arrays.copyOf(v1, v1[0] * 5 + 1);
+      assertEquals(expected, BigInt.toString(BigInt.mul(v1, v1)));
+      assertEquals(expected, BigInt.toString(BigInt.mul(v2, v2)));
+    }
+  }
+
+  @Test
+  public void testToomCookSquare() {
+    final int threshold = BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD;
+    for (int i = 0; i < 2; ++i) { // [N]
+      final int[] v1 = randomVal(threshold + random.nextInt(threshold / 2));
+      final BigInteger b1 = new BigInteger(BigInt.toString(v1));
+      assertEquals(b1.multiply(b1).toString(), BigInt.toString(BigInt.mul(v1, v1)));
+    }
+  }
+
+  @Test
+  public void testNtt() {
+    final int threshold = BigIntMultiplication.NTT_THRESHOLD;
+    for (int i = 0; i < 4; ++i) { // [N]
+      final int[] v1 = randomVal(threshold + random.nextInt(threshold));
+      final int[] v2 = randomVal(threshold + random.nextInt(threshold));
+      if (random.nextBoolean())
+        v2[0] = -v2[0];
+
+      final BigInteger b1 = new BigInteger(BigInt.toString(v1));
+      final BigInteger b2 = new BigInteger(BigInt.toString(v2));
+      assertEquals(b1.multiply(b2).toString(), BigInt.toString(BigInt.mul(v1, v2)));
+    }
+  }
+
+  @Test
+  public void testNttSquare() {
+    final int threshold = BigIntMultiplication.NTT_SQUARE_THRESHOLD;
+    for (int i = 0; i < 4; ++i) { // [N]
+      final int[] v1 = randomVal(threshold + random.nextInt(threshold));
+      final BigInteger b1 = new BigInteger(BigInt.toString(v1));
+      assertEquals(b1.multiply(b1).toString(), BigInt.toString(BigInt.mul(v1, v1)));
+    }
+  }
+
+  @Test
+  public void testThresholdOrder() {
+    assertTrue(BigIntMultiplication.TOOM_COOK_THRESHOLD < BigIntMultiplication.NTT_THRESHOLD);
+    assertTrue(BigIntMultiplication.KARATSUBA_SQUARE_THRESHOLD < BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD);
+    assertTrue(BigIntMultiplication.TOOM_COOK_SQUARE_THRESHOLD < BigIntMultiplication.NTT_SQUARE_THRESHOLD);
+  }
+
+  @Test
+  public void testVector() {
+    if (!BigIntVector.ENABLED)
+      return;
+
+    for (int i = 0; i < 1000; ++i) { // [N]
+      final int[] v1 = randomVal(1 + random.nextInt(200));
+      final int[] v2 = random.nextInt(4) == 0 ? v1 : randomVal(1 + random.nextInt(200));
+      v1[v1[0]] |= 1;
+      v2[v2[0]] |= 1;
+
+      final int[] expected = BigIntMultiplication.mul(v1, v2, BigIntMultiplication.Algorithm.QUAD_SCALAR);
+      final int[] actual = BigIntMultiplication.mul(v1, v2, BigIntMultiplication.Algorithm.QUAD_VECTOR);
+      assertEquals(BigInt.toString(expected), BigInt.toString(actual));
+    }
+  }
+
   @Test
   @Ignore("Used for tuning")
   public void testKaratsubaThreshold() {
@@ -0,0 +1,160 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntParseTest extends BigIntTest {
+  private static char[] pad(final String s) {
+    return ("+x" + s + "y-").toCharArray();
+  }
+
+  private void testRange(final AuditReport report, final int scale) {
+    test("<init>(char[],int,int): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInteger(a), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInt(pad(a), 2, a.length()), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledString(a, scale), (final String a) -> BigInt.valueOf(pad(a), 2, a.length()), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private void testAscii(final AuditReport report, final int scale) {
+    test("assignAscii(byte[],int,int): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInteger(a), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInt(0).assignAscii(a.getBytes(StandardCharsets.US_ASCII), 0, a.length()), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledString(a, scale), (final String a) -> BigInt.valueOfAscii(a.getBytes(StandardCharsets.US_ASCII), 0, a.length()), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private void testCharSequence(final AuditReport report, final int scale) {
+    test("<init>(CharSequence): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInteger(a), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledString(a, scale), (final String a) -> new BigInt(new StringBuilder(a)), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledString(a, scale), (final String a) -> BigInt.valueOf(new StringBuilder(a)), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private static void assertParse(final BigInteger b, final String s) {
+    assertEquals(b, new BigInt(s).toBigInteger());
+    assertEquals(b, new BigInt(s.toCharArray()).toBigInteger());
+    assertEquals(b, new BigInt(new StringBuilder(s)).toBigInteger());
+    assertEquals(b, new BigInt(pad(s), 2, s.length()).toBigInteger());
+    assertEquals(b, new BigInt(0).assignAscii(s.getBytes(StandardCharsets.US_ASCII), 0, s.length()).toBigInteger());
+    assertEquals(b, BigInt.toBigInteger(BigInt.valueOf(s)));
+    assertEquals(b, BigInt.toBigInteger(BigInt.valueOf(pad(s), 2, s.length())));
+  }
+
+  private static void assertParse(final BigInteger b) {
+    assertParse(b, b.toString());
+  }
+
+  @Test
+  public void testRange(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse of the decimal digits in a range of a `char[]`. Numbers whose magnitude needs at least `PARSE_THRESHOLD` ints are split into the high and low `2^k` digits, which are parsed recursively.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testRange(report, i);
+  }
+
+  @Test
+  public void testAscii(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse of the ASCII decimal digits in a range of a `byte[]`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testAscii(report, i);
+  }
+
+  @Test
+  public void testCharSequence(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse of the decimal digits of a `CharSequence`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testCharSequence(report, i);
+  }
+
+  @Test
+  public void testRecursive() {
+    for (int i = 0; i < 20; ++i) { // [N]
+      final BigInteger b = BigInt.toBigInteger(randomVal(BigIntValue.PARSE_THRESHOLD + random.nextInt(BigIntValue.PARSE_THRESHOLD * 8)));
+      assertParse(random.nextBoolean() ? b : b.negate());
+    }
+  }
+
+  @Test
+  public void testLeadingZeros() {
+    assertParse(BigInteger.ZERO, "0000000000000000000000");
+    assertParse(BigInteger.valueOf(1234567890), "0000000001234567890");
+    assertParse(BigInteger.valueOf(-1234567890), "-0000000001234567890");
+
+    final BigInteger b = BigInt.toBigInteger(randomVal(BigIntValue.PARSE_THRESHOLD * 2));
+    final StringBuilder s = new StringBuilder();
+    for (int i = 0; i < BigIntValue.PARSE_THRESHOLD * 20; ++i) // [N]
+      s.append('0');
+
+    assertParse(b, s.append(b).toString());
+  }
+
+  @Test
+  public void testPowersOfTen() {
+    final int n = BigIntValue.PARSE_THRESHOLD * 10;
+    for (int i = 0; i < 10; ++i) { // [N]
+      final BigInteger b = BigInteger.TEN.pow(n + random.nextInt(n));
+      assertParse(b);
+      assertParse(b.subtract(BigInteger.ONE));
+      assertParse(b.add(BigInteger.ONE).negate());
+    }
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void testSignOnly() {
+    new BigInt("-");
+  }
+
+  @Test
+  public void testEmpty() {
+    final Runnable[] parses = {
+      () -> new BigInt(""),
+      () -> new BigInt(new char[0]),
+      () -> new BigInt(new StringBuilder()),
+      () -> new BigInt("123".toCharArray(), 3, 0),
+      () -> new BigInt(0).assignAscii(new byte[0], 0, 0)
+    };
+
+    for (final Runnable parse : parses) { // [A]
+      try {
+        parse.run();
+        fail("Expected NumberFormatException");
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void testOutOfBounds() {
+    new BigInt("123".toCharArray(), 1, 3);
+  }
+}
@@ -0,0 +1,166 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntPrimeTest extends BigIntTest {
+  // Carmichael numbers, strong pseudoprimes to base 2, and strong Lucas pseudoprimes
+  private static final long[] pseudoprimes = {561, 1105, 1729, 2465, 2821, 6601, 2047, 3277, 4033, 4681, 8321, 3215031751L, 5459, 5777, 10877, 16109, 18971, 22499, 3825123056546413051L};
+
+  /**
+   * Returns {@code b}, the probable prime that follows {@code |b|}, or the product of that prime and a random prime of half its
+   * length, with the sign of {@code b}.
+   */
+  private static BigInteger primeOrComposite(final BigInteger b) {
+    final int c = random.nextInt(3);
+    if (c == 0)
+      return b;
+
+    BigInteger p = b.abs().nextProbablePrime();
+    if (c == 2)
+      p = p.multiply(BigInteger.probablePrime(Math.max(2, p.bitLength() / 2), random));
+
+    return b.signum() < 0 ? p.negate() : p;
+  }
+
+  private void testIsProbablePrime(final AuditReport report, final int scale) {
+    final String[] p = {null};
+    test("isProbablePrime(int): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> {
+          final BigInteger b = primeOrComposite(scaledBigInteger(a, scale));
+          p[0] = b.toString();
+          return b;
+        }, (final BigInteger a) -> a.isProbablePrime(100), Boolean::valueOf),
+        s(BigInt.class, (final String a) -> new BigInt(p[0]), (final BigInt a) -> a.isProbablePrime(100), Boolean::valueOf),
+        s(int[].class, (final String a) -> BigInt.valueOf(p[0]), (final int[] a) -> BigInt.isProbablePrime(a, 100), Boolean::valueOf));
+  }
+
+  private void testNextProbablePrime(final AuditReport report, final int scale) {
+    test("nextProbablePrime(): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> a.nextProbablePrime(), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> a.nextProbablePrime(), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> BigInt.nextProbablePrime(a), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  @Test
+  public void testInt(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Primality of an `int`, which is decided deterministically by trial division and the Baillie–PSW test.");
+
+    test("isProbablePrime(int)").withAuditReport(report)
+      .withCases(
+        i(BigInteger.class, BigInteger::valueOf, (final BigInteger a) -> a.isProbablePrime(100), Boolean::valueOf),
+        i(BigInt.class, BigInt::new, (final BigInt a) -> a.isProbablePrime(100), Boolean::valueOf),
+        i(int[].class, BigInt::valueOf, (final int[] a) -> BigInt.isProbablePrime(a, 100), Boolean::valueOf));
+  }
+
+  @Test
+  public void testLong(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Primality of a `long`, which is decided deterministically by trial division and the Baillie–PSW test.");
+
+    test("isProbablePrime(long)").withAuditReport(report)
+      .withCases(
+        l(BigInteger.class, BigInteger::valueOf, (final BigInteger a) -> a.isProbablePrime(100), Boolean::valueOf),
+        l(BigInt.class, BigInt::new, (final BigInt a) -> a.isProbablePrime(100), Boolean::valueOf),
+        l(int[].class, BigInt::valueOf, (final int[] a) -> BigInt.isProbablePrime(a, 100), Boolean::valueOf));
+  }
+
+  @Test
+  public void testBig(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Primality of `T`, of which a third are primes, and a third are products of two primes. Numbers of more than 64 bits are additionally tested with Miller–Rabin rounds with random bases.");
+    for (int i = 1; i <= 2; i *= 2) // [N]
+      testIsProbablePrime(report, i);
+  }
+
+  @Test
+  public void testNextProbablePrime(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "The first probable prime greater than `T`. A negative `T` throws `ArithmeticException`, as it does from `BigInteger.nextProbablePrime()`.");
+    for (int i = 1; i <= 2; i *= 2) // [N]
+      testNextProbablePrime(report, i);
+  }
+
+  @Test
+  public void testSmall() {
+    for (int i = 0; i < 100000; ++i) // [N]
+      assertEquals(String.valueOf(i), BigInteger.valueOf(i).isProbablePrime(100), new BigInt(i).isProbablePrime(100));
+  }
+
+  @Test
+  public void testPseudoprimes() {
+    for (final long pseudoprime : pseudoprimes) // [A]
+      assertFalse(String.valueOf(pseudoprime), new BigInt(pseudoprime).isProbablePrime(100));
+  }
+
+  @Test
+  public void testLarge() {
+    for (final int bits : new int[] {65, 100, 200, 512, 1024}) { // [A]
+      for (int i = 0, i$ = bits > 500 ? 10 : 100; i < i$; ++i) { // [N]
+        final BigInteger p = BigInteger.probablePrime(bits, random);
+        assertTrue(new BigInt(p).isProbablePrime(100));
+        assertTrue(BigInt.isProbablePrime(BigInt.valueOf(p), 100));
+        final BigInteger q = p.multiply(BigInteger.probablePrime(bits / 2 + 2, random));
+        assertFalse(new BigInt(q).isProbablePrime(100));
+        assertFalse(BigInt.isProbablePrime(BigInt.valueOf(q), 100));
+        assertFalse(new BigInt(p.multiply(p)).isProbablePrime(100));
+      }
+    }
+  }
+
+  @Test
+  public void testCertainty() {
+    final BigInteger c = BigInteger.probablePrime(100, random).multiply(BigInteger.probablePrime(100, random));
+    assertTrue(new BigInt(c).isProbablePrime(0));
+    assertTrue(new BigInt(c).isProbablePrime(-1));
+    assertFalse(new BigInt(c).isProbablePrime(1));
+  }
+
+  @Test
+  public void testExecutor() {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 20; ++i) { // [N]
+        final BigInteger p = BigInteger.probablePrime(300, random);
+        assertTrue(new BigInt(p).isProbablePrime(100, executor));
+        assertFalse(new BigInt(p.multiply(BigInteger.probablePrime(300, random))).isProbablePrime(100, executor));
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void testNextProbablePrimeNegative() {
+    new BigInt(-1).nextProbablePrime();
+  }
+}
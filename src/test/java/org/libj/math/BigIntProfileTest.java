@@ -0,0 +1,85 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import org.junit.Test;
+
+public class BigIntProfileTest {
+  private static String write(final String ... entries) throws IOException {
+    final Properties properties = new Properties();
+    for (int i = 0; i < entries.length; i += 2) // [A]
+      properties.setProperty(entries[i], entries[i + 1]);
+
+    final File file = File.createTempFile("profile", ".properties");
+    file.deleteOnExit();
+    try (final OutputStream out = new FileOutputStream(file)) {
+      properties.store(out, null);
+    }
+
+    return file.getAbsolutePath();
+  }
+
+  @Test
+  public void testLoad() throws IOException {
+    final Properties profile = BigIntProfile.load(write("mode", "JAVA", "TOOM_COOK_THRESHOLD", "500"), NativeMath.Mode.JAVA);
+    assertNotNull(profile);
+    assertEquals(500, BigIntProfile.get(profile, "TOOM_COOK_THRESHOLD", 360));
+    assertEquals(500, BigIntProfile.get(profile, "TOOM_COOK_THRESHOLD", 360, 100));
+  }
+
+  @Test
+  public void testNotApplicable() throws IOException {
+    assertNull(BigIntProfile.load(null, NativeMath.Mode.JAVA));
+    assertNull(BigIntProfile.load(new File(System.getProperty("java.io.tmpdir"), "missing.properties").getAbsolutePath(), NativeMath.Mode.JAVA));
+    assertNull(BigIntProfile.load(write("mode", "NATIVE", "TOOM_COOK_THRESHOLD", "500"), NativeMath.Mode.JAVA));
+    assertNull(BigIntProfile.load(write("TOOM_COOK_THRESHOLD", "500"), NativeMath.Mode.JAVA));
+    assertEquals(360, BigIntProfile.get(null, "TOOM_COOK_THRESHOLD", 360));
+  }
+
+  @Test
+  public void testMissingKey() throws IOException {
+    final Properties profile = BigIntProfile.load(write("mode", "JAVA"), NativeMath.Mode.JAVA);
+    assertNotNull(profile);
+    assertEquals(360, BigIntProfile.get(profile, "TOOM_COOK_THRESHOLD", 360));
+    assertEquals(360, BigIntProfile.get(profile, "TOOM_COOK_THRESHOLD", 360, 100));
+  }
+
+  @Test
+  public void testInvalidValue() throws IOException {
+    final Properties profile = BigIntProfile.load(write("mode", "JAVA", "A", "abc", "B", "-1", "C", "", "D", " 42 "), NativeMath.Mode.JAVA);
+    assertEquals(360, BigIntProfile.get(profile, "A", 360));
+    assertEquals(360, BigIntProfile.get(profile, "B", 360));
+    assertEquals(360, BigIntProfile.get(profile, "C", 360));
+    assertEquals(42, BigIntProfile.get(profile, "D", 360));
+  }
+
+  @Test
+  public void testMinimum() throws IOException {
+    final Properties profile = BigIntProfile.load(write("mode", "JAVA", "KARATSUBA_SQUARE_THRESHOLD", "5", "NTT_THRESHOLD", "0"), NativeMath.Mode.JAVA);
+    assertEquals(33, BigIntProfile.get(profile, "KARATSUBA_SQUARE_THRESHOLD", 768, 33));
+    assertEquals(361, BigIntProfile.get(profile, "NTT_THRESHOLD", 6000, 361));
+    assertEquals(Integer.MAX_VALUE, BigIntProfile.get(profile, "MISSING", Integer.MAX_VALUE, 33));
+  }
+}
@@ -0,0 +1,168 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntRadixTest extends BigIntTest {
+  private static final int[] radixes = {2, 7, 16, 36};
+
+  private void testToString(final AuditReport report, final int radix, final int scale) {
+    test("toString(" + radix + "): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> a.toString(radix), (final String o) -> o),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> a.toString(radix), (final String o) -> o),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> BigInt.toString(a, radix), (final String o) -> o));
+  }
+
+  private void testParse(final AuditReport report, final int radix, final int scale) {
+    test("<init>(CharSequence," + radix + "): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale).toString(radix), (final String a) -> new BigInteger(a, radix), (final BigInteger o) -> o == null ? null : String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInteger(a, scale).toString(radix), (final String a) -> new BigInt(a, radix), (final BigInt o) -> o == null ? null : String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledBigInteger(a, scale).toString(radix).toUpperCase(), (final String a) -> BigInt.valueOf(a, radix), (final int[] o) -> o == null ? null : BigInt.toString(o)));
+  }
+
+  private static void assertRadix(final BigInteger b, final int radix) {
+    final String s = b.toString(radix);
+    final int[] val = new BigInt(b).val();
+    assertEquals(s, new BigInt(val.clone()).toString(radix));
+    assertEquals(s, BigInt.toString(val, radix));
+    assertEquals(b, new BigInt(s, radix).toBigInteger());
+    assertEquals(b, new BigInt(s.toUpperCase(), radix).toBigInteger());
+    assertEquals(b, BigInt.toBigInteger(BigInt.valueOf(s, radix)));
+  }
+
+  private static void testRadix(final int maxLength, final int count) {
+    for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; ++radix) { // [N]
+      for (int i = 0; i < count; ++i) { // [N]
+        final BigInteger b = BigInt.toBigInteger(randomVal(1 + random.nextInt(maxLength)));
+        assertRadix(random.nextBoolean() ? b : b.negate(), radix);
+      }
+    }
+  }
+
+  @Test
+  public void testToString(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "String of `T` in radix 2, 7, 16 and 36. A power-of-two radix maps bits directly to digits. Other radixes convert chunks of digits per division, and numbers of at least `TO_STRING_THRESHOLD` ints are split recursively.");
+    for (final int radix : radixes) // [A]
+      for (int i = 1; i <= 2; i *= 2) // [N]
+        testToString(report, radix, i);
+  }
+
+  @Test
+  public void testParse(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse of `T` from a string in radix 2, 7, 16 and 36. Digits are case-insensitive.");
+    for (final int radix : radixes) // [A]
+      for (int i = 1; i <= 2; i *= 2) // [N]
+        testParse(report, radix, i);
+  }
+
+  @Test
+  public void testSmall() {
+    testRadix(16, 200);
+  }
+
+  @Test
+  public void testRecursive() {
+    testRadix(Math.max(BigIntValue.TO_STRING_THRESHOLD, BigIntValue.PARSE_THRESHOLD) * 3, 2);
+  }
+
+  @Test
+  public void testEdgeCases() {
+    for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; ++radix) { // [N]
+      assertRadix(BigInteger.ZERO, radix);
+      final BigInteger pow = BigInteger.valueOf(radix).pow(100 + random.nextInt(100));
+      assertRadix(pow, radix);
+      assertRadix(pow.subtract(BigInteger.ONE), radix);
+      assertRadix(pow.negate(), radix);
+    }
+
+    assertEquals(BigInteger.valueOf(-255), new BigInt("-00ff", 16).toBigInteger());
+    assertEquals("255", new BigInt(255).toString(Character.MAX_RADIX + 1));
+  }
+
+  @Test
+  public void testIllegal() {
+    for (final String s : new String[] {"", "-", "12g", "+1"}) { // [A]
+      try {
+        new BigInt(s, 16);
+        fail("Expected NumberFormatException: " + s);
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    for (final String s : new String[] {"12345zz", "-1a", "1 2", "--1"}) { // [A]
+      try {
+        new BigInt(s, 10);
+        fail("Expected NumberFormatException: " + s);
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+
+    // Non-ASCII digits that Character.digit(char,int) accepts
+    for (final String s : new String[] {"\u0661\u0662", "1\uff12", "-\u0967"}) { // [A]
+      for (final int radix : new int[] {10, 16, 36}) { // [A]
+        try {
+          new BigInt(s, radix);
+          fail("Expected NumberFormatException: " + s + " " + radix);
+        }
+        catch (final NumberFormatException e) {
+        }
+      }
+    }
+
+    final String value = "123456789012345678901234567890";
+    final StringBuilder recursive = new StringBuilder();
+    for (int i = 0; i < BigIntValue.PARSE_THRESHOLD * 20; ++i) // [N]
+      recursive.append((char)('1' + i % 9));
+
+    for (final int radix : new int[] {2, 10, 16, 36}) { // [A]
+      for (final String s : new String[] {"12345z!", "!" + value, value + "!", recursive + "!"}) { // [A]
+        final BigInt b = new BigInt(value);
+        try {
+          b.assign(s, radix);
+          fail("Expected NumberFormatException: " + radix);
+        }
+        catch (final NumberFormatException e) {
+          assertEquals(value, b.toString());
+        }
+      }
+    }
+
+    try {
+      new BigInt("1", Character.MAX_RADIX + 1);
+      fail("Expected NumberFormatException");
+    }
+    catch (final NumberFormatException e) {
+    }
+  }
+}
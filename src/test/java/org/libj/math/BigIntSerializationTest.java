@@ -0,0 +1,233 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntSerializationTest extends BigIntTest {
+  private void testByteBuffer(final AuditReport report, final int scale) {
+    test("writeTo(ByteBuffer): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> new BigInteger(a.toByteArray()), (final BigInteger o) -> String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> {
+          final ByteBuffer buf = ByteBuffer.allocate(a.binaryLength());
+          a.writeTo(buf);
+          buf.flip();
+          return new BigInt(0).readFrom(buf);
+        }, (final BigInt o) -> String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> {
+          final ByteBuffer buf = ByteBuffer.allocate(BigInt.binaryLength(a));
+          BigInt.writeTo(a, buf);
+          buf.flip();
+          return BigInt.readFrom(new int[0], buf);
+        }, BigInt::toString));
+  }
+
+  private void testDataOutput(final AuditReport report, final int scale) {
+    test("writeTo(DataOutput): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> new BigInteger(a.toByteArray()), (final BigInteger o) -> String.valueOf(o)),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> {
+          try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            a.writeTo(new DataOutputStream(bytes));
+            return new BigInt(0).readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+          }
+          catch (final IOException e) {
+            throw new RuntimeException(e);
+          }
+        }, (final BigInt o) -> String.valueOf(o)),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> {
+          try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            BigInt.writeTo(a, new DataOutputStream(bytes));
+            return BigInt.readFrom(new int[0], new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+          }
+          catch (final IOException e) {
+            throw new RuntimeException(e);
+          }
+        }, BigInt::toString));
+  }
+
+  private static void assertRoundTrip(final BigInteger b, final ByteBuffer buf) throws IOException {
+    final BigInt bigInt = new BigInt(b);
+    final int size = bigInt.binaryLength();
+    final int position = buf.position();
+    final ByteOrder order = buf.order();
+    assertEquals(size, bigInt.writeTo(buf));
+    assertEquals(position + size, buf.position());
+    assertEquals(order, buf.order());
+
+    buf.position(position);
+    assertEquals(b, new BigInt(random.nextLong()).readFrom(buf).toBigInteger());
+    assertEquals(position + size, buf.position());
+    assertEquals(order, buf.order());
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bigInt.writeTo(new DataOutputStream(bytes));
+    assertEquals(size, bytes.size());
+    final byte[] array = bytes.toByteArray();
+    buf.position(position);
+    final byte[] written = new byte[size];
+    buf.get(written);
+    assertArrayEquals(array, written);
+    assertEquals(b, new BigInt(0).readFrom(new DataInputStream(new ByteArrayInputStream(array))).toBigInteger());
+
+    buf.position(position);
+    assertEquals(b, BigInt.toBigInteger(BigInt.readFrom(new int[0], buf)));
+    assertEquals(position + size, buf.position());
+  }
+
+  private static void testRoundTrip(final ByteBuffer buf) throws IOException {
+    for (int i = 0; i < 2000; ++i) { // [N]
+      if (buf.remaining() < 1024)
+        buf.clear();
+
+      final BigInteger b = BigInt.toBigInteger(randomVal(random.nextInt(64)));
+      assertRoundTrip(random.nextBoolean() ? b : b.negate(), buf);
+    }
+  }
+
+  @Test
+  public void testByteBuffer(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Round trip of `T` through its binary form in a heap `ByteBuffer`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testByteBuffer(report, i);
+  }
+
+  @Test
+  public void testDataOutput(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Round trip of `T` through its binary form in a `DataOutput` and `DataInput`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testDataOutput(report, i);
+  }
+
+  @Test
+  public void testHeapBuffer() throws IOException {
+    testRoundTrip(ByteBuffer.allocate(1 << 16));
+  }
+
+  @Test
+  public void testDirectBuffer() throws IOException {
+    testRoundTrip(ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Test
+  public void testFormat() {
+    final ByteBuffer buf = ByteBuffer.allocate(16);
+    BigInt.writeTo(new int[] {0}, buf);
+    BigInt.writeTo(new int[] {-1, 0x01020304}, buf);
+    BigInt.writeTo(new int[] {2, 0x05060708, 0x7F}, buf);
+    assertArrayEquals(new byte[] {0, 1, 4, 3, 2, 1, 4, 8, 7, 6, 5, 0x7F, 0, 0, 0, 0}, buf.array());
+  }
+
+  @Test
+  public void testLongHeader() {
+    final int[] val = new int[202];
+    val[0] = 200;
+    val[200] = 1;
+    final ByteBuffer buf = ByteBuffer.allocate(BigInt.binaryLength(val));
+    BigInt.writeTo(val, buf);
+    assertEquals((byte)0x90, buf.get(0));
+    assertEquals((byte)0x03, buf.get(1));
+    buf.flip();
+    final int[] read = BigInt.readFrom(new int[0], buf);
+    assertArrayEquals(Arrays.copyOf(val, 201), Arrays.copyOf(read, 201));
+  }
+
+  @Test
+  public void testOverflow() {
+    final ByteBuffer buf = ByteBuffer.allocate(8);
+    buf.position(1);
+    try {
+      new BigInt(Long.MAX_VALUE).writeTo(buf);
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+    }
+
+    assertEquals(1, buf.position());
+    assertArrayEquals(new byte[8], buf.array());
+  }
+
+  @Test
+  public void testUnderflow() throws IOException {
+    final ByteBuffer buf = ByteBuffer.allocate(9);
+    new BigInt(Long.MIN_VALUE).writeTo(buf);
+    buf.flip().limit(8);
+    final BigInt bigInt = new BigInt(7);
+    try {
+      bigInt.readFrom(buf);
+      fail("Expected BufferUnderflowException");
+    }
+    catch (final BufferUnderflowException e) {
+    }
+
+    assertEquals(0, buf.position());
+    assertEquals(7, bigInt.intValue());
+
+    try {
+      new BigInt(0).readFrom(new DataInputStream(new ByteArrayInputStream(buf.array(), 0, 8)));
+      fail("Expected EOFException");
+    }
+    catch (final EOFException e) {
+    }
+  }
+
+  @Test
+  public void testMalformed() {
+    final ByteBuffer buf = ByteBuffer.wrap(new byte[] {(byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x7F});
+    try {
+      BigInt.readFrom(new int[0], buf);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    assertEquals(0, buf.position());
+
+    try {
+      BigInt.readFrom(new int[0], new DataInputStream(new ByteArrayInputStream(buf.array())));
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+}
@@ -191,6 +191,9 @@ public abstract class BigIntTest extends NumericCaseTest {
     for (int i = 1; i <= length; ++i) // [A]
       val[i] = random.nextInt();
 
+    if (length > 0 && val[length] == 0)
+      val[length] = 1;
+
     return val;
   }
 
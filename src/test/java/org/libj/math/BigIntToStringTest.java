@@ -0,0 +1,82 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntToStringTest extends BigIntTest {
+  private void testToString(final AuditReport report, final int scale) {
+    test("toString(): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> a.toString(), (final String o) -> o),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> a.toString(), (final String o) -> o),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> BigInt.toString(a), (final String o) -> o));
+  }
+
+  private static void assertToString(final BigInteger b) {
+    final String expected = b.toString();
+    final int[] val = new BigInt(b).val();
+    assertEquals(expected, new BigInt(val.clone()).toString());
+    assertEquals(expected, BigInt.toString(val));
+  }
+
+  @Test
+  public void testToString(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Decimal string of `T`. Numbers of at least `TO_STRING_THRESHOLD` ints are split by division by `10^(2^k)`, and both halves are converted recursively.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testToString(report, i);
+  }
+
+  @Test
+  public void testRecursive() {
+    for (int i = 0; i < 20; ++i) { // [N]
+      final BigInteger b = BigInt.toBigInteger(randomVal(BigIntValue.TO_STRING_THRESHOLD + random.nextInt(BigIntValue.TO_STRING_THRESHOLD * 8)));
+      assertToString(random.nextBoolean() ? b : b.negate());
+    }
+  }
+
+  @Test
+  public void testPowersOfTen() {
+    final int n = BigIntValue.TO_STRING_THRESHOLD * 10;
+    for (int i = 0; i < 10; ++i) { // [N]
+      final BigInteger b = BigInteger.TEN.pow(n + random.nextInt(n));
+      assertToString(b);
+      assertToString(b.subtract(BigInteger.ONE));
+      assertToString(b.add(BigInteger.ONE).negate());
+    }
+  }
+
+  @Test
+  public void testLeadingZeroChunks() {
+    // The remainders of the recursive split have long runs of zero digits
+    final int n = BigIntValue.TO_STRING_THRESHOLD * 20;
+    assertToString(BigInteger.TEN.pow(n).multiply(BigInteger.valueOf(7)).add(BigInteger.valueOf(3)));
+    assertToString(BigInteger.TEN.pow(n).add(BigInteger.TEN.pow(n / 2)).add(BigInteger.TEN.pow(n / 4)));
+  }
+}
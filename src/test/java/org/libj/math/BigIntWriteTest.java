@@ -0,0 +1,183 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = BigInteger.class, b = int[].class)
+@AuditRunner.Instrument(a = BigInt.class, b = int[].class)
+public class BigIntWriteTest extends BigIntTest {
+  private static String ascii(final byte[] bytes, final int off, final int len) {
+    return new String(bytes, off, len, StandardCharsets.US_ASCII);
+  }
+
+  private static String ascii(final ByteBuffer buf, final int len) {
+    return new String(buf.array(), buf.arrayOffset(), len, StandardCharsets.US_ASCII);
+  }
+
+  private void testAppendTo(final AuditReport report, final int scale) {
+    test("appendTo(StringBuilder): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> new StringBuilder().append(a).toString(), (final String o) -> o),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> a.appendTo(new StringBuilder()).toString(), (final String o) -> o),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> BigInt.appendTo(a, new StringBuilder()).toString(), (final String o) -> o));
+  }
+
+  private void testWrite(final AuditReport report, final int scale) {
+    test("write(byte[],int): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> {
+          final byte[] bytes = a.toString().getBytes(StandardCharsets.US_ASCII);
+          return ascii(bytes, 0, bytes.length);
+        }, (final String o) -> o),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> {
+          final byte[] bytes = new byte[1024];
+          return ascii(bytes, 1, a.write(bytes, 1));
+        }, (final String o) -> o),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> {
+          final byte[] bytes = new byte[1024];
+          return ascii(bytes, 1, BigInt.write(a, bytes, 1));
+        }, (final String o) -> o));
+  }
+
+  private void testWriteBuffer(final AuditReport report, final int scale) {
+    test("write(ByteBuffer): " + scale).withAuditReport(report)
+      .withCases(
+        s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final BigInteger a) -> {
+          final ByteBuffer buf = StandardCharsets.US_ASCII.encode(a.toString());
+          return ascii(buf, buf.limit());
+        }, (final String o) -> o),
+        s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final BigInt a) -> {
+          final ByteBuffer buf = ByteBuffer.allocate(1024);
+          return ascii(buf, a.write(buf));
+        }, (final String o) -> o),
+        s(int[].class, (final String a) -> scaledVal(a, scale), (final int[] a) -> {
+          final ByteBuffer buf = ByteBuffer.allocate(1024);
+          return ascii(buf, BigInt.write(a, buf));
+        }, (final String o) -> o));
+  }
+
+  private static void assertWrite(final BigInteger b) throws IOException {
+    final String expected = b.toString();
+    final BigInt bigInt = new BigInt(b);
+    final int[] val = bigInt.val();
+
+    final StringBuilder builder = new StringBuilder("x");
+    assertSame(builder, bigInt.appendTo(builder));
+    assertEquals("x" + expected, builder.toString());
+    assertEquals(expected, BigInt.appendTo(val, new StringBuilder()).toString());
+
+    final StringWriter writer = new StringWriter();
+    bigInt.appendTo(writer);
+    assertEquals(expected, writer.toString());
+
+    final byte[] bytes = new byte[expected.length() + 3];
+    assertEquals(expected.length(), bigInt.write(bytes, 3));
+    assertEquals(expected, ascii(bytes, 3, expected.length()));
+    assertEquals(expected.length(), BigInt.write(val, bytes, 0));
+    assertEquals(expected, ascii(bytes, 0, expected.length()));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(expected.length() + 2);
+    buffer.position(2);
+    assertEquals(expected.length(), bigInt.write(buffer));
+    assertEquals(buffer.limit(), buffer.position());
+    assertEquals(expected, new String(buffer.array(), 2, expected.length(), StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testAppendTo(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Decimal digits of `T` appended to a `StringBuilder`, without an intermediate `String`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testAppendTo(report, i);
+  }
+
+  @Test
+  public void testWrite(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Decimal digits of `T` written as ASCII into a `byte[]` at an offset.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testWrite(report, i);
+  }
+
+  @Test
+  public void testWriteBuffer(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Decimal digits of `T` written as ASCII into a `ByteBuffer`.");
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testWriteBuffer(report, i);
+  }
+
+  @Test
+  public void testLarge() throws IOException {
+    for (int i = 0; i < 2; ++i) // [N]
+      assertWrite(BigInt.toBigInteger(randomVal(BigIntValue.TO_STRING_THRESHOLD * 2)).negate());
+  }
+
+  @Test
+  public void testEdgeCases() throws IOException {
+    assertWrite(BigInteger.ZERO);
+    for (int bits = 1; bits < 200; ++bits) { // [N]
+      final BigInteger pow = BigInteger.ONE.shiftLeft(bits);
+      assertWrite(pow);
+      assertWrite(pow.subtract(BigInteger.ONE));
+      assertWrite(pow.negate());
+      assertWrite(BigInteger.TEN.pow(bits));
+      assertWrite(BigInteger.TEN.pow(bits).subtract(BigInteger.ONE).negate());
+    }
+
+    assertEquals("null", BigInt.appendTo((int[])null, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void testOverflow() {
+    final BigInt bigInt = new BigInt("-12345678901234567890123");
+    final byte[] bytes = new byte[24];
+    try {
+      bigInt.write(bytes, 1);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    assertArrayEquals(new byte[24], bytes);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(23);
+    buffer.position(1);
+    try {
+      bigInt.write(buffer);
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+    }
+
+    assertEquals(1, buffer.position());
+    assertArrayEquals(new byte[23], buffer.array());
+  }
+}
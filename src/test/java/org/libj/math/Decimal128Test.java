@@ -0,0 +1,369 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.IntFunction;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = {BigDecimal.class, BigInteger.class}, b = int[].class)
+@AuditRunner.Instrument(a = {Decimal.class, BigInt.class}, b = int[].class)
+public class Decimal128Test extends DecimalTest {
+  private static final BigInteger MAX_SIGNIFICAND = BigInteger.ONE.shiftLeft(111).subtract(BigInteger.ONE);
+  private static final RoundingMode[] roundingModes = RoundingMode.values();
+  private static final int numTests = 200000;
+
+  private static Decimal128 nextDecimal128() {
+    final BigInteger significand;
+    final int type = random.nextInt(20);
+    if (type == 0)
+      significand = MAX_SIGNIFICAND;
+    else if (type == 1)
+      significand = BigInteger.ZERO;
+    else if (type == 2)
+      significand = BigInteger.TEN.pow(random.nextInt(34));
+    else
+      significand = new BigInteger(1 + random.nextInt(111), random);
+
+    final short scale = (short)(random.nextInt(4) == 0 ? random.nextInt(200) - 100 : random.nextInt(40) - 20);
+    return toDecimal128(new BigDecimal(random.nextBoolean() ? significand.negate() : significand, scale));
+  }
+
+  /**
+   * Returns the provided encoded {@link Decimal} boxed, so the survey can measure the precision of the inputs of the
+   * {@link Decimal128} and {@code long[]} cases, which are converted from it in the test itself.
+   */
+  private static Long encoded(final long dec) {
+    return dec;
+  }
+
+  private static Decimal128 toDecimal128(final long dec) {
+    return new Decimal128(Decimal.significand(dec), Decimal.scale(dec));
+  }
+
+  private static long[] toLongs(final long dec) {
+    return toDecimal128(dec).toLongs(new long[2]);
+  }
+
+  private static BigDecimal strip(final BigDecimal dec) {
+    return dec == null ? null : dec.stripTrailingZeros();
+  }
+
+  private static BigDecimal strip(final Decimal128 dec) {
+    return dec == null ? null : strip(dec.toBigDecimal());
+  }
+
+  private static Decimal128 valueOf(final boolean success, final long[] result) {
+    return success ? Decimal128.valueOf(result[0], result[1]) : null;
+  }
+
+  private static Decimal128 toDecimal128(final BigDecimal dec) {
+    final BigInteger significand = dec.unscaledValue();
+    return new Decimal128(significand.shiftRight(64).longValue(), significand.longValue(), (short)dec.scale());
+  }
+
+  private static boolean fits(final BigDecimal dec) {
+    return dec.unscaledValue().abs().compareTo(MAX_SIGNIFICAND) <= 0 && Short.MIN_VALUE <= dec.scale() && dec.scale() <= Short.MAX_VALUE;
+  }
+
+  /**
+   * Returns the exact value if it fits a {@link Decimal128}, otherwise the value with the largest scale that fits a
+   * {@link Decimal128} after rounding, starting the search from the scale of the provided {@code estimate}.
+   */
+  private static BigDecimal expect(final BigDecimal exact, final BigDecimal estimate, final IntFunction<BigDecimal> rounded) {
+    if (exact != null && fits(exact))
+      return exact;
+
+    for (int s = estimate.scale() - estimate.precision() + 36;; --s) { // [N]
+      final BigDecimal dec = rounded.apply(s);
+      if (dec == null || fits(dec))
+        return dec;
+    }
+  }
+
+  private static void assertDecimal(final String message, final BigDecimal expected, final Decimal128 actual) {
+    if (expected == null) {
+      assertNull(message, actual);
+    }
+    else {
+      assertNotNull(message, actual);
+      assertEquals(message + " expected:<" + expected + "> but was:<" + actual + ">", 0, expected.compareTo(actual.toBigDecimal()));
+    }
+  }
+
+  private static void assertEncoded(final String message, final Decimal128 expected, final boolean success, final long[] actual) {
+    if (expected == null) {
+      assertFalse(message, success);
+    }
+    else {
+      assertTrue(message, success);
+      assertEquals(message, expected, Decimal128.valueOf(actual[0], actual[1]));
+    }
+  }
+
+  @Test
+  public void testAdd(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Addition of `T` to `T`, with the significand of the result rounded to 111 bits.");
+
+    test("add").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, this::toBigDecimal, (final BigDecimal a, final BigDecimal b) -> {
+          final BigDecimal sum = a.add(b);
+          return expect(sum, sum, s -> sum.setScale(s, RoundingMode.HALF_UP));
+        }, Decimal128Test::strip),
+        d(Decimal128.class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long a, final Long b) -> toDecimal128(a).add(toDecimal128(b)), Decimal128Test::strip),
+        d(long[].class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long x, final Long y) -> {
+          final long[] a = toLongs(x), b = toLongs(y), result = new long[2];
+          return valueOf(Decimal128.add(a[0], a[1], b[0], b[1], result), result);
+        }, Decimal128Test::strip));
+  }
+
+  @Test
+  public void testSub(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Subtraction of `T` from `T`, with the significand of the result rounded to 111 bits.");
+
+    test("sub").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, this::toBigDecimal, (final BigDecimal a, final BigDecimal b) -> {
+          final BigDecimal diff = a.subtract(b);
+          return expect(diff, diff, s -> diff.setScale(s, RoundingMode.HALF_UP));
+        }, Decimal128Test::strip),
+        d(Decimal128.class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long a, final Long b) -> toDecimal128(a).sub(toDecimal128(b)), Decimal128Test::strip),
+        d(long[].class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long x, final Long y) -> {
+          final long[] a = toLongs(x), b = toLongs(y), result = new long[2];
+          return valueOf(Decimal128.sub(a[0], a[1], b[0], b[1], result), result);
+        }, Decimal128Test::strip));
+  }
+
+  @Test
+  public void testMul(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Multiplication of `T` by `T`, with the significand of the result rounded to 111 bits.");
+
+    test("mul").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, this::toBigDecimal, (final BigDecimal a, final BigDecimal b) -> {
+          final BigDecimal prod = a.multiply(b);
+          return expect(prod, prod, s -> prod.setScale(s, RoundingMode.HALF_UP));
+        }, Decimal128Test::strip),
+        d(Decimal128.class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long a, final Long b) -> toDecimal128(a).mul(toDecimal128(b)), Decimal128Test::strip),
+        d(long[].class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long x, final Long y) -> {
+          final long[] a = toLongs(x), b = toLongs(y), result = new long[2];
+          return valueOf(Decimal128.mul(a[0], a[1], b[0], b[1], result), result);
+        }, Decimal128Test::strip));
+  }
+
+  @Test
+  public void testCompareTo(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Compare `T` to `T`.");
+
+    test("compareTo").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, this::toBigDecimal, (final BigDecimal a, final BigDecimal b) -> Integer.signum(a.compareTo(b)), (final Integer o) -> o),
+        d(Decimal128.class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long a, final Long b) -> Integer.signum(toDecimal128(a).compareTo(toDecimal128(b))), (final Integer o) -> o),
+        d(long[].class, Decimal128Test::encoded, Decimal128Test::encoded, (final Long x, final Long y) -> {
+          final long[] a = toLongs(x), b = toLongs(y);
+          return Integer.signum(Decimal128.compare(a[0], a[1], b[0], b[1]));
+        }, (final Integer o) -> o));
+  }
+
+  @Test
+  public void testEncoding() {
+    final long[] result = new long[2];
+    assertEquals(34, Decimal128.MAX_PRECISION);
+    assertFalse(Decimal128.valueOf(1L << 47, 0, (short)0, result));
+    assertFalse(Decimal128.valueOf(-1L << 47, 0, (short)0, result));
+    assertTrue(Decimal128.valueOf(-1L << 47, 1, (short)0, result));
+    assertTrue(Decimal128.valueOf(0, 0, (short)0, result));
+    assertArrayEquals(new long[] {0, 0}, result);
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 dec = nextDecimal128();
+      dec.toLongs(result);
+      assertEquals(dec.scale(), Decimal128.scale(result[0]));
+      assertEquals(dec.significandHi(), Decimal128.significandHi(result[0]));
+      assertEquals(dec.significandLo(), result[1]);
+      assertEquals(dec, Decimal128.valueOf(result[0], result[1]));
+      assertEquals(dec.signum(), Decimal128.signum(result[0], result[1]));
+      assertEquals(dec.precision(), Decimal128.precision(result[0], result[1]));
+      assertEquals(dec.toBigDecimal().precision(), dec.precision());
+      assertEquals(dec.toString(), Decimal128.toString(result[0], result[1]));
+    }
+  }
+
+  @Test
+  public void testAddSubMul() {
+    final long[] a = new long[2];
+    final long[] b = new long[2];
+    final long[] result = new long[2];
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 d1 = nextDecimal128();
+      final Decimal128 d2 = nextDecimal128();
+      final BigDecimal b1 = d1.toBigDecimal();
+      final BigDecimal b2 = d2.toBigDecimal();
+      d1.toLongs(a);
+      d2.toLongs(b);
+      final String message = b1 + " " + b2;
+
+      final BigDecimal sum = b1.add(b2);
+      final Decimal128 add = d1.clone().add(d2);
+      assertDecimal(message + " +", expect(sum, sum, s -> sum.setScale(s, RoundingMode.HALF_UP)), add);
+      assertEncoded(message + " +", add, Decimal128.add(a[0], a[1], b[0], b[1], result), result);
+
+      final BigDecimal diff = b1.subtract(b2);
+      final Decimal128 sub = d1.clone().sub(d2);
+      assertDecimal(message + " -", expect(diff, diff, s -> diff.setScale(s, RoundingMode.HALF_UP)), sub);
+      assertEncoded(message + " -", sub, Decimal128.sub(a[0], a[1], b[0], b[1], result), result);
+
+      final BigDecimal prod = b1.multiply(b2);
+      final Decimal128 mul = d1.clone().mul(d2);
+      assertDecimal(message + " *", expect(prod, prod, s -> prod.setScale(s, RoundingMode.HALF_UP)), mul);
+      assertEncoded(message + " *", mul, Decimal128.mul(a[0], a[1], b[0], b[1], result), result);
+    }
+  }
+
+  @Test
+  public void testDivRem() {
+    final long[] a = new long[2];
+    final long[] b = new long[2];
+    final long[] result = new long[2];
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 d1 = nextDecimal128();
+      final Decimal128 d2 = nextDecimal128();
+      final BigDecimal b1 = d1.toBigDecimal();
+      final BigDecimal b2 = d2.toBigDecimal();
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      d1.toLongs(a);
+      d2.toLongs(b);
+      final String message = b1 + " " + b2 + " " + rm;
+
+      final Decimal128 div = d1.clone().div(d2, rm);
+      final Decimal128 rem = d1.clone().rem(d2);
+      if (b2.signum() == 0) {
+        assertNull(message, div);
+        assertNull(message, rem);
+        continue;
+      }
+
+      BigDecimal exact;
+      try {
+        exact = b1.divide(b2);
+      }
+      catch (final ArithmeticException e) {
+        exact = null;
+      }
+
+      final BigDecimal quotient = expect(exact, b1.divide(b2, MathContext.DECIMAL128), s -> {
+        try {
+          return b1.divide(b2, s, rm);
+        }
+        catch (final ArithmeticException e) {
+          return null;
+        }
+      });
+
+      assertDecimal(message + " /", quotient, div);
+      assertEncoded(message + " /", div, Decimal128.div(a[0], a[1], b[0], b[1], rm, result), result);
+
+      assertDecimal(message + " %", b1.remainder(b2), rem);
+      assertEncoded(message + " %", rem, Decimal128.rem(a[0], a[1], b[0], b[1], result), result);
+    }
+  }
+
+  @Test
+  public void testSetScale() {
+    final long[] a = new long[2];
+    final long[] result = new long[2];
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 d = nextDecimal128();
+      final BigDecimal b = d.toBigDecimal();
+      final short scale = (short)(d.scale() + random.nextInt(80) - 40);
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      d.toLongs(a);
+      final String message = b + " " + scale + " " + rm;
+
+      BigDecimal expected;
+      try {
+        expected = b.setScale(scale, rm);
+        if (!fits(expected))
+          expected = null;
+      }
+      catch (final ArithmeticException e) {
+        expected = null;
+      }
+
+      final Decimal128 dec = d.clone().setScale(scale, rm);
+      if (expected == null)
+        assertNull(message, dec);
+      else
+        assertEquals(message, expected.signum() == 0 ? BigDecimal.valueOf(0, scale) : expected, dec.toBigDecimal());
+
+      assertEncoded(message, dec, Decimal128.setScale(a[0], a[1], scale, rm, result), result);
+    }
+  }
+
+  @Test
+  public void testValue() {
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 dec = nextDecimal128();
+      final BigDecimal expected = dec.toBigDecimal();
+      assertEquals(dec.toString(), expected.intValue(), dec.intValue());
+      assertEquals(dec.toString(), expected.longValue(), dec.longValue());
+      assertEquals(dec.toString(), Float.floatToIntBits(expected.floatValue()), Float.floatToIntBits(dec.floatValue()));
+      assertEquals(dec.toString(), Double.doubleToLongBits(expected.doubleValue()), Double.doubleToLongBits(dec.doubleValue()));
+    }
+
+    final long[] small = {0, 1, -1, 7, -7, 16777215, -16777215, Long.MAX_VALUE, Long.MIN_VALUE};
+    for (final long significand : small) { // [A]
+      for (short scale = -70; scale <= 70; ++scale) { // [N]
+        final Decimal128 dec = new Decimal128(significand, scale);
+        final BigDecimal expected = dec.toBigDecimal();
+        assertEquals(dec.toString(), expected.longValue(), dec.longValue());
+        assertEquals(dec.toString(), Float.floatToIntBits(expected.floatValue()), Float.floatToIntBits(dec.floatValue()));
+        assertEquals(dec.toString(), Double.doubleToLongBits(expected.doubleValue()), Double.doubleToLongBits(dec.doubleValue()));
+      }
+    }
+  }
+
+  @Test
+  public void testCompare() {
+    final long[] a = new long[2];
+    final long[] b = new long[2];
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final Decimal128 d1 = nextDecimal128();
+      final Decimal128 d2 = random.nextInt(10) == 0 ? d1.clone().setScale((short)(d1.scale() + 1), RoundingMode.UNNECESSARY) : nextDecimal128();
+      if (d2 == null)
+        continue;
+
+      final int expected = Integer.signum(d1.toBigDecimal().compareTo(d2.toBigDecimal()));
+      d1.toLongs(a);
+      d2.toLongs(b);
+      assertEquals(d1 + " " + d2, expected, Integer.signum(d1.compareTo(d2)));
+      assertEquals(d1 + " " + d2, expected, Integer.signum(Decimal128.compare(a[0], a[1], b[0], b[1])));
+    }
+  }
+}
@@ -0,0 +1,264 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.lang.Numbers;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = {BigDecimal.class, BigInteger.class}, b = int[].class)
+@AuditRunner.Instrument(a = {Decimal.class, BigInt.class}, b = int[].class)
+public class DecimalCodecTest extends DecimalTest {
+  private static final DecimalCodec[] codecs = {DecimalCodec.SCALE_4, DecimalCodec.SCALE_6, DecimalCodec.SCALE_9};
+  private static final long defaultValue = 0x2545f4914f6cdd1dL;
+  private static final int numTests = 200000;
+
+  private static long nextSignificand(final DecimalCodec codec) {
+    final long significand = random.nextLong() >> codec.scaleBits() + random.nextInt(64 - codec.scaleBits());
+    return significand < codec.minSignificand() ? codec.minSignificand() : significand;
+  }
+
+  private static long nextDecimal(final DecimalCodec codec) {
+    final long significand = nextSignificand(codec);
+    final int pscale = codec.minPscale() + random.nextInt(codec.maxPscale() - codec.minPscale() + 1);
+    return codec.valueOf(significand, pscale + Numbers.precision(significand), defaultValue);
+  }
+
+  private static boolean fits(final DecimalCodec codec, BigDecimal dec) {
+    dec = dec.stripTrailingZeros();
+    final int pscale = dec.scale() - dec.precision();
+    return dec.signum() == 0 || dec.unscaledValue().bitLength() <= 63 - codec.scaleBits() && codec.minPscale() <= pscale && pscale <= codec.maxPscale();
+  }
+
+  /**
+   * Asserts that {@code actual} equals {@code exact} if {@code exact} fits the layout of the provided {@link DecimalCodec}, or is
+   * within 1 unit of its last digit of {@code exact} otherwise.
+   */
+  private static void assertResult(final String message, final DecimalCodec codec, final BigDecimal exact, final long actual) {
+    if (actual == defaultValue) {
+      assertFalse(message + " = " + exact, fits(codec, exact));
+      return;
+    }
+
+    final BigDecimal result = codec.toBigDecimal(actual);
+    if (fits(codec, exact))
+      assertEquals(message + " expected:<" + exact + "> but was:<" + result + ">", 0, exact.compareTo(result));
+    else
+      assertTrue(message + " expected:<" + exact + "> but was:<" + result + ">", exact.subtract(result).abs().compareTo(BigDecimal.ONE.scaleByPowerOfTen(-result.scale())) <= 0);
+  }
+
+  @Test
+  public void testAdd(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Add `T` to `T` in the 9-bit scale layout of `DecimalCodec`, which is the layout of `Decimal`.");
+
+    test("add").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, (final BigDecimal a, final long b) -> a.add(toBigDecimal(b)), (final BigDecimal o) -> o),
+        d(long.class, (final long a, final long b) -> Decimal.add(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(DecimalCodec.class, (final long a, final long b) -> DecimalCodec.SCALE_9.add(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o));
+  }
+
+  @Test
+  public void testSub(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Subtract `T` from `T` in the 9-bit scale layout of `DecimalCodec`.");
+
+    test("sub").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, (final BigDecimal a, final long b) -> a.subtract(toBigDecimal(b)), (final BigDecimal o) -> o),
+        d(long.class, (final long a, final long b) -> Decimal.sub(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(DecimalCodec.class, (final long a, final long b) -> DecimalCodec.SCALE_9.sub(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o));
+  }
+
+  @Test
+  public void testMul(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Multiply `T` by `T` in the 9-bit scale layout of `DecimalCodec`.");
+
+    test("mul").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, (final long a, final long b) -> toBigDecimal(a).multiply(toBigDecimal(b)), (final BigDecimal o) -> o),
+        d(long.class, (final long a, final long b) -> Decimal.mul(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(DecimalCodec.class, (final long a, final long b) -> DecimalCodec.SCALE_9.mul(a, b, defaultValue), (final long o) -> o == defaultValue ? null : o));
+  }
+
+  @Test
+  public void testDiv(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Divide `T` by `T` in the 9-bit scale layout of `DecimalCodec`.");
+
+    test("div").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, (final BigDecimal a, final long b) -> a.divide(toBigDecimal(dnz(b)), MathContext.DECIMAL128), (final BigDecimal o) -> o),
+        d(long.class, (final long a) -> a, (final long b) -> dnz(b), (final long a, final long b) -> Decimal.div(a, b, RoundingMode.HALF_UP, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(DecimalCodec.class, (final long a) -> a, (final long b) -> dnz(b), (final long a, final long b) -> DecimalCodec.SCALE_9.div(a, b, RoundingMode.HALF_UP, defaultValue), (final long o) -> o == defaultValue ? null : o));
+  }
+
+  @Test
+  public void testLayout() {
+    assertSame(DecimalCodec.SCALE_4, DecimalCodec.of(4));
+    assertSame(DecimalCodec.SCALE_6, DecimalCodec.of(6));
+    assertSame(DecimalCodec.SCALE_9, DecimalCodec.of(9));
+    try {
+      DecimalCodec.of(5);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    assertEquals(-(1L << 59), DecimalCodec.SCALE_4.minSignificand());
+    assertEquals((1L << 59) - 1, DecimalCodec.SCALE_4.maxSignificand());
+    assertEquals(-8, DecimalCodec.SCALE_4.minPscale());
+    assertEquals(7, DecimalCodec.SCALE_4.maxPscale());
+    assertEquals(-(1L << 57), DecimalCodec.SCALE_6.minSignificand());
+    assertEquals(-32, DecimalCodec.SCALE_6.minPscale());
+    assertEquals(31, DecimalCodec.SCALE_6.maxPscale());
+    assertEquals(Decimal.MIN_SIGNIFICAND, DecimalCodec.SCALE_9.minSignificand());
+    assertEquals(Decimal.MAX_SIGNIFICAND, DecimalCodec.SCALE_9.maxSignificand());
+    assertEquals(Decimal.MAX_PRECISION, DecimalCodec.SCALE_9.maxPrecision());
+    assertEquals(Decimal.MIN_PSCALE, DecimalCodec.SCALE_9.minPscale());
+    assertEquals(Decimal.MAX_PSCALE, DecimalCodec.SCALE_9.maxPscale());
+  }
+
+  @Test
+  public void testEncoding() {
+    for (final DecimalCodec codec : codecs) { // [A]
+      assertEquals(defaultValue, codec.valueOf(codec.maxSignificand() + 1, 0, defaultValue));
+      assertEquals(defaultValue, codec.valueOf(codec.minSignificand() - 1, 0, defaultValue));
+      assertEquals(defaultValue, codec.valueOf(1, codec.maxPscale() + 2, defaultValue));
+      assertEquals(defaultValue, codec.valueOf(1, codec.minPscale(), defaultValue));
+      for (int i = 0; i < numTests; ++i) { // [N]
+        final long significand = nextSignificand(codec);
+        final int pscale = codec.minPscale() + random.nextInt(codec.maxPscale() - codec.minPscale() + 1);
+        final short scale = (short)(pscale + Numbers.precision(significand));
+        final long dec = codec.valueOf(significand, scale, defaultValue);
+        assertEquals(significand, codec.significand(dec));
+        if (significand != 0)
+          assertEquals(scale, codec.scale(dec));
+
+        assertEquals(Long.signum(significand), codec.signum(dec));
+        assertEquals(Numbers.precision(significand), codec.precision(dec));
+        assertEquals(Decimal.toString(significand, scale), codec.toString(dec));
+        assertEquals(0, codec.compare(dec, codec.valueOf(codec.toBigDecimal(dec), null, defaultValue)));
+        assertEquals(dec, codec.valueOf(codec.toDecimal(dec), defaultValue));
+        for (final DecimalCodec from : codecs) { // [A]
+          final long transcoded = from.valueOf(dec, codec, defaultValue);
+          if (transcoded != defaultValue)
+            assertEquals(dec, codec.valueOf(transcoded, from, defaultValue));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNeg() {
+    final long dec = Decimal.valueOf(12345, 2, defaultValue);
+    assertEquals(Decimal.valueOf(-12345, 2, defaultValue), Decimal.neg(dec, defaultValue));
+    assertEquals(dec, Decimal.neg(Decimal.neg(dec, defaultValue), defaultValue));
+    assertEquals(0, Decimal.neg(0, defaultValue));
+
+    for (final DecimalCodec codec : codecs) { // [A]
+      final long val = codec.valueOf(12345, 2, defaultValue);
+      assertEquals(new BigDecimal("-123.45"), codec.toBigDecimal(codec.neg(val, defaultValue)));
+      assertEquals(val, codec.neg(codec.neg(val, defaultValue), defaultValue));
+      assertEquals(val, codec.abs(codec.neg(val, defaultValue), defaultValue));
+
+      // The negation of the minimum significand does not fit the significand, and is rounded to one less digit
+      final long min = codec.valueOf(codec.minSignificand(), Numbers.precision(codec.minSignificand()), defaultValue);
+      final BigDecimal b = codec.toBigDecimal(min);
+      final BigDecimal expected = b.negate().setScale(b.scale() - 1, RoundingMode.HALF_UP);
+      assertEquals(0, expected.compareTo(codec.toBigDecimal(codec.neg(min, defaultValue))));
+      assertEquals(0, expected.compareTo(codec.toBigDecimal(codec.abs(min, defaultValue))));
+    }
+  }
+
+  @Test
+  public void testScale9() {
+    final DecimalCodec codec = DecimalCodec.SCALE_9;
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final long dec1 = nextDecimal(codec);
+      final long dec2 = nextDecimal(codec);
+      assertEquals(Decimal.valueOf(codec.significand(dec1), codec.scale(dec1), defaultValue), dec1);
+      assertEquals(Decimal.significand(dec1), codec.significand(dec1));
+      assertEquals(Decimal.scale(dec1), codec.scale(dec1));
+      assertEquals(Decimal.neg(dec1, defaultValue), codec.neg(dec1, defaultValue));
+      assertEquals(Decimal.abs(dec1, defaultValue), codec.abs(dec1, defaultValue));
+      assertEquals(Decimal.add(dec1, dec2, defaultValue), codec.add(dec1, dec2, defaultValue));
+      assertEquals(Decimal.sub(dec1, dec2, defaultValue), codec.sub(dec1, dec2, defaultValue));
+      assertEquals(Decimal.mul(dec1, dec2, defaultValue), codec.mul(dec1, dec2, defaultValue));
+      assertEquals(Decimal.div(dec1, dec2, RoundingMode.HALF_UP, defaultValue), codec.div(dec1, dec2, RoundingMode.HALF_UP, defaultValue));
+      assertEquals(Decimal.rem(dec1, dec2, defaultValue), codec.rem(dec1, dec2, defaultValue));
+      assertEquals(Decimal.compare(dec1, dec2), codec.compare(dec1, dec2));
+      final short newScale = (short)(codec.scale(dec1) - random.nextInt(20));
+      assertEquals(Decimal.setScale(dec1, newScale, RoundingMode.HALF_EVEN, defaultValue), codec.setScale(dec1, newScale, RoundingMode.HALF_EVEN, defaultValue));
+      assertEquals(DecimalMath.sqrt(dec1, RoundingMode.HALF_UP, defaultValue), codec.sqrt(dec1, RoundingMode.HALF_UP, defaultValue));
+    }
+  }
+
+  @Test
+  public void testArithmetic() {
+    for (final DecimalCodec codec : codecs) { // [A]
+      for (int i = 0; i < numTests; ++i) { // [N]
+        final long dec1 = nextDecimal(codec);
+        final long dec2 = nextDecimal(codec);
+        final BigDecimal b1 = codec.toBigDecimal(dec1);
+        final BigDecimal b2 = codec.toBigDecimal(dec2);
+        final String message = codec.scaleBits() + ": " + b1 + " " + b2;
+        assertResult(message + " +", codec, b1.add(b2), codec.add(dec1, dec2, defaultValue));
+        assertResult(message + " -", codec, b1.subtract(b2), codec.sub(dec1, dec2, defaultValue));
+        assertResult(message + " *", codec, b1.multiply(b2), codec.mul(dec1, dec2, defaultValue));
+        assertResult(message + " -x", codec, b1.negate(), codec.neg(dec1, defaultValue));
+        assertEquals(message, b1.compareTo(b2), Integer.signum(codec.compare(dec1, dec2)));
+        if (b2.signum() != 0) {
+          final long div = codec.div(dec1, dec2, RoundingMode.HALF_UP, defaultValue);
+          if (div != defaultValue)
+            assertResult(message + " /", codec, b1.divide(b2, codec.scale(div), RoundingMode.HALF_UP), div);
+
+          // The remainder is approximated as 0 when the divisor has 36 more decimal places than fit the dividend
+          final long rem = codec.rem(dec1, dec2, defaultValue);
+          if (rem != defaultValue && codec.scale(dec2) - codec.scale(dec1) <= 18)
+            assertResult(message + " %", codec, b1.remainder(b2), rem);
+        }
+
+        final short newScale = (short)(codec.scale(dec1) - random.nextInt(10));
+        final long scaled = codec.setScale(dec1, newScale, defaultValue);
+        if (scaled != defaultValue)
+          assertEquals(message, 0, b1.setScale(newScale, RoundingMode.DOWN).compareTo(codec.toBigDecimal(scaled)));
+      }
+    }
+  }
+
+  @Test
+  public void testSignificandBits() {
+    // 17 significant digits that fit the significand of SCALE_4, but not that of SCALE_9
+    final BigDecimal b1 = new BigDecimal("43210987.654321098");
+    final BigDecimal b2 = new BigDecimal("12345678.901234567");
+    final long dec4 = DecimalCodec.SCALE_4.add(DecimalCodec.SCALE_4.valueOf(b1, null, defaultValue), DecimalCodec.SCALE_4.valueOf(b2, null, defaultValue), defaultValue);
+    assertEquals(b1.add(b2), DecimalCodec.SCALE_4.toBigDecimal(dec4));
+    assertEquals(defaultValue, DecimalCodec.SCALE_9.valueOf(b1, null, defaultValue));
+    assertEquals(new BigDecimal("43210987.65432110"), DecimalCodec.SCALE_9.toBigDecimal(DecimalCodec.SCALE_9.valueOf(b1, RoundingMode.HALF_UP, defaultValue)));
+  }
+}
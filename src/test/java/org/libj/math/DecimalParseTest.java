@@ -0,0 +1,120 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = {BigDecimal.class, BigInteger.class}, b = int[].class)
+@AuditRunner.Instrument(a = {Decimal.class, BigInt.class}, b = int[].class)
+public class DecimalParseTest extends DecimalTest {
+  private static final long defaultValue = Long.MIN_VALUE;
+
+  private static byte[] pad(final String str) {
+    return ("1-" + str + "E9").getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private void test(final AuditReport report, final RoundingMode rm) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Parse of the ASCII decimal digits in a range of a `byte[]` and a `CharSequence`, without an intermediate `String`.");
+    setRoundingMode(rm);
+    final MathContext mc = new MathContext(18, rm);
+    test("parse(byte[],int,int)[" + rm + "]").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toDecimalString, (final String a) -> new BigDecimal(a, mc), (final BigDecimal o) -> o),
+        d(Decimal.class, this::toDecimalString, (final String a) -> Decimal.valueOf(a, rm), (final Decimal o) -> o),
+        d(long.class, this::toDecimalString, (final String a) -> Decimal.parse(pad(a), 2, a.length(), rm, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(long.class, this::toDecimalString, (final String a) -> Decimal.parse(new StringBuilder("1-").append(a).append("E9"), 2, a.length(), rm, defaultValue), (final long o) -> o == defaultValue ? null : o));
+  }
+
+  private static void assertParse(final String str, final RoundingMode rm) {
+    final long expected = Decimal.valueOf(str, rm, defaultValue);
+    final String padded = "1-" + str + "E9";
+    assertEquals(str, expected, Decimal.parse(pad(str), 2, str.length(), rm, defaultValue));
+    assertEquals(str, expected, Decimal.parse(padded, 2, str.length(), rm, defaultValue));
+    assertEquals(str, expected, Decimal.parse(new StringBuilder(padded), 2, str.length(), rm, defaultValue));
+  }
+
+  @Test
+  public void testDown(final AuditReport report) {
+    test(report, RoundingMode.DOWN);
+  }
+
+  @Test
+  public void testHalfEven(final AuditReport report) {
+    test(report, RoundingMode.HALF_EVEN);
+  }
+
+  @Test
+  public void testUnnecessary(final AuditReport report) {
+    test(report, RoundingMode.UNNECESSARY);
+  }
+
+  @Test
+  public void testEdgeCases() {
+    for (final String str : new String[] {"0", "-0", "1.5", "-12.345", "123E-3", "1.23E4", "0.000001", "99999999999999999999999", "-9223372036854775808", "1E99999", "1E-99999"}) // [A]
+      for (final RoundingMode rm : new RoundingMode[] {RoundingMode.DOWN, RoundingMode.HALF_UP, RoundingMode.UNNECESSARY}) // [A]
+        assertParse(str, rm);
+  }
+
+  @Test
+  public void testLeadingDot() {
+    assertEquals(Decimal.valueOf(5, (short)1, defaultValue), Decimal.parse(".5", 0, 2, RoundingMode.DOWN, defaultValue));
+    assertEquals(Decimal.valueOf(-25, (short)2, defaultValue), Decimal.parse("-.25", 0, 4, RoundingMode.DOWN, defaultValue));
+    assertEquals(Decimal.valueOf(5, (short)0, defaultValue), Decimal.parse("5.", 0, 2, RoundingMode.DOWN, defaultValue));
+  }
+
+  @Test
+  public void testInvalid() {
+    for (final String str : new String[] {"", "abc", "1-2", "1E2E3", "1.2x", "-", ".", "E5", "-E", "-.", "1E", "1E-", "1E+", ".E1", "1.2.3", "1E2.5"}) { // [A]
+      final byte[] bytes = str.getBytes(StandardCharsets.US_ASCII);
+      assertEquals(str, defaultValue, Decimal.parse(bytes, 0, bytes.length, RoundingMode.DOWN, defaultValue));
+      assertEquals(str, defaultValue, Decimal.parse(str, 0, str.length(), RoundingMode.DOWN, defaultValue));
+    }
+
+    assertEquals(defaultValue, Decimal.parse(new byte[] {'1', (byte)0xB1}, 0, 2, RoundingMode.DOWN, defaultValue));
+  }
+
+  @Test
+  public void testOutOfBounds() {
+    try {
+      Decimal.parse(new byte[3], 2, 2, RoundingMode.DOWN, defaultValue);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    try {
+      Decimal.parse("123", -1, 2, RoundingMode.DOWN, defaultValue);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
@@ -41,7 +41,8 @@ public class DecimalValueOfStringTest extends DecimalTest {
       .withCases(
         d(BigDecimal.class, this::toDecimalString, (final String a) -> new BigDecimal(a, mc), (final BigDecimal o) -> o),
         d(Decimal.class, this::toDecimalString, (final String a) -> Decimal.valueOf(a, rm), (final Decimal o) -> o),
-        d(long.class, this::toDecimalString, (final String a) -> Decimal.valueOf(a, rm, defaultValue), (final long o) -> o == defaultValue ? null : o));
+        d(long.class, this::toDecimalString, (final String a) -> Decimal.valueOf(a, rm, defaultValue), (final long o) -> o == defaultValue ? null : o),
+        d(long.class, this::toDecimalString, (final String a) -> Decimal.parse(a, 0, a.length(), rm, defaultValue), (final long o) -> o == defaultValue ? null : o));
   }
 
   @Test
@@ -0,0 +1,156 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+import static org.libj.math.survey.AuditMode.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.libj.math.survey.AuditReport;
+import org.libj.math.survey.AuditRunner;
+
+@RunWith(AuditRunner.class)
+@AuditRunner.Execution(PHASED)
+@AuditRunner.Instrument(a = {BigDecimal.class, BigInteger.class}, b = int[].class)
+@AuditRunner.Instrument(a = {Decimal.class, BigInt.class}, b = int[].class)
+public class DecimalWriteTest extends DecimalTest {
+  private static String write(final long dec) {
+    final byte[] bytes = new byte[32];
+    return new String(bytes, 1, Decimal.write(dec, bytes, 1), StandardCharsets.US_ASCII);
+  }
+
+  private static void assertWrite(final String expected, final long significand, final short scale) throws IOException {
+    assertEquals(expected, Decimal.toString(significand, scale));
+
+    final StringBuilder builder = new StringBuilder("x");
+    assertSame(builder, Decimal.appendTo(significand, scale, builder));
+    assertEquals("x" + expected, builder.toString());
+
+    final StringWriter writer = new StringWriter();
+    Decimal.appendTo(significand, scale, writer);
+    assertEquals(expected, writer.toString());
+
+    final byte[] bytes = new byte[expected.length() + 3];
+    assertEquals(expected.length(), Decimal.write(significand, scale, bytes, 3));
+    assertEquals(expected, new String(bytes, 3, expected.length(), StandardCharsets.US_ASCII));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(expected.length() + 2);
+    buffer.position(2);
+    assertEquals(expected.length(), Decimal.write(significand, scale, buffer));
+    assertEquals(buffer.limit(), buffer.position());
+    assertEquals(expected, new String(buffer.array(), 2, expected.length(), StandardCharsets.US_ASCII));
+
+    final Decimal decimal = new Decimal(significand, scale);
+    assertEquals(expected, decimal.appendTo(new StringBuilder()).toString());
+    assertEquals(expected.length(), decimal.write(bytes, 0));
+    assertEquals(expected, new String(bytes, 0, expected.length(), StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testFormat() throws IOException {
+    assertWrite("0", 0, (short)5);
+    assertWrite("-123", -123, (short)0);
+    assertWrite("1.23", 123, (short)2);
+    assertWrite("-12.3", -123, (short)1);
+    assertWrite("123E-3", 123, (short)3);
+    assertWrite("-123E-5", -123, (short)5);
+    assertWrite("1.23E4", 123, (short)-2);
+    assertWrite("-1E2", -1, (short)-2);
+    assertWrite("9223372036854775807", Long.MAX_VALUE, (short)0);
+    assertWrite("-9.223372036854775808E32786", Long.MIN_VALUE, Short.MIN_VALUE);
+    assertWrite("-9223372036854775808E-32767", Long.MIN_VALUE, Short.MAX_VALUE);
+    assertWrite("-922337203685477580.8", Long.MIN_VALUE, (short)1);
+  }
+
+  @Test
+  public void testAppendTo(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Digits of `T` appended to a `StringBuilder`, without an intermediate `String`.");
+
+    test("appendTo(StringBuilder)").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, (final BigDecimal a) -> a.toString(), (final String o) -> new BigDecimal(o)),
+        d(Decimal.class, this::toDecimal, (final Decimal a) -> a.appendTo(new StringBuilder()).toString(), (final String o) -> new BigDecimal(o)),
+        d(long.class, (final long a) -> Decimal.appendTo(a, new StringBuilder()).toString(), (final String o) -> new BigDecimal(o)));
+  }
+
+  @Test
+  public void testWrite(final AuditReport report) {
+    report.addComment(UNINSTRUMENTED.ordinal(), "Digits of `T` written as ASCII into a `byte[]` at an offset.");
+
+    test("write(byte[],int)").withAuditReport(report)
+      .withCases(
+        d(BigDecimal.class, this::toBigDecimal, (final BigDecimal a) -> a.toString(), (final String o) -> new BigDecimal(o)),
+        d(Decimal.class, this::toDecimal, (final Decimal a) -> {
+          final byte[] bytes = new byte[32];
+          return new String(bytes, 1, a.write(bytes, 1), StandardCharsets.US_ASCII);
+        }, (final String o) -> new BigDecimal(o)),
+        d(long.class, (final long a) -> write(a), (final String o) -> new BigDecimal(o)));
+  }
+
+  @Test
+  public void testEncoded() throws IOException {
+    for (int i = 0; i < 10000; ++i) { // [N]
+      final long dec = Decimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(20) - 10, Long.MIN_VALUE);
+      if (dec == Long.MIN_VALUE)
+        continue;
+
+      final String expected = Decimal.toString(dec);
+      assertEquals(expected, Decimal.appendTo(dec, new StringBuilder()).toString());
+      final StringWriter writer = new StringWriter();
+      Decimal.appendTo(dec, writer);
+      assertEquals(expected, writer.toString());
+      final byte[] bytes = new byte[expected.length()];
+      assertEquals(expected.length(), Decimal.write(dec, bytes, 0));
+      assertEquals(expected, new String(bytes, StandardCharsets.US_ASCII));
+      final ByteBuffer buffer = ByteBuffer.allocate(expected.length());
+      assertEquals(expected.length(), Decimal.write(dec, buffer));
+      assertEquals(expected, new String(buffer.array(), StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Test
+  public void testOverflow() {
+    final byte[] bytes = new byte[5];
+    try {
+      Decimal.write(-12345, (short)2, bytes, 0);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    assertArrayEquals(new byte[5], bytes);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(5);
+    try {
+      Decimal.write(-12345, (short)2, buffer);
+      fail("Expected BufferOverflowException");
+    }
+    catch (final BufferOverflowException e) {
+    }
+
+    assertEquals(0, buffer.position());
+  }
+}
@@ -18,6 +18,8 @@ package org.libj.math;
 
 import static org.junit.Assert.*;
 
+import java.math.BigInteger;
+
 import org.junit.Test;
 
 public class FastMathTest extends BigIntTest {
@@ -45,6 +47,12 @@ public class FastMathTest extends BigIntTest {
       assertEquals((long)Math.pow(10, i), FastMath.longE10[i]);
   }
 
+  @Test
+  public void testE10Pow2() {
+    for (int k = 0; k < 16; ++k) // [N]
+      assertEquals(BigInteger.TEN.pow(1 << k), BigInt.toBigInteger(FastMath.E10Pow2(k)));
+  }
+
   @Test
   public void testDivideUnsignedLong() {
     test("divideUnsigned(long,long)").withCases(
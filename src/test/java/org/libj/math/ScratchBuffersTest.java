@@ -0,0 +1,141 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class ScratchBuffersTest extends BigIntTest {
+  @Test
+  public void testReuse() {
+    final ScratchBuffers.IntArrays pool = new ScratchBuffers.IntArrays();
+    final int[] a = pool.acquire(100);
+    assertTrue(a.length >= 100);
+    pool.release(a);
+    assertEquals(a.length * 4, pool.retainedBytes());
+    assertSame(a, pool.acquire(50));
+    assertEquals(0, pool.retainedBytes());
+
+    final int[] b = pool.acquire(200);
+    assertTrue(a != b);
+    pool.release(a);
+    pool.release(b);
+    assertEquals((a.length + b.length) * 4, pool.retainedBytes());
+  }
+
+  @Test
+  public void testMaxLength() {
+    final ScratchBuffers.IntArrays pool = new ScratchBuffers.IntArrays();
+    final long discards = ScratchBuffers.discards();
+    final int[] a = pool.acquire(ScratchBuffers.maxLength() + 1);
+    pool.release(a);
+    assertEquals(0, pool.retainedBytes());
+    assertEquals(discards + 1, ScratchBuffers.discards());
+  }
+
+  @Test
+  public void testTooShort() {
+    final ScratchBuffers.LongArrays pool = new ScratchBuffers.LongArrays();
+    pool.release(pool.acquire(10));
+    final long discards = ScratchBuffers.discards();
+    final long[] a = pool.acquire(20);
+    assertTrue(a.length >= 20);
+    assertEquals(0, pool.retainedBytes());
+    assertEquals(discards + 1, ScratchBuffers.discards());
+  }
+
+  @Test
+  public void testSlots() {
+    final ScratchBuffers.IntArrays pool = new ScratchBuffers.IntArrays();
+    final int slots = ScratchBuffers.slots();
+    assertEquals(0, slots & slots - 1);
+
+    final int[][] arrays = new int[slots + 1][];
+    for (int i = 0; i < arrays.length; ++i) // [A]
+      arrays[i] = pool.acquire(10);
+
+    final long discards = ScratchBuffers.discards();
+    for (int i = 0; i < arrays.length; ++i) // [A]
+      pool.release(arrays[i]);
+
+    assertEquals(discards + 1, ScratchBuffers.discards());
+    assertEquals(slots * arrays[0].length * 4L, pool.retainedBytes());
+  }
+
+  @Test
+  public void testHighWaterLength() {
+    ScratchBuffers.resetStats();
+    assertEquals(0, ScratchBuffers.highWaterLength());
+    final int[] val = randomVal(63);
+    assertEquals(BigInt.toBigInteger(val).toString(), BigInt.appendTo(val, new StringBuilder()).toString());
+    assertTrue(ScratchBuffers.highWaterLength() > 62);
+  }
+
+  @Test
+  public void testConcurrent() throws InterruptedException {
+    final BigInteger[] values = new BigInteger[64];
+    final String[] decimals = new String[values.length];
+    final long[] encoded = new long[values.length];
+    final double[] doubles = new double[values.length];
+    final long[] fromDoubles = new long[values.length];
+    for (int i = 0; i < values.length; ++i) { // [A]
+      values[i] = BigInt.toBigInteger(randomVal(1 + random.nextInt(94)));
+      decimals[i] = random.nextInt(1000000) + "." + random.nextInt(1000000);
+      encoded[i] = Decimal.valueOf(decimals[i], RoundingMode.DOWN, Long.MIN_VALUE);
+      doubles[i] = random.nextDouble() * 1000;
+      fromDoubles[i] = Decimal.valueOf(doubles[i], RoundingMode.DOWN, Long.MIN_VALUE);
+    }
+
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final Thread[] threads = new Thread[4 * ScratchBuffers.slots()];
+    for (int t = 0; t < threads.length; ++t) { // [A]
+      final long threadSeed = random.nextLong();
+      threads[t] = new Thread(() -> {
+        try {
+          final Random random = new Random(threadSeed);
+          for (int i = 0; i < 2000; ++i) { // [N]
+            final int j = random.nextInt(values.length);
+            final BigInteger a = values[j];
+            final BigInteger b = values[random.nextInt(values.length)].add(BigInteger.ONE);
+            assertEquals(a.toString(), BigInt.appendTo(new BigInt(a).val(), new StringBuilder()).toString());
+            assertEquals(a.mod(b), new BigInt(a).rem(new BigInt(b)).toBigInteger());
+            assertEquals(encoded[j], Decimal.valueOf(decimals[j], RoundingMode.DOWN, Long.MIN_VALUE));
+            assertEquals(fromDoubles[j], Decimal.valueOf(doubles[j], RoundingMode.DOWN, Long.MIN_VALUE));
+          }
+        }
+        catch (final Throwable e) {
+          error.compareAndSet(null, e);
+        }
+      });
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads) // [A]
+      thread.join();
+
+    if (error.get() != null)
+      throw new AssertionError(error.get());
+
+    assertTrue(ScratchBuffers.retainedBytes() <= 3L * ScratchBuffers.slots() * ScratchBuffers.maxLength() * Integer.BYTES);
+  }
+}
@@ -0,0 +1,139 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class UInt128Test extends BigIntTest {
+  private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
+  private static final int numTests = 1000000;
+
+  private static BigInteger unsigned(final long v) {
+    final BigInteger b = BigInteger.valueOf(v);
+    return v < 0 ? b.add(TWO_64) : b;
+  }
+
+  private static BigInteger unsigned(final long hi, final long lo) {
+    return unsigned(hi).shiftLeft(64).or(unsigned(lo));
+  }
+
+  private static long nextLong() {
+    final int shift = random.nextInt(65);
+    return shift == 64 ? 0 : random.nextLong() >>> shift;
+  }
+
+  @Test
+  public void testMultiplyHigh() {
+    assertEquals(-2, UInt128.multiplyHigh(-1, -1));
+    assertEquals(0, UInt128.multiplyHigh(Long.MAX_VALUE, 2));
+    assertEquals(1, UInt128.multiplyHigh(Long.MIN_VALUE, 2));
+    test("multiplyHigh(long,long)").withCases(
+      l("BigInteger", (final long a) -> a, (final long b) -> b, (final long a, final long b) -> unsigned(a).multiply(unsigned(b)).shiftRight(64).longValue(), (final Long o) -> o),
+      l("UInt128", (final long a) -> a, (final long b) -> b, (final long a, final long b) -> UInt128.multiplyHigh(a, b), (final Long o) -> o));
+  }
+
+  @Test
+  public void testDivideUnsigned() {
+    test("divideUnsigned(long,long)").withCases(
+      l("Long", (final long a) -> a, this::nz, (final long a, final long b) -> Long.divideUnsigned(a, b), (final Long o) -> o),
+      l("UInt128", (final long a) -> a, this::nz, (final long a, final long b) -> UInt128.divideUnsigned(a, b), (final Long o) -> o));
+  }
+
+  @Test
+  public void testRemainderUnsigned() {
+    test("remainderUnsigned(long,long)").withCases(
+      l("Long", (final long a) -> a, this::nz, (final long a, final long b) -> Long.remainderUnsigned(a, b), (final Long o) -> o),
+      l("UInt128", (final long a) -> a, this::nz, (final long a, final long b) -> UInt128.remainderUnsigned(a, b), (final Long o) -> o));
+  }
+
+  @Test
+  public void testDivide() {
+    assertEquals(-1, UInt128.divide(0, -1, 1));
+    assertEquals(-1, UInt128.divide(Long.MAX_VALUE - 1, -1, Long.MAX_VALUE));
+    assertEquals(1, UInt128.divide(-1, -1, -1));
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final long hi = nextLong();
+      final long lo = random.nextLong();
+      final long d = nextLong() | 1;
+      final long q = UInt128.divide(hi, lo, d);
+      final BigInteger[] qr = unsigned(hi, lo).divideAndRemainder(unsigned(d));
+      assertEquals(qr[0].longValue(), q);
+      assertEquals(qr[0].shiftRight(64).longValue(), UInt128.divideUnsigned(hi, d));
+      if (Long.compareUnsigned(hi, d) < 0)
+        assertEquals(qr[1].longValue(), lo - q * d);
+    }
+  }
+
+  @Test
+  public void testDivideE10() {
+    for (int n = 0; n < FastMath.longE10.length; ++n) { // [N]
+      final long d = FastMath.longE10[n];
+      assertEquals(unsigned(d - 1, -1).divide(unsigned(d)).longValue(), UInt128.divideE10(d - 1, -1, n));
+      for (int i = 0; i < numTests / 10; ++i) { // [N]
+        final long hi = random.nextBoolean() ? nextLong() : UInt128.remainderUnsigned(nextLong(), d);
+        final long lo = random.nextLong();
+        assertEquals(UInt128.divide(hi, lo, d), UInt128.divideE10(hi, lo, n));
+        assertEquals(unsigned(hi, lo).divide(unsigned(d)).longValue(), UInt128.divideE10(hi, lo, n));
+      }
+    }
+  }
+
+  @Test
+  public void testCompare() {
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final long hi1 = nextLong();
+      final long lo1 = random.nextLong();
+      final long hi2 = random.nextBoolean() ? hi1 : nextLong();
+      final long lo2 = random.nextLong();
+      assertEquals(Integer.signum(unsigned(hi1, lo1).compareTo(unsigned(hi2, lo2))), Integer.signum(UInt128.compare(hi1, lo1, hi2, lo2)));
+    }
+  }
+
+  @Test
+  public void testPrecision() {
+    assertEquals(1, UInt128.precision(0, 0));
+    for (int n = 1; n < UInt128.E10_LO.length; ++n) { // [N]
+      assertEquals(BigInteger.TEN.pow(n), unsigned(UInt128.E10_HI[n], UInt128.E10_LO[n]));
+      assertEquals(n + 1, UInt128.precision(UInt128.E10_HI[n], UInt128.E10_LO[n]));
+      assertEquals(n, UInt128.precision(UInt128.E10_LO[n] == 0 ? UInt128.E10_HI[n] - 1 : UInt128.E10_HI[n], UInt128.E10_LO[n] - 1));
+    }
+
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final long hi = nextLong();
+      final long lo = random.nextLong();
+      assertEquals(unsigned(hi, lo).toString().length(), UInt128.precision(hi, lo));
+    }
+  }
+
+  @Test
+  public void testDivide128() {
+    for (int i = 0; i < numTests; ++i) { // [N]
+      final long vh = nextLong() | 1;
+      final long vl = random.nextLong();
+      final BigInteger v = unsigned(vh, vl);
+      final BigInteger u = v.multiply(unsigned(nextLong())).add(unsigned(nextLong()).multiply(v).shiftRight(64));
+      if (u.bitLength() > 128)
+        continue;
+
+      assertEquals(u.divide(v).longValue(), UInt128.divide(u.shiftRight(64).longValue(), u.longValue(), vh, vl));
+    }
+  }
+}
@@ -0,0 +1,235 @@
+/* Copyright (c) 2020 Seva Safris, LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.math;
+
+import static org.junit.Assert.*;
+
+import java.lang.foreign.Arena;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class BigIntSegmentTest extends BigIntTest {
+  private static BigInteger random(final int maxLength) {
+    final BigInteger a = BigInt.toBigInteger(randomVal(1 + random.nextInt(maxLength)));
+    return random.nextBoolean() ? a.negate() : a;
+  }
+
+  private static BigIntSegment segment(final int[] a) {
+    return new BigIntSegment(Arena.ofAuto(), a);
+  }
+
+  private void testAdd(final int scale) {
+    test("add(T): " + scale).withCases(
+      s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.add(b), String::valueOf),
+      s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> a.add(b), String::valueOf),
+      s(BigIntSegment.class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> segment(a).add(segment(b)), String::valueOf));
+  }
+
+  private void testMul(final int scale) {
+    test("mul(T): " + scale).withCases(
+      s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> scaledBigInteger(b, scale), (final BigInteger a, final BigInteger b) -> a.multiply(b), String::valueOf),
+      s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(b, scale), (final BigInt a, final BigInt b) -> a.mul(b), String::valueOf),
+      s(BigIntSegment.class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(b, scale), (final int[] a, final int[] b) -> segment(a).mul(segment(b)), String::valueOf));
+  }
+
+  private void testDiv(final int scale) {
+    test("div(T): " + scale).withCases(
+      s(BigInteger.class, (final String a) -> scaledBigInteger(a, scale), (final String b) -> scaledBigInteger(nz(b), scale), (final BigInteger a, final BigInteger b) -> a.divide(b), String::valueOf),
+      s(BigInt.class, (final String a) -> scaledBigInt(a, scale), (final String b) -> scaledBigInt(nz(b), scale), (final BigInt a, final BigInt b) -> a.div(b), String::valueOf),
+      s(BigIntSegment.class, (final String a) -> scaledVal(a, scale), (final String b) -> scaledVal(nz(b), scale), (final int[] a, final int[] b) -> segment(a).div(segment(b)), String::valueOf));
+  }
+
+  private static BigInteger toBigInteger(final BigIntSegment a) {
+    return a.toBigInt().toBigInteger();
+  }
+
+  private static void assertArithmetic(final int maxLength, final int count) {
+    try (final Arena arena = Arena.ofConfined()) {
+      for (int i = 0; i < count; ++i) { // [N]
+        final BigInteger a = random(maxLength);
+        final BigInteger b = random(random.nextBoolean() ? maxLength : 1 + random.nextInt(maxLength));
+        final BigIntSegment x = new BigIntSegment(arena, new BigInt(a));
+        final BigIntSegment y = new BigIntSegment(arena, new BigInt(b));
+        assertEquals(a, toBigInteger(x));
+        assertEquals(a.add(b), toBigInteger(new BigIntSegment(arena, 0).assign(x).add(y)));
+        assertEquals(a.subtract(b), toBigInteger(new BigIntSegment(arena, 0).assign(x).sub(y)));
+        assertEquals(a.multiply(b), toBigInteger(new BigIntSegment(arena, 0).assign(x).mul(y)));
+        assertEquals(a.multiply(a), toBigInteger(new BigIntSegment(arena, 0).assign(x).mul(x)));
+        if (b.signum() != 0) {
+          assertEquals(a.divide(b), toBigInteger(new BigIntSegment(arena, 0).assign(x).div(y)));
+          assertEquals(a.remainder(b), toBigInteger(new BigIntSegment(arena, 0).assign(x).rem(y)));
+        }
+
+        final int shift = random.nextInt(maxLength * 32);
+        assertEquals(a.shiftLeft(shift), toBigInteger(new BigIntSegment(arena, 0).assign(x).shiftLeft(shift)));
+        assertEquals(a.shiftRight(shift), toBigInteger(new BigIntSegment(arena, 0).assign(x).shiftRight(shift)));
+        assertEquals(a.shiftRight(shift), toBigInteger(new BigIntSegment(arena, 0).assign(x).shiftLeft(-shift)));
+        assertEquals(a.compareTo(b), x.compareTo(y));
+        assertEquals(new BigInt(a).hashCode(), x.hashCode());
+        assertEquals(a.toString(), x.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testAdd() {
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testAdd(i);
+  }
+
+  @Test
+  public void testMul() {
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testMul(i);
+  }
+
+  @Test
+  public void testDiv() {
+    for (int i = 1; i <= 4; i *= 2) // [N]
+      testDiv(i);
+  }
+
+  @Test
+  public void testSmall() {
+    assertArithmetic(8, 2000);
+  }
+
+  @Test
+  public void testHeapThreshold() {
+    assertArithmetic(BigIntSegment.HEAP_THRESHOLD + 2, 3);
+  }
+
+  @Test
+  public void testLarge() {
+    assertArithmetic(1 << 12, 5);
+  }
+
+  private static void assertDivRem(final int xlen, final int ylen, final int count) {
+    try (final Arena arena = Arena.ofConfined()) {
+      for (int i = 0; i < count; ++i) { // [N]
+        final BigInteger a = BigInt.toBigInteger(randomVal(xlen));
+        final BigInteger b = BigInt.toBigInteger(randomVal(ylen));
+        final BigIntSegment x = new BigIntSegment(arena, new BigInt(random.nextBoolean() ? a : a.negate()));
+        final BigIntSegment y = new BigIntSegment(arena, new BigInt(random.nextBoolean() ? b : b.negate()));
+        assertEquals(toBigInteger(x).divide(toBigInteger(y)), toBigInteger(new BigIntSegment(arena, 0).assign(x).div(y)));
+        assertEquals(toBigInteger(x).remainder(toBigInteger(y)), toBigInteger(new BigIntSegment(arena, 0).assign(x).rem(y)));
+      }
+    }
+  }
+
+  private static void assertMul(final int xlen, final int ylen, final int count) {
+    try (final Arena arena = Arena.ofConfined()) {
+      for (int i = 0; i < count; ++i) { // [N]
+        final BigInteger a = BigInt.toBigInteger(randomVal(xlen));
+        final BigInteger b = BigInt.toBigInteger(randomVal(ylen));
+        final BigIntSegment x = new BigIntSegment(arena, new BigInt(random.nextBoolean() ? a : a.negate()));
+        final BigIntSegment y = new BigIntSegment(arena, new BigInt(random.nextBoolean() ? b : b.negate()));
+        assertEquals(toBigInteger(x).multiply(toBigInteger(y)), toBigInteger(new BigIntSegment(arena, 0).assign(x).mul(y)));
+        assertEquals(toBigInteger(x).pow(2), toBigInteger(new BigIntSegment(arena, 0).assign(x).mul(x)));
+      }
+    }
+  }
+
+  @Test
+  public void testToomCook() {
+    final int n = 2 * BigIntSegment.HEAP_THRESHOLD + random.nextInt(100);
+    assertMul(n, n - random.nextInt(100), 2);
+  }
+
+  @Test
+  public void testUnbalancedMul() {
+    assertMul(5 * BigIntSegment.HEAP_THRESHOLD + random.nextInt(100), BigIntSegment.HEAP_THRESHOLD + 1 + random.nextInt(100), 2);
+  }
+
+  @Test
+  public void testChunkedDivision() {
+    assertDivRem(3 * BigIntSegment.HEAP_THRESHOLD + random.nextInt(100), Math.max(1, BigIntSegment.HEAP_THRESHOLD / 2 - random.nextInt(100)), 3);
+  }
+
+  @Test
+  public void testShortQuotientDivision() {
+    final int ylen = BigIntSegment.HEAP_THRESHOLD + random.nextInt(100);
+    assertDivRem(ylen + 1 + random.nextInt(BigIntDivision.BURNIKEL_ZIEGLER_OFFSET), ylen, 3);
+  }
+
+  @Test
+  public void testBurnikelZiegler() {
+    final int ylen = BigIntSegment.HEAP_THRESHOLD + random.nextInt(100);
+    assertDivRem(3 * ylen + random.nextInt(100), ylen, 2);
+  }
+
+  @Test
+  public void testNewton() {
+    final int ylen = BigIntDivision.NEWTON_THRESHOLD + random.nextInt(100);
+    assertDivRem(ylen + BigIntDivision.NEWTON_OFFSET + random.nextInt(100), ylen, 1);
+  }
+
+  @Test
+  public void testEdgeCases() {
+    try (final Arena arena = Arena.ofConfined()) {
+      final BigIntSegment zero = new BigIntSegment(arena, 0);
+      assertEquals(0, zero.signum());
+      assertEquals(BigInteger.ZERO, toBigInteger(new BigIntSegment(arena, 0).add(zero)));
+      assertEquals(BigInteger.ZERO, toBigInteger(new BigIntSegment(arena, new BigInt(5)).mul(zero)));
+      assertEquals(BigInteger.ONE.negate(), toBigInteger(new BigIntSegment(arena, new BigInt(-5)).shiftRight(100)));
+      assertEquals(BigInteger.ZERO, toBigInteger(new BigIntSegment(arena, new BigInt(5)).shiftRight(100)));
+
+      final BigIntSegment x = new BigIntSegment(arena, new BigInt(-7));
+      assertEquals(BigInteger.ONE, toBigInteger(new BigIntSegment(arena, 0).assign(x).div(x)));
+      assertEquals(BigInteger.ZERO, toBigInteger(x.rem(x)));
+
+      try {
+        new BigIntSegment(arena, new BigInt(1)).div(zero);
+        fail("Expected ArithmeticException");
+      }
+      catch (final ArithmeticException e) {
+      }
+
+      final BigInteger max = BigInteger.ONE.shiftLeft(32 * 100).subtract(BigInteger.ONE);
+      final BigIntSegment y = new BigIntSegment(arena, new BigInt(max));
+      assertEquals(max.add(BigInteger.ONE), toBigInteger(y.add(new BigIntSegment(arena, new BigInt(1)))));
+      assertEquals(101, y.length());
+    }
+  }
+
+  @Test
+  public void testCapacity() {
+    try (final Arena arena = Arena.ofConfined()) {
+      final BigIntSegment x = new BigIntSegment(arena, 1);
+      assertEquals(1, x.capacity());
+      x.assign(new BigInt(1)).shiftLeft(32 * 1000);
+      assertTrue(x.capacity() >= 1001);
+      assertEquals(BigInteger.ONE.shiftLeft(32 * 1000), toBigInteger(x));
+    }
+  }
+
+  @Test
+  public void testArenaClosed() {
+    final BigIntSegment x;
+    try (final Arena arena = Arena.ofConfined()) {
+      x = new BigIntSegment(arena, new BigInt(42));
+    }
+
+    try {
+      x.signum();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+}